@@ -62,6 +62,12 @@ public class CasServerProperties implements Serializable {
     @NestedConfigurationProperty
     private CasEmbeddedApacheTomcatProperties tomcat = new CasEmbeddedApacheTomcatProperties();
 
+    /**
+     * Configuration settings that control how inline Groovy scripts are compiled.
+     */
+    @NestedConfigurationProperty
+    private CasServerScriptingProperties scripting = new CasServerScriptingProperties();
+
     public CasServerProperties() {
         setPrefix(StringUtils.appendIfMissing(getName(), "/").concat("cas"));
     }
@@ -0,0 +1,38 @@
+package org.apereo.cas.configuration.model.core;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Configuration properties class for Groovy scripts that are loaded and cached by CAS.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-core", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("CasServerScriptingProperties")
+public class CasServerScriptingProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 3417263540125847103L;
+
+    /**
+     * Compile inline Groovy scripts statically, which enables
+     * type checking at compile time and avoids dynamic dispatch at runtime.
+     * Scripts that are statically compiled cannot refer to variables
+     * passed to the script via its binding by name (i.e. {@code attributes}, {@code logger}),
+     * and must instead look them up explicitly via {@code binding.getVariable(...)}.
+     * Scripts that fail to compile under these rules are rejected.
+     */
+    private boolean compileStatic;
+}
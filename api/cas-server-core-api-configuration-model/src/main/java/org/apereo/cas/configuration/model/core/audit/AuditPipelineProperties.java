@@ -0,0 +1,78 @@
+package org.apereo.cas.configuration.model.core.audit;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link AuditPipelineProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-core-audit", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+public class AuditPipelineProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 2836410271840561532L;
+
+    /**
+     * Maximum number of audit records that can be queued
+     * by audit managers that record audits asynchronously.
+     * Once the queue is full, the overflow policy decides
+     * how new audit records are handled.
+     */
+    private int capacity = 10_000;
+
+    /**
+     * Maximum number of audit records that are passed
+     * to the audit storage service in a single batch.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Maximum amount of time to wait for a batch to fill up
+     * before queued audit records are passed to the audit storage service.
+     */
+    @DurationCapable
+    private String flushInterval = "PT1S";
+
+    /**
+     * Decide how audit records are handled once the queue is full.
+     */
+    private OverflowPolicyTypes overflowPolicy = OverflowPolicyTypes.BLOCK;
+
+    /**
+     * Directory where audit records are spilled when the overflow policy is {@link OverflowPolicyTypes#SPILL}.
+     * Each audit manager appends records to its own file in this directory, one JSON document per line.
+     * If left undefined, the system temporary directory is used.
+     */
+    private String spillDirectory;
+
+    /**
+     * Overflow policy types.
+     */
+    public enum OverflowPolicyTypes {
+        /**
+         * Block the caller until space becomes available in the queue.
+         */
+        BLOCK,
+        /**
+         * Discard the oldest queued audit record to make room for the new record.
+         */
+        DROP_OLDEST,
+        /**
+         * Append the audit record to a local file, bypassing the queue.
+         */
+        SPILL
+    }
+}
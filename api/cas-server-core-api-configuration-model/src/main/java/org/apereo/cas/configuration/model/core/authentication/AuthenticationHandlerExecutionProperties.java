@@ -0,0 +1,58 @@
+package org.apereo.cas.configuration.model.core.authentication;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link AuthenticationHandlerExecutionProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-core-authentication", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("AuthenticationHandlerExecutionProperties")
+public class AuthenticationHandlerExecutionProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 4093812715470931642L;
+
+    /**
+     * Execute authentication handlers that support the provided credential
+     * in parallel, rather than one after another. Authentication stops as soon as
+     * the configured authentication policies are satisfied, and handlers that are
+     * still running at that point are cancelled.
+     */
+    private boolean parallel;
+
+    /**
+     * Maximum number of authentication handlers that can be executed
+     * in parallel, across all authentication requests.
+     */
+    private int poolSize = 20;
+
+    /**
+     * Maximum amount of time allowed for a single authentication handler to produce
+     * a result, once it begins to execute. Handlers that do not produce a result in time
+     * are cancelled and recorded as authentication failures.
+     */
+    @DurationCapable
+    private String handlerTimeout = "PT10S";
+
+    /**
+     * Maximum amount of time allowed for all authentication handlers to produce
+     * a result for a given credential. Handlers that are still running or waiting to run
+     * once this deadline has passed are cancelled and recorded as authentication failures.
+     */
+    @DurationCapable
+    private String timeout = "PT30S";
+}
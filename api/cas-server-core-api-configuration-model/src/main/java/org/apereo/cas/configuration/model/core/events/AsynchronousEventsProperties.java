@@ -0,0 +1,78 @@
+package org.apereo.cas.configuration.model.core.events;
+
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * Configuration properties class for recording events asynchronously.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-core-events", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("AsynchronousEventsProperties")
+public class AsynchronousEventsProperties implements Serializable {
+
+    @Serial
+    private static final long serialVersionUID = 6142783940317621546L;
+
+    /**
+     * Whether recorded events should be queued and written to the event repository
+     * in batches on a separate thread, rather than being written directly
+     * by the component that records the event.
+     */
+    private boolean enabled;
+
+    /**
+     * Maximum number of events that can wait in the queue to be written to the event repository.
+     * Once the queue is full, new events are handled according to the backpressure policy.
+     */
+    private int queueCapacity = 10_000;
+
+    /**
+     * Maximum number of events that are written to the event repository at once.
+     */
+    private int batchSize = 100;
+
+    /**
+     * Maximum amount of time to wait for more events to arrive before
+     * a partial batch is written to the event repository.
+     */
+    @DurationCapable
+    private String batchInterval = "PT1S";
+
+    /**
+     * Decide how new events are handled once the queue is full.
+     */
+    private BackpressurePolicyTypes backpressurePolicy = BackpressurePolicyTypes.DROP_NEWEST;
+
+    /**
+     * Backpressure policies.
+     */
+    public enum BackpressurePolicyTypes {
+        /**
+         * Discard the new event.
+         */
+        DROP_NEWEST,
+        /**
+         * Discard the oldest event in the queue to make room for the new event.
+         */
+        DROP_OLDEST,
+        /**
+         * Write the new event directly to the event repository,
+         * on the thread that records the event.
+         */
+        CALLER_RUNS
+    }
+}
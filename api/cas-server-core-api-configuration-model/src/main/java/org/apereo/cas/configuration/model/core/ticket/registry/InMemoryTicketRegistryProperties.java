@@ -51,6 +51,14 @@ public class InMemoryTicketRegistryProperties implements Serializable {
      */
     private int concurrency = 20;
 
+    /**
+     * Maintain an inverted index of authentication and principal attributes
+     * to ticket-granting tickets, allowing queries for single sign-on sessions
+     * by attributes to be answered without scanning the entire registry.
+     * Single sign-on sessions are always indexed by principal id.
+     */
+    private boolean indexAttributes;
+
     /**
      * Crypto settings for the registry.
      */
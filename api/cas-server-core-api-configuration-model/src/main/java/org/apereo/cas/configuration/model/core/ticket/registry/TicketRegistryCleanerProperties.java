@@ -0,0 +1,61 @@
+package org.apereo.cas.configuration.model.core.ticket.registry;
+
+import org.apereo.cas.configuration.model.support.quartz.ScheduledJobProperties;
+import org.apereo.cas.configuration.support.DurationCapable;
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+
+/**
+ * This is {@link TicketRegistryCleanerProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-core-tickets", automated = true)
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("TicketRegistryCleanerProperties")
+public class TicketRegistryCleanerProperties extends ScheduledJobProperties {
+
+    @Serial
+    private static final long serialVersionUID = 2219842751634212075L;
+
+    /**
+     * Determine how the cleaner should locate expired tickets.
+     */
+    private CleanerModes mode = CleanerModes.DEFAULT;
+
+    /**
+     * The width of each time bucket that is kept by the expiration index,
+     * when the cleaner operates in {@link CleanerModes#EXPIRATION_INDEX} mode.
+     * Tickets whose expiration instant falls into the same bucket
+     * are examined together once the bucket is due.
+     */
+    @DurationCapable
+    private String expirationIndexBucketWidth = "PT10S";
+
+    /**
+     * Cleaner modes.
+     */
+    public enum CleanerModes {
+        /**
+         * Scan every ticket in the registry and evaluate
+         * its expiration policy to locate expired tickets.
+         */
+        DEFAULT,
+        /**
+         * Ask the ticket registry for tickets that are due to expire
+         * within the elapsed window. Registries that are able to answer this
+         * natively will do so; the in-memory registry maintains a time-bucketed
+         * expiration index on every ticket write.
+         */
+        EXPIRATION_INDEX
+    }
+}
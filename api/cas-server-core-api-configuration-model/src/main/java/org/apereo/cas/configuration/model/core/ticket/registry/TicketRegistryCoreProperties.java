@@ -8,6 +8,8 @@ import lombok.experimental.Accessors;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
 
 /**
  * This is {@link TicketRegistryCoreProperties}.
@@ -42,4 +44,19 @@ public class TicketRegistryCoreProperties implements Serializable {
      * and kept in memory.
      */
     private String queueIdentifier;
+
+    /**
+     * Ticket types, identified by their prefix (i.e. {@code TGT}, {@code ST}),
+     * that should be serialized using a compact binary format instead of JSON.
+     * Registries that store serialized tickets continue to read existing JSON entries,
+     * so ticket types may be switched over without disrupting active sessions.
+     * Note that binary payloads are not readable by CAS servers that do not support this format.
+     */
+    private List<String> binarySerializationTicketTypes = new ArrayList<>();
+
+    /**
+     * Binary ticket payloads whose size in bytes exceeds this threshold are compressed.
+     * A value of zero or less disables compression.
+     */
+    private int binarySerializationCompressionThreshold = 1024;
 }
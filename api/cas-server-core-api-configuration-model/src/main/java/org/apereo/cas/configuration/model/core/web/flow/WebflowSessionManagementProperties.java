@@ -40,4 +40,21 @@ public class WebflowSessionManagementProperties implements Serializable {
      */
     @RequiredProperty
     private boolean storage;
+
+    /**
+     * When webflow state is managed on the client side, encode the state
+     * in a compact binary form that is compressed using a preset dictionary of common
+     * webflow attribute names, and encrypted in a single authenticated pass.
+     * This typically produces a much smaller state than the default encoding.
+     * State that was encoded using the default encoding is still accepted.
+     */
+    private boolean compact;
+
+    /**
+     * Deflate compression level, from {@code 0} to {@code 9}, used to compress webflow state
+     * when the compact encoding is turned on. Higher levels trade CPU time on every request for a
+     * slightly smaller state; since the preset dictionary already removes most of the redundancy,
+     * the fastest level is used by default. A value of {@code -1} selects the default deflate level.
+     */
+    private int compressionLevel = 1;
 }
@@ -42,6 +42,21 @@ public class TicketGrantingCookieProperties extends PinnableCookieProperties {
      */
     private boolean autoConfigureCookiePath = true;
 
+    /**
+     * Maximum number of decoded cookie values that are remembered in memory,
+     * allowing repeated requests that present the same cookie to skip signature
+     * verification and decryption of the cookie value. Session pinning
+     * checks still apply on every request. A value of zero or less turns off the cache.
+     */
+    private long cacheSize = 10_000L;
+
+    /**
+     * Control how long a decoded cookie value is remembered in memory.
+     * Entries never outlive the maximum age of the cookie, if one is defined.
+     */
+    @DurationCapable
+    private String cacheDuration = "PT5M";
+
     /**
      * Crypto settings that determine how the cookie should be signed and encrypted.
      */
@@ -50,6 +50,14 @@ public class JpaTicketRegistryProperties extends AbstractJpaProperties {
     @DurationCapable
     private String jpaLockingTimeout = DEFAULT_LOCK_TIMEOUT;
 
+    /**
+     * Maximum number of expired tickets that are fetched or removed in a single statement
+     * when the ticket registry cleaner operates in {@code EXPIRATION_INDEX} mode.
+     * In this mode, the cleaner relies on the expiration time that is recorded for each ticket
+     * to remove expired tickets in chunks, rather than scanning the entire table.
+     */
+    private int cleanerBatchSize = 500;
+
     /**
      * Crypto settings for the registry.
      */
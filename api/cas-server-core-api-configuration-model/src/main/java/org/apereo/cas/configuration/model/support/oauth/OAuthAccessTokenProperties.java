@@ -54,6 +54,29 @@ public class OAuthAccessTokenProperties implements Serializable {
      */
     private String storageName = "oauthAccessTokensCache";
 
+    /**
+     * Maximum number of verified access tokens that are remembered in memory,
+     * allowing repeated requests that present the same JWT access token to skip
+     * parsing, signature verification and decryption of the token.
+     * A value of zero or less turns off the cache.
+     */
+    private long cacheSize = 10_000L;
+
+    /**
+     * Control how long a verified access token is remembered in memory.
+     * Entries never outlive the expiration of the token itself, and are removed
+     * once the token is revoked.
+     */
+    @DurationCapable
+    private String cacheDuration = "PT1M";
+
+    /**
+     * Control how long an access token that failed verification is remembered in memory,
+     * so that repeated requests with the same token are rejected without verifying it again.
+     */
+    @DurationCapable
+    private String cacheInvalidTokenDuration = "PT5S";
+
     /**
      * Crypto settings.
      */
@@ -1,5 +1,6 @@
 package org.apereo.cas.configuration.model.support.redis;
 
+import org.apereo.cas.configuration.support.DurationCapable;
 import org.apereo.cas.configuration.support.RequiresModule;
 
 import com.fasterxml.jackson.annotation.JsonFilter;
@@ -29,4 +30,13 @@ public class AuditRedisProperties extends BaseRedisProperties {
      * This setting must almost always be set to true.
      */
     private boolean asynchronous = true;
+
+    /**
+     * Amount of time audit records are kept in Redis.
+     * Audit records are indexed in daily buckets by date, principal and client address;
+     * each record and each bucket expire once this period has passed, with buckets expiring
+     * after their last record. Set to {@code INFINITE} to keep audit records indefinitely.
+     */
+    @DurationCapable
+    private String retention = "INFINITE";
 }
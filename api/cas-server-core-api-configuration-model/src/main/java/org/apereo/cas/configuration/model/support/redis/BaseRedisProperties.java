@@ -103,6 +103,13 @@ public class BaseRedisProperties implements Serializable {
      */
     private long scanCount;
 
+    /**
+     * Number of keys, located via SCAN operations, whose values are fetched together
+     * in a single batch (i.e. {@code MGET} or a pipelined request), when records are streamed
+     * from Redis. Larger batches reduce the number of round trips at the expense of memory.
+     */
+    private int scanBatchSize = 100;
+
     /**
      * Whether or not to use SSL for connection factory.
      */
@@ -48,6 +48,26 @@ public class CoreSamlMetadataProperties implements Serializable {
     @DurationCapable
     private String cacheExpiration = "PT24H";
 
+    /**
+     * Fraction of the metadata cache expiration after which cached metadata
+     * is proactively refreshed in the background upon access, while the existing
+     * entry continues to serve requests. For example, a value of {@code 0.8} begins
+     * the refresh once 80% of the entry's lifetime has passed. A value of zero, or
+     * a value equal to or greater than {@code 1} disables refresh-ahead.
+     */
+    private double cacheRefreshAheadRatio = 0.8;
+
+    /**
+     * Service provider metadata files whose size in bytes is equal to or larger than this
+     * threshold are treated as metadata aggregates. Rather than parsing and keeping the entire
+     * aggregate in memory, the file is indexed by entity id once per version and entity descriptors
+     * are loaded on demand. The index is shared by all service definitions that point to the same
+     * aggregate, and signature validation of the aggregate is carried out once per version.
+     * Service definitions that specify a maximum metadata validity continue to load the full document.
+     * A value of zero or less disables this behavior.
+     */
+    private long aggregateIndexingThreshold;
+
     /**
      * Whether valid metadata is required.
      */
@@ -0,0 +1,48 @@
+package org.apereo.cas.configuration.model.support.throttle;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link InMemoryThrottleProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-support-throttle")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("InMemoryThrottleProperties")
+public class InMemoryThrottleProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = -3716419207815473802L;
+
+    /**
+     * Track failed attempts using per-key sliding-window counters.
+     * When enabled, each key keeps a count of failures within the failure range,
+     * split into a fixed number of time buckets, and a request is throttled when the number
+     * of failures in the window exceeds the failure threshold. Otherwise,
+     * the failure rate is calculated from the date of the last recorded failure.
+     */
+    private boolean slidingWindow;
+
+    /**
+     * Number of time buckets that make up the sliding window.
+     * More buckets allow the window to slide more smoothly, at the cost of a bit more memory per key.
+     */
+    private int bucketCount = 10;
+
+    /**
+     * Maximum number of keys to keep track of in memory.
+     * Once the limit is reached, least recently used keys are evicted.
+     */
+    private long maximumSize = 100_000;
+}
@@ -0,0 +1,47 @@
+package org.apereo.cas.configuration.model.support.throttle;
+
+import org.apereo.cas.configuration.support.RequiresModule;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.experimental.Accessors;
+
+import java.io.Serial;
+import java.io.Serializable;
+
+/**
+ * This is {@link JdbcThrottleCounterProperties}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiresModule(name = "cas-server-support-throttle-jdbc")
+@Getter
+@Setter
+@Accessors(chain = true)
+@JsonFilter("JdbcThrottleCounterProperties")
+public class JdbcThrottleCounterProperties implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 2381759035617427830L;
+
+    /**
+     * Track failed attempts in a dedicated counter table, instead of
+     * querying the audit log for authentication failures. Failures are counted
+     * per client IP address and username, in fixed windows whose length is the failure range.
+     * Throttling decisions combine the counters of the current and previous windows,
+     * weighting the latter by how much of it still falls within the failure range.
+     */
+    private boolean enabled;
+
+    /**
+     * The table name in the database that holds the failure counters.
+     * The table structure and columns must be created and exist beforehand, and must
+     * match the following SQL statements, with expected
+     * adjustments depending on database type, driver and dialect:
+     * <p>
+     * {@code CREATE TABLE CAS_THROTTLE_COUNTERS (THROTTLE_KEY VARCHAR(255) NOT NULL, WINDOW_START BIGINT NOT NULL,
+     * FAILURE_COUNT BIGINT NOT NULL, PRIMARY KEY (THROTTLE_KEY, WINDOW_START))}
+     */
+    private String tableName = "CAS_THROTTLE_COUNTERS";
+}
@@ -7,6 +7,7 @@ import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.experimental.Accessors;
+import org.springframework.boot.context.properties.NestedConfigurationProperty;
 
 import java.io.Serial;
 
@@ -51,4 +52,9 @@ public class JdbcThrottleProperties extends AbstractJpaProperties {
      */
     private String auditQuery = SQL_AUDIT_QUERY_BY_USER_AND_IP;
 
+    /**
+     * Settings related to tracking failed attempts in a dedicated counter table.
+     */
+    @NestedConfigurationProperty
+    private JdbcThrottleCounterProperties counter = new JdbcThrottleCounterProperties();
 }
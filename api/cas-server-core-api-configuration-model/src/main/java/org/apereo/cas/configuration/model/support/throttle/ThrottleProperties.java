@@ -34,6 +34,12 @@ public class ThrottleProperties implements Serializable {
     @NestedConfigurationProperty
     private ThrottleFailureProperties failure = new ThrottleFailureProperties();
 
+    /**
+     * Settings related to tracking failed attempts in memory.
+     */
+    @NestedConfigurationProperty
+    private InMemoryThrottleProperties inMemory = new InMemoryThrottleProperties();
+
     /**
      * Record authentication throttling events in a JDBC resource.
      */
@@ -2,7 +2,11 @@ package org.apereo.cas.support.events;
 
 import org.apereo.cas.support.events.dao.CasEvent;
 
+import lombok.val;
+
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -40,6 +44,21 @@ public interface CasEventRepository {
      */
     CasEvent save(CasEvent event) throws Exception;
 
+    /**
+     * Save a batch of events.
+     *
+     * @param events the events
+     * @return the saved events
+     * @throws Exception the exception
+     */
+    default List<CasEvent> saveAll(final List<? extends CasEvent> events) throws Exception {
+        val results = new ArrayList<CasEvent>(events.size());
+        for (val event : events) {
+            results.add(save(event));
+        }
+        return results;
+    }
+
     /**
      * Load collection.
      *
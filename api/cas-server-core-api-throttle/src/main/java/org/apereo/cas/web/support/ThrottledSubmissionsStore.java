@@ -1,5 +1,7 @@
 package org.apereo.cas.web.support;
 
+import java.time.Clock;
+import java.time.ZonedDateTime;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -59,6 +61,21 @@ public interface ThrottledSubmissionsStore<T extends ThrottledSubmission> {
      */
     Stream<T> entries();
 
+    /**
+     * Is the key still throttled, because the throttle window
+     * of its most recent submission has not passed yet?
+     *
+     * @param key the key
+     * @return true/false
+     */
+    default boolean isThrottled(final String key) {
+        if (contains(key)) {
+            final T submission = get(key);
+            return submission != null && ZonedDateTime.now(Clock.systemUTC()).isBefore(submission.getExpiration());
+        }
+        return false;
+    }
+
     /**
      * Exceeds threshold?
      *
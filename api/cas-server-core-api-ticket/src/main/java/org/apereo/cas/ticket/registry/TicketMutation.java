@@ -0,0 +1,23 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+import java.io.Serializable;
+
+/**
+ * This is {@link TicketMutation} that describes an incremental change to the state of a ticket.
+ * Ticket registries may apply mutations to the ticket that is already stored,
+ * rather than rewriting the ticket in full.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public interface TicketMutation extends Serializable {
+
+    /**
+     * Apply the change to the given ticket.
+     *
+     * @param ticket the ticket
+     */
+    void apply(Ticket ticket);
+}
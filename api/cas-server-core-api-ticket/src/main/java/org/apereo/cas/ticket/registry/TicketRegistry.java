@@ -4,11 +4,15 @@ import org.apereo.cas.ticket.AuthenticationAwareTicket;
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 
+import lombok.val;
 import org.jooq.lambda.Unchecked;
 
+import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.function.Consumer;
 import java.util.function.Predicate;
 import java.util.stream.Stream;
 
@@ -131,6 +135,48 @@ public interface TicketRegistry {
      */
     Ticket updateTicket(Ticket ticket) throws Exception;
 
+    /**
+     * Update the received ticket, given the changes that were made to it
+     * since it was retrieved from the registry. Registries that are able to
+     * apply the mutations to the stored ticket may do so instead of rewriting the ticket.
+     * If no mutations are provided, or they cannot be applied natively, the ticket is updated in full.
+     *
+     * @param ticket    the ticket
+     * @param mutations the mutations
+     * @return the updated ticket
+     * @throws Exception the exception
+     */
+    default Ticket updateTicket(final Ticket ticket, final List<? extends TicketMutation> mutations) throws Exception {
+        return updateTicket(ticket);
+    }
+
+    /**
+     * Collect write operations into a batch and write them as a single unit.
+     *
+     * @param writer the writer that collects operations into the batch
+     * @throws Exception the exception
+     * @see #write(TicketRegistryBatch)
+     */
+    default void write(final Consumer<TicketRegistryBatch> writer) throws Exception {
+        val batch = new TicketRegistryBatch();
+        writer.accept(batch);
+        write(batch);
+    }
+
+    /**
+     * Write the batch of operations as a single unit. Registries that support it
+     * may commit the batch in a single transaction or round trip. By default,
+     * operations are applied individually and in order.
+     *
+     * @param batch the batch
+     * @throws Exception the exception
+     */
+    default void write(final TicketRegistryBatch batch) throws Exception {
+        for (val operation : batch.getOperations()) {
+            operation.apply(this);
+        }
+    }
+
     /**
      * Computes the number of SSO sessions stored in the ticket registry.
      *
@@ -157,6 +203,23 @@ public interface TicketRegistry {
         return getTickets().stream();
     }
 
+    /**
+     * Gets tickets that have expired before the given instant.
+     * Registries that are able to track expiration times natively
+     * should override this operation and only return tickets that are due,
+     * rather than scanning the entire registry. The default implementation
+     * walks all tickets and evaluates each expiration policy at the time of invocation.
+     * <p>
+     * The returning stream may be bound to an IO channel (such as database connection),
+     * so it should be properly closed after usage.
+     *
+     * @param expirationTime the expiration time
+     * @return the expired tickets
+     */
+    default Stream<? extends Ticket> getTicketsExpiredBefore(final ZonedDateTime expirationTime) {
+        return stream().filter(Objects::nonNull).filter(Ticket::isExpired);
+    }
+
     /**
      * Count the number of single sign-on sessions
      * that are recorded in the ticket registry for
@@ -0,0 +1,101 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+import lombok.Getter;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * This is {@link TicketRegistryBatch} that collects ticket registry write operations
+ * so they may be handed over to {@link TicketRegistry#write(TicketRegistryBatch)} as a single unit.
+ * Operations are kept in the order they were collected.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Getter
+public class TicketRegistryBatch {
+    private final List<Operation> operations = new ArrayList<>();
+
+    /**
+     * Add the ticket to the registry.
+     *
+     * @param ticket the ticket
+     * @return this batch
+     */
+    public TicketRegistryBatch add(final Ticket ticket) {
+        operations.add(new Operation(OperationTypes.ADD, ticket, List.of()));
+        return this;
+    }
+
+    /**
+     * Update the ticket in the registry.
+     *
+     * @param ticket the ticket
+     * @return this batch
+     */
+    public TicketRegistryBatch update(final Ticket ticket) {
+        return update(ticket, List.of());
+    }
+
+    /**
+     * Update the ticket in the registry, given the changes that were made to it.
+     *
+     * @param ticket    the ticket
+     * @param mutations the mutations
+     * @return this batch
+     */
+    public TicketRegistryBatch update(final Ticket ticket, final List<? extends TicketMutation> mutations) {
+        operations.add(new Operation(OperationTypes.UPDATE, ticket, mutations));
+        return this;
+    }
+
+    /**
+     * Whether the batch has no operations.
+     *
+     * @return true/false
+     */
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    /**
+     * Operation types.
+     */
+    public enum OperationTypes {
+        /**
+         * Add a ticket.
+         */
+        ADD,
+        /**
+         * Update a ticket.
+         */
+        UPDATE
+    }
+
+    /**
+     * A single write operation.
+     *
+     * @param type      the operation type
+     * @param ticket    the ticket
+     * @param mutations the mutations for updates
+     */
+    public record Operation(OperationTypes type, Ticket ticket, List<? extends TicketMutation> mutations) {
+
+        /**
+         * Apply the operation to the registry individually.
+         *
+         * @param registry the registry
+         * @throws Exception the exception
+         */
+        public void apply(final TicketRegistry registry) throws Exception {
+            switch (type) {
+                case ADD -> registry.addTicket(ticket);
+                case UPDATE -> registry.updateTicket(ticket, mutations);
+                default -> throw new IllegalArgumentException("Unsupported operation " + type);
+            }
+        }
+    }
+}
@@ -28,6 +28,19 @@ public class RandomUtils {
      */
     public static final String SYSTEM_PROPERTY_SECURE_RANDOM_ALG = "CAS_SECURE_RANDOM_ALG";
 
+    /**
+     * System property to indicate the strategy used to share random number generators.
+     * Accepted values are {@code native} (default), where each consumer creates its own instance
+     * via {@link #getNativeInstance()}, and {@code striped}, where all consumers share a single
+     * {@link StripedSecureRandom} that spreads the load across a pool of {@code DRBG} instances.
+     */
+    public static final String SYSTEM_PROPERTY_SECURE_RANDOM_STRATEGY = "CAS_SECURE_RANDOM_STRATEGY";
+
+    /**
+     * Strategy name for {@link StripedSecureRandom}.
+     */
+    public static final String SECURE_RANDOM_STRATEGY_STRIPED = "striped";
+
     private static final int HEX_HIGH_BITS_BITWISE_FLAG = 0x0f;
 
     private static final int SECURE_ID_CHARS_LENGTH = 40;
@@ -53,6 +66,19 @@ public class RandomUtils {
         }
     }
 
+    /**
+     * Get the secure random instance based on the strategy
+     * defined via {@link #SYSTEM_PROPERTY_SECURE_RANDOM_STRATEGY}.
+     *
+     * @return the secure random instance
+     */
+    public static SecureRandom getInstance() {
+        if (SECURE_RANDOM_STRATEGY_STRIPED.equalsIgnoreCase(System.getProperty(SYSTEM_PROPERTY_SECURE_RANDOM_STRATEGY))) {
+            return StripedSecureRandomHolder.INSTANCE;
+        }
+        return getNativeInstance();
+    }
+
     /**
      * Next long between 0 and long's maximum value.
      *
@@ -97,7 +123,7 @@ public class RandomUtils {
             return startInclusive;
         }
 
-        return startInclusive + (endInclusive - startInclusive) * getNativeInstance().nextDouble();
+        return startInclusive + (endInclusive - startInclusive) * getInstance().nextDouble();
     }
 
     /**
@@ -118,7 +144,7 @@ public class RandomUtils {
      * @return the string
      */
     public static String generateSecureRandomId() {
-        val generator = getNativeInstance();
+        val generator = getInstance();
         val charMappings = new char[]{
             'a', 'b', 'c', 'd', 'e', 'f', 'g',
             'h', 'i', 'j', 'k', 'l', 'm', 'n', 'o',
@@ -187,7 +213,7 @@ public class RandomUtils {
             return startInclusive;
         }
 
-        return startInclusive + getNativeInstance().nextInt(endExclusive - startInclusive);
+        return startInclusive + getInstance().nextInt(endExclusive - startInclusive);
     }
 
     /**
@@ -236,7 +262,7 @@ public class RandomUtils {
      * @return the random string
      */
     public static String random(final int count, final int start, final int end, final boolean letters, final boolean numbers) {
-        return RandomStringUtils.random(count, start, end, letters, numbers, null, getNativeInstance());
+        return RandomStringUtils.random(count, start, end, letters, numbers, null, getInstance());
     }
 
     /**
@@ -282,4 +308,8 @@ public class RandomUtils {
     public static String randomNumeric(final int count) {
         return random(count, false, true);
     }
+
+    private static final class StripedSecureRandomHolder {
+        private static final SecureRandom INSTANCE = new StripedSecureRandom();
+    }
 }
@@ -0,0 +1,143 @@
+package org.apereo.cas.util;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.io.Serial;
+import java.nio.charset.StandardCharsets;
+import java.security.DrbgParameters;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.security.SecureRandomParameters;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * This is {@link StripedSecureRandom}, that spreads random number generation
+ * across a fixed set of {@code DRBG} instances, each of which is seeded from the operating system.
+ * Every thread is assigned to one of the instances in a round-robin fashion, so that threads
+ * generating random bytes at the same time rarely compete for the same generator,
+ * as is the case when many threads share a single {@code NativePRNG} instance.
+ * Each instance is periodically reseeded with fresh entropy from the operating system.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class StripedSecureRandom extends SecureRandom {
+    @Serial
+    private static final long serialVersionUID = 2953618452378254917L;
+
+    private static final String ALGORITHM = "DRBG";
+
+    private static final int SECURITY_STRENGTH = 256;
+
+    private static final Duration DEFAULT_RESEED_INTERVAL = Duration.ofMinutes(5);
+
+    private final SecureRandom[] stripes;
+
+    private final AtomicLongArray lastReseedTimes;
+
+    private final long reseedInterval;
+
+    private final AtomicInteger assignedStripes = new AtomicInteger();
+
+    private final transient ThreadLocal<Integer> stripeIndex;
+
+    public StripedSecureRandom() {
+        this(Runtime.getRuntime().availableProcessors() * 2, DEFAULT_RESEED_INTERVAL);
+    }
+
+    public StripedSecureRandom(final int stripeCount, final Duration reseedInterval) {
+        this.stripes = IntStream.range(0, Math.max(1, stripeCount))
+            .mapToObj(StripedSecureRandom::newStripe)
+            .toArray(SecureRandom[]::new);
+        val now = System.nanoTime();
+        this.lastReseedTimes = new AtomicLongArray(stripes.length);
+        IntStream.range(0, stripes.length).forEach(i -> lastReseedTimes.set(i, now));
+        this.reseedInterval = reseedInterval.toNanos();
+        this.stripeIndex = ThreadLocal.withInitial(() -> Math.floorMod(assignedStripes.getAndIncrement(), stripes.length));
+    }
+
+    private static SecureRandom newStripe(final int index) {
+        try {
+            val personalization = String.format("cas-%s-%s", index, System.nanoTime()).getBytes(StandardCharsets.UTF_8);
+            return SecureRandom.getInstance(ALGORITHM,
+                DrbgParameters.instantiation(SECURITY_STRENGTH, DrbgParameters.Capability.RESEED_ONLY, personalization));
+        } catch (final NoSuchAlgorithmException e) {
+            LOGGER.trace(e.getMessage(), e);
+            return RandomUtils.getNativeInstance();
+        }
+    }
+
+    /**
+     * Gets the number of generators.
+     *
+     * @return the stripe count
+     */
+    public int getStripeCount() {
+        return stripes.length;
+    }
+
+    @Override
+    public String getAlgorithm() {
+        return ALGORITHM;
+    }
+
+    @Override
+    public void nextBytes(final byte[] bytes) {
+        getStripe().nextBytes(bytes);
+    }
+
+    @Override
+    public void nextBytes(final byte[] bytes, final SecureRandomParameters params) {
+        getStripe().nextBytes(bytes, params);
+    }
+
+    @Override
+    public byte[] generateSeed(final int numBytes) {
+        return getStripe().generateSeed(numBytes);
+    }
+
+    @Override
+    public void setSeed(final byte[] seed) {
+        if (stripes != null) {
+            getStripe().setSeed(seed);
+        }
+    }
+
+    @Override
+    public void setSeed(final long seed) {
+        if (stripes != null) {
+            getStripe().setSeed(seed);
+        }
+    }
+
+    @Override
+    public void reseed() {
+        Arrays.stream(stripes).forEach(SecureRandom::reseed);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s[stripes=%s]", getClass().getSimpleName(), stripes.length);
+    }
+
+    private SecureRandom getStripe() {
+        val index = stripeIndex.get();
+        val random = stripes[index];
+        val now = System.nanoTime();
+        val lastReseedTime = lastReseedTimes.get(index);
+        if (now - lastReseedTime >= reseedInterval && lastReseedTimes.compareAndSet(index, lastReseedTime, now)) {
+            try {
+                random.reseed();
+            } catch (final UnsupportedOperationException e) {
+                LOGGER.trace("Random generator [{}] does not support reseeding", random.getAlgorithm());
+            }
+        }
+        return random;
+    }
+}
@@ -1,7 +1,8 @@
 package org.apereo.cas.audit.spi;
 
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+
 import lombok.AccessLevel;
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -9,11 +10,14 @@ import org.apereo.inspektr.audit.AuditActionContext;
 import org.apereo.inspektr.audit.AuditTrailManager;
 import org.springframework.beans.factory.DisposableBean;
 
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.List;
+import java.util.Optional;
 
 /**
  * This is {@link AbstractAuditTrailManager}.
+ * Audit records that are saved asynchronously are passed through
+ * an {@link AuditTrailRecordPipeline} and handed over to {@link #saveAuditRecords(List)}
+ * in batches, which implementations may override to take advantage of bulk writes.
  *
  * @author Misagh Moayyed
  * @since 5.2.0
@@ -21,21 +25,29 @@ import java.util.concurrent.Executors;
 @Setter
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@AllArgsConstructor(access = AccessLevel.PROTECTED)
 public abstract class AbstractAuditTrailManager implements AuditTrailManager, DisposableBean {
     /**
      * Save records asynchronously.
      */
     protected boolean asynchronous;
 
-    private final ExecutorService executorService = Executors.newSingleThreadExecutor(
-        r -> new Thread(r, "AuditTrailManagerThread"));
+    /**
+     * Settings that control the asynchronous audit pipeline.
+     */
+    protected AuditPipelineProperties pipelineProperties = new AuditPipelineProperties();
 
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private volatile AuditTrailRecordPipeline pipeline;
+
+    protected AbstractAuditTrailManager(final boolean asynchronous) {
+        this.asynchronous = asynchronous;
+    }
 
     @Override
     public void record(final AuditActionContext audit) {
         if (this.asynchronous) {
-            this.executorService.execute(() -> saveAuditRecord(audit));
+            getOrCreatePipeline().submit(audit);
         } else {
             saveAuditRecord(audit);
         }
@@ -43,7 +55,16 @@ public abstract class AbstractAuditTrailManager implements AuditTrailManager, Di
 
     @Override
     public void destroy() {
-        this.executorService.shutdown();
+        Optional.ofNullable(this.pipeline).ifPresent(AuditTrailRecordPipeline::close);
+    }
+
+    /**
+     * Gets the asynchronous audit pipeline, if one is created.
+     *
+     * @return the pipeline
+     */
+    public Optional<AuditTrailRecordPipeline> getPipeline() {
+        return Optional.ofNullable(this.pipeline);
     }
 
     /**
@@ -52,4 +73,28 @@ public abstract class AbstractAuditTrailManager implements AuditTrailManager, Di
      * @param audit Audit record to be saved.
      */
     protected abstract void saveAuditRecord(AuditActionContext audit);
+
+    /**
+     * Save a batch of audit records, in the order they were recorded.
+     * By default, each record is saved individually.
+     *
+     * @param audits the audit records
+     */
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        audits.forEach(this::saveAuditRecord);
+    }
+
+    private AuditTrailRecordPipeline getOrCreatePipeline() {
+        var current = this.pipeline;
+        if (current == null) {
+            synchronized (this) {
+                current = this.pipeline;
+                if (current == null) {
+                    current = new AuditTrailRecordPipeline(getClass().getSimpleName(), pipelineProperties, this::saveAuditRecords);
+                    this.pipeline = current;
+                }
+            }
+        }
+        return current;
+    }
 }
@@ -0,0 +1,271 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+import org.apereo.cas.configuration.support.Beans;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.inspektr.audit.AuditActionContext;
+
+import java.io.File;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * This is {@link AuditTrailRecordPipeline} that queues audit records in a bounded buffer
+ * and passes them to the audit storage service in batches. A batch is flushed once it reaches
+ * the configured size, or once the flush interval has elapsed since its first record was queued.
+ * When the buffer is full, records are handled based on the configured overflow policy.
+ * <p>
+ * Records are handed over to a single worker thread, which preserves the order in which
+ * audit records are recorded.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class AuditTrailRecordPipeline implements AutoCloseable {
+    private static final AuditActionContextJsonSerializer SERIALIZER = new AuditActionContextJsonSerializer();
+
+    private static final long SHUTDOWN_CHECK_INTERVAL_MILLIS = 100;
+
+    private final BlockingQueue<AuditActionContext> queue;
+
+    private final AuditPipelineProperties properties;
+
+    private final Consumer<List<AuditActionContext>> batchWriter;
+
+    private final long flushIntervalMillis;
+
+    private final Path spillFile;
+
+    private final Thread worker;
+
+    private final Object spillLock = new Object();
+
+    private final AtomicLong writtenCount = new AtomicLong();
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private final AtomicLong spilledCount = new AtomicLong();
+
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private volatile boolean running = true;
+
+    public AuditTrailRecordPipeline(final String name, final AuditPipelineProperties properties,
+                                    final Consumer<List<AuditActionContext>> batchWriter) {
+        this.properties = properties;
+        this.batchWriter = batchWriter;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getCapacity()));
+        this.flushIntervalMillis = Math.max(1, Beans.newDuration(properties.getFlushInterval()).toMillis());
+        val spillDirectory = StringUtils.isBlank(properties.getSpillDirectory())
+            ? FileUtils.getTempDirectory()
+            : new File(properties.getSpillDirectory());
+        this.spillFile = new File(spillDirectory, "cas-audit-" + name + ".spill").toPath();
+        this.worker = new Thread(this::drain, "AuditTrailManagerThread-" + name);
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    /**
+     * Queue the audit record.
+     *
+     * @param audit the audit
+     */
+    public void submit(final AuditActionContext audit) {
+        if (!running) {
+            LOGGER.debug("Audit pipeline is shut down; writing audit record directly");
+            write(List.of(audit));
+            return;
+        }
+        switch (properties.getOverflowPolicy()) {
+            case DROP_OLDEST -> {
+                while (!queue.offer(audit)) {
+                    if (queue.poll() != null) {
+                        droppedCount.incrementAndGet();
+                        LOGGER.trace("Audit queue is full; oldest audit record is dropped");
+                    }
+                }
+            }
+            case SPILL -> {
+                if (!queue.offer(audit)) {
+                    spill(List.of(audit));
+                }
+            }
+            default -> {
+                try {
+                    queue.put(audit);
+                } catch (final InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    droppedCount.incrementAndGet();
+                    LOGGER.warn("Interrupted while waiting to queue audit record [{}]", audit);
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of audit records waiting in the queue.
+     *
+     * @return the queue depth
+     */
+    public int getQueueDepth() {
+        return queue.size();
+    }
+
+    /**
+     * Number of audit records passed to the audit storage service.
+     *
+     * @return the count
+     */
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    /**
+     * Number of audit records discarded because of overflow.
+     *
+     * @return the count
+     */
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    /**
+     * Number of audit records appended to the spill file.
+     *
+     * @return the count
+     */
+    public long getSpilledCount() {
+        return spilledCount.get();
+    }
+
+    /**
+     * Number of audit records that failed to be written to the audit storage service.
+     *
+     * @return the count
+     */
+    public long getFailedCount() {
+        return failedCount.get();
+    }
+
+    /**
+     * Stop accepting records and write the remaining queued records.
+     *
+     * @param timeout the maximum amount of time to wait for the queue to drain
+     */
+    public void shutdown(final Duration timeout) {
+        running = false;
+        try {
+            worker.join(timeout.toMillis());
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            LOGGER.warn("Audit pipeline could not drain [{}] audit record(s) in time", queue.size());
+        }
+    }
+
+    @Override
+    public void close() {
+        shutdown(Duration.ofMillis(flushIntervalMillis).multipliedBy(2).plusSeconds(5));
+    }
+
+    private void drain() {
+        val batchSize = Math.max(1, properties.getBatchSize());
+        val batch = new ArrayList<AuditActionContext>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                val first = poll(System.currentTimeMillis() + flushIntervalMillis);
+                if (first != null) {
+                    batch.add(first);
+                    val deadline = System.currentTimeMillis() + flushIntervalMillis;
+                    while (batch.size() < batchSize) {
+                        queue.drainTo(batch, batchSize - batch.size());
+                        if (batch.size() >= batchSize) {
+                            break;
+                        }
+                        val next = poll(deadline);
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                }
+            } catch (final InterruptedException e) {
+                LOGGER.trace("Audit pipeline worker is interrupted; remaining audit records will be drained");
+                running = false;
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * Wait for the next record until the deadline, in short intervals
+     * so that the worker can notice a shutdown request without being interrupted
+     * while records are being written.
+     *
+     * @param deadline the deadline in milliseconds
+     * @return the next record, or null
+     * @throws InterruptedException the interrupted exception
+     */
+    private AuditActionContext poll(final long deadline) throws InterruptedException {
+        var remaining = deadline - System.currentTimeMillis();
+        while (running && remaining > 0) {
+            val next = queue.poll(Math.min(remaining, SHUTDOWN_CHECK_INTERVAL_MILLIS), TimeUnit.MILLISECONDS);
+            if (next != null) {
+                return next;
+            }
+            remaining = deadline - System.currentTimeMillis();
+        }
+        return queue.poll();
+    }
+
+    private void write(final List<AuditActionContext> batch) {
+        try {
+            batchWriter.accept(batch);
+            writtenCount.addAndGet(batch.size());
+        } catch (final Throwable e) {
+            failedCount.addAndGet(batch.size());
+            LOGGER.error("Unable to write batch of [{}] audit record(s): [{}]", batch.size(), e.getMessage());
+            LOGGER.debug(e.getMessage(), e);
+            if (properties.getOverflowPolicy() == AuditPipelineProperties.OverflowPolicyTypes.SPILL) {
+                spill(batch);
+            }
+        }
+    }
+
+    private void spill(final List<AuditActionContext> audits) {
+        try {
+            val lines = new ArrayList<String>(audits.size());
+            for (val audit : audits) {
+                lines.add(SERIALIZER.getObjectMapper().writeValueAsString(audit));
+            }
+            synchronized (spillLock) {
+                Files.createDirectories(spillFile.getParent());
+                Files.write(spillFile, lines, StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            spilledCount.addAndGet(audits.size());
+            LOGGER.trace("Spilled [{}] audit record(s) to [{}]", audits.size(), spillFile);
+        } catch (final Exception e) {
+            droppedCount.addAndGet(audits.size());
+            LOGGER.error("Unable to spill [{}] audit record(s) to [{}]: [{}]", audits.size(), spillFile, e.getMessage());
+        }
+    }
+}
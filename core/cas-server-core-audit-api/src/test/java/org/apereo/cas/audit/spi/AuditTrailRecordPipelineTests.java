@@ -0,0 +1,162 @@
+package org.apereo.cas.audit.spi;
+
+import org.apereo.cas.configuration.model.core.audit.AuditPipelineProperties;
+
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AuditTrailRecordPipelineTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Audits")
+@SuppressWarnings("JavaUtilDate")
+class AuditTrailRecordPipelineTests {
+    @TempDir
+    private File spillDirectory;
+
+    private static AuditActionContext newAuditRecord() {
+        return new AuditActionContext("casuser", UUID.randomUUID().toString(), "TEST",
+            "CAS", new Date(), "1.2.3.4", "1.2.3.4", UUID.randomUUID().toString(), Map.of());
+    }
+
+    private static AuditTrailRecordPipeline newBlockedPipeline(final AuditPipelineProperties properties,
+                                                               final CountDownLatch latch,
+                                                               final List<AuditActionContext> written) {
+        properties.setCapacity(2).setBatchSize(1);
+        val pipeline = new AuditTrailRecordPipeline(UUID.randomUUID().toString(), properties, batch -> {
+            try {
+                latch.await();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            written.addAll(batch);
+        });
+        pipeline.submit(newAuditRecord());
+        await().atMost(Duration.ofSeconds(5)).until(() -> pipeline.getQueueDepth() == 0);
+        return pipeline;
+    }
+
+    @Test
+    void verifyBatches() {
+        val batches = new CopyOnWriteArrayList<List<AuditActionContext>>();
+        val manager = new BatchingAuditTrailManager(batches);
+        manager.setPipelineProperties(new AuditPipelineProperties().setBatchSize(5).setFlushInterval("PT30S"));
+        val records = new ArrayList<AuditActionContext>();
+        for (var i = 0; i < 7; i++) {
+            val audit = newAuditRecord();
+            records.add(audit);
+            manager.record(audit);
+        }
+        await().atMost(Duration.ofSeconds(5)).until(() -> !batches.isEmpty());
+        assertEquals(5, batches.get(0).size());
+        manager.destroy();
+        assertEquals(2, batches.size());
+        assertEquals(records, batches.stream().flatMap(List::stream).toList());
+        assertTrue(manager.getPipeline().isPresent());
+        assertEquals(7, manager.getPipeline().get().getWrittenCount());
+    }
+
+    @Test
+    void verifySynchronous() {
+        val batches = new CopyOnWriteArrayList<List<AuditActionContext>>();
+        val manager = new BatchingAuditTrailManager(batches);
+        manager.setAsynchronous(false);
+        manager.record(newAuditRecord());
+        assertEquals(1, batches.size());
+        assertTrue(manager.getPipeline().isEmpty());
+    }
+
+    @Test
+    void verifyDropOldest() {
+        val latch = new CountDownLatch(1);
+        val written = new CopyOnWriteArrayList<AuditActionContext>();
+        val properties = new AuditPipelineProperties()
+            .setOverflowPolicy(AuditPipelineProperties.OverflowPolicyTypes.DROP_OLDEST);
+        try (val pipeline = newBlockedPipeline(properties, latch, written)) {
+            val dropped = newAuditRecord();
+            pipeline.submit(dropped);
+            pipeline.submit(newAuditRecord());
+            pipeline.submit(newAuditRecord());
+            assertEquals(2, pipeline.getQueueDepth());
+            assertEquals(1, pipeline.getDroppedCount());
+            latch.countDown();
+            await().atMost(Duration.ofSeconds(5)).until(() -> pipeline.getWrittenCount() == 3);
+            assertFalse(written.contains(dropped));
+        }
+    }
+
+    @Test
+    void verifySpill() throws Exception {
+        val latch = new CountDownLatch(1);
+        val written = new CopyOnWriteArrayList<AuditActionContext>();
+        val properties = new AuditPipelineProperties()
+            .setSpillDirectory(spillDirectory.getAbsolutePath())
+            .setOverflowPolicy(AuditPipelineProperties.OverflowPolicyTypes.SPILL);
+        try (val pipeline = newBlockedPipeline(properties, latch, written)) {
+            pipeline.submit(newAuditRecord());
+            pipeline.submit(newAuditRecord());
+            pipeline.submit(newAuditRecord());
+            assertEquals(2, pipeline.getQueueDepth());
+            assertEquals(1, pipeline.getSpilledCount());
+            assertEquals(0, pipeline.getDroppedCount());
+            latch.countDown();
+            await().atMost(Duration.ofSeconds(5)).until(() -> pipeline.getWrittenCount() == 3);
+        }
+        val files = spillDirectory.listFiles();
+        assertNotNull(files);
+        assertEquals(1, files.length);
+        val lines = Files.readAllLines(files[0].toPath());
+        assertEquals(1, lines.size());
+        assertNotNull(new AuditActionContextJsonSerializer().from(lines.get(0)));
+    }
+
+    private static final class BatchingAuditTrailManager extends AbstractAuditTrailManager {
+        private final List<List<AuditActionContext>> batches;
+
+        BatchingAuditTrailManager(final List<List<AuditActionContext>> batches) {
+            super(true);
+            this.batches = batches;
+        }
+
+        @Override
+        protected void saveAuditRecord(final AuditActionContext audit) {
+            batches.add(List.of(audit));
+        }
+
+        @Override
+        protected void saveAuditRecords(final List<AuditActionContext> audits) {
+            batches.add(List.copyOf(audits));
+        }
+
+        @Override
+        public Set<? extends AuditActionContext> getAuditRecords(final Map<WhereClauseFields, Object> whereClause) {
+            return Set.of();
+        }
+
+        @Override
+        public void removeAll() {
+            batches.clear();
+        }
+    }
+}
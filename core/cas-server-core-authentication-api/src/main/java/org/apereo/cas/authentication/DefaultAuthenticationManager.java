@@ -19,22 +19,37 @@ import org.apereo.cas.util.function.FunctionUtils;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.apereo.inspektr.audit.annotation.Audit;
+import org.apereo.inspektr.common.web.ClientInfo;
 import org.apereo.inspektr.common.web.ClientInfoHolder;
 import org.springframework.context.ApplicationEvent;
 import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.i18n.LocaleContext;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.webflow.execution.RequestContext;
 
 import java.security.GeneralSecurityException;
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
 import java.util.stream.Collectors;
 
 /**
@@ -56,6 +71,13 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
 
     private final ConfigurableApplicationContext applicationContext;
 
+    /**
+     * Execute authentication handlers in parallel, if defined.
+     * Otherwise, handlers are executed one after another.
+     */
+    @Setter
+    private ParallelAuthenticationHandlerExecutor parallelExecutor;
+
     @Override
     @Audit(
         action = AuditableActions.AUTHENTICATION,
@@ -277,6 +299,11 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
                 val credential = it.next();
                 LOGGER.debug("Attempting to authenticate credential [{}]", credential);
 
+                if (parallelExecutor != null) {
+                    authenticateInParallel(builder, credential, handlerSet, transaction);
+                    continue;
+                }
+
                 val itHandlers = handlerSet.iterator();
                 var proceedWithNextHandler = true;
                 while (proceedWithNextHandler && itHandlers.hasNext()) {
@@ -316,6 +343,148 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
         }
     }
 
+    /**
+     * Authenticate the credential by executing all supporting authentication handlers in parallel.
+     * Handler results are recorded in the order in which handlers are defined, regardless of the order
+     * in which they complete. Authentication stops as soon as the authentication policies are satisfied,
+     * or once a failure that should not allow authentication to proceed is encountered and every handler
+     * defined before the failing handler has finished, as it would if handlers were executed one after the other.
+     * At that point handlers that are still running are cancelled, and no results are recorded for handlers
+     * defined after the failing handler. Request-scoped state of the calling thread, such as the client info,
+     * the request attributes, the locale and the webflow request context, is made available to each handler.
+     *
+     * @param builder     the builder
+     * @param credential  the credential
+     * @param handlerSet  the handler set
+     * @param transaction the transaction
+     */
+    protected void authenticateInParallel(final AuthenticationBuilder builder,
+                                          final Credential credential,
+                                          final Set<AuthenticationHandler> handlerSet,
+                                          final AuthenticationTransaction transaction) {
+        val requestScope = RequestScopedHolders.capture();
+        val completionService = new ExecutorCompletionService<AuthenticationBuilder>(parallelExecutor.getExecutorService());
+        val tasks = handlerSet
+            .stream()
+            .filter(handler -> {
+                val supported = handler.supports(credential);
+                if (!supported) {
+                    LOGGER.debug("Authentication handler [{}] does not support the credential type [{}].", handler.getName(), credential);
+                }
+                return supported;
+            })
+            .map(handler -> new AuthenticationHandlerTask(handler, credential, transaction, requestScope))
+            .toList();
+        tasks.forEach(task -> {
+            LOGGER.debug("Attempting authentication of [{}] using [{}]", credential.getId(), task.handler.getName());
+            task.future = completionService.submit(task);
+        });
+
+        val handlerTimeout = parallelExecutor.getHandlerTimeout().toNanos();
+        val deadline = System.nanoTime() + parallelExecutor.getTimeout().toNanos();
+        var proceedWithNextHandler = true;
+        var recordedTasks = tasks;
+        try {
+            while (proceedWithNextHandler && tasks.stream().anyMatch(task -> task.result == null)) {
+                val now = System.nanoTime();
+                if (now - deadline >= 0) {
+                    tasks.stream()
+                        .filter(task -> task.result == null)
+                        .forEach(task -> task.timeout(parallelExecutor.getTimeout()));
+                    break;
+                }
+                val waitTime = tasks.stream()
+                    .filter(task -> task.result == null && task.started)
+                    .mapToLong(task -> task.startTime + handlerTimeout)
+                    .reduce(Math.min(deadline, now + handlerTimeout), Math::min) - now;
+                val future = completionService.poll(Math.max(waitTime, 0), TimeUnit.NANOSECONDS);
+
+                val completed = new ArrayList<AuthenticationHandlerTask>();
+                if (future != null) {
+                    tasks.stream()
+                        .filter(task -> task.future == future && task.result == null)
+                        .findFirst()
+                        .ifPresent(task -> {
+                            task.complete();
+                            completed.add(task);
+                        });
+                }
+                val current = System.nanoTime();
+                tasks.stream()
+                    .filter(task -> task.result == null && task.started && current - task.startTime >= handlerTimeout)
+                    .forEach(task -> {
+                        task.timeout(parallelExecutor.getHandlerTimeout());
+                        completed.add(task);
+                    });
+
+                for (val task : completed) {
+                    val failure = task.result.getFailures().get(task.handler.getName());
+                    if (failure != null) {
+                        task.proceedOnFailure = shouldAuthenticationChainProceedOnFailure(transaction, failure);
+                    } else {
+                        val authnResult = collectParallelResults(DefaultAuthenticationBuilder.newInstance(builder.build()), tasks).build();
+                        AuthenticationCredentialsThreadLocalBinder.bindInProgress(authnResult);
+                        val executionResult = evaluateAuthenticationPolicies(authnResult, transaction, handlerSet);
+                        proceedWithNextHandler = !executionResult.isSuccess();
+                        if (!proceedWithNextHandler) {
+                            break;
+                        }
+                    }
+                }
+                if (proceedWithNextHandler) {
+                    val haltingTask = findHaltingTask(tasks);
+                    if (haltingTask >= 0) {
+                        proceedWithNextHandler = false;
+                        recordedTasks = tasks.subList(0, haltingTask + 1);
+                    }
+                }
+            }
+        } catch (final InterruptedException e) {
+            LOGGER.warn("Parallel execution of authentication handlers is interrupted");
+            Thread.currentThread().interrupt();
+        } finally {
+            tasks.stream()
+                .filter(task -> task.result == null)
+                .forEach(task -> task.future.cancel(true));
+        }
+        collectParallelResults(builder, recordedTasks);
+    }
+
+    /**
+     * Find the first task whose failure should not allow authentication to proceed,
+     * provided every task before it has finished.
+     *
+     * @param tasks the tasks in the order in which handlers are defined
+     * @return the index of the task, or -1 if there is none yet
+     */
+    private static int findHaltingTask(final List<AuthenticationHandlerTask> tasks) {
+        for (var i = 0; i < tasks.size(); i++) {
+            val task = tasks.get(i);
+            if (task.result == null) {
+                return -1;
+            }
+            if (!task.proceedOnFailure) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static AuthenticationBuilder collectParallelResults(final AuthenticationBuilder builder,
+                                                                final List<AuthenticationHandlerTask> tasks) {
+        tasks.stream()
+            .map(task -> task.result)
+            .filter(Objects::nonNull)
+            .forEach(result -> {
+                builder.addSuccesses(result.getSuccesses());
+                builder.addFailures(result.getFailures());
+                if (!(result.getPrincipal() instanceof NullPrincipal)) {
+                    builder.setPrincipal(result.getPrincipal());
+                }
+            });
+        return builder;
+    }
+
     /**
      * Evaluate produced authentication context.
      * We apply an implicit security policy of at least one successful authentication.
@@ -420,6 +589,84 @@ public class DefaultAuthenticationManager implements AuthenticationManager {
         return policies.stream().anyMatch(policy -> policy.shouldResumeOnFailure(failure));
     }
 
+    @RequiredArgsConstructor
+    private final class AuthenticationHandlerTask implements Callable<AuthenticationBuilder> {
+        private final AuthenticationHandler handler;
+
+        private final Credential credential;
+
+        private final AuthenticationTransaction transaction;
+
+        private final RequestScopedHolders requestScope;
+
+        private volatile boolean started;
+
+        private volatile long startTime;
+
+        private Future<AuthenticationBuilder> future;
+
+        private AuthenticationBuilder result;
+
+        private boolean proceedOnFailure = true;
+
+        @Override
+        public AuthenticationBuilder call() {
+            startTime = System.nanoTime();
+            started = true;
+            val previousScope = RequestScopedHolders.capture();
+            requestScope.bind();
+            val handlerBuilder = new DefaultAuthenticationBuilder(NullPrincipal.getInstance());
+            try {
+                val resolver = getPrincipalResolverLinkedToHandlerIfAny(handler, transaction);
+                authenticateAndResolvePrincipal(handlerBuilder, credential, resolver, handler, transaction.getService());
+            } catch (final GeneralSecurityException e) {
+                handleAuthenticationException(e, handler.getName(), handlerBuilder);
+            } catch (final Exception e) {
+                LOGGER.error("Authentication has failed. Credentials may be incorrect or CAS cannot "
+                             + "find authentication handler that supports [{}] of type [{}]. Examine the configuration to "
+                             + "ensure a method of authentication is defined and analyze CAS logs at DEBUG level to trace "
+                             + "the authentication event.", credential, credential.getClass().getSimpleName());
+                handleAuthenticationException(e, handler.getName(), handlerBuilder);
+            } finally {
+                previousScope.bind();
+            }
+            return handlerBuilder;
+        }
+
+        void complete() {
+            try {
+                result = future.get();
+            } catch (final Exception e) {
+                result = new DefaultAuthenticationBuilder(NullPrincipal.getInstance());
+                val failure = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+                handleAuthenticationException(failure, handler.getName(), result);
+            }
+        }
+
+        void timeout(final Duration duration) {
+            future.cancel(true);
+            LOGGER.warn("Authentication handler [{}] did not produce a result within [{}]", handler.getName(), duration);
+            result = new DefaultAuthenticationBuilder(NullPrincipal.getInstance());
+            handleAuthenticationException(new PreventedException(new TimeoutException("Authentication handler "
+                + handler.getName() + " did not produce a result within " + duration)), handler.getName(), result);
+        }
+    }
+
+    private record RequestScopedHolders(ClientInfo clientInfo, RequestAttributes requestAttributes,
+                                        LocaleContext localeContext, RequestContext flowRequestContext) {
+        static RequestScopedHolders capture() {
+            return new RequestScopedHolders(ClientInfoHolder.getClientInfo(), RequestContextHolder.getRequestAttributes(),
+                LocaleContextHolder.getLocaleContext(), org.springframework.webflow.execution.RequestContextHolder.getRequestContext());
+        }
+
+        void bind() {
+            ClientInfoHolder.setClientInfo(clientInfo);
+            RequestContextHolder.setRequestAttributes(requestAttributes);
+            LocaleContextHolder.setLocaleContext(localeContext);
+            org.springframework.webflow.execution.RequestContextHolder.setRequestContext(flowRequestContext);
+        }
+    }
+
     @Getter
     private static class ChainingAuthenticationPolicyExecutionResult {
         private final List<AuthenticationPolicyExecutionResult> results = new ArrayList<>();
@@ -0,0 +1,51 @@
+package org.apereo.cas.authentication;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * This is {@link ParallelAuthenticationHandlerExecutor}, which instructs
+ * the {@link DefaultAuthenticationManager} to execute authentication handlers in parallel
+ * on a bounded pool of threads, where each handler is allowed a limited amount of time to produce a result,
+ * and all handlers together are bound by an overall deadline.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Getter
+@RequiredArgsConstructor
+public class ParallelAuthenticationHandlerExecutor implements DisposableBean {
+    private final ExecutorService executorService;
+
+    private final Duration handlerTimeout;
+
+    private final Duration timeout;
+
+    /**
+     * Create a parallel executor backed by a fixed number of threads.
+     *
+     * @param poolSize       the pool size
+     * @param handlerTimeout the handler timeout
+     * @param timeout        the timeout
+     * @return the parallel authentication handler executor
+     */
+    public static ParallelAuthenticationHandlerExecutor of(final int poolSize, final Duration handlerTimeout,
+                                                           final Duration timeout) {
+        val threadFactory = new CustomizableThreadFactory("cas-authn-handler-");
+        threadFactory.setDaemon(true);
+        val executorService = Executors.newFixedThreadPool(Math.max(1, poolSize), threadFactory);
+        return new ParallelAuthenticationHandlerExecutor(executorService, handlerTimeout, timeout);
+    }
+
+    @Override
+    public void destroy() {
+        executorService.shutdownNow();
+    }
+}
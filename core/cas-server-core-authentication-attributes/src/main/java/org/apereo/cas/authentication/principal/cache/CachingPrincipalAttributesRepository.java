@@ -16,7 +16,6 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
 import java.io.Serial;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -32,7 +31,7 @@ import java.util.Map;
 @Getter
 @Setter
 @NoArgsConstructor
-@EqualsAndHashCode(callSuper = true, of = {"timeUnit", "expiration"})
+@EqualsAndHashCode(callSuper = true, of = {"timeUnit", "expiration", "refreshExpiration"})
 public class CachingPrincipalAttributesRepository extends AbstractPrincipalAttributesRepository {
     @Serial
     private static final long serialVersionUID = 6350244643948535906L;
@@ -47,6 +46,13 @@ public class CachingPrincipalAttributesRepository extends AbstractPrincipalAttri
      */
     protected String timeUnit;
 
+    /**
+     * Time, in the same unit as the expiration, after which cached attributes
+     * are reloaded in the background on the next request, while the current attributes
+     * continue to be returned until the reload completes. Zero or less disables background refreshes.
+     */
+    protected long refreshExpiration;
+
     @JsonCreator
     public CachingPrincipalAttributesRepository(@JsonProperty("timeUnit") final String timeUnit,
                                                 @JsonProperty("expiration") final long expiryDuration) {
@@ -56,28 +62,9 @@ public class CachingPrincipalAttributesRepository extends AbstractPrincipalAttri
 
     @Override
     public Map<String, List<Object>> getAttributes(final Principal principal, final RegisteredService registeredService) {
-        val mergeStrategy = determineMergingStrategy();
-        LOGGER.trace("Determined merging strategy as [{}]", mergeStrategy);
-
-        val cachedAttributes = fetchCachedPrincipalAttributes(principal, registeredService);
-        if (cachedAttributes != null && !cachedAttributes.isEmpty()) {
-            LOGGER.debug("Found [{}] cached attributes for principal [{}] that are [{}]", cachedAttributes.size(), principal.getId(), cachedAttributes);
-            return cachedAttributes;
-        }
-
-        val principalAttributes = getPrincipalAttributes(principal);
-        LOGGER.trace("Principal attributes extracted for [{}] are [{}]", principal.getId(), principalAttributes);
-
-        if (areAttributeRepositoryIdsDefined()) {
-            val personDirectoryAttributes = retrievePersonAttributesFromAttributeRepository(principal);
-            LOGGER.debug("Found [{}] attributes for principal [{}] from the attribute repository.", personDirectoryAttributes.size(), principal.getId());
-
-            LOGGER.debug("Merging current principal attributes with that of the repository via strategy [{}]", mergeStrategy);
-            val mergedAttributes = CoreAuthenticationUtils.getAttributeMerger(mergeStrategy)
-                .mergeAttributes(principalAttributes, personDirectoryAttributes);
-            return convertAttributesToPrincipalAttributesAndCache(principal, mergedAttributes, registeredService);
-        }
-        return convertAttributesToPrincipalAttributesAndCache(principal, principalAttributes, registeredService);
+        return ApplicationContextProvider.getPrincipalAttributesRepositoryCache()
+            .map(cache -> cache.fetchAttributes(registeredService, this, principal, this::loadPrincipalAttributes))
+            .orElseGet(() -> loadPrincipalAttributes(principal));
     }
 
     @Override
@@ -91,15 +78,28 @@ public class CachingPrincipalAttributesRepository extends AbstractPrincipalAttri
     }
 
     /**
-     * Gets cached principal attributes.
+     * Load principal attributes from the principal and the attribute repository, if any,
+     * without consulting or updating the cache.
      *
-     * @param principal         the principal
-     * @param registeredService the registered service
-     * @return the cached principal attributes
+     * @param principal the principal
+     * @return the attributes
      */
-    protected Map<String, List<Object>> fetchCachedPrincipalAttributes(final Principal principal, final RegisteredService registeredService) {
-        return ApplicationContextProvider.getPrincipalAttributesRepositoryCache()
-            .map(cache -> cache.fetchAttributes(registeredService, this, principal))
-            .orElseGet(() -> new HashMap<>(0));
+    protected Map<String, List<Object>> loadPrincipalAttributes(final Principal principal) {
+        val mergeStrategy = determineMergingStrategy();
+        LOGGER.trace("Determined merging strategy as [{}]", mergeStrategy);
+
+        val principalAttributes = getPrincipalAttributes(principal);
+        LOGGER.trace("Principal attributes extracted for [{}] are [{}]", principal.getId(), principalAttributes);
+
+        if (areAttributeRepositoryIdsDefined()) {
+            val personDirectoryAttributes = retrievePersonAttributesFromAttributeRepository(principal);
+            LOGGER.debug("Found [{}] attributes for principal [{}] from the attribute repository.", personDirectoryAttributes.size(), principal.getId());
+
+            LOGGER.debug("Merging current principal attributes with that of the repository via strategy [{}]", mergeStrategy);
+            val mergedAttributes = CoreAuthenticationUtils.getAttributeMerger(mergeStrategy)
+                .mergeAttributes(principalAttributes, personDirectoryAttributes);
+            return convertPersonAttributesToPrincipalAttributes(mergedAttributes);
+        }
+        return convertPersonAttributesToPrincipalAttributes(principalAttributes);
     }
 }
@@ -1,13 +1,15 @@
 package org.apereo.cas.authentication.principal.cache;
 
 import org.apereo.cas.authentication.principal.Principal;
+import org.apereo.cas.authentication.principal.PrincipalFactoryUtils;
 import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCache;
 import org.apereo.cas.authentication.principal.RegisteredServicePrincipalAttributesRepository;
 import org.apereo.cas.services.RegisteredService;
-import org.apereo.cas.util.DigestUtils;
 
-import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
@@ -17,10 +19,18 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 
 /**
  * This is {@link DefaultPrincipalAttributesRepositoryCache}.
+ * Attributes are cached per registered service, and concurrent requests for the attributes
+ * of the same principal share a single load. Cached attributes may optionally be refreshed
+ * in the background, once the refresh period defined by the repository has passed. The attributes
+ * of the principal are kept alongside each cached entry, so refreshes merge them again with those
+ * of the attribute repository, via the repository instance that was most recently used for the registered service.
  *
  * @author Misagh Moayyed
  * @since 6.1.0
@@ -31,28 +41,27 @@ public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttri
 
     private static final String DEFAULT_CACHE_EXPIRATION_UNIT = TimeUnit.HOURS.name();
 
-    private final Map<String, Cache<String, Map<String, List<Object>>>> registeredServicesCache = new HashMap<>(0);
+    private final Map<RegisteredServiceCacheKey, RegisteredServiceCache> registeredServicesCache =
+        new ConcurrentHashMap<>();
 
-    /**
-     * Build registered service cache key string.
-     *
-     * @param registeredService the registered service
-     * @return the string
-     */
-    private static String buildRegisteredServiceCacheKey(final RegisteredService registeredService) {
-        val key = registeredService.getId() + '@' + registeredService.getName();
-        return DigestUtils.sha512(key);
-    }
-
-    private static Cache<String, Map<String, List<Object>>> initializeCache(
+    private static RegisteredServiceCache initializeCache(
         final RegisteredServicePrincipalAttributesRepository repository) {
         val cachedRepository = CachingPrincipalAttributesRepository.class.cast(repository);
+        val currentRepository = new AtomicReference<>(cachedRepository);
         val unit = TimeUnit.valueOf(StringUtils.defaultString(cachedRepository.getTimeUnit(), DEFAULT_CACHE_EXPIRATION_UNIT));
-        return Caffeine.newBuilder()
+        val builder = Caffeine.newBuilder()
             .initialCapacity(DEFAULT_MAXIMUM_CACHE_SIZE)
             .maximumSize(DEFAULT_MAXIMUM_CACHE_SIZE)
-            .expireAfterWrite(cachedRepository.getExpiration(), unit)
-            .build(s -> new TreeMap<>(String.CASE_INSENSITIVE_ORDER));
+            .expireAfterWrite(cachedRepository.getExpiration(), unit);
+        val refresh = cachedRepository.getRefreshExpiration();
+        if (refresh > 0 && refresh < cachedRepository.getExpiration()) {
+            builder.refreshAfterWrite(refresh, unit);
+        }
+        return new RegisteredServiceCache(builder.build(new PrincipalAttributesCacheLoader(currentRepository)), currentRepository);
+    }
+
+    private static Map<String, List<Object>> emptyAttributes() {
+        return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
     }
 
     @Override
@@ -65,7 +74,7 @@ public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttri
      */
     @Override
     public void invalidate() {
-        registeredServicesCache.values().forEach(Cache::invalidateAll);
+        registeredServicesCache.values().forEach(cache -> cache.attributes().invalidateAll());
     }
 
     @Override
@@ -73,10 +82,26 @@ public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttri
                                                      final RegisteredServicePrincipalAttributesRepository repository,
                                                      final Principal principal) {
         val cache = getRegisteredServiceCacheInstance(registeredService, repository);
-        return cache.get(principal.getId(), s -> {
+        val cachedAttributes = cache.getIfPresent(principal.getId());
+        if (cachedAttributes == null) {
             LOGGER.debug("No cached attributes could be found for [{}]", principal.getId());
-            return new TreeMap<>(String.CASE_INSENSITIVE_ORDER);
+            return emptyAttributes();
+        }
+        return cachedAttributes.attributes();
+    }
+
+    @Override
+    public Map<String, List<Object>> fetchAttributes(final RegisteredService registeredService,
+                                                     final RegisteredServicePrincipalAttributesRepository repository,
+                                                     final Principal principal,
+                                                     final Function<Principal, Map<String, List<Object>>> loader) {
+        val cache = getRegisteredServiceCacheInstance(registeredService, repository);
+        val cachedAttributes = cache.get(principal.getId(), id -> {
+            LOGGER.debug("No cached attributes could be found for [{}]; loading attributes", id);
+            val attributes = loader.apply(principal);
+            return attributes == null || attributes.isEmpty() ? null : new CachedAttributes(principal.getAttributes(), attributes);
         });
+        return cachedAttributes == null ? emptyAttributes() : cachedAttributes.attributes();
     }
 
     @Override
@@ -84,25 +109,49 @@ public class DefaultPrincipalAttributesRepositoryCache implements PrincipalAttri
                               final RegisteredServicePrincipalAttributesRepository repository,
                               final String id, final Map<String, List<Object>> attributes) {
         val cache = getRegisteredServiceCacheInstance(registeredService, repository);
-        cache.put(id, attributes);
+        cache.put(id, new CachedAttributes(attributes, attributes));
     }
 
-    /**
-     * Gets registered service cache instance.
-     *
-     * @param registeredService the registered service
-     * @param repository        the repository
-     * @return the registered service cache instance
-     */
-    private Cache<String, Map<String, List<Object>>> getRegisteredServiceCacheInstance(
+    private LoadingCache<String, CachedAttributes> getRegisteredServiceCacheInstance(
         final RegisteredService registeredService, final RegisteredServicePrincipalAttributesRepository repository) {
+        val key = new RegisteredServiceCacheKey(registeredService.getId(), registeredService.getName());
+        val cache = registeredServicesCache.computeIfAbsent(key, k -> initializeCache(repository));
+        cache.repository().set(CachingPrincipalAttributesRepository.class.cast(repository));
+        return cache.attributes();
+    }
+
+    private record RegisteredServiceCacheKey(long id, String name) {
+    }
+
+    private record CachedAttributes(Map<String, List<Object>> principalAttributes, Map<String, List<Object>> attributes) {
+        CachedAttributes {
+            principalAttributes = principalAttributes == null ? Map.of() : new HashMap<>(principalAttributes);
+        }
+    }
+
+    private record RegisteredServiceCache(LoadingCache<String, CachedAttributes> attributes,
+                                          AtomicReference<CachingPrincipalAttributesRepository> repository) {
+    }
+
+    @RequiredArgsConstructor
+    private static final class PrincipalAttributesCacheLoader implements CacheLoader<String, CachedAttributes> {
+        private final AtomicReference<CachingPrincipalAttributesRepository> repository;
+
+        @Override
+        public CachedAttributes load(final String key) {
+            return null;
+        }
 
-        val key = buildRegisteredServiceCacheKey(registeredService);
-        if (registeredServicesCache.containsKey(key)) {
-            return registeredServicesCache.get(key);
+        @Override
+        public CachedAttributes reload(final String key, final CachedAttributes oldValue) {
+            LOGGER.debug("Refreshing cached attributes for [{}]", key);
+            val principal = PrincipalFactoryUtils.newPrincipalFactory().createPrincipal(key, oldValue.principalAttributes());
+            val attributes = repository.get().loadPrincipalAttributes(principal);
+            if (attributes == null || attributes.isEmpty()) {
+                LOGGER.trace("No attributes could be refreshed for [{}]; cached attributes will be removed", key);
+                return null;
+            }
+            return new CachedAttributes(oldValue.principalAttributes(), attributes);
         }
-        val cache = initializeCache(repository);
-        registeredServicesCache.put(key, cache);
-        return cache;
     }
 }
@@ -1,7 +1,6 @@
 package org.apereo.cas.services;
 
 import org.apereo.cas.util.CollectionUtils;
-import org.apereo.cas.util.scripting.GroovyShellScript;
 import org.apereo.cas.util.scripting.ScriptingUtils;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
@@ -70,16 +69,14 @@ public class ReturnAllowedAttributeReleasePolicy extends AbstractRegisteredServi
             } else {
                 val matcherInline = ScriptingUtils.getMatcherForInlineGroovyScript(attr);
                 if (matcherInline.find()) {
-                    val inlineGroovy = matcherInline.group(1);
-                    try (val executableScript = new GroovyShellScript(inlineGroovy)) {
-                        val args = CollectionUtils.<String, Object>wrap(
-                            "context", context,
-                            "attributes", attributes,
-                            "logger", LOGGER);
-                        executableScript.setBinding(args);
-                        val scriptedAttributes = executableScript.execute(args.values().toArray(), Map.class);
-                        attributesToRelease.putAll(scriptedAttributes);
-                    }
+                    val executableScript = ScriptingUtils.resolveInlineGroovyScript(attr);
+                    val args = CollectionUtils.<String, Object>wrap(
+                        "context", context,
+                        "attributes", attributes,
+                        "logger", LOGGER);
+                    executableScript.setBinding(args);
+                    val scriptedAttributes = executableScript.execute(args.values().toArray(), Map.class);
+                    attributesToRelease.putAll(scriptedAttributes);
                 }
             }
         });
@@ -12,7 +12,6 @@ import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.scripting.ExecutableCompiledGroovyScript;
-import org.apereo.cas.util.scripting.GroovyShellScript;
 import org.apereo.cas.util.scripting.ScriptingUtils;
 import org.apereo.cas.util.scripting.WatchableGroovyScriptResource;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
@@ -83,15 +82,10 @@ public class ScriptedRegisteredServiceMultifactorAuthenticationTrigger implement
 
         LOGGER.trace("Locating multifactor authentication trigger script [{}] in script cache...", mfaScript);
 
-        if (!scriptCache.containsKey(mfaScript)) {
-            val matcherInline = ScriptingUtils.getMatcherForInlineGroovyScript(mfaScript);
+        val isInlineScript = ScriptingUtils.isInlineGroovyScript(mfaScript);
+        if (!isInlineScript && !scriptCache.containsKey(mfaScript)) {
             val matcherFile = ScriptingUtils.getMatcherForExternalGroovyScript(mfaScript);
-
-            if (matcherInline.find()) {
-                val script = new GroovyShellScript(matcherInline.group(1));
-                scriptCache.put(mfaScript, script);
-                LOGGER.trace("Caching multifactor authentication trigger script as an executable shell script");
-            } else if (matcherFile.find()) {
+            if (matcherFile.find()) {
                 try {
                     val scriptPath = SpringExpressionLanguageValueResolver.getInstance().resolve(matcherFile.group());
                     val resource = ResourceUtils.getResourceFrom(scriptPath);
@@ -104,8 +98,8 @@ public class ScriptedRegisteredServiceMultifactorAuthenticationTrigger implement
             }
         }
 
-        if (scriptCache.containsKey(mfaScript)) {
-            val executableScript = scriptCache.get(mfaScript);
+        val executableScript = isInlineScript ? ScriptingUtils.resolveInlineGroovyScript(mfaScript) : scriptCache.get(mfaScript);
+        if (executableScript != null) {
             LOGGER.debug("Executing multifactor authentication trigger script [{}]", executableScript);
             val result = executableScript.execute(new Object[]{authentication, registeredService, httpServletRequest,
                 service, applicationContext, LOGGER}, String.class);
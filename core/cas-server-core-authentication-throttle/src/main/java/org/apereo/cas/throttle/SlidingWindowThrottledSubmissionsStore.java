@@ -0,0 +1,169 @@
+package org.apereo.cas.throttle;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.web.support.ThrottledSubmission;
+import org.apereo.cas.web.support.ThrottledSubmissionsStore;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link SlidingWindowThrottledSubmissionsStore} that keeps track of failed submissions
+ * using a sliding-window counter per key. Each window covers the configured failure range, and is split into
+ * a fixed ring of time buckets, each of which counts the failures that fall into its slice of time.
+ * Whether a key exceeds the threshold rate is decided from the bucket counts alone,
+ * and whether a key remains throttled is decided from the end of the throttle window of its most recent
+ * submission, kept as epoch milliseconds, so neither decision compares or parses submission dates. Keys are held in a bounded cache,
+ * and are evicted once they are no longer active or when the cache reaches its maximum size.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class SlidingWindowThrottledSubmissionsStore implements ThrottledSubmissionsStore<ThrottledSubmission> {
+    @Getter
+    private final Cache<String, SlidingWindowCounter> counters;
+
+    private final long windowMillis;
+
+    private final long bucketMillis;
+
+    private final int bucketCount;
+
+    @Setter
+    private Clock clock = Clock.systemUTC();
+
+    public SlidingWindowThrottledSubmissionsStore(final CasConfigurationProperties casProperties) {
+        val throttle = casProperties.getAuthn().getThrottle();
+        this.windowMillis = TimeUnit.SECONDS.toMillis(Math.max(1, throttle.getFailure().getRangeSeconds()));
+        this.bucketCount = (int) Math.min(Math.max(1, throttle.getInMemory().getBucketCount()), windowMillis);
+        this.bucketMillis = windowMillis / bucketCount;
+
+        val throttleWindow = Beans.newDuration(throttle.getFailure().getThrottleWindowSeconds());
+        this.counters = Caffeine.newBuilder()
+            .maximumSize(throttle.getInMemory().getMaximumSize())
+            .expireAfterWrite(Duration.ofMillis(windowMillis).plus(throttleWindow))
+            .build();
+    }
+
+    @Override
+    public void removeIf(final Predicate<ThrottledSubmission> condition) {
+        counters.asMap().values().removeIf(counter -> condition.test(counter.getSubmission()));
+    }
+
+    @Override
+    public void remove(final String key) {
+        counters.invalidate(key);
+    }
+
+    @Override
+    public void put(final ThrottledSubmission submission) {
+        val now = clock.millis();
+        val throttledUntil = submission.getExpiration() != null ? submission.getExpiration().toInstant().toEpochMilli() : 0L;
+        counters.asMap().compute(submission.getKey(), (key, current) -> {
+            val counter = current == null ? new SlidingWindowCounter(bucketCount) : current;
+            counter.record(submission, currentBucket(now), throttledUntil);
+            return counter;
+        });
+    }
+
+    @Override
+    public boolean contains(final String key) {
+        return counters.getIfPresent(key) != null;
+    }
+
+    @Override
+    public ThrottledSubmission get(final String key) {
+        val counter = counters.getIfPresent(key);
+        return counter != null ? counter.getSubmission() : null;
+    }
+
+    @Override
+    public Stream<ThrottledSubmission> entries() {
+        return counters.asMap().values().stream().map(SlidingWindowCounter::getSubmission).filter(Objects::nonNull);
+    }
+
+    @Override
+    public boolean isThrottled(final String key) {
+        val counter = counters.getIfPresent(key);
+        return counter != null && clock.millis() < counter.getThrottledUntil();
+    }
+
+    @Override
+    public boolean exceedsThreshold(final String key, final double thresholdRate) {
+        val counter = counters.getIfPresent(key);
+        if (counter == null) {
+            return false;
+        }
+        val count = counter.count(currentBucket(clock.millis()));
+        val rate = count * 1000.0D / windowMillis;
+        LOGGER.debug("Submission rate for [{}] is [{}] with [{}] failure(s) in the window", key, rate, count);
+        return rate > thresholdRate;
+    }
+
+    @Override
+    public void release(final double thresholdRate) {
+        val bucket = currentBucket(clock.millis());
+        counters.asMap().values().removeIf(counter -> counter.count(bucket) * 1000.0D / windowMillis < thresholdRate);
+        counters.cleanUp();
+    }
+
+    private long currentBucket(final long now) {
+        return now / bucketMillis;
+    }
+
+    /**
+     * Failure counts for a single key, kept in a ring of time buckets.
+     * Each slot remembers the bucket it is counting for, so stale slots are reset
+     * the next time they are reused and ignored when the window is summed.
+     */
+    private static final class SlidingWindowCounter {
+        private final long[] buckets;
+
+        private final long[] counts;
+
+        @Getter
+        private volatile ThrottledSubmission submission;
+
+        @Getter
+        private volatile long throttledUntil;
+
+        SlidingWindowCounter(final int bucketCount) {
+            this.buckets = new long[bucketCount];
+            this.counts = new long[bucketCount];
+        }
+
+        synchronized void record(final ThrottledSubmission submission, final long bucket, final long throttledUntil) {
+            val slot = (int) (bucket % buckets.length);
+            if (buckets[slot] != bucket) {
+                buckets[slot] = bucket;
+                counts[slot] = 0;
+            }
+            counts[slot]++;
+            this.submission = submission;
+            this.throttledUntil = throttledUntil;
+        }
+
+        synchronized long count(final long bucket) {
+            var total = 0L;
+            for (var i = 0; i < buckets.length; i++) {
+                if (bucket - buckets[i] < buckets.length) {
+                    total += counts[i];
+                }
+            }
+            return total;
+        }
+    }
+}
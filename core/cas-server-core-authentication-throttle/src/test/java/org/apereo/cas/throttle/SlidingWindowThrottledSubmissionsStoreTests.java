@@ -0,0 +1,100 @@
+package org.apereo.cas.throttle;
+
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.web.support.ThrottledSubmission;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link SlidingWindowThrottledSubmissionsStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("AuthenticationThrottling")
+@SpringBootTest(classes = RefreshAutoConfiguration.class, properties = {
+    "cas.authn.throttle.failure.threshold=3",
+    "cas.authn.throttle.failure.range-seconds=10",
+    "cas.authn.throttle.in-memory.sliding-window=true",
+    "cas.authn.throttle.in-memory.bucket-count=5"
+})
+@EnableConfigurationProperties(CasConfigurationProperties.class)
+class SlidingWindowThrottledSubmissionsStoreTests {
+    private static final double THRESHOLD_RATE = 3 / 10.0D;
+
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
+    @Test
+    void verifyOperation() {
+        val store = new SlidingWindowThrottledSubmissionsStore(casProperties);
+        val key = UUID.randomUUID().toString();
+        store.put(ThrottledSubmission.builder().key(key).build());
+        assertTrue(store.contains(key));
+        assertNotNull(store.get(key));
+        assertEquals(1, store.entries().count());
+        store.removeIf(entry -> entry.getKey().equals(key));
+        assertFalse(store.contains(key));
+        store.put(ThrottledSubmission.builder().key(key).build());
+        store.remove(key);
+        assertNull(store.get(key));
+        assertEquals(0, store.entries().count());
+    }
+
+    @Test
+    void verifyWindowSlides() {
+        val store = new SlidingWindowThrottledSubmissionsStore(casProperties);
+        val now = Instant.now();
+        store.setClock(Clock.fixed(now, ZoneOffset.UTC));
+        val key = UUID.randomUUID().toString();
+
+        IntStream.range(0, 3).forEach(i -> store.put(ThrottledSubmission.builder().key(key).build()));
+        assertFalse(store.exceedsThreshold(key, THRESHOLD_RATE));
+        store.put(ThrottledSubmission.builder().key(key).build());
+        assertTrue(store.exceedsThreshold(key, THRESHOLD_RATE));
+        assertFalse(store.exceedsThreshold(UUID.randomUUID().toString(), THRESHOLD_RATE));
+
+        store.setClock(Clock.fixed(now.plusSeconds(6), ZoneOffset.UTC));
+        assertTrue(store.exceedsThreshold(key, THRESHOLD_RATE));
+        store.release(THRESHOLD_RATE);
+        assertTrue(store.contains(key));
+
+        store.setClock(Clock.fixed(now.plusSeconds(12), ZoneOffset.UTC));
+        assertFalse(store.exceedsThreshold(key, THRESHOLD_RATE));
+        store.release(THRESHOLD_RATE);
+        assertFalse(store.contains(key));
+    }
+
+    @Test
+    void verifyThrottledUntilExpiration() {
+        val store = new SlidingWindowThrottledSubmissionsStore(casProperties);
+        val now = Instant.now();
+        store.setClock(Clock.fixed(now, ZoneOffset.UTC));
+        val key = UUID.randomUUID().toString();
+        assertFalse(store.isThrottled(key));
+
+        store.put(ThrottledSubmission.builder().key(key)
+            .expiration(ZonedDateTime.ofInstant(now.plusSeconds(5), ZoneOffset.UTC)).build());
+        assertTrue(store.isThrottled(key));
+        assertFalse(store.exceedsThreshold(key, THRESHOLD_RATE));
+
+        store.setClock(Clock.fixed(now.plusSeconds(6), ZoneOffset.UTC));
+        assertFalse(store.isThrottled(key));
+        assertTrue(store.contains(key));
+    }
+}
@@ -12,8 +12,10 @@ import org.apereo.cas.authentication.DefaultAuthenticationManager;
 import org.apereo.cas.authentication.DefaultAuthenticationResultBuilderFactory;
 import org.apereo.cas.authentication.DefaultAuthenticationTransactionFactory;
 import org.apereo.cas.authentication.DefaultAuthenticationTransactionManager;
+import org.apereo.cas.authentication.ParallelAuthenticationHandlerExecutor;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.model.TriStateBoolean;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.validation.AuthenticationAttributeReleasePolicy;
@@ -21,10 +23,12 @@ import org.apereo.cas.validation.AuthenticationAttributeReleasePolicy;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.jooq.lambda.Unchecked;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureOrder;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -97,16 +101,31 @@ public class CasCoreAuthenticationConfiguration {
             return new DefaultAuthenticationTransactionManager(applicationContext, casAuthenticationManager);
         }
 
+        @ConditionalOnMissingBean(name = "parallelAuthenticationHandlerExecutor")
+        @ConditionalOnProperty(name = "cas.authn.core.engine.handler-execution.parallel", havingValue = "true")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public ParallelAuthenticationHandlerExecutor parallelAuthenticationHandlerExecutor(
+            final CasConfigurationProperties casProperties) {
+            val execution = casProperties.getAuthn().getCore().getEngine().getHandlerExecution();
+            return ParallelAuthenticationHandlerExecutor.of(execution.getPoolSize(),
+                Beans.newDuration(execution.getHandlerTimeout()), Beans.newDuration(execution.getTimeout()));
+        }
+
         @ConditionalOnMissingBean(name = AuthenticationManager.BEAN_NAME)
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
         public AuthenticationManager casAuthenticationManager(
             final CasConfigurationProperties casProperties,
             final ConfigurableApplicationContext applicationContext,
+            @Qualifier("parallelAuthenticationHandlerExecutor")
+            final ObjectProvider<ParallelAuthenticationHandlerExecutor> parallelAuthenticationHandlerExecutor,
             @Qualifier(AuthenticationEventExecutionPlan.DEFAULT_BEAN_NAME)
             final AuthenticationEventExecutionPlan authenticationEventExecutionPlan) {
             val isFatal = casProperties.getPersonDirectory().getPrincipalResolutionFailureFatal() == TriStateBoolean.TRUE;
-            return new DefaultAuthenticationManager(authenticationEventExecutionPlan, isFatal, applicationContext);
+            val manager = new DefaultAuthenticationManager(authenticationEventExecutionPlan, isFatal, applicationContext);
+            parallelAuthenticationHandlerExecutor.ifAvailable(manager::setParallelExecutor);
+            return manager;
         }
     }
 
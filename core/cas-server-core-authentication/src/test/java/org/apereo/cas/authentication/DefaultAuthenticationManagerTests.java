@@ -21,10 +21,16 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.support.StaticApplicationContext;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
 
 import javax.security.auth.login.FailedLoginException;
 
+import java.io.Serial;
 import java.security.GeneralSecurityException;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -129,6 +135,17 @@ class DefaultAuthenticationManagerTests {
         return mock;
     }
 
+    @SneakyThrows
+    private static AuthenticationHandler newSlowMockHandler(final String name, final Duration delay) {
+        val mock = newMockHandler(name, true);
+        val result = mock.authenticate(mock(Credential.class), mock(Service.class));
+        when(mock.authenticate(any(Credential.class), any(Service.class))).thenAnswer(invocation -> {
+            Thread.sleep(delay.toMillis());
+            return result;
+        });
+        return mock;
+    }
+
     private static AuthenticationEventExecutionPlan getAuthenticationExecutionPlan(final Map<AuthenticationHandler, PrincipalResolver> map) {
         val plan = new DefaultAuthenticationEventExecutionPlan();
         plan.registerAuthenticationHandlerWithPrincipalResolver(map);
@@ -416,4 +433,118 @@ class DefaultAuthenticationManagerTests {
         assertEquals(1, auth.getFailures().size());
         assertEquals(2, auth.getCredentials().size());
     }
+
+    @Test
+    void verifyParallelAuthenticationStopsWhenPolicySatisfied() {
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(newSlowMockHandler(HANDLER_A, Duration.ofSeconds(30)), null);
+        map.put(newMockHandler(HANDLER_B, true), null);
+
+        val authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AtLeastOneCredentialValidatedAuthenticationPolicy());
+        val manager = new DefaultAuthenticationManager(authenticationExecutionPlan, false, applicationContext);
+        val executor = ParallelAuthenticationHandlerExecutor.of(4, Duration.ofSeconds(60), Duration.ofSeconds(60));
+        try {
+            manager.setParallelExecutor(executor);
+            val startTime = System.currentTimeMillis();
+            val auth = manager.authenticate(transaction);
+            assertTrue(System.currentTimeMillis() - startTime < 10_000);
+            assertEquals(Set.of(HANDLER_B), auth.getSuccesses().keySet());
+            assertTrue(auth.getFailures().isEmpty());
+        } finally {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    void verifyParallelAuthenticationKeepsHandlerOrder() {
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(newSlowMockHandler(HANDLER_A, Duration.ofMillis(500)), null);
+        map.put(newMockHandler(HANDLER_B, true), null);
+
+        val authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new RequiredAuthenticationHandlerAuthenticationPolicy(Set.of(HANDLER_A), true));
+        val manager = new DefaultAuthenticationManager(authenticationExecutionPlan, false, applicationContext);
+        val executor = ParallelAuthenticationHandlerExecutor.of(4, Duration.ofSeconds(10), Duration.ofSeconds(30));
+        try {
+            manager.setParallelExecutor(executor);
+            val auth = manager.authenticate(transaction);
+            assertEquals(List.of(HANDLER_A, HANDLER_B), List.copyOf(auth.getSuccesses().keySet()));
+        } finally {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    void verifyParallelAuthenticationHandlerTimeout() {
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(newSlowMockHandler(HANDLER_A, Duration.ofSeconds(30)), null);
+
+        val authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AtLeastOneCredentialValidatedAuthenticationPolicy());
+        val manager = new DefaultAuthenticationManager(authenticationExecutionPlan, false, applicationContext);
+        val executor = ParallelAuthenticationHandlerExecutor.of(4, Duration.ofMillis(200), Duration.ofSeconds(5));
+        try {
+            manager.setParallelExecutor(executor);
+            val ex = assertThrows(AuthenticationException.class, () -> manager.authenticate(transaction));
+            assertInstanceOf(PreventedException.class, ex.getHandlerErrors().get(HANDLER_A));
+        } finally {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    void verifyParallelAuthenticationWaitsForEarlierHandlersOnFailure() {
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(newSlowMockHandler(HANDLER_A, Duration.ofMillis(500)), null);
+        map.put(newMockHandler(HANDLER_B, false), null);
+
+        val authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new NonResumableAuthenticationPolicy());
+        val manager = new DefaultAuthenticationManager(authenticationExecutionPlan, false, applicationContext);
+        val executor = ParallelAuthenticationHandlerExecutor.of(4, Duration.ofSeconds(10), Duration.ofSeconds(30));
+        try {
+            manager.setParallelExecutor(executor);
+            val auth = manager.authenticate(transaction);
+            assertTrue(auth.getSuccesses().containsKey(HANDLER_A));
+        } finally {
+            executor.destroy();
+        }
+    }
+
+    @Test
+    void verifyParallelAuthenticationPropagatesRequestAttributes() throws Exception {
+        val handler = newMockHandler(HANDLER_A, true);
+        val result = handler.authenticate(mock(Credential.class), mock(Service.class));
+        when(handler.authenticate(any(Credential.class), any(Service.class))).thenAnswer(invocation -> {
+            assertNotNull(RequestContextHolder.getRequestAttributes());
+            return result;
+        });
+        val map = new LinkedHashMap<AuthenticationHandler, PrincipalResolver>();
+        map.put(handler, null);
+
+        val authenticationExecutionPlan = getAuthenticationExecutionPlan(map);
+        authenticationExecutionPlan.registerAuthenticationPolicy(new AtLeastOneCredentialValidatedAuthenticationPolicy());
+        val manager = new DefaultAuthenticationManager(authenticationExecutionPlan, false, applicationContext);
+        val executor = ParallelAuthenticationHandlerExecutor.of(4, Duration.ofSeconds(10), Duration.ofSeconds(30));
+        try {
+            RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest(), new MockHttpServletResponse()));
+            manager.setParallelExecutor(executor);
+            val auth = manager.authenticate(transaction);
+            assertEquals(Set.of(HANDLER_A), auth.getSuccesses().keySet());
+        } finally {
+            RequestContextHolder.resetRequestAttributes();
+            executor.destroy();
+        }
+    }
+
+    private static final class NonResumableAuthenticationPolicy extends AtLeastOneCredentialValidatedAuthenticationPolicy {
+        @Serial
+        private static final long serialVersionUID = 2409377357126486471L;
+
+        @Override
+        public boolean shouldResumeOnFailure(final Throwable failure) {
+            return false;
+        }
+    }
 }
@@ -0,0 +1,78 @@
+package org.apereo.cas.web.support.mgmr;
+
+import org.apereo.cas.util.DigestUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.Getter;
+import lombok.val;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * This is {@link DecodedCookieValueCache} that remembers decoded cookie values,
+ * keyed by the digest of the encoded cookie value, so that repeated reads of the same cookie
+ * can skip signature verification and decryption. Only the decoded value is cached;
+ * any checks that apply to the decoded value, such as session pinning,
+ * are expected to be carried out by the caller on every read.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public class DecodedCookieValueCache {
+    @Getter
+    private final Cache<String, String> cache;
+
+    private final LongAdder decodingCount = new LongAdder();
+
+    private final LongAdder decodingTime = new LongAdder();
+
+    public DecodedCookieValueCache(final long cacheSize, final Duration duration) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfterWrite(duration)
+            .recordStats()
+            .build();
+    }
+
+    /**
+     * Gets the decoded cookie value, or decodes the cookie and caches the result.
+     * Cookies that cannot be decoded are not cached.
+     *
+     * @param cookie  the encoded cookie value
+     * @param decoder the decoder
+     * @return the decoded value, or null
+     */
+    public String get(final String cookie, final Function<String, String> decoder) {
+        return cache.get(DigestUtils.sha256(cookie), key -> {
+            val startTime = System.nanoTime();
+            try {
+                return decoder.apply(cookie);
+            } finally {
+                decodingTime.add(System.nanoTime() - startTime);
+                decodingCount.increment();
+            }
+        });
+    }
+
+    /**
+     * Gets average time it takes to decode a cookie, in nanoseconds.
+     *
+     * @return the average decoding time
+     */
+    public long getAverageDecodingTime() {
+        val count = decodingCount.sum();
+        return count == 0 ? 0 : decodingTime.sum() / count;
+    }
+
+    /**
+     * Gets an estimate of the time saved by serving cookies from the cache, in nanoseconds.
+     *
+     * @return the saved decoding time
+     */
+    public long getSavedDecodingTime() {
+        return cache.stats().hitCount() * getAverageDecodingTime();
+    }
+}
@@ -6,6 +6,7 @@ import org.apereo.cas.web.cookie.CookieValueManager;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.ArrayUtils;
@@ -36,6 +37,13 @@ public class EncryptedCookieValueManager implements CookieValueManager {
     @Getter
     private final CookieSameSitePolicy cookieSameSitePolicy;
 
+    /**
+     * Cache of decoded cookie values, if any.
+     */
+    @Getter
+    @Setter
+    private DecodedCookieValueCache decodedCookieValueCache;
+
     @Override
     public final String buildCookieValue(final String givenCookieValue, final HttpServletRequest request) {
         val res = buildCompoundCookieValue(givenCookieValue, request);
@@ -45,12 +53,12 @@ public class EncryptedCookieValueManager implements CookieValueManager {
 
     @Override
     public String obtainCookieValue(final String cookie, final HttpServletRequest request) {
-        val decoded = cipherExecutor.decode(cookie, ArrayUtils.EMPTY_OBJECT_ARRAY);
-        if (decoded == null) {
-            LOGGER.trace("Could not decode cookie value [{}] for cookie", cookie);
+        val cookieValue = decodedCookieValueCache != null
+            ? decodedCookieValueCache.get(cookie, this::decodeCookieValue)
+            : decodeCookieValue(cookie);
+        if (cookieValue == null) {
             return null;
         }
-        val cookieValue = decoded.toString();
         LOGGER.trace("Decoded cookie value is [{}]", cookieValue);
         if (StringUtils.isBlank(cookieValue)) {
             LOGGER.trace("Retrieved decoded cookie value is blank. Failed to decode cookie");
@@ -60,6 +68,21 @@ public class EncryptedCookieValueManager implements CookieValueManager {
         return obtainValueFromCompoundCookie(cookieValue, request);
     }
 
+    /**
+     * Decode cookie value.
+     *
+     * @param cookie the cookie
+     * @return the decoded value, or null
+     */
+    protected String decodeCookieValue(final String cookie) {
+        val decoded = cipherExecutor.decode(cookie, ArrayUtils.EMPTY_OBJECT_ARRAY);
+        if (decoded == null) {
+            LOGGER.trace("Could not decode cookie value [{}] for cookie", cookie);
+            return null;
+        }
+        return decoded.toString();
+    }
+
     /**
      * Build the compound cookie value.
      *
@@ -3,6 +3,7 @@ package org.apereo.cas.web.support;
 import org.apereo.cas.configuration.model.support.cookie.TicketGrantingCookieProperties;
 import org.apereo.cas.util.crypto.CipherExecutor;
 import org.apereo.cas.web.cookie.CookieValueManager;
+import org.apereo.cas.web.support.mgmr.DecodedCookieValueCache;
 import org.apereo.cas.web.support.mgmr.DefaultCasCookieValueManager;
 import org.apereo.cas.web.support.mgmr.DefaultCookieSameSitePolicy;
 
@@ -19,6 +20,8 @@ import org.springframework.mock.web.MockHttpServletRequest;
 
 import jakarta.servlet.http.Cookie;
 
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -121,6 +124,30 @@ class DefaultCasCookieValueManagerTests {
         assertThrows(InvalidCookieException.class, () -> mgr.obtainCookieValue("something", new MockHttpServletRequest()));
     }
 
+    @Test
+    void verifyCachedCookieStillPinned() {
+        val request = new MockHttpServletRequest();
+        request.setRemoteAddr(CLIENT_IP);
+        request.setLocalAddr(CLIENT_IP);
+        request.addHeader("User-Agent", USER_AGENT);
+
+        val cipher = spy(CipherExecutor.noOp());
+        val mgr = new DefaultCasCookieValueManager(cipher, DefaultCookieSameSitePolicy.INSTANCE, new TicketGrantingCookieProperties());
+        val cache = new DecodedCookieValueCache(10, Duration.ofMinutes(1));
+        mgr.setDecodedCookieValueCache(cache);
+
+        val encoded = mgr.buildCookieValue(VALUE, request);
+        assertEquals(VALUE, mgr.obtainCookieValue(encoded, request));
+        assertEquals(VALUE, mgr.obtainCookieValue(encoded, request));
+        verify(cipher, times(1)).decode(eq(encoded), any());
+        assertEquals(1, cache.getCache().stats().hitCount());
+
+        val otherRequest = new MockHttpServletRequest();
+        otherRequest.setRemoteAddr(CLIENT_IP);
+        otherRequest.addHeader("User-Agent", "Other-Client/1.0.0");
+        assertThrows(InvalidCookieException.class, () -> mgr.obtainCookieValue(encoded, otherRequest));
+    }
+
     private static CookieValueManager getCookieValueManager(final TicketGrantingCookieProperties props) {
         return new DefaultCasCookieValueManager(CipherExecutor.noOp(), DefaultCookieSameSitePolicy.INSTANCE, props);
     }
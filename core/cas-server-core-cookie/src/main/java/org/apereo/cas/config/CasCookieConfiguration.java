@@ -2,6 +2,7 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.util.cipher.CipherExecutorUtils;
 import org.apereo.cas.util.cipher.TicketGrantingCookieCipherExecutor;
 import org.apereo.cas.util.crypto.CipherExecutor;
@@ -11,11 +12,13 @@ import org.apereo.cas.web.cookie.CookieValueManager;
 import org.apereo.cas.web.support.CookieUtils;
 import org.apereo.cas.web.support.gen.TicketGrantingCookieRetrievingCookieGenerator;
 import org.apereo.cas.web.support.gen.WarningCookieRetrievingCookieGenerator;
+import org.apereo.cas.web.support.mgmr.DecodedCookieValueCache;
 import org.apereo.cas.web.support.mgmr.DefaultCasCookieValueManager;
 import org.apereo.cas.web.support.mgmr.DefaultCookieSameSitePolicy;
 
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.ObjectUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
@@ -26,6 +29,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.ScopedProxyMode;
 
+import java.time.Duration;
+
 /**
  * This is {@link CasCookieConfiguration}.
  *
@@ -47,9 +52,18 @@ public class CasCookieConfiguration {
         public CookieValueManager cookieValueManager(
             final CasConfigurationProperties casProperties,
             @Qualifier("cookieCipherExecutor") final CipherExecutor cookieCipherExecutor) {
-            if (casProperties.getTgc().getCrypto().isEnabled()) {
-                return new DefaultCasCookieValueManager(cookieCipherExecutor,
-                    DefaultCookieSameSitePolicy.INSTANCE, casProperties.getTgc());
+            val tgc = casProperties.getTgc();
+            if (tgc.getCrypto().isEnabled()) {
+                val manager = new DefaultCasCookieValueManager(cookieCipherExecutor,
+                    DefaultCookieSameSitePolicy.INSTANCE, tgc);
+                if (tgc.getCacheSize() > 0) {
+                    var duration = Beans.newDuration(tgc.getCacheDuration());
+                    if (tgc.getMaxAge() > 0) {
+                        duration = ObjectUtils.min(duration, Duration.ofSeconds(tgc.getMaxAge()));
+                    }
+                    manager.setDecodedCookieValueCache(new DecodedCookieValueCache(tgc.getCacheSize(), duration));
+                }
+                return manager;
             }
             return CookieValueManager.noOp();
         }
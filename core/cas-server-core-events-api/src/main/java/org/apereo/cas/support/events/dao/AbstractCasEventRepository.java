@@ -16,8 +16,11 @@ import org.springframework.context.ApplicationEventPublisherAware;
 import javax.annotation.Nonnull;
 
 import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -57,15 +60,25 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
     public CasEvent save(final CasEvent event) throws Exception {
         if (getEventRepositoryFilter().shouldSaveEvent(event)) {
             val result = saveInternal(event);
-            Optional.ofNullable(applicationEventPublisher).ifPresent(publisher -> {
-                val auditEvent = new AuditEvent(event.getPrincipalId(), event.getType(), (Map) event.getProperties());
-                publisher.publishEvent(new AuditApplicationEvent(auditEvent));
-            });
+            publishAuditEvent(event);
             return result;
         }
         return event;
     }
 
+    @Override
+    public List<CasEvent> saveAll(final List<? extends CasEvent> events) throws Exception {
+        val eventsToSave = events.stream()
+            .filter(getEventRepositoryFilter()::shouldSaveEvent)
+            .collect(Collectors.<CasEvent>toList());
+        if (eventsToSave.isEmpty()) {
+            return eventsToSave;
+        }
+        val results = saveAllInternal(eventsToSave);
+        eventsToSave.forEach(this::publishAuditEvent);
+        return results;
+    }
+
     @Override
     public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
         return load()
@@ -134,4 +147,27 @@ public abstract class AbstractCasEventRepository implements CasEventRepository,
      * @throws Exception the exception
      */
     public abstract CasEvent saveInternal(CasEvent event) throws Exception;
+
+    /**
+     * Save a batch of events that are allowed by the event repository filter.
+     * Repositories that are able to write multiple events at once should override this method.
+     *
+     * @param events the events
+     * @return the saved events
+     * @throws Exception the exception
+     */
+    public List<CasEvent> saveAllInternal(final List<CasEvent> events) throws Exception {
+        val results = new ArrayList<CasEvent>(events.size());
+        for (val event : events) {
+            results.add(saveInternal(event));
+        }
+        return results;
+    }
+
+    private void publishAuditEvent(final CasEvent event) {
+        Optional.ofNullable(applicationEventPublisher).ifPresent(publisher -> {
+            val auditEvent = new AuditEvent(event.getPrincipalId(), event.getType(), (Map) event.getProperties());
+            publisher.publishEvent(new AuditApplicationEvent(auditEvent));
+        });
+    }
 }
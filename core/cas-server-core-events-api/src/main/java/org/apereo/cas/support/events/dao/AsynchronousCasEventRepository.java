@@ -0,0 +1,223 @@
+package org.apereo.cas.support.events.dao;
+
+import org.apereo.cas.configuration.model.core.events.AsynchronousEventsProperties;
+import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.CasEventRepositoryFilter;
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link AsynchronousCasEventRepository} that places recorded events in a bounded queue,
+ * and writes them to the underlying event repository in batches on a dedicated thread,
+ * so that the component recording the event does not have to wait for the event repository.
+ * When the queue is full, new events are handled according to the configured backpressure policy.
+ * All read operations are passed directly to the underlying event repository.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class AsynchronousCasEventRepository implements CasEventRepository, DisposableBean {
+    @Getter
+    private final CasEventRepository delegate;
+
+    private final BlockingQueue<QueuedCasEvent> queue;
+
+    private final int batchSize;
+
+    private final long batchInterval;
+
+    private final AsynchronousEventsProperties.BackpressurePolicyTypes backpressurePolicy;
+
+    private final LongAdder droppedEvents = new LongAdder();
+
+    private final LongAdder savedEvents = new LongAdder();
+
+    private final AtomicLong lag = new AtomicLong();
+
+    private final Thread worker;
+
+    private volatile boolean running = true;
+
+    public AsynchronousCasEventRepository(final CasEventRepository delegate,
+                                          final AsynchronousEventsProperties properties) {
+        this.delegate = delegate;
+        this.queue = new ArrayBlockingQueue<>(Math.max(1, properties.getQueueCapacity()));
+        this.batchSize = Math.max(1, properties.getBatchSize());
+        this.batchInterval = Beans.newDuration(properties.getBatchInterval()).toNanos();
+        this.backpressurePolicy = properties.getBackpressurePolicy();
+        this.worker = new Thread(this::processQueuedEvents, "cas-events-writer");
+        this.worker.setDaemon(true);
+        this.worker.start();
+    }
+
+    @Override
+    public CasEventRepositoryFilter getEventRepositoryFilter() {
+        return delegate.getEventRepositoryFilter();
+    }
+
+    @Override
+    public void removeAll() {
+        queue.clear();
+        delegate.removeAll();
+    }
+
+    @Override
+    public CasEvent save(final CasEvent event) throws Exception {
+        val queuedEvent = new QueuedCasEvent(event, System.nanoTime());
+        if (queue.offer(queuedEvent)) {
+            return event;
+        }
+        switch (backpressurePolicy) {
+            case CALLER_RUNS -> {
+                LOGGER.trace("Event queue is full; saving event [{}] directly", event.getType());
+                return delegate.save(event);
+            }
+            case DROP_OLDEST -> {
+                while (!queue.offer(queuedEvent)) {
+                    if (queue.poll() != null) {
+                        droppedEvents.increment();
+                    }
+                }
+            }
+            default -> droppedEvents.increment();
+        }
+        LOGGER.debug("Event queue is full with [{}] events and an event is dropped", queue.size());
+        return event;
+    }
+
+    @Override
+    public Stream<? extends CasEvent> load() {
+        return delegate.load();
+    }
+
+    @Override
+    public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
+        return delegate.load(dateTime);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
+        return delegate.getEventsOfTypeForPrincipal(type, principal);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal,
+                                                                  final ZonedDateTime dateTime) {
+        return delegate.getEventsOfTypeForPrincipal(type, principal, dateTime);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type) {
+        return delegate.getEventsOfType(type);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
+        return delegate.getEventsOfType(type, dateTime);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
+        return delegate.getEventsForPrincipal(id);
+    }
+
+    @Override
+    public Stream<? extends CasEvent> getEventsForPrincipal(final String id, final ZonedDateTime dateTime) {
+        return delegate.getEventsForPrincipal(id, dateTime);
+    }
+
+    /**
+     * Gets the number of events waiting to be written.
+     *
+     * @return the queue size
+     */
+    public int getQueueSize() {
+        return queue.size();
+    }
+
+    /**
+     * Gets the number of events that were dropped because the queue was full.
+     *
+     * @return the dropped events
+     */
+    public long getDroppedEvents() {
+        return droppedEvents.sum();
+    }
+
+    /**
+     * Gets the number of events that were written to the event repository.
+     *
+     * @return the saved events
+     */
+    public long getSavedEvents() {
+        return savedEvents.sum();
+    }
+
+    /**
+     * Gets the time, in nanoseconds, that the oldest event in the last batch
+     * spent waiting in the queue before it was written to the event repository.
+     *
+     * @return the lag
+     */
+    public long getLag() {
+        return lag.get();
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        running = false;
+        worker.join(TimeUnit.NANOSECONDS.toMillis(batchInterval) + 1_000);
+        val batch = new ArrayList<QueuedCasEvent>();
+        queue.drainTo(batch);
+        if (!batch.isEmpty()) {
+            saveBatch(batch);
+        }
+    }
+
+    private void processQueuedEvents() {
+        while (running) {
+            try {
+                val first = queue.poll(batchInterval, TimeUnit.NANOSECONDS);
+                if (first != null) {
+                    val batch = new ArrayList<QueuedCasEvent>(batchSize);
+                    batch.add(first);
+                    queue.drainTo(batch, batchSize - 1);
+                    saveBatch(batch);
+                }
+            } catch (final InterruptedException e) {
+                LOGGER.trace("Event writer is interrupted");
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void saveBatch(final ArrayList<QueuedCasEvent> batch) {
+        lag.set(System.nanoTime() - batch.get(0).queuedAt());
+        try {
+            delegate.saveAll(batch.stream().map(QueuedCasEvent::event).toList());
+            savedEvents.add(batch.size());
+        } catch (final Exception e) {
+            LOGGER.error("Unable to save [{}] events", batch.size());
+            LoggingUtils.error(LOGGER, e);
+        }
+    }
+
+    private record QueuedCasEvent(CasEvent event, long queuedAt) {
+    }
+}
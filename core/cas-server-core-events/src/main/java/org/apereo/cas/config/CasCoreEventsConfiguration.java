@@ -4,6 +4,7 @@ import org.apereo.cas.authentication.adaptive.geo.GeoLocationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.support.events.CasEventRepository;
+import org.apereo.cas.support.events.dao.AsynchronousCasEventRepository;
 import org.apereo.cas.support.events.dao.NoOpCasEventRepository;
 import org.apereo.cas.support.events.listener.CasAuthenticationAuthenticationEventListener;
 import org.apereo.cas.support.events.listener.CasAuthenticationEventListener;
@@ -13,11 +14,13 @@ import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
 import org.apereo.cas.util.text.MessageSanitizer;
 
+import lombok.val;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.actuate.autoconfigure.endpoint.condition.ConditionalOnAvailableEndpoint;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
@@ -49,10 +52,14 @@ public class CasCoreEventsConfiguration {
             @Qualifier(GeoLocationService.BEAN_NAME) final ObjectProvider<GeoLocationService> geoLocationService,
             @Qualifier(MessageSanitizer.BEAN_NAME) final MessageSanitizer messageSanitizer,
             final ConfigurableApplicationContext applicationContext,
+            @Qualifier("asynchronousCasEventRepository")
+            final ObjectProvider<AsynchronousCasEventRepository> asynchronousCasEventRepository,
             @Qualifier(CasEventRepository.BEAN_NAME) final CasEventRepository casEventRepository) {
+            val asyncEventRepository = asynchronousCasEventRepository.getIfAvailable();
+            val eventRepository = asyncEventRepository != null ? asyncEventRepository : casEventRepository;
             return BeanSupplier.of(CasAuthenticationEventListener.class)
                 .when(CONDITION.given(applicationContext.getEnvironment()))
-                .supply(() -> new CasAuthenticationAuthenticationEventListener(casEventRepository,
+                .supply(() -> new CasAuthenticationAuthenticationEventListener(eventRepository,
                     messageSanitizer, geoLocationService.getIfAvailable()))
                 .otherwiseProxy()
                 .get();
@@ -87,6 +94,16 @@ public class CasCoreEventsConfiguration {
                 .otherwiseProxy()
                 .get();
         }
+
+        @ConditionalOnMissingBean(name = "asynchronousCasEventRepository")
+        @ConditionalOnProperty(name = "cas.events.core.asynchronous.enabled", havingValue = "true")
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public AsynchronousCasEventRepository asynchronousCasEventRepository(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(CasEventRepository.BEAN_NAME) final CasEventRepository casEventRepository) {
+            return new AsynchronousCasEventRepository(casEventRepository, casProperties.getEvents().getCore().getAsynchronous());
+        }
     }
 
 }
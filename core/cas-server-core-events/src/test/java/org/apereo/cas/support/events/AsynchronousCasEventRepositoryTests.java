@@ -0,0 +1,109 @@
+package org.apereo.cas.support.events;
+
+import org.apereo.cas.configuration.model.core.events.AsynchronousEventsProperties;
+import org.apereo.cas.support.events.dao.AsynchronousCasEventRepository;
+import org.apereo.cas.support.events.dao.CasEvent;
+import org.apereo.cas.support.events.dao.NoOpCasEventRepository;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.awaitility.Awaitility.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link AsynchronousCasEventRepositoryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Events")
+class AsynchronousCasEventRepositoryTests {
+
+    private static CasEvent getCasEvent(final String principal) {
+        val event = new CasEvent();
+        event.setType(CasAuthenticationEventListenerTests.class.getSimpleName());
+        event.setPrincipalId(principal);
+        return event;
+    }
+
+    @Test
+    void verifyEventsSavedInBatches() throws Exception {
+        val delegate = new BatchRecordingCasEventRepository();
+        val properties = new AsynchronousEventsProperties().setBatchSize(10).setBatchInterval("PT0.1S");
+        val repository = new AsynchronousCasEventRepository(delegate, properties);
+        try {
+            for (var i = 0; i < 25; i++) {
+                repository.save(getCasEvent("casuser" + i));
+            }
+            await().atMost(Duration.ofSeconds(10)).until(() -> repository.getSavedEvents() == 25);
+            assertEquals(25, delegate.batches.stream().mapToInt(List::size).sum());
+            assertTrue(delegate.batches.stream().allMatch(batch -> batch.size() <= 10));
+            assertEquals(0, repository.getDroppedEvents());
+            assertEquals(0, repository.getQueueSize());
+            assertTrue(repository.getLag() >= 0);
+        } finally {
+            repository.destroy();
+        }
+    }
+
+    @Test
+    void verifyBackpressurePolicies() throws Exception {
+        for (val policy : AsynchronousEventsProperties.BackpressurePolicyTypes.values()) {
+            val delegate = new BatchRecordingCasEventRepository();
+            delegate.latch = new CountDownLatch(1);
+            val properties = new AsynchronousEventsProperties()
+                .setQueueCapacity(2)
+                .setBatchSize(1)
+                .setBackpressurePolicy(policy);
+            val repository = new AsynchronousCasEventRepository(delegate, properties);
+            try {
+                repository.save(getCasEvent("blocked"));
+                await().atMost(Duration.ofSeconds(10)).until(() -> repository.getQueueSize() == 0);
+                for (var i = 0; i < 5; i++) {
+                    repository.save(getCasEvent("casuser" + i));
+                }
+                if (policy == AsynchronousEventsProperties.BackpressurePolicyTypes.CALLER_RUNS) {
+                    assertEquals(0, repository.getDroppedEvents());
+                    assertEquals(3, delegate.directlySavedEvents.size());
+                } else {
+                    assertEquals(3, repository.getDroppedEvents());
+                }
+                assertEquals(2, repository.getQueueSize());
+            } finally {
+                delegate.latch.countDown();
+                repository.destroy();
+            }
+        }
+    }
+
+    private static final class BatchRecordingCasEventRepository extends NoOpCasEventRepository {
+        private final List<List<CasEvent>> batches = new CopyOnWriteArrayList<>();
+
+        private final List<CasEvent> directlySavedEvents = new CopyOnWriteArrayList<>();
+
+        private CountDownLatch latch;
+
+        @Override
+        public CasEvent saveInternal(final CasEvent event) {
+            directlySavedEvents.add(event);
+            return event;
+        }
+
+        @Override
+        public List<CasEvent> saveAllInternal(final List<CasEvent> events) throws Exception {
+            if (latch != null) {
+                assertTrue(latch.await(10, TimeUnit.SECONDS));
+            }
+            batches.add(events);
+            return events;
+        }
+    }
+}
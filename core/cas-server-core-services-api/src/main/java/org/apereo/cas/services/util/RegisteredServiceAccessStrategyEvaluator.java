@@ -3,7 +3,6 @@ package org.apereo.cas.services.util;
 import org.apereo.cas.services.RegisteredServiceAccessStrategyRequest;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.RegexUtils;
-import org.apereo.cas.util.scripting.GroovyShellScript;
 import org.apereo.cas.util.scripting.ScriptingUtils;
 
 import lombok.Builder;
@@ -161,15 +160,14 @@ public class RegisteredServiceAccessStrategyEvaluator implements Function<Regist
         for (val requiredValue : requiredValues) {
             val matcherInline = ScriptingUtils.getMatcherForInlineGroovyScript(requiredValue);
             if (matcherInline.find()) {
-                try (val executableScript = new GroovyShellScript(matcherInline.group(1))) {
-                    val args = CollectionUtils.<String, Object>wrap(
-                        "principalId", request.getPrincipalId(),
-                        "currentValues", availableValues,
-                        "attributes", request.getAttributes(),
-                        "logger", LOGGER);
-                    executableScript.setBinding(args);
-                    results.add(executableScript.execute(args.values().toArray(), Boolean.class));
-                }
+                val executableScript = ScriptingUtils.resolveInlineGroovyScript(requiredValue);
+                val args = CollectionUtils.<String, Object>wrap(
+                    "principalId", request.getPrincipalId(),
+                    "currentValues", availableValues,
+                    "attributes", request.getAttributes(),
+                    "logger", LOGGER);
+                executableScript.setBinding(args);
+                results.add(executableScript.execute(args.values().toArray(), Boolean.class));
             } else {
                 val pattern = RegexUtils.createPattern(requiredValue, caseInsensitive ? Pattern.CASE_INSENSITIVE : 0);
                 LOGGER.debug("Checking [{}] against [{}] with pattern [{}] for attribute [{}]",
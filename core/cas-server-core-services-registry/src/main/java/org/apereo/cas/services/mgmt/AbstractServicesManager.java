@@ -20,6 +20,7 @@ import com.googlecode.cqengine.ConcurrentIndexedCollection;
 import com.googlecode.cqengine.IndexedCollection;
 import com.googlecode.cqengine.index.AttributeIndex;
 import com.googlecode.cqengine.query.QueryFactory;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -34,6 +35,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -54,6 +56,12 @@ public abstract class AbstractServicesManager implements ServicesManager {
 
     private final IndexedCollection<RegisteredService> indexedRegisteredServices;
 
+    /**
+     * Incremented after every change made to the services cache by this manager.
+     */
+    @Getter(AccessLevel.PROTECTED)
+    private final AtomicLong servicesCacheVersion = new AtomicLong();
+
     protected AbstractServicesManager(final ServicesManagerConfigurationContext configurationContext) {
         this.configurationContext = configurationContext;
 
@@ -130,6 +138,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
     public synchronized void deleteAll() {
         configurationContext.getServicesCache().asMap().forEach((k, v) -> delete(v));
         configurationContext.getServicesCache().invalidateAll();
+        servicesCacheVersion.incrementAndGet();
         val clientInfo = ClientInfoHolder.getClientInfo();
         publishEvent(new CasRegisteredServicesDeletedEvent(this, clientInfo));
     }
@@ -147,6 +156,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             publishEvent(new CasRegisteredServicePreDeleteEvent(this, service, clientInfo));
             configurationContext.getServiceRegistry().delete(service);
             configurationContext.getServicesCache().invalidate(service.getId());
+            servicesCacheVersion.incrementAndGet();
             deleteInternal(service);
             publishEvent(new CasRegisteredServiceDeletedEvent(this, service, clientInfo));
         }
@@ -202,6 +212,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
             .peek(RegisteredService::initialize)
             .collect(Collectors.toMap(RegisteredService::getId, Function.identity(), (r, s) -> s));
         configurationContext.getServicesCache().putAll(results);
+        servicesCacheVersion.incrementAndGet();
         return results.values();
     }
 
@@ -219,8 +230,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
 
     @Override
     public RegisteredService findServiceBy(final long id) {
-        val result = configurationContext.getServicesCache().get(id,
-            k -> configurationContext.getServiceRegistry().findServiceById(id));
+        val result = getCachedRegisteredService(id, () -> configurationContext.getServiceRegistry().findServiceById(id));
         return validateRegisteredService(result);
     }
 
@@ -232,8 +242,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
         }
         LOGGER.trace("The service with id [{}] and type [{}] is not found in the cache; trying to find it from [{}]",
             id, clazz, configurationContext.getServiceRegistry().getName());
-        service = configurationContext.getServicesCache().get(id,
-            k -> configurationContext.getServiceRegistry().findServiceById(id, clazz));
+        service = getCachedRegisteredService(id, () -> configurationContext.getServiceRegistry().findServiceById(id, clazz));
         return (T) validateRegisteredService(service);
     }
 
@@ -352,6 +361,7 @@ public abstract class AbstractServicesManager implements ServicesManager {
         val servicesCache = configurationContext.getServicesCache();
         servicesCache.invalidateAll();
         servicesCache.putAll(servicesMap);
+        servicesCacheVersion.incrementAndGet();
         indexedRegisteredServices.addAll(servicesMap.values());
         return servicesCache.asMap();
     }
@@ -443,10 +453,25 @@ public abstract class AbstractServicesManager implements ServicesManager {
     private void cacheRegisteredService(final RegisteredService service) {
         if (configurationContext.getServicesCache().getIfPresent(service.getId()) == null) {
             configurationContext.getServicesCache().put(service.getId(), service);
+            servicesCacheVersion.incrementAndGet();
             indexedRegisteredServices.add(service);
         }
     }
 
+    private RegisteredService getCachedRegisteredService(final long id, final Supplier<RegisteredService> loader) {
+        val servicesCache = configurationContext.getServicesCache();
+        val cachedService = servicesCache.getIfPresent(id);
+        if (cachedService != null) {
+            return cachedService;
+        }
+        val service = loader.get();
+        if (service != null) {
+            servicesCache.put(id, service);
+            servicesCacheVersion.incrementAndGet();
+        }
+        return service;
+    }
+
     private void evaluateExpiredServiceDefinitions() {
         getCacheableServicesStream()
             .get()
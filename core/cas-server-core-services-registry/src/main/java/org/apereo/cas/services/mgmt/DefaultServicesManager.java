@@ -5,19 +5,31 @@ import org.apereo.cas.services.RegisteredService;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.services.ServicesManagerConfigurationContext;
 
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 /**
  * Default implementation of the {@link ServicesManager} interface.
+ * Candidate services are narrowed down using a {@link RegisteredServiceMatchingIndex}
+ * that is rebuilt whenever the version of the services cache it was built from has moved on.
  *
  * @author Scott Battaglia
  * @since 3.1
  */
 @Monitorable
+@Slf4j
 public class DefaultServicesManager extends AbstractServicesManager {
 
+    private volatile RegisteredServiceMatchingIndex matchingIndex = new RegisteredServiceMatchingIndex();
+
+    private volatile long matchingIndexVersion = -1;
+
     public DefaultServicesManager(final ServicesManagerConfigurationContext context) {
         super(context);
     }
@@ -31,8 +43,70 @@ public class DefaultServicesManager extends AbstractServicesManager {
 
     @Override
     protected Collection<RegisteredService> getCandidateServicesToMatch(final String serviceId) {
-        return getCacheableServicesStream().get()
-            .sorted(Comparator.naturalOrder())
-            .collect(Collectors.toList());
+        val servicesCache = configurationContext.getServicesCache();
+        servicesCache.cleanUp();
+        if (servicesCache.estimatedSize() <= 0) {
+            return getCacheableServicesStream().get()
+                .sorted(Comparator.naturalOrder())
+                .collect(Collectors.toList());
+        }
+        if (matchingIndexVersion != getServicesCacheVersion().get()) {
+            rebuildMatchingIndex();
+        }
+        return findIndexedCandidates(serviceId)
+            .orElseGet(() -> {
+                rebuildMatchingIndex();
+                return findIndexedCandidates(serviceId).orElseGet(() -> getCacheableServicesStream().get()
+                    .sorted(Comparator.naturalOrder())
+                    .collect(Collectors.toList()));
+            });
+    }
+
+    @Override
+    protected void saveInternal(final RegisteredService service) {
+        Optional.ofNullable(configurationContext.getServicesCache().getIfPresent(service.getId()))
+            .ifPresent(cached -> matchingIndex.put(cached));
+    }
+
+    @Override
+    protected void deleteInternal(final RegisteredService service) {
+        matchingIndex.remove(service.getId());
+    }
+
+    @Override
+    protected void loadInternal() {
+        rebuildMatchingIndex();
+    }
+
+    /**
+     * Find candidates from the index, sorted by evaluation order.
+     * Candidates are verified against the services cache; an empty result indicates
+     * that the index has fallen behind and must be rebuilt.
+     *
+     * @param serviceId the service id
+     * @return the candidates
+     */
+    private Optional<Collection<RegisteredService>> findIndexedCandidates(final String serviceId) {
+        val servicesCache = configurationContext.getServicesCache();
+        val candidates = matchingIndex.findCandidates(serviceId);
+        val results = new ArrayList<RegisteredService>(candidates.size());
+        for (val candidate : candidates) {
+            if (servicesCache.getIfPresent(candidate.getId()) != candidate) {
+                LOGGER.trace("Registered service [{}] is no longer cached; matching index will be rebuilt", candidate.getId());
+                return Optional.empty();
+            }
+            results.add(candidate);
+        }
+        results.sort(Comparator.naturalOrder());
+        return Optional.of(results);
+    }
+
+    private synchronized void rebuildMatchingIndex() {
+        val version = getServicesCacheVersion().get();
+        val index = new RegisteredServiceMatchingIndex();
+        index.rebuild(configurationContext.getServicesCache().asMap().values());
+        LOGGER.trace("Rebuilt registered service matching index with [{}] service(s) at version [{}]", index.size(), version);
+        this.matchingIndex = index;
+        this.matchingIndexVersion = version;
     }
 }
@@ -0,0 +1,243 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.FullRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.LiteralRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.PartialRegexRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.RegisteredService;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link RegisteredServiceMatchingIndex} that narrows down the registered services that
+ * could possibly match a given service id, so that the expensive regular expression evaluation is
+ * only carried out for a small set of candidates. Each service definition is analyzed to extract the
+ * literal prefix of its {@code serviceId} pattern, i.e. the scheme, host and leading path, which
+ * is then stored in a character trie. Definitions whose pattern cannot be analyzed, or whose matching
+ * is not strictly based on the service id, are kept at the root of the trie and are always returned
+ * as candidates.
+ * <p>
+ * The index only narrows candidates and never makes a matching decision; results are
+ * returned sorted in their natural order, preserving the evaluation order of definitions.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class RegisteredServiceMatchingIndex {
+    private static final String REGEX_META_CHARACTERS = ".[]{}()*+?^$|";
+
+    private final Node root = new Node();
+
+    private final Map<Long, IndexedService> services = new ConcurrentHashMap<>();
+
+    /**
+     * Extract the literal prefix from the pattern.
+     * Matching is assumed to be case-insensitive, so the prefix is lower-cased.
+     *
+     * @param pattern the pattern
+     * @return the literal prefix, or an empty string if none can be determined.
+     */
+    static String extractLiteralPrefix(final String pattern) {
+        if (StringUtils.isBlank(pattern) || hasTopLevelAlternation(pattern)) {
+            return StringUtils.EMPTY;
+        }
+        val prefix = new StringBuilder();
+        var index = pattern.charAt(0) == '^' ? 1 : 0;
+        while (index < pattern.length()) {
+            val current = pattern.charAt(index);
+            var next = index + 1;
+            var literal = current;
+            if (current == '\\') {
+                if (next >= pattern.length() || Character.isLetterOrDigit(pattern.charAt(next))) {
+                    break;
+                }
+                literal = pattern.charAt(next);
+                next++;
+            } else if (REGEX_META_CHARACTERS.indexOf(current) >= 0) {
+                break;
+            }
+            if (next < pattern.length()) {
+                val quantifier = pattern.charAt(next);
+                if (quantifier == '?' || quantifier == '*' || quantifier == '{') {
+                    break;
+                }
+                if (quantifier == '+') {
+                    prefix.append(literal);
+                    break;
+                }
+            }
+            prefix.append(literal);
+            index = next;
+        }
+        return toLowerCase(prefix);
+    }
+
+    /**
+     * Determine the literal prefix for the registered service.
+     *
+     * @param registeredService the registered service
+     * @return the literal prefix, or an empty string if the service must always be evaluated.
+     */
+    static String determineLiteralPrefix(final RegisteredService registeredService) {
+        if (!CasRegisteredService.FRIENDLY_NAME.equalsIgnoreCase(registeredService.getFriendlyName())) {
+            return StringUtils.EMPTY;
+        }
+        val serviceId = registeredService.getServiceId();
+        val matchingStrategy = registeredService.getMatchingStrategy();
+        if (matchingStrategy == null || matchingStrategy.getClass().equals(FullRegexRegisteredServiceMatchingStrategy.class)) {
+            return extractLiteralPrefix(serviceId);
+        }
+        if (matchingStrategy.getClass().equals(PartialRegexRegisteredServiceMatchingStrategy.class)
+            && StringUtils.startsWith(serviceId, "^")) {
+            return extractLiteralPrefix(serviceId);
+        }
+        if (matchingStrategy.getClass().equals(LiteralRegisteredServiceMatchingStrategy.class) && serviceId != null) {
+            return toLowerCase(serviceId.trim());
+        }
+        return StringUtils.EMPTY;
+    }
+
+    private static boolean hasTopLevelAlternation(final String pattern) {
+        var depth = 0;
+        var characterClass = false;
+        for (var index = 0; index < pattern.length(); index++) {
+            val current = pattern.charAt(index);
+            if (current == '\\') {
+                index++;
+            } else if (characterClass) {
+                characterClass = current != ']';
+            } else if (current == '[') {
+                characterClass = true;
+            } else if (current == '(') {
+                depth++;
+            } else if (current == ')') {
+                depth--;
+            } else if (current == '|' && depth <= 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String toLowerCase(final CharSequence value) {
+        val result = new StringBuilder(value.length());
+        for (var index = 0; index < value.length(); index++) {
+            result.append(Character.toLowerCase(value.charAt(index)));
+        }
+        return result.toString();
+    }
+
+    /**
+     * Index the registered service, replacing any previous entry with the same id.
+     *
+     * @param registeredService the registered service
+     */
+    public void put(final RegisteredService registeredService) {
+        remove(registeredService.getId());
+        val prefix = determineLiteralPrefix(registeredService);
+        var node = root;
+        for (var index = 0; index < prefix.length(); index++) {
+            node = node.children.computeIfAbsent(prefix.charAt(index), key -> new Node());
+        }
+        node.services.add(registeredService.getId());
+        services.put(registeredService.getId(), new IndexedService(registeredService, prefix));
+        LOGGER.trace("Indexed registered service [{}] with literal prefix [{}]", registeredService.getServiceId(), prefix);
+    }
+
+    /**
+     * Remove the registered service from the index.
+     *
+     * @param id the id
+     */
+    public void remove(final long id) {
+        val indexed = services.remove(id);
+        if (indexed != null) {
+            var node = root;
+            for (var index = 0; node != null && index < indexed.prefix().length(); index++) {
+                node = node.children.get(indexed.prefix().charAt(index));
+            }
+            if (node != null) {
+                node.services.remove(id);
+            }
+        }
+    }
+
+    /**
+     * Rebuild the index from the given services.
+     *
+     * @param registeredServices the registered services
+     */
+    public void rebuild(final Collection<? extends RegisteredService> registeredServices) {
+        clear();
+        registeredServices.forEach(this::put);
+    }
+
+    /**
+     * Clear the index.
+     */
+    public void clear() {
+        services.clear();
+        root.children.clear();
+        root.services.clear();
+    }
+
+    /**
+     * Number of indexed services.
+     *
+     * @return the size
+     */
+    public long size() {
+        return services.size();
+    }
+
+    /**
+     * Find candidate services that could match the service id,
+     * in no particular order.
+     *
+     * @param serviceId the service id
+     * @return the candidates
+     */
+    public List<RegisteredService> findCandidates(final String serviceId) {
+        val candidates = new ArrayList<RegisteredService>();
+        collect(root, candidates);
+        if (StringUtils.isNotBlank(serviceId)) {
+            var node = root;
+            for (var index = 0; index < serviceId.length(); index++) {
+                node = node.children.get(Character.toLowerCase(serviceId.charAt(index)));
+                if (node == null) {
+                    break;
+                }
+                collect(node, candidates);
+            }
+        }
+        return candidates;
+    }
+
+    private void collect(final Node node, final List<RegisteredService> candidates) {
+        node.services.forEach(id -> {
+            val indexed = services.get(id);
+            if (indexed != null) {
+                candidates.add(indexed.registeredService());
+            }
+        });
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new ConcurrentHashMap<>();
+
+        private final Set<Long> services = ConcurrentHashMap.newKeySet();
+    }
+
+    private record IndexedService(RegisteredService registeredService, String prefix) {
+    }
+}
@@ -0,0 +1,91 @@
+package org.apereo.cas.services.mgmt;
+
+import org.apereo.cas.services.CasRegisteredService;
+import org.apereo.cas.services.LiteralRegisteredServiceMatchingStrategy;
+import org.apereo.cas.services.PartialRegexRegisteredServiceMatchingStrategy;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link RegisteredServiceMatchingIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("RegisteredService")
+class RegisteredServiceMatchingIndexTests {
+
+    private static CasRegisteredService newService(final long id, final String serviceId) {
+        val service = new CasRegisteredService();
+        service.setId(id);
+        service.setName("Service" + id);
+        service.setServiceId(serviceId);
+        return service;
+    }
+
+    @Test
+    void verifyLiteralPrefix() {
+        assertEquals("https://app.example.org/", RegisteredServiceMatchingIndex.extractLiteralPrefix("^https://app\\.example\\.org/.*"));
+        assertEquals("https://app.example.org", RegisteredServiceMatchingIndex.extractLiteralPrefix("https://app\\.Example\\.org"));
+        assertEquals("http", RegisteredServiceMatchingIndex.extractLiteralPrefix("^https?://.+"));
+        assertEquals("https://", RegisteredServiceMatchingIndex.extractLiteralPrefix("https://(app|web)\\.example\\.org"));
+        assertEquals("https://a", RegisteredServiceMatchingIndex.extractLiteralPrefix("https://a+b"));
+        assertEquals("https://", RegisteredServiceMatchingIndex.extractLiteralPrefix("https://\\w+\\.example\\.org"));
+        assertEquals("https://", RegisteredServiceMatchingIndex.extractLiteralPrefix("https://[a-z]+\\.example\\.org"));
+        assertEquals("", RegisteredServiceMatchingIndex.extractLiteralPrefix("https://app|https://web"));
+        assertEquals("", RegisteredServiceMatchingIndex.extractLiteralPrefix(".*"));
+        assertEquals("", RegisteredServiceMatchingIndex.extractLiteralPrefix(null));
+    }
+
+    @Test
+    void verifyServicePrefixByMatchingStrategy() {
+        val literal = newService(1, "https://App.example.org/login");
+        literal.setMatchingStrategy(new LiteralRegisteredServiceMatchingStrategy());
+        assertEquals("https://app.example.org/login", RegisteredServiceMatchingIndex.determineLiteralPrefix(literal));
+
+        val partial = newService(2, "app\\.example\\.org");
+        partial.setMatchingStrategy(new PartialRegexRegisteredServiceMatchingStrategy());
+        assertEquals("", RegisteredServiceMatchingIndex.determineLiteralPrefix(partial));
+        partial.setServiceId("^https://app\\.example\\.org");
+        assertEquals("https://app.example.org", RegisteredServiceMatchingIndex.determineLiteralPrefix(partial));
+    }
+
+    @Test
+    void verifyCandidates() {
+        val index = new RegisteredServiceMatchingIndex();
+        val app = newService(1, "^https://app\\.example\\.org/.*");
+        val web = newService(2, "^https://web\\.example\\.org/.*");
+        val any = newService(3, ".*");
+        val scheme = newService(4, "^https://.+");
+        index.rebuild(List.of(app, web, any, scheme));
+        assertEquals(4, index.size());
+
+        var candidates = index.findCandidates("https://APP.example.org/cas");
+        assertEquals(3, candidates.size());
+        assertTrue(candidates.containsAll(List.of(app, any, scheme)));
+
+        candidates = index.findCandidates("http://web.example.org/cas");
+        assertEquals(List.of(any), candidates);
+
+        index.remove(app.getId());
+        candidates = index.findCandidates("https://app.example.org/cas");
+        assertEquals(2, candidates.size());
+        assertFalse(candidates.contains(app));
+
+        web.setServiceId("^https://app\\.example\\.org/.*");
+        index.put(web);
+        assertEquals(3, index.size());
+        assertTrue(index.findCandidates("https://app.example.org/cas").contains(web));
+        assertFalse(index.findCandidates("https://web.example.org/cas").contains(web));
+
+        index.clear();
+        assertEquals(0, index.size());
+        assertTrue(index.findCandidates("https://app.example.org/cas").isEmpty());
+    }
+}
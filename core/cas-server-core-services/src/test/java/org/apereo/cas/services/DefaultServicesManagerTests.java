@@ -3,11 +3,14 @@ package org.apereo.cas.services;
 import org.apereo.cas.services.mgmt.DefaultServicesManager;
 import org.apereo.cas.services.query.RegisteredServiceQuery;
 
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.util.Comparator;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -16,6 +19,7 @@ import static org.junit.jupiter.api.Assertions.*;
  * @since 3.0.0
  */
 @Tag("RegisteredService")
+@Slf4j
 class DefaultServicesManagerTests extends AbstractServicesManagerTests<DefaultServicesManager> {
 
     private static final String TEST = "test";
@@ -103,4 +107,85 @@ class DefaultServicesManagerTests extends AbstractServicesManagerTests<DefaultSe
         servicesManager.load();
         assertTrue(isServiceInCache(null, service.getId()));
     }
+
+    @Test
+    void verifyIndexedLookupMatchesLinearScan() {
+        val count = 2_000;
+        IntStream.range(0, count).forEach(i -> {
+            val service = new CasRegisteredService();
+            service.setId(10_000 + i);
+            service.setName(TEST + i);
+            service.setServiceId("^https://app" + i + "\\.example\\.org/.*");
+            service.setEvaluationOrder(count - i);
+            servicesManager.save(service, false);
+        });
+        val catchAll = new CasRegisteredService();
+        catchAll.setId(9_999);
+        catchAll.setName("catchAll");
+        catchAll.setServiceId("^https?://.+");
+        catchAll.setEvaluationOrder(Integer.MAX_VALUE);
+        servicesManager.save(catchAll, false);
+
+        val serviceIds = IntStream.range(0, count)
+            .filter(i -> i % 10 == 0)
+            .mapToObj(i -> "https://APP" + i + ".example.org/cas")
+            .toList();
+
+        var started = System.nanoTime();
+        val indexed = serviceIds.stream()
+            .map(serviceId -> servicesManager.findServiceBy(serviceFactory.createService(serviceId)))
+            .toList();
+        val indexedTime = System.nanoTime() - started;
+
+        started = System.nanoTime();
+        val linear = serviceIds.stream()
+            .map(serviceId -> servicesManager.getAllServices()
+                .stream()
+                .sorted(Comparator.naturalOrder())
+                .filter(service -> service.matches(serviceId))
+                .findFirst()
+                .orElse(null))
+            .toList();
+        val linearTime = System.nanoTime() - started;
+        LOGGER.debug("Located [{}] services using the matching index in [{}]ns and using a linear scan in [{}]ns",
+            serviceIds.size(), indexedTime, linearTime);
+
+        assertEquals(linear, indexed);
+        assertTrue(indexed.stream().noneMatch(catchAll::equals));
+        assertEquals(catchAll, servicesManager.findServiceBy(serviceFactory.createService("https://unknown.example.org")));
+
+        servicesManager.delete(10_000);
+        assertEquals(catchAll, servicesManager.findServiceBy(serviceFactory.createService("https://app0.example.org/cas")));
+    }
+
+    @Test
+    void verifyIndexFollowsCacheWithUnchangedSize() {
+        val catchAll = new CasRegisteredService();
+        catchAll.setId(8_000);
+        catchAll.setName("catchAll");
+        catchAll.setServiceId("^https?://.+");
+        catchAll.setEvaluationOrder(Integer.MAX_VALUE);
+        servicesManager.save(catchAll, false);
+
+        val expired = new CasRegisteredService();
+        expired.setId(8_001);
+        expired.setName(TEST);
+        expired.setServiceId("^https://expired\\.example\\.org/.*");
+        servicesManager.save(expired, false);
+        assertEquals(expired, servicesManager.findServiceBy(serviceFactory.createService("https://expired.example.org/cas")));
+
+        val service = new CasRegisteredService();
+        service.setId(8_002);
+        service.setName(TEST);
+        service.setServiceId("^https://app\\.example\\.org/.*");
+        service.setEvaluationOrder(1);
+        serviceRegistry.save(service);
+
+        val servicesCache = ((DefaultServicesManager) servicesManager).getConfigurationContext().getServicesCache();
+        servicesCache.invalidate(expired.getId());
+        assertEquals(service, servicesManager.findServiceBy(service.getId()));
+        servicesCache.cleanUp();
+        assertEquals(2, servicesCache.estimatedSize());
+        assertEquals(service, servicesManager.findServiceBy(serviceFactory.createService("https://app.example.org/cas")));
+    }
 }
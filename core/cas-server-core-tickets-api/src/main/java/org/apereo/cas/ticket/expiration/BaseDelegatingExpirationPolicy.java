@@ -18,6 +18,7 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
 import java.io.Serial;
+import java.time.ZonedDateTime;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -103,6 +104,20 @@ public abstract class BaseDelegatingExpirationPolicy extends AbstractCasExpirati
         return policy.getTimeToLive(ticketState);
     }
 
+    @Override
+    public ZonedDateTime getMaximumExpirationTime(final Ticket ticketState) {
+        return ticketState instanceof AuthenticationAwareTicket authnTicket
+            ? getExpirationPolicyFor(authnTicket).map(policy -> policy.getMaximumExpirationTime(ticketState)).orElse(null)
+            : super.getMaximumExpirationTime(ticketState);
+    }
+
+    @Override
+    public ZonedDateTime getIdleExpirationTime(final Ticket ticketState) {
+        return ticketState instanceof AuthenticationAwareTicket authnTicket
+            ? getExpirationPolicyFor(authnTicket).map(policy -> policy.getIdleExpirationTime(ticketState)).orElse(null)
+            : super.getIdleExpirationTime(ticketState);
+    }
+
     @JsonIgnore
     @Override
     public Long getTimeToLive() {
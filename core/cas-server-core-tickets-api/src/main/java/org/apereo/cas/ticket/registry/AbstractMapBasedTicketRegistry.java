@@ -2,6 +2,7 @@ package org.apereo.cas.ticket.registry;
 
 import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
 import org.apereo.cas.ticket.registry.pubsub.commands.AddTicketMessageQueueCommand;
 import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketMessageQueueCommand;
@@ -9,16 +10,26 @@ import org.apereo.cas.ticket.registry.pubsub.commands.DeleteTicketsMessageQueueC
 import org.apereo.cas.ticket.registry.pubsub.commands.UpdateTicketMessageQueueCommand;
 import org.apereo.cas.ticket.registry.pubsub.queue.QueueableTicketRegistryMessagePublisher;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.PublisherIdentifier;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
 import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * This is {@link AbstractMapBasedTicketRegistry}.
@@ -33,6 +44,10 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
 
     protected final PublisherIdentifier publisherIdentifier;
 
+    @Setter
+    @Getter
+    protected TicketRegistrySessionIndex sessionIndex = new TicketRegistrySessionIndex(false);
+
     public AbstractMapBasedTicketRegistry(final CipherExecutor cipherExecutor,
                                           final TicketSerializationManager ticketSerializationManager,
                                           final TicketCatalog ticketCatalog,
@@ -63,6 +78,36 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
         return result;
     }
 
+    @Override
+    public long countSessionsFor(final String principalId) {
+        return sessionIndex.findByPrincipal(digestPrincipalIdentifier(principalId))
+            .stream()
+            .filter(getMapInstance()::containsKey)
+            .count();
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsFor(final String principalId) {
+        return getIndexedSessions(sessionIndex.findByPrincipal(digestPrincipalIdentifier(principalId)))
+            .filter(ticket -> ((TicketGrantingTicket) ticket).getAuthentication().getPrincipal().getId().equals(principalId));
+    }
+
+    @Override
+    public Stream<? extends Ticket> getSessionsWithAttributes(final Map<String, List<Object>> queryAttributes) {
+        if (!sessionIndex.isAttributesIndexed()) {
+            return super.getSessionsWithAttributes(queryAttributes);
+        }
+        val ticketKeys = new HashSet<String>();
+        queryAttributes.forEach((name, values) -> {
+            val digestedValues = values
+                .stream()
+                .map(value -> StringUtils.lowerCase(digestIdentifier(value.toString())))
+                .collect(Collectors.toSet());
+            ticketKeys.addAll(sessionIndex.findByAttribute(digestIdentifier(name), digestedValues));
+        });
+        return getIndexedSessions(ticketKeys);
+    }
+
     @Override
     public long deleteAll() {
         val result = deleteAllFromQueue();
@@ -115,6 +160,7 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
         val encTicket = encodeTicket(ticket);
         LOGGER.debug("Putting ticket [{}] in registry.", ticket.getId());
         getMapInstance().put(encTicket.getId(), encTicket);
+        indexSession(encTicket.getId(), ticket);
     }
 
     @Override
@@ -127,16 +173,57 @@ public abstract class AbstractMapBasedTicketRegistry extends AbstractTicketRegis
     @Override
     public long deleteTicketFromQueue(final String ticketId) {
         val encTicketId = digestIdentifier(ticketId);
-        return !StringUtils.isBlank(encTicketId) && getMapInstance().remove(encTicketId) != null ? 1 : 0;
+        if (StringUtils.isBlank(encTicketId)) {
+            return 0;
+        }
+        sessionIndex.remove(encTicketId);
+        return getMapInstance().remove(encTicketId) != null ? 1 : 0;
     }
 
     @Override
     public long deleteAllFromQueue() {
         val size = getMapInstance().size();
         getMapInstance().clear();
+        sessionIndex.clear();
         return size;
     }
 
+    protected void indexSession(final String ticketKey, final Ticket ticket) {
+        if (ticket instanceof TicketGrantingTicket tgt && tgt.getAuthentication() != null) {
+            val principalKey = digestPrincipalIdentifier(tgt.getAuthentication().getPrincipal().getId());
+            val attributes = new HashMap<String, Set<String>>();
+            if (sessionIndex.isAttributesIndexed()) {
+                val ticketAttributes = (Map<String, Object>) collectAndDigestTicketAttributes(tgt);
+                ticketAttributes.forEach((name, values) -> attributes.put(name, CollectionUtils.toCollection(values)
+                    .stream()
+                    .map(value -> StringUtils.lowerCase(value.toString()))
+                    .collect(Collectors.toSet())));
+            }
+            sessionIndex.index(ticketKey, principalKey, attributes);
+        }
+    }
+
+    protected String digestPrincipalIdentifier(final String principalId) {
+        return digestIdentifier(StringUtils.lowerCase(principalId));
+    }
+
+    private Stream<? extends Ticket> getIndexedSessions(final Set<String> ticketKeys) {
+        return ticketKeys
+            .stream()
+            .map(ticketKey -> {
+                val found = getMapInstance().get(ticketKey);
+                if (found == null) {
+                    sessionIndex.remove(ticketKey);
+                }
+                return found;
+            })
+            .filter(Objects::nonNull)
+            .map(this::decodeTicket)
+            .filter(Objects::nonNull)
+            .filter(TicketGrantingTicket.class::isInstance)
+            .filter(ticket -> !ticket.isExpired());
+    }
+
     /**
      * Create map instance, which must ben created during initialization phases
      * and always be the same instance.
@@ -18,7 +18,7 @@ import org.apereo.cas.util.function.FunctionUtils;
 import org.apereo.cas.util.serialization.SerializationUtils;
 
 import com.google.common.io.ByteSource;
-import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.NonNull;
 import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
@@ -26,6 +26,7 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 import org.jooq.lambda.Unchecked;
 
+import java.time.ZonedDateTime;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashSet;
@@ -46,7 +47,6 @@ import java.util.stream.Stream;
  * @since 3.0.0
  */
 @Slf4j
-@AllArgsConstructor
 public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     private static final String MESSAGE = "Ticket encryption is not enabled. Falling back to default behavior";
@@ -58,6 +58,18 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
 
     protected final TicketCatalog ticketCatalog;
 
+    @Setter
+    @Getter
+    protected TicketRegistryExpirationIndex expirationIndex;
+
+    protected AbstractTicketRegistry(final CipherExecutor cipherExecutor,
+                                     final TicketSerializationManager ticketSerializationManager,
+                                     final TicketCatalog ticketCatalog) {
+        this.cipherExecutor = cipherExecutor;
+        this.ticketSerializationManager = ticketSerializationManager;
+        this.ticketCatalog = ticketCatalog;
+    }
+
     protected static String getPrincipalIdFrom(final Ticket ticket) {
         return ticket instanceof AuthenticationAwareTicket
             ? Optional.ofNullable(((AuthenticationAwareTicket) ticket).getAuthentication())
@@ -91,6 +103,9 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
     public void addTicket(final Ticket ticket) throws Exception {
         if (ticket != null && !ticket.isExpired()) {
             addTicketInternal(ticket);
+            if (expirationIndex != null) {
+                expirationIndex.index(ticket);
+            }
         }
     }
 
@@ -150,9 +165,31 @@ public abstract class AbstractTicketRegistry implements TicketRegistry {
         }
         LOGGER.debug("Removing ticket [{}] from the registry.", ticket);
         count.getAndAdd(deleteSingleTicket(ticket));
+        if (expirationIndex != null) {
+            expirationIndex.remove(ticket.getId());
+        }
         return count.intValue();
     }
 
+    @Override
+    public Stream<? extends Ticket> getTicketsExpiredBefore(final ZonedDateTime expirationTime) {
+        if (expirationIndex == null) {
+            return TicketRegistry.super.getTicketsExpiredBefore(expirationTime);
+        }
+        return expirationIndex.poll(expirationTime)
+            .stream()
+            .map(ticketId -> getTicket(ticketId, ticket -> true))
+            .filter(Objects::nonNull)
+            .filter(ticket -> {
+                if (ticket.isExpired()) {
+                    return true;
+                }
+                LOGGER.trace("Ticket [{}] is not yet expired and will be indexed again", ticket.getId());
+                expirationIndex.index(ticket);
+                return false;
+            });
+    }
+
     @Override
     public long sessionCount() {
         try (val tgtStream = stream().filter(TicketGrantingTicket.class::isInstance)) {
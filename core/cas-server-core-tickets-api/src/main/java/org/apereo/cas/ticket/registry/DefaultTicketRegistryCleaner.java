@@ -7,13 +7,17 @@ import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.lock.LockRepository;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
+import org.apache.commons.lang3.time.StopWatch;
 import org.jooq.lambda.Unchecked;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Stream;
 
 /**
  * This is {@link DefaultTicketRegistryCleaner}.
@@ -25,11 +29,14 @@ import java.util.Objects;
 @RequiredArgsConstructor
 @Transactional(transactionManager = "ticketTransactionManager")
 public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner {
-    private final LockRepository lockRepository;
+    protected final LockRepository lockRepository;
 
-    private final LogoutManager logoutManager;
+    protected final LogoutManager logoutManager;
 
-    private final TicketRegistry ticketRegistry;
+    protected final TicketRegistry ticketRegistry;
+
+    @Getter
+    private final TicketRegistryCleanerStatistics statistics = new TicketRegistryCleanerStatistics();
 
     @Override
     public int clean() {
@@ -60,13 +67,33 @@ public class DefaultTicketRegistryCleaner implements TicketRegistryCleaner {
     }
 
     protected int cleanInternal() {
-        try (val expiredTickets = ticketRegistry.stream().filter(Objects::nonNull).filter(Ticket::isExpired)) {
-            val ticketsDeleted = expiredTickets.mapToInt(this::cleanTicket).sum();
-            LOGGER.info("[{}] expired tickets removed.", ticketsDeleted);
+        val stopWatch = StopWatch.createStarted();
+        val ticketsExamined = new AtomicLong();
+        try (val candidates = locateExpiredTickets()) {
+            val ticketsDeleted = candidates
+                .filter(Objects::nonNull)
+                .peek(ticket -> ticketsExamined.incrementAndGet())
+                .filter(Ticket::isExpired)
+                .mapToInt(this::cleanTicket)
+                .sum();
+            stopWatch.stop();
+            statistics.record(stopWatch.getTime(), ticketsExamined.get(), ticketsDeleted);
+            LOGGER.info("[{}] expired tickets removed after examining [{}] tickets in [{}] ms.",
+                ticketsDeleted, ticketsExamined.get(), stopWatch.getTime());
             return ticketsDeleted;
         }
     }
 
+    /**
+     * Locate tickets that should be examined for expiration.
+     * The default behavior scans the entire registry.
+     *
+     * @return the stream of candidate tickets
+     */
+    protected Stream<? extends Ticket> locateExpiredTickets() {
+        return ticketRegistry.stream();
+    }
+
     /**
      * Indicates whether the registry supports automated ticket cleanup.
      * Generally, a registry that is able to return a collection of available
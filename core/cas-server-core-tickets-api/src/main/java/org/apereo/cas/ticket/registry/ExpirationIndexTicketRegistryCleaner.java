@@ -0,0 +1,50 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.logout.LogoutManager;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.lock.LockRepository;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link ExpirationIndexTicketRegistryCleaner} that asks the ticket registry
+ * for tickets that are due to expire, rather than scanning the entire registry.
+ * Registries that track ticket expiration natively or via a
+ * {@link TicketRegistryExpirationIndex} only hand back tickets that are
+ * due in the elapsed window.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@Transactional(transactionManager = "ticketTransactionManager")
+public class ExpirationIndexTicketRegistryCleaner extends DefaultTicketRegistryCleaner {
+    private final Clock clock;
+
+    public ExpirationIndexTicketRegistryCleaner(final LockRepository lockRepository,
+                                                final LogoutManager logoutManager,
+                                                final TicketRegistry ticketRegistry) {
+        this(lockRepository, logoutManager, ticketRegistry, Clock.systemUTC());
+    }
+
+    public ExpirationIndexTicketRegistryCleaner(final LockRepository lockRepository,
+                                                final LogoutManager logoutManager,
+                                                final TicketRegistry ticketRegistry,
+                                                final Clock clock) {
+        super(lockRepository, logoutManager, ticketRegistry);
+        this.clock = clock;
+    }
+
+    @Override
+    protected Stream<? extends Ticket> locateExpiredTickets() {
+        val now = ZonedDateTime.now(clock);
+        LOGGER.trace("Locating tickets that have expired before [{}]", now);
+        return ticketRegistry.getTicketsExpiredBefore(now);
+    }
+}
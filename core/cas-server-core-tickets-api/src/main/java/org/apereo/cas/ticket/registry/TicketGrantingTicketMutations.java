@@ -0,0 +1,82 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.principal.Service;
+import org.apereo.cas.ticket.AbstractTicket;
+import org.apereo.cas.ticket.AuthenticatedServicesAwareTicketGrantingTicket;
+import org.apereo.cas.ticket.Ticket;
+
+import lombok.experimental.UtilityClass;
+
+import java.time.ZonedDateTime;
+
+/**
+ * This is {@link TicketGrantingTicketMutations} that provides the
+ * {@link TicketMutation}s that may be applied to a ticket-granting ticket.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@UtilityClass
+public class TicketGrantingTicketMutations {
+
+    /**
+     * Append an authenticated service to the ticket.
+     *
+     * @param serviceTicketId the service ticket id
+     * @param service         the service
+     */
+    public record AddService(String serviceTicketId, Service service) implements TicketMutation {
+        @Override
+        public void apply(final Ticket ticket) {
+            if (ticket instanceof AuthenticatedServicesAwareTicketGrantingTicket tgt) {
+                tgt.getServices().put(serviceTicketId, service);
+            }
+        }
+    }
+
+    /**
+     * Remove an authenticated service from the ticket.
+     *
+     * @param serviceTicketId the service ticket id
+     */
+    public record RemoveService(String serviceTicketId) implements TicketMutation {
+        @Override
+        public void apply(final Ticket ticket) {
+            if (ticket instanceof AuthenticatedServicesAwareTicketGrantingTicket tgt) {
+                tgt.getServices().remove(serviceTicketId);
+            }
+        }
+    }
+
+    /**
+     * Remove a proxy-granting ticket from the ticket.
+     *
+     * @param proxyGrantingTicketId the proxy granting ticket id
+     */
+    public record RemoveProxyGrantingTicket(String proxyGrantingTicketId) implements TicketMutation {
+        @Override
+        public void apply(final Ticket ticket) {
+            if (ticket instanceof AuthenticatedServicesAwareTicketGrantingTicket tgt) {
+                tgt.getProxyGrantingTickets().remove(proxyGrantingTicketId);
+            }
+        }
+    }
+
+    /**
+     * Record the usage of the ticket.
+     *
+     * @param lastTimeUsed     the last time used
+     * @param previousTimeUsed the previous time used
+     * @param countOfUses      the count of uses
+     */
+    public record Touch(ZonedDateTime lastTimeUsed, ZonedDateTime previousTimeUsed, int countOfUses) implements TicketMutation {
+        @Override
+        public void apply(final Ticket ticket) {
+            if (ticket instanceof AbstractTicket abstractTicket) {
+                abstractTicket.setLastTimeUsed(lastTimeUsed);
+                abstractTicket.setPreviousTimeUsed(previousTimeUsed);
+                abstractTicket.setCountOfUses(countOfUses);
+            }
+        }
+    }
+}
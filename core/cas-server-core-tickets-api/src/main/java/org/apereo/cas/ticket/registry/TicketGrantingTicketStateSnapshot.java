@@ -0,0 +1,94 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.AbstractTicket;
+import org.apereo.cas.ticket.AuthenticatedServicesAwareTicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * This is {@link TicketGrantingTicketStateSnapshot} that captures the state of a ticket-granting ticket
+ * before it is changed, so that the changes may later be described as a list of {@link TicketMutation}s
+ * and handed over to {@link TicketRegistry#updateTicket(org.apereo.cas.ticket.Ticket, List)}.
+ * <p>
+ * Only changes to root ticket-granting tickets that add or remove authenticated services,
+ * remove proxy-granting tickets or record usage can be described by mutations. Any other change
+ * produces no mutations, which instructs the registry to update the ticket in full.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class TicketGrantingTicketStateSnapshot {
+    private final boolean trackable;
+
+    private final Set<String> services;
+
+    private final Set<String> proxyGrantingTickets;
+
+    private final Set<String> descendantTickets;
+
+    /**
+     * Capture the current state of the ticket.
+     *
+     * @param ticket the ticket
+     * @return the snapshot
+     */
+    public static TicketGrantingTicketStateSnapshot of(final TicketGrantingTicket ticket) {
+        if (ticket instanceof AuthenticatedServicesAwareTicketGrantingTicket tgt
+            && ticket instanceof AbstractTicket && ticket.isRoot()) {
+            return new TicketGrantingTicketStateSnapshot(true,
+                new HashSet<>(tgt.getServices().keySet()),
+                new HashSet<>(tgt.getProxyGrantingTickets().keySet()),
+                new HashSet<>(tgt.getDescendantTickets()));
+        }
+        return new TicketGrantingTicketStateSnapshot(false, Set.of(), Set.of(), Set.of());
+    }
+
+    /**
+     * Describe the changes made to the ticket since the snapshot was captured.
+     *
+     * @param ticket the ticket
+     * @return the mutations, or an empty list if the changes cannot be described by mutations
+     */
+    public List<TicketMutation> getMutations(final TicketGrantingTicket ticket) {
+        if (!trackable || !(ticket instanceof AuthenticatedServicesAwareTicketGrantingTicket tgt)) {
+            return List.of();
+        }
+        val currentProxyGrantingTickets = tgt.getProxyGrantingTickets().keySet();
+        if (!proxyGrantingTickets.containsAll(currentProxyGrantingTickets)
+            || !descendantTickets.equals(new HashSet<>(tgt.getDescendantTickets()))) {
+            LOGGER.trace("Changes to ticket [{}] cannot be described by mutations", ticket.getId());
+            return List.of();
+        }
+        val mutations = new ArrayList<TicketMutation>();
+        services
+            .stream()
+            .filter(id -> !tgt.getServices().containsKey(id))
+            .map(TicketGrantingTicketMutations.RemoveService::new)
+            .forEach(mutations::add);
+        proxyGrantingTickets
+            .stream()
+            .filter(id -> !currentProxyGrantingTickets.contains(id))
+            .map(TicketGrantingTicketMutations.RemoveProxyGrantingTicket::new)
+            .forEach(mutations::add);
+        tgt.getServices()
+            .entrySet()
+            .stream()
+            .filter(entry -> !services.contains(entry.getKey()))
+            .map(entry -> new TicketGrantingTicketMutations.AddService(entry.getKey(), entry.getValue()))
+            .forEach(mutations::add);
+        mutations.add(new TicketGrantingTicketMutations.Touch(ticket.getLastTimeUsed(),
+            ticket.getPreviousTimeUsed(), ticket.getCountOfUses()));
+        return mutations;
+    }
+}
@@ -0,0 +1,75 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.ToString;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * This is {@link TicketRegistryCleanerStatistics} that keeps track
+ * of how long each cleaner sweep takes, and how many tickets are examined
+ * versus removed by the cleaner.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@ToString
+public class TicketRegistryCleanerStatistics {
+    private final AtomicLong sweepCount = new AtomicLong();
+
+    private final AtomicLong lastSweepDuration = new AtomicLong();
+
+    private final AtomicLong lastTicketsExamined = new AtomicLong();
+
+    private final AtomicLong lastTicketsRemoved = new AtomicLong();
+
+    private final AtomicLong totalSweepDuration = new AtomicLong();
+
+    private final AtomicLong totalTicketsExamined = new AtomicLong();
+
+    private final AtomicLong totalTicketsRemoved = new AtomicLong();
+
+    /**
+     * Record the results of a cleaner sweep.
+     *
+     * @param duration        the duration in milliseconds
+     * @param ticketsExamined the tickets examined
+     * @param ticketsRemoved  the tickets removed
+     */
+    public void record(final long duration, final long ticketsExamined, final long ticketsRemoved) {
+        sweepCount.incrementAndGet();
+        lastSweepDuration.set(duration);
+        lastTicketsExamined.set(ticketsExamined);
+        lastTicketsRemoved.set(ticketsRemoved);
+        totalSweepDuration.addAndGet(duration);
+        totalTicketsExamined.addAndGet(ticketsExamined);
+        totalTicketsRemoved.addAndGet(ticketsRemoved);
+    }
+
+    public long getSweepCount() {
+        return sweepCount.get();
+    }
+
+    public long getLastSweepDuration() {
+        return lastSweepDuration.get();
+    }
+
+    public long getLastTicketsExamined() {
+        return lastTicketsExamined.get();
+    }
+
+    public long getLastTicketsRemoved() {
+        return lastTicketsRemoved.get();
+    }
+
+    public long getTotalSweepDuration() {
+        return totalSweepDuration.get();
+    }
+
+    public long getTotalTicketsExamined() {
+        return totalTicketsExamined.get();
+    }
+
+    public long getTotalTicketsRemoved() {
+        return totalTicketsRemoved.get();
+    }
+}
@@ -0,0 +1,70 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.time.StopWatch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * This is {@link TicketRegistryCopier} that copies tickets from one registry into another,
+ * typically when migrating between ticket registry backends or seeding a registry with tickets.
+ * Tickets are streamed from the source registry and handed over to the target registry
+ * in chunks via {@link TicketRegistry#addTicket(java.util.stream.Stream)}, allowing
+ * registries that support bulk writes to store each chunk in a single round trip.
+ * Expired tickets are not copied.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class TicketRegistryCopier {
+    private final TicketRegistry source;
+
+    private final TicketRegistry target;
+
+    private final int chunkSize;
+
+    /**
+     * Copy tickets from the source registry into the target registry.
+     *
+     * @return the number of copied tickets
+     * @throws Exception the exception
+     */
+    public long copy() throws Exception {
+        val stopWatch = StopWatch.createStarted();
+        val size = Math.max(1, chunkSize);
+        val chunk = new ArrayList<Ticket>(size);
+        var count = 0L;
+        try (val tickets = source.stream()) {
+            val iterator = tickets.filter(Objects::nonNull).filter(ticket -> !ticket.isExpired()).iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() >= size) {
+                    count += copyChunk(chunk);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            count += copyChunk(chunk);
+        }
+        stopWatch.stop();
+        LOGGER.info("Copied [{}] ticket(s) from [{}] to [{}] in [{}] ms", count,
+            source.getClass().getSimpleName(), target.getClass().getSimpleName(), stopWatch.getTime());
+        return count;
+    }
+
+    private int copyChunk(final List<Ticket> chunk) throws Exception {
+        val count = chunk.size();
+        LOGGER.debug("Copying [{}] ticket(s) to [{}]", count, target.getClass().getSimpleName());
+        target.addTicket(List.copyOf(chunk).stream());
+        chunk.clear();
+        return count;
+    }
+}
@@ -0,0 +1,176 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.ticket.Ticket;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.stream.Stream;
+
+/**
+ * This is {@link TicketRegistryExpirationIndex} that groups ticket ids into time buckets
+ * based on the calculated expiration time of each ticket. Ticket registries maintain
+ * the index as tickets are added and removed, allowing the cleaner to only examine
+ * tickets whose buckets have become due, rather than scanning the entire registry.
+ * <p>
+ * The index is a hint and not the source of truth: entries may go stale when tickets
+ * are updated or removed elsewhere, so callers are expected to load each ticket and
+ * evaluate its expiration policy before acting on it. Tickets whose expiration time
+ * cannot be determined are kept in a bucket that is always due, so they are
+ * handed back and evaluated on every sweep.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class TicketRegistryExpirationIndex {
+    private static final long UNKNOWN_EXPIRATION_BUCKET = Long.MIN_VALUE;
+
+    private final Map<Long, Set<String>> buckets = new ConcurrentHashMap<>();
+
+    private final ConcurrentSkipListSet<Long> bucketKeys = new ConcurrentSkipListSet<>();
+
+    private final Map<String, Long> ticketBuckets = new ConcurrentHashMap<>();
+
+    @Getter
+    private final long bucketWidthInMillis;
+
+    public TicketRegistryExpirationIndex(final Duration bucketWidth) {
+        this.bucketWidthInMillis = Math.max(1, bucketWidth.toMillis());
+    }
+
+    /**
+     * Determine the expiration time of the ticket,
+     * based on its expiration policy. The earliest of the maximum
+     * and idle expiration times is used if available; otherwise the earliest of
+     * the time-to-live of the policy applied to the creation time of the ticket
+     * and the time-to-idle applied to the last time the ticket was used.
+     *
+     * @param ticket the ticket
+     * @return the expiration time, if one can be calculated.
+     */
+    public static Optional<ZonedDateTime> determineExpirationTime(final Ticket ticket) {
+        val expirationPolicy = ticket.getExpirationPolicy();
+        if (expirationPolicy == null) {
+            return Optional.empty();
+        }
+        val maximumExpirationTime = expirationPolicy.getMaximumExpirationTime(ticket);
+        val idleExpirationTime = expirationPolicy.getIdleExpirationTime(ticket);
+        if (maximumExpirationTime != null && idleExpirationTime != null) {
+            return Optional.of(maximumExpirationTime.isBefore(idleExpirationTime) ? maximumExpirationTime : idleExpirationTime);
+        }
+        if (maximumExpirationTime != null || idleExpirationTime != null) {
+            return Optional.ofNullable(maximumExpirationTime).or(() -> Optional.ofNullable(idleExpirationTime));
+        }
+        val timeToLive = expirationPolicy.getTimeToLive(ticket);
+        val timeToIdle = expirationPolicy.getTimeToIdle();
+        val lastTimeUsed = Optional.ofNullable(ticket.getLastTimeUsed()).orElseGet(ticket::getCreationTime);
+        val liveExpirationTime = Optional.ofNullable(ticket.getCreationTime())
+            .filter(time -> timeToLive != null && timeToLive > 0)
+            .map(time -> time.plusSeconds(timeToLive));
+        val idleExpirationTimeFromLastUse = Optional.ofNullable(lastTimeUsed)
+            .filter(time -> timeToIdle != null && timeToIdle > 0)
+            .map(time -> time.plusSeconds(timeToIdle));
+        return Stream.of(liveExpirationTime, idleExpirationTimeFromLastUse)
+            .flatMap(Optional::stream)
+            .min(ZonedDateTime::compareTo);
+    }
+
+    /**
+     * Index the ticket based on its expiration time.
+     * Tickets whose expiration time cannot be determined are
+     * indexed in a bucket that is always due.
+     *
+     * @param ticket the ticket
+     */
+    public void index(final Ticket ticket) {
+        val ticketId = ticket.getId();
+        val expirationTime = determineExpirationTime(ticket);
+        val bucket = expirationTime
+            .map(time -> Math.floorDiv(time.toInstant().toEpochMilli(), bucketWidthInMillis))
+            .orElse(UNKNOWN_EXPIRATION_BUCKET);
+        val previousBucket = ticketBuckets.put(ticketId, bucket);
+        if (previousBucket != null && !previousBucket.equals(bucket)) {
+            removeFromBucket(previousBucket, ticketId);
+        }
+        buckets.compute(bucket, (key, ticketIds) -> {
+            val entries = ticketIds == null ? ConcurrentHashMap.<String>newKeySet() : ticketIds;
+            entries.add(ticketId);
+            return entries;
+        });
+        bucketKeys.add(bucket);
+        LOGGER.trace("Indexed ticket [{}] to expire at [{}]", ticketId, expirationTime.orElse(null));
+    }
+
+    /**
+     * Remove the ticket from the index.
+     *
+     * @param ticketId the ticket id
+     */
+    public void remove(final String ticketId) {
+        val bucket = ticketBuckets.remove(ticketId);
+        if (bucket != null) {
+            removeFromBucket(bucket, ticketId);
+        }
+    }
+
+    /**
+     * Remove and collect all ticket ids whose buckets are due
+     * for the given expiration time.
+     *
+     * @param expirationTime the expiration time
+     * @return the ticket ids
+     */
+    public Collection<String> poll(final ZonedDateTime expirationTime) {
+        val limit = Math.floorDiv(expirationTime.toInstant().toEpochMilli(), bucketWidthInMillis);
+        val results = new ArrayList<String>();
+        val dueBuckets = List.copyOf(bucketKeys.headSet(limit, true));
+        dueBuckets.forEach(bucket -> {
+            bucketKeys.remove(bucket);
+            val ticketIds = buckets.remove(bucket);
+            if (ticketIds != null) {
+                ticketIds.stream()
+                    .filter(ticketId -> ticketBuckets.remove(ticketId, bucket))
+                    .forEach(results::add);
+            }
+        });
+        LOGGER.debug("Found [{}] ticket(s) in [{}] expired bucket(s)", results.size(), dueBuckets.size());
+        return results;
+    }
+
+    /**
+     * Number of tickets tracked by the index.
+     *
+     * @return the size
+     */
+    public long size() {
+        return ticketBuckets.size();
+    }
+
+    /**
+     * Clear the index.
+     */
+    public void clear() {
+        ticketBuckets.clear();
+        buckets.clear();
+        bucketKeys.clear();
+    }
+
+    private void removeFromBucket(final Long bucket, final String ticketId) {
+        buckets.computeIfPresent(bucket, (key, ticketIds) -> {
+            ticketIds.remove(ticketId);
+            return ticketIds.isEmpty() ? null : ticketIds;
+        });
+    }
+}
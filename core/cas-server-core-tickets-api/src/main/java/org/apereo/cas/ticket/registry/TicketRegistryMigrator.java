@@ -0,0 +1,52 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * This is {@link TicketRegistryMigrator} that migrates tickets from a source ticket registry,
+ * typically the registry of a previous ticket registry backend, into the ticket registry
+ * that is configured for this deployment. Tickets are copied from one registry into the other
+ * via {@link TicketRegistryCopier}, and only a single chunk of tickets is held in memory at a time.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiredArgsConstructor
+public class TicketRegistryMigrator {
+    /**
+     * Default bean name.
+     */
+    public static final String BEAN_NAME = "ticketRegistryMigrator";
+
+    /**
+     * Default number of tickets handed over to the target registry at once.
+     */
+    public static final int DEFAULT_CHUNK_SIZE = 500;
+
+    private final TicketRegistry ticketRegistry;
+
+    private final int chunkSize;
+
+    /**
+     * Migrate tickets from the source registry into the configured ticket registry.
+     *
+     * @param source the source registry
+     * @return the number of migrated tickets
+     * @throws Exception the exception
+     */
+    public long migrate(final TicketRegistry source) throws Exception {
+        return migrate(source, ticketRegistry);
+    }
+
+    /**
+     * Migrate tickets from the source registry into the target registry.
+     *
+     * @param source the source registry
+     * @param target the target registry
+     * @return the number of migrated tickets
+     * @throws Exception the exception
+     */
+    public long migrate(final TicketRegistry source, final TicketRegistry target) throws Exception {
+        return new TicketRegistryCopier(source, target, chunkSize).copy();
+    }
+}
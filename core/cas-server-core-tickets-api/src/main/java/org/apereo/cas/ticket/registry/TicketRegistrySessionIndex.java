@@ -0,0 +1,145 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link TicketRegistrySessionIndex} that keeps a secondary index of single sign-on sessions
+ * for registries that are backed by a local map. Sessions are indexed by principal id, and optionally
+ * by attribute name/value pairs. Keys are expected to be digested and normalized by the registry
+ * before they are handed to the index, so that queries are answered with simple lookups
+ * without having to scan and decode every ticket in the registry.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiredArgsConstructor
+public class TicketRegistrySessionIndex {
+    private final Map<String, Set<String>> principals = new ConcurrentHashMap<>();
+
+    private final Map<String, Map<String, Set<String>>> attributes = new ConcurrentHashMap<>();
+
+    private final Map<String, IndexedSession> sessions = new ConcurrentHashMap<>();
+
+    @Getter
+    private final boolean attributesIndexed;
+
+    /**
+     * Index the session.
+     *
+     * @param ticketKey    the ticket key, as stored in the registry
+     * @param principalKey the principal key
+     * @param attributes   the attribute names, linked to their values
+     */
+    public void index(final String ticketKey, final String principalKey,
+                      final Map<String, Set<String>> attributes) {
+        remove(ticketKey);
+        if (StringUtils.isBlank(principalKey)) {
+            return;
+        }
+        val indexedAttributes = attributesIndexed ? attributes : Map.<String, Set<String>>of();
+        sessions.put(ticketKey, new IndexedSession(principalKey, indexedAttributes));
+        addToBucket(principals, principalKey, ticketKey);
+        indexedAttributes.forEach((name, values) -> {
+            val attributeIndex = this.attributes.computeIfAbsent(name, key -> new ConcurrentHashMap<>());
+            values.stream()
+                .filter(StringUtils::isNotBlank)
+                .forEach(value -> addToBucket(attributeIndex, value, ticketKey));
+        });
+    }
+
+    /**
+     * Remove the session from the index.
+     *
+     * @param ticketKey the ticket key
+     */
+    public void remove(final String ticketKey) {
+        val session = sessions.remove(ticketKey);
+        if (session != null) {
+            removeFromBucket(principals, session.principal(), ticketKey);
+            session.attributes().forEach((name, values) -> {
+                val attributeIndex = attributes.get(name);
+                if (attributeIndex != null) {
+                    values.stream()
+                        .filter(StringUtils::isNotBlank)
+                        .forEach(value -> removeFromBucket(attributeIndex, value, ticketKey));
+                }
+            });
+        }
+    }
+
+    /**
+     * Find sessions by principal.
+     *
+     * @param principalKey the principal key
+     * @return the ticket keys
+     */
+    public Set<String> findByPrincipal(final String principalKey) {
+        if (StringUtils.isBlank(principalKey)) {
+            return Set.of();
+        }
+        return Set.copyOf(principals.getOrDefault(principalKey, Set.of()));
+    }
+
+    /**
+     * Find sessions by attribute.
+     *
+     * @param name   the name
+     * @param values the values
+     * @return the ticket keys
+     */
+    public Set<String> findByAttribute(final String name, final Set<String> values) {
+        if (StringUtils.isBlank(name)) {
+            return Set.of();
+        }
+        val attributeIndex = attributes.getOrDefault(name, Map.of());
+        val results = new HashSet<String>();
+        values.stream()
+            .filter(StringUtils::isNotBlank)
+            .forEach(value -> results.addAll(attributeIndex.getOrDefault(value, Set.of())));
+        return results;
+    }
+
+    /**
+     * Number of sessions tracked by the index.
+     *
+     * @return the size
+     */
+    public long size() {
+        return sessions.size();
+    }
+
+    /**
+     * Clear the index.
+     */
+    public void clear() {
+        sessions.clear();
+        principals.clear();
+        attributes.clear();
+    }
+
+    private static void addToBucket(final Map<String, Set<String>> index, final String key, final String ticketKey) {
+        index.compute(key, (k, ticketKeys) -> {
+            val entries = ticketKeys == null ? ConcurrentHashMap.<String>newKeySet() : ticketKeys;
+            entries.add(ticketKey);
+            return entries;
+        });
+    }
+
+    private static void removeFromBucket(final Map<String, Set<String>> index, final String key, final String ticketKey) {
+        index.computeIfPresent(key, (k, ticketKeys) -> {
+            ticketKeys.remove(ticketKey);
+            return ticketKeys.isEmpty() ? null : ticketKeys;
+        });
+    }
+
+    private record IndexedSession(String principal, Map<String, Set<String>> attributes) {
+    }
+}
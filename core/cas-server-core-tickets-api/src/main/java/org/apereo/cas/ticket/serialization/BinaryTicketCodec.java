@@ -0,0 +1,285 @@
+package org.apereo.cas.ticket.serialization;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.TokenBuffer;
+import lombok.experimental.UtilityClass;
+import lombok.val;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * This is {@link BinaryTicketCodec} that encodes the token stream produced by a Jackson
+ * {@link ObjectMapper} into a compact binary form. Field names and string values are interned
+ * in a per-payload string table, so that repeated attribute names, type identifiers and values
+ * are written once and then referenced by index. Payloads start with a format version
+ * and a set of flags, and may optionally be compressed.
+ * <p>
+ * Since the codec operates on the Jackson token stream, the shape of the payload
+ * is entirely controlled by the mapping configuration of each ticket serializer.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@UtilityClass
+public class BinaryTicketCodec {
+    /**
+     * Current format version, written as the first byte of every payload.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    private static final int FLAG_COMPRESSED = 0x01;
+
+    private static final int TOKEN_START_OBJECT = 1;
+
+    private static final int TOKEN_END_OBJECT = 2;
+
+    private static final int TOKEN_START_ARRAY = 3;
+
+    private static final int TOKEN_END_ARRAY = 4;
+
+    private static final int TOKEN_FIELD_NAME = 5;
+
+    private static final int TOKEN_STRING = 6;
+
+    private static final int TOKEN_INT = 7;
+
+    private static final int TOKEN_LONG = 8;
+
+    private static final int TOKEN_BIG_INTEGER = 9;
+
+    private static final int TOKEN_DOUBLE = 10;
+
+    private static final int TOKEN_BIG_DECIMAL = 11;
+
+    private static final int TOKEN_TRUE = 12;
+
+    private static final int TOKEN_FALSE = 13;
+
+    private static final int TOKEN_NULL = 14;
+
+    private static final int TOKEN_BINARY = 15;
+
+    /**
+     * Encode the given object into a binary payload.
+     *
+     * @param mapper               the mapper
+     * @param value                the value
+     * @param compressionThreshold the minimum payload size in bytes to compress; zero or negative disables compression
+     * @return the bytes
+     * @throws IOException the io exception
+     */
+    public static byte[] encode(final ObjectMapper mapper, final Object value,
+                                final int compressionThreshold) throws IOException {
+        val body = new ByteArrayOutputStream();
+        try (val buffer = new TokenBuffer(mapper, false);
+             val output = new DataOutputStream(body)) {
+            mapper.writeValue(buffer, value);
+            try (val parser = buffer.asParser()) {
+                val strings = new HashMap<String, Integer>();
+                var token = parser.nextToken();
+                while (token != null) {
+                    writeToken(output, parser, token, strings);
+                    token = parser.nextToken();
+                }
+            }
+        }
+
+        val compress = compressionThreshold > 0 && body.size() >= compressionThreshold;
+        val payload = new ByteArrayOutputStream(body.size() + 2);
+        payload.write(FORMAT_VERSION);
+        payload.write(compress ? FLAG_COMPRESSED : 0);
+        if (compress) {
+            try (val deflater = new DeflaterOutputStream(payload)) {
+                body.writeTo(deflater);
+            }
+        } else {
+            body.writeTo(payload);
+        }
+        return payload.toByteArray();
+    }
+
+    /**
+     * Decode the binary payload into an object of the given type.
+     *
+     * @param <T>     the type parameter
+     * @param mapper  the mapper
+     * @param payload the payload
+     * @param clazz   the clazz
+     * @return the object
+     * @throws IOException the io exception
+     */
+    public static <T> T decode(final ObjectMapper mapper, final byte[] payload,
+                               final Class<T> clazz) throws IOException {
+        if (payload.length < 2) {
+            throw new IOException("Binary payload is too short");
+        }
+        val version = payload[0];
+        if (version != FORMAT_VERSION) {
+            throw new IOException("Unsupported binary payload format version " + version);
+        }
+        val compressed = (payload[1] & FLAG_COMPRESSED) != 0;
+        val body = new ByteArrayInputStream(payload, 2, payload.length - 2);
+        try (val input = new DataInputStream(compressed ? new InflaterInputStream(body) : body);
+             val buffer = new TokenBuffer(mapper, false)) {
+            val strings = new ArrayList<String>();
+            var token = input.read();
+            while (token != -1) {
+                readToken(input, buffer, token, strings);
+                token = input.read();
+            }
+            try (val parser = buffer.asParser()) {
+                return mapper.readValue(parser, clazz);
+            }
+        }
+    }
+
+    private static void writeToken(final DataOutputStream output, final JsonParser parser,
+                                   final JsonToken token, final Map<String, Integer> strings) throws IOException {
+        switch (token) {
+            case START_OBJECT -> output.writeByte(TOKEN_START_OBJECT);
+            case END_OBJECT -> output.writeByte(TOKEN_END_OBJECT);
+            case START_ARRAY -> output.writeByte(TOKEN_START_ARRAY);
+            case END_ARRAY -> output.writeByte(TOKEN_END_ARRAY);
+            case FIELD_NAME -> {
+                output.writeByte(TOKEN_FIELD_NAME);
+                writeString(output, parser.currentName(), strings);
+            }
+            case VALUE_STRING -> {
+                output.writeByte(TOKEN_STRING);
+                writeString(output, parser.getText(), strings);
+            }
+            case VALUE_NUMBER_INT -> {
+                switch (parser.getNumberType()) {
+                    case INT -> {
+                        output.writeByte(TOKEN_INT);
+                        writeVarLong(output, parser.getIntValue());
+                    }
+                    case LONG -> {
+                        output.writeByte(TOKEN_LONG);
+                        writeVarLong(output, parser.getLongValue());
+                    }
+                    default -> {
+                        output.writeByte(TOKEN_BIG_INTEGER);
+                        writeString(output, parser.getBigIntegerValue().toString(), strings);
+                    }
+                }
+            }
+            case VALUE_NUMBER_FLOAT -> {
+                if (parser.getNumberType() == JsonParser.NumberType.BIG_DECIMAL) {
+                    output.writeByte(TOKEN_BIG_DECIMAL);
+                    writeString(output, parser.getDecimalValue().toString(), strings);
+                } else {
+                    output.writeByte(TOKEN_DOUBLE);
+                    output.writeDouble(parser.getDoubleValue());
+                }
+            }
+            case VALUE_TRUE -> output.writeByte(TOKEN_TRUE);
+            case VALUE_FALSE -> output.writeByte(TOKEN_FALSE);
+            case VALUE_NULL -> output.writeByte(TOKEN_NULL);
+            case VALUE_EMBEDDED_OBJECT -> {
+                val embedded = parser.getEmbeddedObject();
+                if (!(embedded instanceof byte[] bytes)) {
+                    throw new IOException("Unable to encode embedded value of type " + embedded);
+                }
+                output.writeByte(TOKEN_BINARY);
+                writeVarLong(output, bytes.length);
+                output.write(bytes);
+            }
+            default -> throw new IOException("Unable to encode token " + token);
+        }
+    }
+
+    private static void readToken(final DataInputStream input, final TokenBuffer buffer,
+                                  final int token, final List<String> strings) throws IOException {
+        switch (token) {
+            case TOKEN_START_OBJECT -> buffer.writeStartObject();
+            case TOKEN_END_OBJECT -> buffer.writeEndObject();
+            case TOKEN_START_ARRAY -> buffer.writeStartArray();
+            case TOKEN_END_ARRAY -> buffer.writeEndArray();
+            case TOKEN_FIELD_NAME -> buffer.writeFieldName(readString(input, strings));
+            case TOKEN_STRING -> buffer.writeString(readString(input, strings));
+            case TOKEN_INT -> buffer.writeNumber((int) readVarLong(input));
+            case TOKEN_LONG -> buffer.writeNumber(readVarLong(input));
+            case TOKEN_BIG_INTEGER -> buffer.writeNumber(new BigInteger(readString(input, strings)));
+            case TOKEN_DOUBLE -> buffer.writeNumber(input.readDouble());
+            case TOKEN_BIG_DECIMAL -> buffer.writeNumber(new BigDecimal(readString(input, strings)));
+            case TOKEN_TRUE -> buffer.writeBoolean(true);
+            case TOKEN_FALSE -> buffer.writeBoolean(false);
+            case TOKEN_NULL -> buffer.writeNull();
+            case TOKEN_BINARY -> {
+                val bytes = new byte[(int) readVarLong(input)];
+                input.readFully(bytes);
+                buffer.writeBinary(bytes);
+            }
+            default -> throw new IOException("Unable to decode token " + token);
+        }
+    }
+
+    /**
+     * Strings are written as an index into the string table, offset by one.
+     * An index of zero indicates a new entry that follows inline and is then added to the table.
+     */
+    private static void writeString(final DataOutputStream output, final String value,
+                                    final Map<String, Integer> strings) throws IOException {
+        val index = strings.get(value);
+        if (index != null) {
+            writeVarLong(output, index + 1);
+            return;
+        }
+        strings.put(value, strings.size());
+        val bytes = value.getBytes(StandardCharsets.UTF_8);
+        writeVarLong(output, 0);
+        writeVarLong(output, bytes.length);
+        output.write(bytes);
+    }
+
+    private static String readString(final DataInputStream input, final List<String> strings) throws IOException {
+        val index = (int) readVarLong(input);
+        if (index > 0) {
+            return strings.get(index - 1);
+        }
+        val bytes = new byte[(int) readVarLong(input)];
+        input.readFully(bytes);
+        val value = new String(bytes, StandardCharsets.UTF_8);
+        strings.add(value);
+        return value;
+    }
+
+    private static void writeVarLong(final DataOutputStream output, final long value) throws IOException {
+        var zigzag = (value << 1) ^ (value >> 63);
+        while ((zigzag & ~0x7FL) != 0) {
+            output.writeByte((int) ((zigzag & 0x7F) | 0x80));
+            zigzag >>>= 7;
+        }
+        output.writeByte((int) zigzag);
+    }
+
+    private static long readVarLong(final DataInputStream input) throws IOException {
+        var shift = 0;
+        var result = 0L;
+        while (shift < 64) {
+            val current = input.readUnsignedByte();
+            result |= (long) (current & 0x7F) << shift;
+            if ((current & 0x80) == 0) {
+                return (result >>> 1) ^ -(result & 1);
+            }
+            shift += 7;
+        }
+        throw new IOException("Malformed variable-length number");
+    }
+}
@@ -0,0 +1,82 @@
+package org.apereo.cas.ticket.serialization;
+
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.util.EncodingUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+import org.apereo.cas.util.serialization.AbstractJacksonBackedStringSerializer;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * This is {@link BinaryTicketSerializationManager} that encodes tickets of selected types
+ * using {@link BinaryTicketCodec} instead of JSON. Ticket types are selected by their prefix,
+ * i.e. {@code TGT}, and all other tickets continue to be serialized as JSON.
+ * Binary payloads are marked with {@link #BINARY_PAYLOAD_PREFIX}, which allows existing
+ * JSON entries to remain readable while a registry migrates from one format to the other.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class BinaryTicketSerializationManager extends DefaultTicketStringSerializationManager {
+    /**
+     * Marker that prefixes every binary payload.
+     */
+    public static final String BINARY_PAYLOAD_PREFIX = "CASB:";
+
+    private final Set<String> binaryTicketPrefixes;
+
+    private final int compressionThreshold;
+
+    public BinaryTicketSerializationManager(final TicketSerializationExecutionPlan ticketSerializationExecutionPlan,
+                                            final Set<String> binaryTicketPrefixes,
+                                            final int compressionThreshold) {
+        super(ticketSerializationExecutionPlan);
+        this.binaryTicketPrefixes = Set.copyOf(binaryTicketPrefixes);
+        this.compressionThreshold = compressionThreshold;
+    }
+
+    /**
+     * Whether the content is a binary payload.
+     *
+     * @param ticketContent the ticket content
+     * @return true/false
+     */
+    public static boolean isBinaryPayload(final String ticketContent) {
+        return StringUtils.startsWith(ticketContent, BINARY_PAYLOAD_PREFIX);
+    }
+
+    @Override
+    public String serializeTicket(final Ticket ticket) {
+        if (binaryTicketPrefixes.contains(ticket.getPrefix())
+            && ticketSerializationExecutionPlan.getTicketSerializer(ticket) instanceof final AbstractJacksonBackedStringSerializer serializer) {
+            return FunctionUtils.doUnchecked(() -> {
+                val payload = BinaryTicketCodec.encode(serializer.getObjectMapper(), ticket, compressionThreshold);
+                return BINARY_PAYLOAD_PREFIX + EncodingUtils.encodeBase64(payload);
+            });
+        }
+        return super.serializeTicket(ticket);
+    }
+
+    @Override
+    public <T extends Ticket> T deserializeTicket(final String ticketContent, final Class<T> clazz) {
+        if (!isBinaryPayload(ticketContent)) {
+            return super.deserializeTicket(ticketContent, clazz);
+        }
+        val serializer = Objects.requireNonNull(ticketSerializationExecutionPlan.getTicketSerializer(clazz),
+            () -> "Unable to find ticket deserializer for " + clazz.getSimpleName());
+        if (!(serializer instanceof final AbstractJacksonBackedStringSerializer jacksonSerializer)) {
+            throw new IllegalArgumentException("Unable to decode binary ticket payload for " + clazz.getSimpleName());
+        }
+        LOGGER.trace("Decoding binary ticket content for [{}]", clazz.getSimpleName());
+        val payload = EncodingUtils.decodeBase64(ticketContent.substring(BINARY_PAYLOAD_PREFIX.length()));
+        val ticket = FunctionUtils.doUnchecked(() -> (Ticket) BinaryTicketCodec.decode(
+            jacksonSerializer.getObjectMapper(), payload, jacksonSerializer.getTypeToSerialize()));
+        return verifyTicketType(ticket, clazz);
+    }
+}
@@ -21,7 +21,7 @@ import java.util.Objects;
 @RequiredArgsConstructor
 @Slf4j
 public class DefaultTicketStringSerializationManager implements TicketSerializationManager {
-    private final TicketSerializationExecutionPlan ticketSerializationExecutionPlan;
+    protected final TicketSerializationExecutionPlan ticketSerializationExecutionPlan;
 
     @Override
     public String serializeTicket(final Ticket ticket) {
@@ -55,7 +55,10 @@ public class DefaultTicketStringSerializationManager implements TicketSerializat
         val serializer = Objects.requireNonNull(ticketSerializationExecutionPlan.getTicketSerializer(clazz),
             () -> "Unable to find ticket deserializer for " + clazz.getSimpleName());
         LOGGER.trace("Unmarshalling ticket content from [{}]", ticketContent);
-        val ticket = serializer.from(ticketContent);
+        return verifyTicketType(serializer.from(ticketContent), clazz);
+    }
+
+    protected <T extends Ticket> T verifyTicketType(final Ticket ticket, final Class<T> clazz) {
         if (ticket == null) {
             throw new InvalidTicketException(clazz.getName());
         }
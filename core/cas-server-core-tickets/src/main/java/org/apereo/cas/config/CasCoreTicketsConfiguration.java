@@ -5,6 +5,8 @@ import org.apereo.cas.authentication.PseudoPlatformTransactionManager;
 import org.apereo.cas.authentication.policy.UniquePrincipalAuthenticationPolicy;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryCleanerProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.services.ServicesManager;
 import org.apereo.cas.ticket.DefaultServiceTicketSessionTrackingPolicy;
@@ -38,6 +40,9 @@ import org.apereo.cas.ticket.registry.CachingTicketRegistry;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistry;
 import org.apereo.cas.ticket.registry.DefaultTicketRegistrySupport;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryExpirationIndex;
+import org.apereo.cas.ticket.registry.TicketRegistryMigrator;
+import org.apereo.cas.ticket.registry.TicketRegistrySessionIndex;
 import org.apereo.cas.ticket.registry.TicketRegistrySupport;
 import org.apereo.cas.ticket.registry.pubsub.DefaultQueueableTicketRegistryMessageReceiver;
 import org.apereo.cas.ticket.registry.pubsub.QueueableTicketRegistry;
@@ -111,6 +116,15 @@ public class CasCoreTicketsConfiguration {
             return new DefaultServiceTicketSessionTrackingPolicy(casProperties, ticketRegistry);
         }
 
+        @ConditionalOnMissingBean(name = TicketRegistryMigrator.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public TicketRegistryMigrator ticketRegistryMigrator(
+            @Qualifier(TicketRegistry.BEAN_NAME)
+            final TicketRegistry ticketRegistry) {
+            return new TicketRegistryMigrator(ticketRegistry, TicketRegistryMigrator.DEFAULT_CHUNK_SIZE);
+        }
+
         @ConditionalOnMissingBean(name = TicketRegistrySupport.BEAN_NAME)
         @Bean
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
@@ -166,12 +180,21 @@ public class CasCoreTicketsConfiguration {
                         + "Tickets that are issued during runtime will be LOST when the web server is restarted. This MAY impact SSO functionality.");
             val mem = casProperties.getTicket().getRegistry().getInMemory();
             if (mem.isCache()) {
-                return new CachingTicketRegistry(defaultTicketRegistryCipherExecutor, ticketSerializationManager, ticketCatalog,
+                val registry = new CachingTicketRegistry(defaultTicketRegistryCipherExecutor, ticketSerializationManager, ticketCatalog,
                     logoutManager, messageQueueTicketRegistryPublisher, messageQueueTicketRegistryIdentifier);
+                registry.setSessionIndex(new TicketRegistrySessionIndex(mem.isIndexAttributes()));
+                return registry;
             }
             val storageMap = new ConcurrentHashMap<String, Ticket>(mem.getInitialCapacity(), mem.getLoadFactor(), mem.getConcurrency());
-            return new DefaultTicketRegistry(defaultTicketRegistryCipherExecutor, ticketSerializationManager, ticketCatalog,
+            val registry = new DefaultTicketRegistry(defaultTicketRegistryCipherExecutor, ticketSerializationManager, ticketCatalog,
                 storageMap, messageQueueTicketRegistryPublisher, messageQueueTicketRegistryIdentifier);
+            registry.setSessionIndex(new TicketRegistrySessionIndex(mem.isIndexAttributes()));
+            val cleaner = casProperties.getTicket().getRegistry().getCleaner();
+            if (cleaner.getMode() == TicketRegistryCleanerProperties.CleanerModes.EXPIRATION_INDEX) {
+                val bucketWidth = Beans.newDuration(cleaner.getExpirationIndexBucketWidth());
+                registry.setExpirationIndex(new TicketRegistryExpirationIndex(bucketWidth));
+            }
+            return registry;
         }
 
         @Bean
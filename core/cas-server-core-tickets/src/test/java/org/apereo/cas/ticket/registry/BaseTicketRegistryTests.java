@@ -366,6 +366,66 @@ public abstract class BaseTicketRegistryTests {
         assertEquals(Collections.singleton("ST-1"), services.keySet());
     }
 
+    @RepeatedTest(2)
+    public void verifyUpdateTicketWithMutations() throws Exception {
+        val tgt = new TicketGrantingTicketImpl(
+            ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(),
+            NeverExpiresExpirationPolicy.INSTANCE);
+        ticketRegistry.addTicket(tgt);
+        await().untilAsserted(() -> assertNotNull(ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class)));
+
+        val found = ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class);
+        val snapshot = TicketGrantingTicketStateSnapshot.of(found);
+        found.grantServiceTicket("ST-1", RegisteredServiceTestUtils.getService("TGT_MUTATION_TEST"),
+            NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+        val mutations = snapshot.getMutations(found);
+        assertEquals(2, mutations.size());
+        ticketRegistry.updateTicket(found, mutations);
+
+        val tgtResult = ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class);
+        assertTrue(tgtResult instanceof AuthenticatedServicesAwareTicketGrantingTicket);
+        val services = ((AuthenticatedServicesAwareTicketGrantingTicket) tgtResult).getServices();
+        assertEquals(Collections.singleton("ST-1"), services.keySet());
+        assertEquals(found.getCountOfUses(), tgtResult.getCountOfUses());
+    }
+
+    @RepeatedTest(2)
+    public void verifyWriteBatch() throws Exception {
+        val tgt = new TicketGrantingTicketImpl(
+            ticketGrantingTicketId,
+            CoreAuthenticationTestUtils.getAuthentication(),
+            NeverExpiresExpirationPolicy.INSTANCE);
+        ticketRegistry.addTicket(tgt);
+        await().untilAsserted(() -> assertNotNull(ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class)));
+
+        val serviceTicket = tgt.grantServiceTicket(serviceTicketId, RegisteredServiceTestUtils.getService("TGT_BATCH_TEST"),
+            NeverExpiresExpirationPolicy.INSTANCE, false, serviceTicketSessionTrackingPolicy);
+        ticketRegistry.write(batch -> batch.add(serviceTicket).update(tgt));
+
+        assertNotNull(ticketRegistry.getTicket(serviceTicketId, ServiceTicket.class));
+        val tgtResult = ticketRegistry.getTicket(tgt.getId(), TicketGrantingTicket.class);
+        val services = ((AuthenticatedServicesAwareTicketGrantingTicket) tgtResult).getServices();
+        assertEquals(Collections.singleton(serviceTicketId), services.keySet());
+    }
+
+    @RepeatedTest(2)
+    public void verifyCopyTickets() throws Exception {
+        val count = 5;
+        val source = new DefaultTicketRegistry(ticketSerializationManager, ticketCatalog);
+        for (var i = 0; i < count; i++) {
+            source.addTicket(new TicketGrantingTicketImpl(ticketGrantingTicketId + i,
+                CoreAuthenticationTestUtils.getAuthentication(),
+                NeverExpiresExpirationPolicy.INSTANCE));
+        }
+        val copier = new TicketRegistryCopier(source, ticketRegistry, 2);
+        assertEquals(count, copier.copy());
+        for (var i = 0; i < count; i++) {
+            val ticketId = ticketGrantingTicketId + i;
+            await().untilAsserted(() -> assertNotNull(ticketRegistry.getTicket(ticketId, TicketGrantingTicket.class)));
+        }
+    }
+
     @RepeatedTest(2)
     public void verifyDeleteAllExistingTickets() throws Exception {
         assumeTrue(isIterableRegistry());
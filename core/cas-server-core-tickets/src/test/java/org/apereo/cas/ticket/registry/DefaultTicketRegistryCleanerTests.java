@@ -12,6 +12,9 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
 
+import java.time.Clock;
+import java.time.Duration;
+
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -37,6 +40,33 @@ class DefaultTicketRegistryCleanerTests {
         tgt.markTicketExpired();
         cleaner.clean();
         assertEquals(0, ticketRegistry.sessionCount());
+        assertEquals(1, cleaner.getStatistics().getSweepCount());
+        assertEquals(1, cleaner.getStatistics().getLastTicketsExamined());
+        assertEquals(1, cleaner.getStatistics().getLastTicketsRemoved());
+    }
+
+    @Test
+    void verifyExpirationIndex() throws Exception {
+        val logoutManager = mock(LogoutManager.class);
+        val ticketRegistry = new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog());
+        ticketRegistry.setExpirationIndex(new TicketRegistryExpirationIndex(Duration.ofSeconds(1)));
+
+        val expiredTgt = new MockTicketGrantingTicket("casuser");
+        expiredTgt.setExpirationPolicy(new HardTimeoutExpirationPolicy(1));
+        ticketRegistry.addTicket(expiredTgt);
+
+        val validTgt = new MockTicketGrantingTicket("casuser");
+        validTgt.setExpirationPolicy(new HardTimeoutExpirationPolicy(3600));
+        ticketRegistry.addTicket(validTgt);
+        assertEquals(2, ticketRegistry.getExpirationIndex().size());
+
+        val clock = Clock.offset(Clock.systemUTC(), Duration.ofMinutes(1));
+        val cleaner = new ExpirationIndexTicketRegistryCleaner(LockRepository.noOp(), logoutManager, ticketRegistry, clock);
+        expiredTgt.markTicketExpired();
+        assertEquals(1, cleaner.clean());
+        assertEquals(1, ticketRegistry.sessionCount());
+        assertEquals(1, cleaner.getStatistics().getLastTicketsExamined());
+        assertEquals(1, ticketRegistry.getExpirationIndex().size());
     }
 
 
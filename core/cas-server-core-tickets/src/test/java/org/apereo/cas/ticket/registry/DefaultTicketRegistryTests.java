@@ -12,6 +12,7 @@ import lombok.val;
 import org.junit.jupiter.api.RepeatedTest;
 import org.junit.jupiter.api.Tag;
 
+import java.util.Locale;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -29,7 +30,9 @@ class DefaultTicketRegistryTests extends BaseTicketRegistryTests {
 
     @Override
     public TicketRegistry getNewTicketRegistry() {
-        return new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog());
+        val registry = new DefaultTicketRegistry(mock(TicketSerializationManager.class), new DefaultTicketCatalog());
+        registry.setSessionIndex(new TicketRegistrySessionIndex(true));
+        return registry;
     }
 
     @RepeatedTest(1)
@@ -53,6 +56,9 @@ class DefaultTicketRegistryTests extends BaseTicketRegistryTests {
 
         val count = registry.countSessionsFor(user);
         assertEquals(1, count);
+        assertEquals(1, registry.countSessionsFor(user.toUpperCase(Locale.ENGLISH)));
+        registry.deleteTicket(tgt);
+        assertEquals(0, registry.countSessionsFor(user));
     }
 
 
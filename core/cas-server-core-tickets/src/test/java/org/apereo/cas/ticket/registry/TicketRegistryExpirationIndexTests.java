@@ -0,0 +1,87 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.mock.MockTicketGrantingTicket;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.expiration.HardTimeoutExpirationPolicy;
+import org.apereo.cas.ticket.expiration.RememberMeDelegatingExpirationPolicy;
+import org.apereo.cas.ticket.expiration.TimeoutExpirationPolicy;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link TicketRegistryExpirationIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Tickets")
+class TicketRegistryExpirationIndexTests {
+
+    @Test
+    void verifyIndexAndPoll() {
+        val index = new TicketRegistryExpirationIndex(Duration.ofSeconds(1));
+        val tgt = new MockTicketGrantingTicket("casuser");
+        tgt.setExpirationPolicy(new HardTimeoutExpirationPolicy(10));
+        index.index(tgt);
+        assertEquals(1, index.size());
+        assertTrue(index.poll(ZonedDateTime.now(ZoneOffset.UTC)).isEmpty());
+        val results = index.poll(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30));
+        assertTrue(results.contains(tgt.getId()));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void verifyReindexMovesBucket() {
+        val index = new TicketRegistryExpirationIndex(Duration.ofSeconds(1));
+        val tgt = new MockTicketGrantingTicket("casuser");
+        tgt.setExpirationPolicy(new HardTimeoutExpirationPolicy(10));
+        index.index(tgt);
+        tgt.setExpirationPolicy(new HardTimeoutExpirationPolicy(3600));
+        index.index(tgt);
+        assertEquals(1, index.size());
+        assertTrue(index.poll(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(30)).isEmpty());
+        assertEquals(1, index.poll(ZonedDateTime.now(ZoneOffset.UTC).plusHours(2)).size());
+    }
+
+    @Test
+    void verifyRemove() {
+        val index = new TicketRegistryExpirationIndex(Duration.ofSeconds(10));
+        val tgt = new MockTicketGrantingTicket("casuser");
+        index.index(tgt);
+        index.remove(tgt.getId());
+        assertEquals(0, index.size());
+        assertTrue(index.poll(ZonedDateTime.now(ZoneOffset.UTC).plusYears(1)).isEmpty());
+    }
+
+    @Test
+    void verifyUnknownExpiration() {
+        val index = new TicketRegistryExpirationIndex(Duration.ofSeconds(10));
+        val ticket = mock(Ticket.class);
+        when(ticket.getId()).thenReturn("ST-1234567890");
+        index.index(ticket);
+        assertEquals(1, index.size());
+        assertTrue(TicketRegistryExpirationIndex.determineExpirationTime(ticket).isEmpty());
+        assertTrue(index.poll(ZonedDateTime.now(ZoneOffset.UTC).minusYears(1)).contains(ticket.getId()));
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void verifyDelegatingExpiration() {
+        val tgt = new MockTicketGrantingTicket("casuser");
+        val policy = new RememberMeDelegatingExpirationPolicy();
+        policy.addPolicy(RememberMeDelegatingExpirationPolicy.POLICY_NAME_DEFAULT, new TimeoutExpirationPolicy(30));
+        policy.addPolicy(RememberMeDelegatingExpirationPolicy.POLICY_NAME_REMEMBER_ME, new HardTimeoutExpirationPolicy(3600));
+        tgt.setExpirationPolicy(policy);
+        val expirationTime = TicketRegistryExpirationIndex.determineExpirationTime(tgt).orElseThrow();
+        assertTrue(expirationTime.isBefore(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(60)));
+    }
+}
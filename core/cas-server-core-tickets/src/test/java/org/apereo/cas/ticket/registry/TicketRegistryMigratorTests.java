@@ -0,0 +1,58 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link TicketRegistryMigratorTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@SpringBootTest(classes = BaseTicketRegistryTests.SharedTestConfiguration.class,
+    properties = "cas.ticket.registry.cleaner.schedule.enabled=false")
+@Tag("Tickets")
+class TicketRegistryMigratorTests {
+    @Autowired
+    @Qualifier(TicketRegistryMigrator.BEAN_NAME)
+    private TicketRegistryMigrator ticketRegistryMigrator;
+
+    @Autowired
+    @Qualifier(TicketRegistry.BEAN_NAME)
+    private TicketRegistry ticketRegistry;
+
+    @Autowired
+    @Qualifier(TicketSerializationManager.BEAN_NAME)
+    private TicketSerializationManager ticketSerializationManager;
+
+    @Autowired
+    @Qualifier(TicketCatalog.BEAN_NAME)
+    private TicketCatalog ticketCatalog;
+
+    @Test
+    void verifyMigration() throws Exception {
+        ticketRegistry.deleteAll();
+        val source = new DefaultTicketRegistry(ticketSerializationManager, ticketCatalog);
+        for (var i = 0; i < 3; i++) {
+            source.addTicket(new TicketGrantingTicketImpl(TicketGrantingTicket.PREFIX + '-' + UUID.randomUUID(),
+                CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE));
+        }
+        assertEquals(3, ticketRegistryMigrator.migrate(source));
+        assertEquals(3, ticketRegistry.sessionCount());
+    }
+}
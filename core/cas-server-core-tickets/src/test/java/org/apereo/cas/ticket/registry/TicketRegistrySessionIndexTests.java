@@ -0,0 +1,48 @@
+package org.apereo.cas.ticket.registry;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link TicketRegistrySessionIndexTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Tickets")
+class TicketRegistrySessionIndexTests {
+
+    @Test
+    void verifyPrincipalIndex() {
+        val index = new TicketRegistrySessionIndex(false);
+        index.index("TGT-1", "casuser", Map.of("cn", Set.of("cas")));
+        index.index("TGT-2", "casuser", Map.of());
+        assertEquals(Set.of("TGT-1", "TGT-2"), index.findByPrincipal("casuser"));
+        assertTrue(index.findByAttribute("cn", Set.of("cas")).isEmpty());
+        index.remove("TGT-1");
+        assertEquals(Set.of("TGT-2"), index.findByPrincipal("casuser"));
+        index.clear();
+        assertEquals(0, index.size());
+        assertTrue(index.findByPrincipal(null).isEmpty());
+    }
+
+    @Test
+    void verifyAttributeIndex() {
+        val index = new TicketRegistrySessionIndex(true);
+        index.index("TGT-1", "casuser", Map.of("cn", Set.of("cas", "user")));
+        index.index("TGT-2", "other", Map.of("cn", Set.of("user")));
+        assertEquals(Set.of("TGT-1", "TGT-2"), index.findByAttribute("cn", Set.of("user")));
+        assertEquals(Set.of("TGT-1"), index.findByAttribute("cn", Set.of("cas", "unknown")));
+
+        index.index("TGT-1", "casuser", Map.of("cn", Set.of("updated")));
+        assertTrue(index.findByAttribute("cn", Set.of("cas")).isEmpty());
+        assertEquals(Set.of("TGT-1"), index.findByAttribute("cn", Set.of("updated")));
+        assertEquals(2, index.size());
+    }
+}
@@ -0,0 +1,115 @@
+package org.apereo.cas.ticket.serialization;
+
+import org.apereo.cas.config.CasCoreHttpConfiguration;
+import org.apereo.cas.config.CasCoreNotificationsConfiguration;
+import org.apereo.cas.config.CasCoreServicesConfiguration;
+import org.apereo.cas.config.CasCoreTicketCatalogConfiguration;
+import org.apereo.cas.config.CasCoreTicketIdGeneratorsConfiguration;
+import org.apereo.cas.config.CasCoreTicketsConfiguration;
+import org.apereo.cas.config.CasCoreTicketsSerializationConfiguration;
+import org.apereo.cas.config.CasCoreUtilConfiguration;
+import org.apereo.cas.config.CasCoreWebConfiguration;
+import org.apereo.cas.config.CasWebApplicationServiceFactoryConfiguration;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.TicketFactory;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketFactory;
+import org.apereo.cas.util.serialization.AbstractJacksonBackedStringSerializer;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link BinaryTicketSerializationManagerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@SpringBootTest(classes = {
+    RefreshAutoConfiguration.class,
+    CasCoreHttpConfiguration.class,
+    CasCoreTicketsConfiguration.class,
+    CasCoreServicesConfiguration.class,
+    CasCoreTicketCatalogConfiguration.class,
+    CasCoreTicketsSerializationConfiguration.class,
+    CasCoreTicketIdGeneratorsConfiguration.class,
+    CasCoreNotificationsConfiguration.class,
+    CasCoreUtilConfiguration.class,
+    CasCoreWebConfiguration.class,
+    CasWebApplicationServiceFactoryConfiguration.class
+}, properties = {
+    "cas.ticket.registry.core.binary-serialization-ticket-types=TGT",
+    "cas.ticket.registry.core.binary-serialization-compression-threshold=256"
+})
+@Tag("Tickets")
+class BinaryTicketSerializationManagerTests {
+    @Autowired
+    @Qualifier(TicketSerializationManager.BEAN_NAME)
+    private TicketSerializationManager ticketSerializationManager;
+
+    @Autowired
+    @Qualifier("ticketSerializationExecutionPlan")
+    private TicketSerializationExecutionPlan ticketSerializationExecutionPlan;
+
+    @Autowired
+    @Qualifier(TicketFactory.BEAN_NAME)
+    private TicketFactory defaultTicketFactory;
+
+    @Test
+    void verifyOperation() {
+        assertTrue(ticketSerializationManager instanceof BinaryTicketSerializationManager);
+        val ticket = createTicketGrantingTicket();
+        val result = ticketSerializationManager.serializeTicket(ticket);
+        assertTrue(BinaryTicketSerializationManager.isBinaryPayload(result));
+
+        val json = new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan).serializeTicket(ticket);
+        assertTrue(result.length() < json.length());
+
+        val deserializedTicket = ticketSerializationManager.deserializeTicket(result, TicketGrantingTicket.class);
+        assertEquals(ticket, deserializedTicket);
+        assertEquals(ticket.getAuthentication().getPrincipal(), deserializedTicket.getAuthentication().getPrincipal());
+        assertEquals(ticket, ticketSerializationManager.deserializeTicket(result, ticket.getClass().getName()));
+    }
+
+    @Test
+    void verifyJsonRemainsReadable() {
+        val ticket = createTicketGrantingTicket();
+        val json = new DefaultTicketStringSerializationManager(ticketSerializationExecutionPlan).serializeTicket(ticket);
+        assertFalse(BinaryTicketSerializationManager.isBinaryPayload(json));
+        assertEquals(ticket, ticketSerializationManager.deserializeTicket(json, TicketGrantingTicket.class));
+    }
+
+    @Test
+    void verifyTicketTypesNotSelected() {
+        val manager = new BinaryTicketSerializationManager(ticketSerializationExecutionPlan, Set.of("ST"), 0);
+        val result = manager.serializeTicket(createTicketGrantingTicket());
+        assertFalse(BinaryTicketSerializationManager.isBinaryPayload(result));
+    }
+
+    @Test
+    void verifyCodecWithoutCompression() throws Exception {
+        val ticket = createTicketGrantingTicket();
+        val serializer = (AbstractJacksonBackedStringSerializer) ticketSerializationExecutionPlan.getTicketSerializer(ticket);
+        val payload = BinaryTicketCodec.encode(serializer.getObjectMapper(), ticket, 0);
+        assertEquals(BinaryTicketCodec.FORMAT_VERSION, payload[0]);
+        assertEquals(0, payload[1]);
+        assertEquals(ticket, BinaryTicketCodec.decode(serializer.getObjectMapper(), payload, serializer.getTypeToSerialize()));
+        payload[0] = 0;
+        assertThrows(Exception.class, () -> BinaryTicketCodec.decode(serializer.getObjectMapper(), payload, serializer.getTypeToSerialize()));
+    }
+
+    private TicketGrantingTicket createTicketGrantingTicket() {
+        val factory = (TicketGrantingTicketFactory) defaultTicketFactory.get(TicketGrantingTicket.class);
+        return factory.create(RegisteredServiceTestUtils.getAuthentication(),
+            RegisteredServiceTestUtils.getService(), TicketGrantingTicket.class);
+    }
+}
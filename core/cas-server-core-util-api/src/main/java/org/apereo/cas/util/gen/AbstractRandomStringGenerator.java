@@ -24,8 +24,10 @@ import java.security.SecureRandom;
 public abstract class AbstractRandomStringGenerator implements RandomStringGenerator {
     /**
      * An instance of secure random to ensure randomness is secure.
+     * The instance is chosen based on the strategy defined
+     * via {@link RandomUtils#SYSTEM_PROPERTY_SECURE_RANDOM_STRATEGY}.
      */
-    protected final SecureRandom randomizer = RandomUtils.getNativeInstance();
+    protected final SecureRandom randomizer = RandomUtils.getInstance();
 
     /**
      * Default string length before encoding.
@@ -49,6 +49,13 @@ public interface ExecutableCompiledGroovyScript extends AutoCloseable {
      */
     <T> T execute(String methodName, Class<T> clazz, Object... args);
 
+    /**
+     * Gets execution statistics for this script.
+     *
+     * @return the statistics
+     */
+    ScriptExecutionStatistics getStatistics();
+
     /**
      * Sets binding.
      *
@@ -6,14 +6,19 @@ import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
 import java.time.Duration;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
 
 /**
  * This is {@link GroovyScriptResourceCacheManager}.
@@ -27,13 +32,26 @@ public class GroovyScriptResourceCacheManager implements ScriptResourceCacheMana
 
     private final Cache<String, ExecutableCompiledGroovyScript> cache;
 
+    private final boolean compileStatic;
+
+    private final List<CacheListener> listeners = new CopyOnWriteArrayList<>();
+
     public GroovyScriptResourceCacheManager() {
+        this(false);
+    }
+
+    public GroovyScriptResourceCacheManager(final boolean compileStatic) {
+        this.compileStatic = compileStatic;
         this.cache = Caffeine.newBuilder()
             .initialCapacity(100)
             .maximumSize(1000)
             .expireAfterAccess(EXPIRATION_AFTER_ACCESS)
+            .executor(Runnable::run)
             .removalListener((RemovalListener<String, ExecutableCompiledGroovyScript>) (key, value, cause) -> {
                 LOGGER.trace("Removing script [{}] from cache under [{}]; removal cause is [{}]", value, key, cause);
+                if (cause != RemovalCause.REPLACED) {
+                    listeners.forEach(listener -> listener.onScriptRemoved(key, value));
+                }
                 Objects.requireNonNull(value).close();
             })
             .build();
@@ -41,9 +59,7 @@ public class GroovyScriptResourceCacheManager implements ScriptResourceCacheMana
 
     @Override
     public ExecutableCompiledGroovyScript get(final String key) {
-        synchronized (cache) {
-            return this.cache.getIfPresent(key);
-        }
+        return this.cache.getIfPresent(key);
     }
 
     @Override
@@ -55,40 +71,53 @@ public class GroovyScriptResourceCacheManager implements ScriptResourceCacheMana
     @CanIgnoreReturnValue
     public ScriptResourceCacheManager<String, ExecutableCompiledGroovyScript> put(
         final String key, final ExecutableCompiledGroovyScript value) {
-        synchronized (cache) {
-            this.cache.put(key, value);
-            return this;
-        }
+        this.cache.put(key, value);
+        listeners.forEach(listener -> listener.onScriptCached(key, value));
+        return this;
     }
 
     @Override
     @CanIgnoreReturnValue
     public ScriptResourceCacheManager<String, ExecutableCompiledGroovyScript> remove(final String key) {
-        synchronized (cache) {
-            this.cache.invalidate(key);
-            return this;
-        }
+        this.cache.invalidate(key);
+        return this;
     }
 
     @Override
     public Set<String> getKeys() {
-        synchronized (cache) {
-            return this.cache.asMap().keySet();
-        }
+        return this.cache.asMap().keySet();
     }
 
     @Override
     public void close() {
-        synchronized (cache) {
-            cache.invalidateAll();
-        }
+        cache.invalidateAll();
     }
 
     @Override
     public boolean isEmpty() {
-        synchronized (cache) {
-            return cache.asMap().isEmpty();
-        }
+        return cache.asMap().isEmpty();
+    }
+
+    /**
+     * Gets execution statistics for each cached script, keyed by the script cache key.
+     *
+     * @return the statistics
+     */
+    public Map<String, ScriptExecutionStatistics> getStatistics() {
+        return cache.asMap().entrySet()
+            .stream()
+            .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().getStatistics()));
+    }
+
+    /**
+     * Register a listener to be notified as scripts are added to or removed from the cache.
+     * The listener is immediately notified of scripts that are already cached.
+     *
+     * @param listener the listener
+     */
+    public void addListener(final CacheListener listener) {
+        listeners.add(listener);
+        cache.asMap().forEach(listener::onScriptCached);
     }
 
     @Override
@@ -98,33 +127,58 @@ public class GroovyScriptResourceCacheManager implements ScriptResourceCacheMana
 
         val cacheKey = ScriptResourceCacheManager.computeKey(keys);
         LOGGER.trace("Constructed cache key [{}] for keys [{}] mapped as groovy script", cacheKey, keys);
-        var script = (ExecutableCompiledGroovyScript) null;
-        if (containsKey(cacheKey)) {
-            script = get(cacheKey);
-            LOGGER.trace("Located cached groovy script [{}] for key [{}]", script, cacheKey);
-        } else {
-            try {
-                if (ScriptingUtils.isExternalGroovyScript(scriptResource)) {
-                    val scriptPath = SpringExpressionLanguageValueResolver.getInstance().resolve(scriptResource);
-                    val resource = ResourceUtils.getResourceFrom(scriptPath);
-                    script = new WatchableGroovyScriptResource(resource);
-                } else {
-                    var resourceToUse = scriptResource;
-                    if (ScriptingUtils.isInlineGroovyScript(resourceToUse)) {
-                        val matcher = ScriptingUtils.getMatcherForInlineGroovyScript(resourceToUse);
-                        if (matcher.find()) {
-                            resourceToUse = matcher.group(1);
-                        }
-                    }
-                    script = new GroovyShellScript(resourceToUse);
+        val script = cache.get(cacheKey, key -> notifyScriptCached(key, loadScriptableResource(scriptResource, key)));
+        LOGGER.trace("Located groovy script [{}] for key [{}]", script, cacheKey);
+        return script;
+    }
+
+    private ExecutableCompiledGroovyScript loadScriptableResource(final String scriptResource, final String key) {
+        try {
+            LOGGER.trace("Groovy script [{}] for key [{}] is not cached", scriptResource, key);
+            if (ScriptingUtils.isExternalGroovyScript(scriptResource)) {
+                val scriptPath = SpringExpressionLanguageValueResolver.getInstance().resolve(scriptResource);
+                val resource = ResourceUtils.getResourceFrom(scriptPath);
+                return new WatchableGroovyScriptResource(resource);
+            }
+            var resourceToUse = scriptResource;
+            if (ScriptingUtils.isInlineGroovyScript(resourceToUse)) {
+                val matcher = ScriptingUtils.getMatcherForInlineGroovyScript(resourceToUse);
+                if (matcher.find()) {
+                    resourceToUse = matcher.group(1);
                 }
-                LOGGER.trace("Groovy script [{}] for key [{}] is not cached", scriptResource, cacheKey);
-                put(cacheKey, script);
-                LOGGER.trace("Cached groovy script [{}] for key [{}]", script, cacheKey);
-            } catch (final Exception e) {
-                LoggingUtils.error(LOGGER, e);
             }
+            return new GroovyShellScript(resourceToUse, compileStatic);
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        return null;
+    }
+
+    private ExecutableCompiledGroovyScript notifyScriptCached(final String key, final ExecutableCompiledGroovyScript script) {
+        if (script != null) {
+            listeners.forEach(listener -> listener.onScriptCached(key, script));
         }
         return script;
     }
+
+    /**
+     * Listener notified as scripts are added to or removed from the cache.
+     */
+    public interface CacheListener {
+        /**
+         * Invoked once a script is cached under the given key.
+         *
+         * @param key    the key
+         * @param script the script
+         */
+        void onScriptCached(String key, ExecutableCompiledGroovyScript script);
+
+        /**
+         * Invoked once the script cached under the given key is removed or evicted.
+         *
+         * @param key    the key
+         * @param script the script
+         */
+        void onScriptRemoved(String key, ExecutableCompiledGroovyScript script);
+    }
 }
@@ -1,27 +1,47 @@
 package org.apereo.cas.util.scripting;
 
+import org.apereo.cas.util.LoggingUtils;
+
+import groovy.lang.Binding;
 import groovy.lang.Script;
+import lombok.AccessLevel;
 import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.builder.ToStringBuilder;
+import org.codehaus.groovy.runtime.InvokerHelper;
 
+import java.util.HashMap;
 import java.util.Map;
 
 /**
- * This is {@link GroovyShellScript}.
+ * This is {@link GroovyShellScript}. The script is compiled once into a script class,
+ * and a new script instance with its own binding is created for each execution;
+ * variables that are set via {@link #setBinding(Map)} only apply to the next execution
+ * on the same thread. This allows the same script to be executed concurrently without locking.
  *
  * @author Misagh Moayyed
  * @since 6.0.0
  */
+@Slf4j
 @Getter
 public class GroovyShellScript implements ExecutableCompiledGroovyScript {
-    private final Script groovyScript;
+    private final Class<? extends Script> groovyScript;
 
     private final String script;
 
+    private final ScriptExecutionStatistics statistics = new ScriptExecutionStatistics();
+
+    @Getter(AccessLevel.NONE)
+    private final ThreadLocal<Map<String, Object>> bindings = new ThreadLocal<>();
+
     public GroovyShellScript(final String script) {
+        this(script, false);
+    }
+
+    public GroovyShellScript(final String script, final boolean compileStatic) {
         this.script = script;
-        this.groovyScript = ScriptingUtils.parseGroovyShellScript(script);
+        this.groovyScript = ScriptingUtils.parseGroovyShellScriptClass(script, compileStatic);
     }
 
     @Override
@@ -36,8 +56,29 @@ public class GroovyShellScript implements ExecutableCompiledGroovyScript {
 
     @Override
     public <T> T execute(final Object[] args, final Class<T> clazz, final boolean failOnError) {
-        if (this.groovyScript != null) {
-            return ScriptingUtils.executeGroovyShellScript(this.groovyScript, clazz);
+        if (this.groovyScript == null) {
+            bindings.remove();
+            return null;
+        }
+        val startTime = System.nanoTime();
+        var success = false;
+        try {
+            val binding = new Binding();
+            binding.setVariable("logger", LOGGER);
+            val variables = bindings.get();
+            if (variables != null) {
+                variables.forEach(binding::setVariable);
+            }
+            LOGGER.debug("Executing groovy script [{}] with variables [{}]", script, binding.getVariables());
+            val result = InvokerHelper.createScript(this.groovyScript, binding).run();
+            val value = ScriptingUtils.getGroovyScriptExecutionResultOrThrow(clazz, result);
+            success = true;
+            return value;
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        } finally {
+            bindings.remove();
+            statistics.record(System.nanoTime() - startTime, success);
         }
         return null;
     }
@@ -50,8 +91,12 @@ public class GroovyShellScript implements ExecutableCompiledGroovyScript {
     @Override
     public void setBinding(final Map<String, Object> variables) {
         if (variables != null && !variables.isEmpty()) {
-            val binding = this.groovyScript.getBinding();
-            variables.forEach(binding::setVariable);
+            val current = bindings.get();
+            if (current == null) {
+                bindings.set(new HashMap<>(variables));
+            } else {
+                current.putAll(variables);
+            }
         }
     }
 
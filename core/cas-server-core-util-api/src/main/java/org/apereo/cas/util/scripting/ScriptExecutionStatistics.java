@@ -0,0 +1,73 @@
+package org.apereo.cas.util.scripting;
+
+import lombok.ToString;
+import lombok.val;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * This is {@link ScriptExecutionStatistics} that keeps track
+ * of how many times a script is executed and how long executions take.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@ToString
+public class ScriptExecutionStatistics {
+    private final LongAdder executionCount = new LongAdder();
+
+    private final LongAdder failureCount = new LongAdder();
+
+    private final LongAdder totalExecutionTime = new LongAdder();
+
+    private final AtomicLong maxExecutionTime = new AtomicLong();
+
+    private final AtomicLong lastExecutionTime = new AtomicLong();
+
+    /**
+     * Record the results of a script execution.
+     *
+     * @param duration the duration in nanoseconds
+     * @param success  whether execution succeeded
+     */
+    public void record(final long duration, final boolean success) {
+        executionCount.increment();
+        if (!success) {
+            failureCount.increment();
+        }
+        totalExecutionTime.add(duration);
+        lastExecutionTime.set(duration);
+        maxExecutionTime.accumulateAndGet(duration, Math::max);
+    }
+
+    public long getExecutionCount() {
+        return executionCount.sum();
+    }
+
+    public long getFailureCount() {
+        return failureCount.sum();
+    }
+
+    public long getTotalExecutionTime() {
+        return totalExecutionTime.sum();
+    }
+
+    public long getMaxExecutionTime() {
+        return maxExecutionTime.get();
+    }
+
+    public long getLastExecutionTime() {
+        return lastExecutionTime.get();
+    }
+
+    /**
+     * Gets average execution time in nanoseconds.
+     *
+     * @return the average execution time
+     */
+    public long getAverageExecutionTime() {
+        val count = getExecutionCount();
+        return count == 0 ? 0 : getTotalExecutionTime() / count;
+    }
+}
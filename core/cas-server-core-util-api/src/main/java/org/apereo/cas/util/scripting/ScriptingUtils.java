@@ -3,11 +3,13 @@ package org.apereo.cas.util.scripting;
 import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.ResourceUtils;
+import org.apereo.cas.util.spring.ApplicationContextProvider;
 
 import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyObject;
 import groovy.lang.GroovyShell;
 import groovy.lang.Script;
+import groovy.transform.CompileStatic;
 import lombok.SneakyThrows;
 import lombok.experimental.UtilityClass;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +18,7 @@ import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.ArrayUtils;
 import org.apache.commons.lang3.StringUtils;
 import org.codehaus.groovy.control.CompilerConfiguration;
+import org.codehaus.groovy.control.customizers.ASTTransformationCustomizer;
 import org.codehaus.groovy.runtime.InvokerInvocationException;
 import org.springframework.core.io.Resource;
 
@@ -286,6 +289,46 @@ public class ScriptingUtils {
         return null;
     }
 
+    /**
+     * Parse and compile the groovy shell script into a script class,
+     * from which script instances may be created for each execution.
+     *
+     * @param script        the script
+     * @param compileStatic whether the script should be statically compiled
+     * @return the script class
+     */
+    public static Class<? extends Script> parseGroovyShellScriptClass(final String script, final boolean compileStatic) {
+        try {
+            val configuration = new CompilerConfiguration();
+            if (compileStatic) {
+                configuration.addCompilationCustomizers(new ASTTransformationCustomizer(CompileStatic.class));
+            }
+            val shell = new GroovyShell(ScriptingUtils.class.getClassLoader(), configuration);
+            LOGGER.debug("Compiling groovy script [{}]", script);
+            return shell.parse(script).getClass();
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+        }
+        return null;
+    }
+
+    /**
+     * Resolve an inline groovy script through the script resource cache manager,
+     * keyed by the script text, so the script is compiled once and shared across executions.
+     * If no cache manager is available, the script is compiled as is.
+     *
+     * @param script the inline script, i.e. {@code groovy { ... }}
+     * @return the executable script
+     */
+    public static ExecutableCompiledGroovyScript resolveInlineGroovyScript(final String script) {
+        return ApplicationContextProvider.getScriptResourceCacheManager()
+            .map(cacheMgr -> cacheMgr.resolveScriptableResource(script, script))
+            .orElseGet(() -> {
+                val matcher = getMatcherForInlineGroovyScript(script);
+                return new GroovyShellScript(matcher.find() ? matcher.group(1) : script);
+            });
+    }
+
     /**
      * Parse groovy script groovy object.
      *
@@ -349,7 +392,7 @@ public class ScriptingUtils {
         return null;
     }
 
-    private static <T> T getGroovyScriptExecutionResultOrThrow(final Class<T> clazz, final Object result) {
+    static <T> T getGroovyScriptExecutionResultOrThrow(final Class<T> clazz, final Object result) {
         if (result != null && !clazz.isAssignableFrom(result.getClass())) {
             throw new ClassCastException("Result [" + result + " is of type " + result.getClass() + " when we were expecting " + clazz);
         }
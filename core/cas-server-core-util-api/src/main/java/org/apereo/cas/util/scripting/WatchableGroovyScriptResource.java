@@ -8,10 +8,12 @@ import groovy.lang.GroovyObject;
 import lombok.Getter;
 import lombok.ToString;
 import lombok.extern.slf4j.Slf4j;
+import lombok.val;
 import org.jooq.lambda.Unchecked;
 import org.springframework.core.io.Resource;
 
 import java.util.Optional;
+import java.util.function.Supplier;
 
 /**
  * This is {@link WatchableGroovyScriptResource}.
@@ -29,6 +31,8 @@ public class WatchableGroovyScriptResource implements ExecutableCompiledGroovySc
 
     private transient GroovyObject groovyScript;
 
+    private final transient ScriptExecutionStatistics statistics = new ScriptExecutionStatistics();
+
     public WatchableGroovyScriptResource(final Resource script, final boolean enableWatcher) {
         this.resource = script;
         if (ResourceUtils.doesResourceExist(script)) {
@@ -66,7 +70,9 @@ public class WatchableGroovyScriptResource implements ExecutableCompiledGroovySc
 
     @Override
     public <T> T execute(final Object[] args, final Class<T> clazz, final boolean failOnError) {
-        return Optional.ofNullable(this.groovyScript).map(script -> ScriptingUtils.executeGroovyScript(script, args, clazz, failOnError)).orElse(null);
+        return Optional.ofNullable(this.groovyScript)
+            .map(script -> recordExecution(() -> ScriptingUtils.executeGroovyScript(script, args, clazz, failOnError)))
+            .orElse(null);
     }
 
     @Override
@@ -85,7 +91,9 @@ public class WatchableGroovyScriptResource implements ExecutableCompiledGroovySc
      * @return the t
      */
     public <T> T execute(final String methodName, final Class<T> clazz, final boolean failOnError, final Object... args) {
-        return Optional.ofNullable(groovyScript).map(script -> ScriptingUtils.executeGroovyScript(script, methodName, args, clazz, failOnError)).orElse(null);
+        return Optional.ofNullable(groovyScript)
+            .map(script -> recordExecution(() -> ScriptingUtils.executeGroovyScript(script, methodName, args, clazz, failOnError)))
+            .orElse(null);
     }
 
 
@@ -98,6 +106,18 @@ public class WatchableGroovyScriptResource implements ExecutableCompiledGroovySc
     }
 
 
+    private <T> T recordExecution(final Supplier<T> execution) {
+        val startTime = System.nanoTime();
+        var success = false;
+        try {
+            val result = execution.get();
+            success = true;
+            return result;
+        } finally {
+            statistics.record(System.nanoTime() - startTime, success);
+        }
+    }
+
     private void compileScriptResource(final Resource script) {
         this.groovyScript = ScriptingUtils.parseGroovyScript(script, true);
     }
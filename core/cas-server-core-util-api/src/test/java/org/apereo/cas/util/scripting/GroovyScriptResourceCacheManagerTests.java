@@ -1,13 +1,17 @@
 package org.apereo.cas.util.scripting;
 
+import org.apereo.cas.util.spring.ApplicationContextProvider;
+
 import lombok.val;
 import org.apache.commons.io.FileUtils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.springframework.context.support.StaticApplicationContext;
 import org.springframework.core.io.FileSystemResource;
 
 import java.io.File;
 import java.nio.charset.StandardCharsets;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -47,4 +51,21 @@ class GroovyScriptResourceCacheManagerTests {
         }
     }
 
+    @Test
+    void verifyInlineScriptIsCompiledOnce() {
+        val applicationContext = new StaticApplicationContext();
+        applicationContext.refresh();
+        try (val cache = new GroovyScriptResourceCacheManager()) {
+            ApplicationContextProvider.registerBeanIntoApplicationContext(applicationContext, cache, ScriptResourceCacheManager.BEAN_NAME);
+            ApplicationContextProvider.holdApplicationContext(applicationContext);
+
+            val inlineScript = "groovy { return name.toUpperCase() }";
+            val script = ScriptingUtils.resolveInlineGroovyScript(inlineScript);
+            assertSame(script, ScriptingUtils.resolveInlineGroovyScript(inlineScript));
+            assertEquals(1, cache.getKeys().size());
+
+            script.setBinding(Map.of("name", "cas"));
+            assertEquals("CAS", script.execute(new Object[]{}, String.class));
+        }
+    }
 }
@@ -5,6 +5,10 @@ import org.apache.commons.lang3.ArrayUtils;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -34,4 +38,40 @@ class GroovyShellScriptTests {
             shell.execute("run", Void.class, ArrayUtils.EMPTY_OBJECT_ARRAY);
         });
     }
+
+    @Test
+    void verifyConcurrentExecutionWithBindings() throws Exception {
+        val shell = new GroovyShellScript("return name + '-' + index");
+        val executor = Executors.newFixedThreadPool(8);
+        try {
+            val results = IntStream.range(0, 200)
+                .mapToObj(index -> executor.submit(() -> {
+                    shell.setBinding(Map.of("name", "cas", "index", index));
+                    return shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, String.class);
+                }))
+                .toList();
+            for (var i = 0; i < results.size(); i++) {
+                assertEquals("cas-" + i, results.get(i).get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertEquals(200, shell.getStatistics().getExecutionCount());
+        assertEquals(0, shell.getStatistics().getFailureCount());
+    }
+
+    @Test
+    void verifyStaticCompilation() {
+        val shell = new GroovyShellScript("int value = 40; return value + 2", true);
+        assertEquals(42, shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, Integer.class));
+    }
+
+    @Test
+    void verifyBindingClearedOnFailure() {
+        val shell = new GroovyShellScript("if (binding.hasVariable('name')) { throw new IllegalArgumentException(name) }; return 'clear'");
+        shell.setBinding(Map.of("name", "cas"));
+        assertNull(shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, String.class));
+        assertEquals("clear", shell.execute(ArrayUtils.EMPTY_OBJECT_ARRAY, String.class));
+        assertEquals(1, shell.getStatistics().getFailureCount());
+    }
 }
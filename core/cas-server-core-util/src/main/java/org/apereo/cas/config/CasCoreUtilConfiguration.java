@@ -134,8 +134,9 @@ public class CasCoreUtilConfiguration {
         @Bean
         @ConditionalOnMissingBean(name = ScriptResourceCacheManager.BEAN_NAME)
         @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
-        public ScriptResourceCacheManager<String, ExecutableCompiledGroovyScript> scriptResourceCacheManager() {
-            return new GroovyScriptResourceCacheManager();
+        public ScriptResourceCacheManager<String, ExecutableCompiledGroovyScript> scriptResourceCacheManager(
+            final CasConfigurationProperties casProperties) {
+            return new GroovyScriptResourceCacheManager(casProperties.getServer().getScripting().isCompileStatic());
         }
 
         @Bean
@@ -0,0 +1,80 @@
+package org.apereo.cas.util;
+
+import org.apereo.cas.util.gen.HexRandomStringGenerator;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link StripedSecureRandomTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Utility")
+class StripedSecureRandomTests {
+
+    @Test
+    void verifyConcurrentGeneration() throws Exception {
+        val random = new StripedSecureRandom(4, Duration.ofMillis(1));
+        assertEquals(4, random.getStripeCount());
+        assertEquals("DRBG", random.getAlgorithm());
+
+        val values = ConcurrentHashMap.<String>newKeySet();
+        val executor = Executors.newFixedThreadPool(16);
+        try {
+            IntStream.range(0, 16).forEach(i -> executor.submit(() -> generate(random, values)));
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        assertEquals(16 * 500, values.size());
+    }
+
+    @Test
+    void verifyOperation() {
+        val random = new StripedSecureRandom();
+        assertTrue(random.getStripeCount() >= 1);
+        assertDoesNotThrow(() -> {
+            random.setSeed(12345L);
+            random.setSeed(new byte[]{1, 2, 3});
+            random.reseed();
+        });
+        assertEquals(16, random.generateSeed(16).length);
+        val value = random.nextInt(10);
+        assertTrue(value >= 0 && value < 10);
+        assertNotNull(random.toString());
+    }
+
+    @Test
+    void verifyStrategy() {
+        try {
+            System.setProperty(RandomUtils.SYSTEM_PROPERTY_SECURE_RANDOM_STRATEGY, RandomUtils.SECURE_RANDOM_STRATEGY_STRIPED);
+            assertInstanceOf(StripedSecureRandom.class, RandomUtils.getInstance());
+            assertSame(RandomUtils.getInstance(), RandomUtils.getInstance());
+            assertEquals("DRBG", new HexRandomStringGenerator().getAlgorithm());
+            assertNotNull(RandomUtils.randomAlphanumeric(8));
+        } finally {
+            System.clearProperty(RandomUtils.SYSTEM_PROPERTY_SECURE_RANDOM_STRATEGY);
+        }
+        assertFalse(RandomUtils.getInstance() instanceof StripedSecureRandom);
+    }
+
+    private static void generate(final StripedSecureRandom random, final Set<String> values) {
+        for (var i = 0; i < 500; i++) {
+            val bytes = new byte[20];
+            random.nextBytes(bytes);
+            values.add(EncodingUtils.hexEncode(bytes));
+        }
+    }
+}
@@ -0,0 +1,245 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.apache.commons.lang3.ClassUtils;
+import org.cryptacular.bean.CipherBean;
+import org.springframework.aop.framework.Advised;
+import org.springframework.aop.support.AopUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InvalidClassException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+
+/**
+ * Encodes webflow state into a compact binary form, and then encrypts the result
+ * in a single pass via the given {@link CipherBean}.
+ * <p>
+ * Objects are serialized with a stream that only records the name and serial version UID of each
+ * class instead of its full descriptor, since both sides of the exchange are the same CAS deployment and
+ * can resolve the layout of each class locally; state that was written with a different version of a class
+ * is rejected, just as it would be with standard serialization. Any serializable type is still supported
+ * as a fallback, as is the case with {@link EncryptedTranscoder}. The serialized stream is then
+ * compressed via deflate with a preset dictionary of class and attribute names that commonly
+ * appear in CAS webflow state, which is where most of the size of the state comes from.
+ * Since the dictionary already removes most of the redundancy, higher compression levels
+ * mainly cost CPU time for little size gain, and state is compressed with {@link Deflater#BEST_SPEED} by default.
+ * <p>
+ * The encoded output is tagged with a small header. Any state that is not tagged is handed
+ * off to the fallback transcoder, if any, which allows state issued before switching
+ * to this transcoder to remain readable.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class CompactTranscoder implements Transcoder {
+    private static final byte[] HEADER = {(byte) 0xCA, (byte) 0x5C, 0x02};
+
+    private static final int BUFFER_SIZE = 4096;
+
+    private static final byte[] DICTIONARY = String.join(";",
+        "java.lang.Boolean", "java.lang.Integer", "java.lang.Long", "java.lang.Enum",
+        "java.time.ZonedDateTime", "java.time.Ser", "java.util.ArrayList", "java.util.HashSet",
+        "java.util.LinkedHashSet", "java.util.TreeMap", "java.util.Collections$UnmodifiableMap",
+        "java.util.concurrent.ConcurrentHashMap",
+        "org.apereo.cas.authentication.DefaultAuthentication",
+        "org.apereo.cas.authentication.DefaultAuthenticationHandlerExecutionResult",
+        "org.apereo.cas.authentication.principal.SimplePrincipal",
+        "org.apereo.cas.authentication.principal.SimpleWebApplicationServiceImpl",
+        "org.apereo.cas.authentication.principal.WebApplicationService",
+        "org.apereo.cas.authentication.credential.UsernamePasswordCredential",
+        "org.apereo.cas.authentication.credential.RememberMeUsernamePasswordCredential",
+        "org.apereo.cas.authentication.metadata.BasicCredentialMetadata",
+        "org.apereo.cas.services.CasRegisteredService",
+        "org.apereo.cas.web.flow.executor.ClientFlowExecutionRepository$SerializedFlowExecutionState",
+        "org.springframework.webflow.engine.impl.FlowSessionImpl",
+        "org.springframework.webflow.engine.impl.FlowExecutionImpl",
+        "org.springframework.webflow.execution.repository.support.CompositeFlowExecutionKey",
+        "org.springframework.webflow.core.collection.LocalAttributeMap",
+        "org.springframework.webflow.core.collection.CollectionUtils",
+        "org.springframework.binding.message.DefaultMessageContext$1",
+        "org.springframework.binding.message.Message",
+        "org.springframework.binding.message.Severity",
+        "service", "originalService", "registeredService", "credential", "authentication",
+        "authenticationResultBuilder", "authenticationSuccess", "ticketGrantingTicketId",
+        "serviceTicketId", "warnCookieValue", "existingSingleSignOnSessionAvailable",
+        "httpRequestSecure", "httpRequestRemoteAddress", "httpRequestUserAgent", "rememberMe",
+        "principal", "attributes", "successes", "failures", "credentials", "authenticationDate",
+        "casWebflowLogin", "casWebflowLogout", "viewLoginForm", "realSubmit", "initialFlowSetup",
+        "flowScope", "conversationScope", "flashScope", "viewScope", "messagesMemento",
+        "flowExecutionKey", "flowExecutionUrl", "currentEvent", "lastEvent", "username",
+        "password", "source", "id", "java.util.LinkedHashMap", "java.util.HashMap",
+        "java.lang.String", "java.lang.Object", "org.apereo.cas.", "org.springframework.webflow.")
+        .getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Handles encryption/decryption details.
+     */
+    private final CipherBean cipherBean;
+
+    /**
+     * Transcoder used to decode state that was not produced by this transcoder.
+     */
+    private final Transcoder fallbackTranscoder;
+
+    /**
+     * Deflate compression level used to encode state.
+     */
+    private final int compressionLevel;
+
+    public CompactTranscoder(final CipherBean cipherBean) {
+        this(cipherBean, null);
+    }
+
+    public CompactTranscoder(final CipherBean cipherBean, final Transcoder fallbackTranscoder) {
+        this(cipherBean, fallbackTranscoder, Deflater.BEST_SPEED);
+    }
+
+    private static boolean isCompactEncoding(final byte[] encoded) {
+        return encoded != null && encoded.length > HEADER.length
+            && Arrays.equals(encoded, 0, HEADER.length, HEADER, 0, HEADER.length);
+    }
+
+    private static byte[] inflate(final byte[] data) throws DataFormatException {
+        val inflater = new Inflater();
+        try {
+            inflater.setInput(data);
+            val outBuffer = new ByteArrayOutputStream(data.length * 4);
+            val buffer = new byte[BUFFER_SIZE];
+            while (!inflater.finished()) {
+                val count = inflater.inflate(buffer);
+                if (count == 0) {
+                    if (inflater.needsDictionary()) {
+                        inflater.setDictionary(DICTIONARY);
+                    } else if (inflater.needsInput()) {
+                        throw new DataFormatException("Compressed webflow state is truncated");
+                    }
+                }
+                outBuffer.write(buffer, 0, count);
+            }
+            return outBuffer.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static Object unwrapObject(final Object o) {
+        if (AopUtils.isAopProxy(o)) {
+            try {
+                return Advised.class.cast(o).getTargetSource().getTarget();
+            } catch (final Exception e) {
+                LoggingUtils.error(LOGGER, e);
+                return null;
+            }
+        }
+        return o;
+    }
+
+    @Override
+    public byte[] encode(final Object o) throws IOException {
+        if (o == null) {
+            return ArrayUtils.EMPTY_BYTE_ARRAY;
+        }
+        val object = unwrapObject(o);
+        if (object == null) {
+            throw new IOException("Unable to write object " + o + " to the output stream");
+        }
+        val outBuffer = new ByteArrayOutputStream();
+        val deflater = new Deflater(compressionLevel);
+        try {
+            deflater.setDictionary(DICTIONARY);
+            try (val out = new CompactObjectOutputStream(new DeflaterOutputStream(outBuffer, deflater))) {
+                out.writeObject(object);
+            }
+        } finally {
+            deflater.end();
+        }
+        try {
+            return ArrayUtils.addAll(HEADER, cipherBean.encrypt(outBuffer.toByteArray()));
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            throw new IOException("Encryption error", e);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("BanSerializableRead")
+    public Object decode(final byte[] encoded) throws IOException {
+        if (!isCompactEncoding(encoded)) {
+            if (fallbackTranscoder != null) {
+                LOGGER.trace("Webflow state is not compact-encoded; decoding via [{}]", fallbackTranscoder.getClass().getSimpleName());
+                return fallbackTranscoder.decode(encoded);
+            }
+            throw new IOException("Webflow state is not compact-encoded");
+        }
+        final byte[] data;
+        try {
+            data = cipherBean.decrypt(Arrays.copyOfRange(encoded, HEADER.length, encoded.length));
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            throw new IOException("Decryption error", e);
+        }
+        try (val in = new CompactObjectInputStream(new ByteArrayInputStream(inflate(data)))) {
+            return in.readObject();
+        } catch (final Exception e) {
+            LoggingUtils.error(LOGGER, e);
+            throw new IOException("Deserialization error", e);
+        }
+    }
+
+    static final class CompactObjectOutputStream extends ObjectOutputStream {
+        CompactObjectOutputStream(final OutputStream out) throws IOException {
+            super(out);
+        }
+
+        @Override
+        protected void writeStreamHeader() {
+        }
+
+        @Override
+        protected void writeClassDescriptor(final ObjectStreamClass desc) throws IOException {
+            writeUTF(desc.getName());
+            writeLong(desc.getSerialVersionUID());
+        }
+    }
+
+    static final class CompactObjectInputStream extends ObjectInputStream {
+        CompactObjectInputStream(final InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected void readStreamHeader() {
+        }
+
+        @Override
+        protected ObjectStreamClass readClassDescriptor() throws IOException, ClassNotFoundException {
+            val className = readUTF();
+            val serialVersionUID = readLong();
+            val descriptor = ObjectStreamClass.lookupAny(ClassUtils.getClass(className, false));
+            if (descriptor.getSerialVersionUID() != serialVersionUID) {
+                throw new InvalidClassException(className, "Serialized class version " + serialVersionUID
+                    + " does not match local class version " + descriptor.getSerialVersionUID());
+            }
+            return descriptor;
+        }
+    }
+}
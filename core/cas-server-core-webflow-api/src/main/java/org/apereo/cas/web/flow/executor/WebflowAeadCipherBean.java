@@ -0,0 +1,87 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.DigestUtils;
+import org.apereo.cas.util.RandomUtils;
+import org.apereo.cas.util.function.FunctionUtils;
+
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.cryptacular.bean.CipherBean;
+
+import javax.crypto.Cipher;
+import javax.crypto.spec.GCMParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
+import javax.naming.OperationNotSupportedException;
+
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.util.Arrays;
+
+/**
+ * This is {@link WebflowAeadCipherBean} that protects webflow state
+ * with a single pass of {@code AES/GCM}, using a random nonce for every encryption
+ * that is prepended to the cipher text. The authentication tag produced by GCM
+ * protects the integrity of the state, and no separate signature is required.
+ * The encryption key is derived from the given secret key, and is not the
+ * same as the key that is used by the {@link WebflowCipherBean}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public class WebflowAeadCipherBean implements CipherBean {
+    private static final String CIPHER_ALGORITHM = "AES/GCM/NoPadding";
+
+    private static final String KEY_DERIVATION_LABEL = "cas-webflow-state-aead";
+
+    private static final int NONCE_LENGTH = 12;
+
+    private static final int TAG_LENGTH = 128;
+
+    private final SecretKeySpec encryptionKey;
+
+    private final SecureRandom random = RandomUtils.getNativeInstance();
+
+    public WebflowAeadCipherBean(final byte[] secretKey) {
+        val label = KEY_DERIVATION_LABEL.getBytes(StandardCharsets.UTF_8);
+        val key = DigestUtils.rawDigest("SHA-256", ArrayUtils.addAll(label, secretKey));
+        this.encryptionKey = new SecretKeySpec(key, "AES");
+    }
+
+    @Override
+    public byte[] encrypt(final byte[] bytes) {
+        return FunctionUtils.doUnchecked(() -> {
+            val nonce = new byte[NONCE_LENGTH];
+            random.nextBytes(nonce);
+            val cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+            cipher.init(Cipher.ENCRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_LENGTH, nonce));
+            return ArrayUtils.addAll(nonce, cipher.doFinal(bytes));
+        });
+    }
+
+    @Override
+    public void encrypt(final InputStream inputStream, final OutputStream outputStream) {
+        throw new IllegalArgumentException(
+            new OperationNotSupportedException("Encrypting input stream is not supported"));
+    }
+
+    @Override
+    public byte[] decrypt(final byte[] bytes) {
+        if (bytes == null || bytes.length <= NONCE_LENGTH) {
+            throw new IllegalArgumentException("Encrypted webflow state is too short");
+        }
+        return FunctionUtils.doUnchecked(() -> {
+            val nonce = Arrays.copyOf(bytes, NONCE_LENGTH);
+            val cipher = Cipher.getInstance(CIPHER_ALGORITHM);
+            cipher.init(Cipher.DECRYPT_MODE, encryptionKey, new GCMParameterSpec(TAG_LENGTH, nonce));
+            return cipher.doFinal(bytes, NONCE_LENGTH, bytes.length - NONCE_LENGTH);
+        });
+    }
+
+    @Override
+    public void decrypt(final InputStream inputStream, final OutputStream outputStream) {
+        throw new IllegalArgumentException(
+            new OperationNotSupportedException("Decrypting input stream is not supported"));
+    }
+}
@@ -2,6 +2,7 @@ package org.apereo.cas.web.flow.executor;
 
 import org.apereo.cas.configuration.model.core.web.flow.WebflowProperties;
 import org.apereo.cas.configuration.support.Beans;
+import org.apereo.cas.util.cipher.BaseBinaryCipherExecutor;
 import org.apereo.cas.util.crypto.CipherExecutor;
 
 import lombok.RequiredArgsConstructor;
@@ -77,6 +78,15 @@ public class WebflowExecutorFactory {
 
     private Transcoder getWebflowStateTranscoder() {
         val cipherBean = new WebflowCipherBean(this.webflowCipherExecutor);
-        return new EncryptedTranscoder(cipherBean);
+        val transcoder = new EncryptedTranscoder(cipherBean);
+        if (webflowProperties.getSession().isCompact()) {
+            val compressionLevel = webflowProperties.getSession().getCompressionLevel();
+            if (webflowCipherExecutor instanceof BaseBinaryCipherExecutor binaryCipherExecutor && webflowCipherExecutor.isEnabled()) {
+                val aeadCipherBean = new WebflowAeadCipherBean(binaryCipherExecutor.getEncryptionSecretKey());
+                return new CompactTranscoder(aeadCipherBean, transcoder, compressionLevel);
+            }
+            return new CompactTranscoder(cipherBean, transcoder, compressionLevel);
+        }
+        return transcoder;
     }
 }
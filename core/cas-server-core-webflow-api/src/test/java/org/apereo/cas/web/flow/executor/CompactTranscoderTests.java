@@ -0,0 +1,148 @@
+package org.apereo.cas.web.flow.executor;
+
+import org.apereo.cas.util.EncodingUtils;
+import org.apereo.cas.util.cipher.WebflowConversationStateCipherExecutor;
+
+import lombok.val;
+import org.apache.commons.lang3.ArrayUtils;
+import org.cryptacular.bean.CipherBean;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InvalidClassException;
+import java.io.NotSerializableException;
+import java.io.Serial;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.zip.Deflater;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link CompactTranscoderTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Webflow")
+class CompactTranscoderTests {
+    private final WebflowConversationStateCipherExecutor cipherExecutor = new WebflowConversationStateCipherExecutor(
+        null, null, "AES", 512, 16, "webflow");
+
+    private final EncryptedTranscoder encryptedTranscoder = new EncryptedTranscoder(new WebflowCipherBean(cipherExecutor));
+
+    private final CompactTranscoder compactTranscoder = new CompactTranscoder(
+        new WebflowAeadCipherBean(cipherExecutor.getEncryptionSecretKey()), encryptedTranscoder);
+
+    private static Map<String, Object> getFlowScope() {
+        val flowScope = new LinkedHashMap<String, Object>();
+        flowScope.put("service", "https://apps.example.org/app?param=" + UUID.randomUUID());
+        flowScope.put("ticketGrantingTicketId", "TGT-1-" + UUID.randomUUID());
+        flowScope.put("authenticationDate", ZonedDateTime.now());
+        flowScope.put("existingSingleSignOnSessionAvailable", Boolean.TRUE);
+        val successes = new ArrayList<SampleCredential>();
+        for (var i = 0; i < 5; i++) {
+            successes.add(new SampleCredential("casuser" + i, List.of("mail", "cn", "givenName")));
+        }
+        flowScope.put("credentials", successes);
+        return flowScope;
+    }
+
+    @Test
+    void verifyEncodeDecode() throws Exception {
+        val flowScope = getFlowScope();
+        val encoded = compactTranscoder.encode(flowScope);
+        assertEquals(flowScope, compactTranscoder.decode(encoded));
+    }
+
+    @Test
+    void verifyEncodedStateIsSmaller() throws Exception {
+        val flowScope = getFlowScope();
+        val compact = compactTranscoder.encode(flowScope);
+        val legacy = encryptedTranscoder.encode(flowScope);
+        assertTrue(compact.length < legacy.length);
+        assertTrue(EncodingUtils.encodeBase64(compact).length() < EncodingUtils.encodeBase64(legacy).length());
+    }
+
+    @Test
+    void verifyCompressionLevels() throws Exception {
+        val flowScope = getFlowScope();
+        val cipherBean = new WebflowAeadCipherBean(cipherExecutor.getEncryptionSecretKey());
+        for (val level : List.of(Deflater.DEFAULT_COMPRESSION, Deflater.NO_COMPRESSION, Deflater.BEST_SPEED, Deflater.BEST_COMPRESSION)) {
+            val transcoder = new CompactTranscoder(cipherBean, encryptedTranscoder, level);
+            val encoded = transcoder.encode(flowScope);
+            assertEquals(flowScope, transcoder.decode(encoded));
+            assertEquals(flowScope, compactTranscoder.decode(encoded));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new CompactTranscoder(cipherBean, encryptedTranscoder, 10).encode(flowScope));
+    }
+
+    @Test
+    void verifyNonceIsRandom() throws Exception {
+        val flowScope = getFlowScope();
+        assertFalse(Arrays.equals(compactTranscoder.encode(flowScope), compactTranscoder.encode(flowScope)));
+    }
+
+    @Test
+    void verifyDecodeLegacyState() throws Exception {
+        val flowScope = getFlowScope();
+        val encoded = encryptedTranscoder.encode(flowScope);
+        assertEquals(flowScope, compactTranscoder.decode(encoded));
+        assertThrows(IOException.class, () -> new CompactTranscoder(mock(CipherBean.class)).decode(encoded));
+    }
+
+    @Test
+    void verifyTamperedState() throws Exception {
+        val encoded = compactTranscoder.encode(getFlowScope());
+        encoded[encoded.length - 1] ^= 1;
+        assertThrows(IOException.class, () -> compactTranscoder.decode(encoded));
+    }
+
+    @Test
+    void verifyBadEncoding() throws Exception {
+        assertArrayEquals(ArrayUtils.EMPTY_BYTE_ARRAY, compactTranscoder.encode(null));
+        assertThrows(NotSerializableException.class, () -> compactTranscoder.encode(new Object()));
+    }
+
+    @Test
+    void verifyClassVersionMismatch() throws Exception {
+        val serialized = new ByteArrayOutputStream();
+        try (val out = new CompactTranscoder.CompactObjectOutputStream(serialized)) {
+            out.writeObject(new SampleCredential("casuser", List.of("mail")));
+        }
+        val data = serialized.toByteArray();
+        val version = ByteBuffer.allocate(Long.BYTES).putLong(SampleCredential.serialVersionUID).array();
+        val index = IntStream.range(0, data.length - version.length)
+            .filter(i -> Arrays.equals(data, i, i + version.length, version, 0, version.length))
+            .findFirst()
+            .orElseThrow();
+        data[index + version.length - 1] ^= 1;
+        try (val in = new CompactTranscoder.CompactObjectInputStream(new ByteArrayInputStream(data))) {
+            assertThrows(InvalidClassException.class, in::readObject);
+        }
+    }
+
+    @Test
+    void verifyDefaultCipher() throws Exception {
+        val transcoder = new CompactTranscoder(new WebflowCipherBean(cipherExecutor), encryptedTranscoder);
+        val flowScope = getFlowScope();
+        assertEquals(flowScope, transcoder.decode(transcoder.encode(flowScope)));
+    }
+
+    private record SampleCredential(String username, List<String> attributes) implements Serializable {
+        @Serial
+        private static final long serialVersionUID = -1463442637291736592L;
+    }
+}
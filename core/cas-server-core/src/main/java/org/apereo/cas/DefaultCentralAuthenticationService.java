@@ -38,6 +38,7 @@ import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
 import org.apereo.cas.ticket.proxy.ProxyGrantingTicketFactory;
 import org.apereo.cas.ticket.proxy.ProxyTicket;
 import org.apereo.cas.ticket.proxy.ProxyTicketFactory;
+import org.apereo.cas.ticket.registry.TicketGrantingTicketStateSnapshot;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.DigestUtils;
 import org.apereo.cas.util.LoggingUtils;
@@ -163,9 +164,10 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
                     enforceRegisteredServiceAccess(selectedService, registeredService, accessPrincipal);
 
                     val factory = (ServiceTicketFactory) configurationContext.getTicketFactory().get(ServiceTicket.class);
+                    val snapshot = TicketGrantingTicketStateSnapshot.of(ticketGrantingTicket);
                     val serviceTicket = factory.create(ticketGrantingTicket, selectedService, credentialProvided, ServiceTicket.class);
-                    configurationContext.getTicketRegistry().updateTicket(ticketGrantingTicket);
-                    configurationContext.getTicketRegistry().addTicket(serviceTicket);
+                    val mutations = snapshot.getMutations(ticketGrantingTicket);
+                    configurationContext.getTicketRegistry().write(batch -> batch.add(serviceTicket).update(ticketGrantingTicket, mutations));
 
                     LOGGER.info("Granted service ticket [{}] for service [{}] and principal [{}]",
                         serviceTicket.getId(), DigestUtils.abbreviate(selectedService.getId()), principal.getId());
@@ -211,8 +213,7 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
                         val proxyTicket = factory.create(proxyGrantingTicketObject, service, ProxyTicket.class);
                         val clientInfo = ClientInfoHolder.getClientInfo();
 
-                        configurationContext.getTicketRegistry().updateTicket(proxyGrantingTicketObject);
-                        configurationContext.getTicketRegistry().addTicket(proxyTicket);
+                        configurationContext.getTicketRegistry().write(batch -> batch.add(proxyTicket).update(proxyGrantingTicketObject));
 
                         LOGGER.info("Granted proxy ticket [{}] for service [{}] for user [{}]",
                             proxyTicket.getId(), service.getId(), principal.getId());
@@ -381,8 +382,7 @@ public class DefaultCentralAuthenticationService extends AbstractCentralAuthenti
                     val proxyGrantingTicket = factory.create(serviceTicket, authentication, ProxyGrantingTicket.class);
                     val clientInfo = ClientInfoHolder.getClientInfo();
                     LOGGER.debug("Generated proxy granting ticket [{}] based off of [{}]", proxyGrantingTicket, serviceTicketId);
-                    configurationContext.getTicketRegistry().addTicket(proxyGrantingTicket);
-                    configurationContext.getTicketRegistry().updateTicket(serviceTicket.getTicketGrantingTicket());
+                    configurationContext.getTicketRegistry().write(batch -> batch.add(proxyGrantingTicket).update(serviceTicket.getTicketGrantingTicket()));
                     doPublishEvent(new CasProxyGrantingTicketCreatedEvent(this, proxyGrantingTicket, clientInfo));
                     return proxyGrantingTicket;
                 }))
@@ -1,5 +1,6 @@
 package org.apereo.cas.authentication.principal.cache;
 
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
 import org.apereo.cas.authentication.principal.PrincipalAttributesRepositoryCache;
 import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.util.CollectionUtils;
@@ -21,7 +22,14 @@ import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 
 import java.io.File;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -61,6 +69,87 @@ class CachingPrincipalAttributesRepositoryTests extends AbstractCachingPrincipal
         assertEquals(repositoryWritten, repositoryRead);
     }
 
+    @Test
+    void verifySingleLoadForConcurrentRequests() throws Exception {
+        val cache = new DefaultPrincipalAttributesRepositoryCache();
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val registeredService = CoreAuthenticationTestUtils.getRegisteredService();
+        val principal = CoreAuthenticationTestUtils.getPrincipal("casuser");
+
+        val loads = new AtomicInteger();
+        val latch = new CountDownLatch(1);
+        val executor = Executors.newFixedThreadPool(8);
+        try {
+            IntStream.range(0, 8).forEach(i -> executor.submit(() -> {
+                latch.await();
+                return cache.fetchAttributes(registeredService, repository, principal, p -> {
+                    loads.incrementAndGet();
+                    return Map.of("name", List.of("CAS"));
+                });
+            }));
+            latch.countDown();
+        } finally {
+            executor.shutdown();
+        }
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+        assertEquals(1, loads.get());
+        assertEquals(List.of("CAS"), cache.fetchAttributes(registeredService, repository, principal).get("name"));
+    }
+
+    @Test
+    void verifyEmptyAttributesAreNotCached() {
+        val cache = new DefaultPrincipalAttributesRepositoryCache();
+        val repository = new CachingPrincipalAttributesRepository(TimeUnit.MINUTES.name(), 5);
+        val registeredService = CoreAuthenticationTestUtils.getRegisteredService();
+        val principal = CoreAuthenticationTestUtils.getPrincipal("casuser");
+        assertTrue(cache.fetchAttributes(registeredService, repository, principal, p -> Map.of()).isEmpty());
+        val attributes = cache.fetchAttributes(registeredService, repository, principal, p -> Map.of("name", List.of("CAS")));
+        assertEquals(List.of("CAS"), attributes.get("name"));
+    }
+
+    @Test
+    void verifyRefreshAfterWrite() throws Exception {
+        val cache = new DefaultPrincipalAttributesRepositoryCache();
+        val repository = (CachingPrincipalAttributesRepository) getPrincipalAttributesRepository(TimeUnit.MILLISECONDS.name(), 60_000);
+        repository.setRefreshExpiration(100);
+        repository.setAttributeRepositoryIds(Set.of("Stub"));
+        val registeredService = CoreAuthenticationTestUtils.getRegisteredService();
+        val principal = CoreAuthenticationTestUtils.getPrincipal("casuser", Map.of());
+
+        val loads = new AtomicInteger();
+        val attributes = cache.fetchAttributes(registeredService, repository, principal,
+            p -> Map.of("count", List.of(loads.incrementAndGet())));
+        assertEquals(List.of(1), attributes.get("count"));
+        Thread.sleep(500);
+        cache.fetchAttributes(registeredService, repository, principal, p -> Map.of("count", List.of(loads.incrementAndGet())));
+        Thread.sleep(500);
+        val refreshed = cache.fetchAttributes(registeredService, repository, principal);
+        assertEquals(1, loads.get());
+        assertFalse(refreshed.containsKey("count"));
+        assertEquals(List.of("final@example.com"), refreshed.get("mail"));
+    }
+
+    @Test
+    void verifyRefreshMergesPrincipalAttributes() throws Exception {
+        val cache = new DefaultPrincipalAttributesRepositoryCache();
+        val repository = (CachingPrincipalAttributesRepository) getPrincipalAttributesRepository(TimeUnit.MILLISECONDS.name(), 60_000);
+        repository.setRefreshExpiration(100);
+        repository.setAttributeRepositoryIds(Set.of("Stub"));
+        val registeredService = CoreAuthenticationTestUtils.getRegisteredService();
+        val principal = CoreAuthenticationTestUtils.getPrincipal("casuser",
+            Map.of("mail", List.of("final@school.com"), "nickname", List.of("cas")));
+
+        val attributes = cache.fetchAttributes(registeredService, repository, principal, repository::loadPrincipalAttributes);
+        assertEquals(List.of("cas"), attributes.get("nickname"));
+        Thread.sleep(500);
+        cache.fetchAttributes(registeredService, repository, principal, repository::loadPrincipalAttributes);
+        Thread.sleep(500);
+        val refreshed = cache.fetchAttributes(registeredService, repository, principal);
+        assertEquals(List.of("cas"), refreshed.get("nickname"));
+        assertTrue(refreshed.get("mail").containsAll(List.of("final@school.com", "final@example.com")));
+        assertTrue(refreshed.containsKey("a6"));
+    }
+
     @Override
     protected AbstractPrincipalAttributesRepository getPrincipalAttributesRepository(final String unit, final long duration) {
         ApplicationContextProvider.registerBeanIntoApplicationContext(applicationContext, this.dao, PrincipalResolver.BEAN_NAME_ATTRIBUTE_REPOSITORY);
@@ -17,13 +17,18 @@ import org.apereo.inspektr.audit.AuditTrailManager;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.model.AttributeDefinition;
 import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
 import software.amazon.awssdk.services.dynamodb.model.ComparisonOperator;
 import software.amazon.awssdk.services.dynamodb.model.KeySchemaElement;
 import software.amazon.awssdk.services.dynamodb.model.KeyType;
 import software.amazon.awssdk.services.dynamodb.model.PutItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
 import software.amazon.awssdk.services.dynamodb.model.ScalarAttributeType;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
@@ -40,6 +45,8 @@ import java.util.stream.Collectors;
 @Slf4j
 @SuppressWarnings("JavaUtilDate")
 public record DynamoDbAuditTrailManagerFacilitator(AuditDynamoDbProperties dynamoDbProperties, DynamoDbClient amazonDynamoDBClient) {
+    private static final int BATCH_WRITE_REQUEST_LIMIT = 25;
+
     /**
      * Build table attribute values map.
      *
@@ -95,6 +102,29 @@ public record DynamoDbAuditTrailManagerFacilitator(AuditDynamoDbProperties dynam
         LOGGER.debug("Record added with result [{}]", putItemResult);
     }
 
+    /**
+     * Save records using batch write requests.
+     * Records that are not processed by DynamoDb are resubmitted
+     * until all are written.
+     *
+     * @param records the records
+     */
+    public void save(final Collection<AuditActionContext> records) {
+        val requests = new ArrayList<WriteRequest>(records.size());
+        records.forEach(record -> requests.add(WriteRequest.builder()
+            .putRequest(PutRequest.builder().item(buildTableAttributeValuesMap(record)).build())
+            .build()));
+        for (var start = 0; start < requests.size(); start += BATCH_WRITE_REQUEST_LIMIT) {
+            var pending = Map.<String, List<WriteRequest>>of(dynamoDbProperties.getTableName(),
+                requests.subList(start, Math.min(start + BATCH_WRITE_REQUEST_LIMIT, requests.size())));
+            while (!pending.isEmpty()) {
+                val batchRequest = BatchWriteItemRequest.builder().requestItems(pending).build();
+                LOGGER.debug("Submitting batch write request for [{}] record(s)", pending.get(dynamoDbProperties.getTableName()).size());
+                pending = amazonDynamoDBClient.batchWriteItem(batchRequest).unprocessedItems();
+            }
+        }
+    }
+
     /**
      * Remove all.
      */
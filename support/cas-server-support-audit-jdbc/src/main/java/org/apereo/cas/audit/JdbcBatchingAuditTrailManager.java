@@ -0,0 +1,65 @@
+package org.apereo.cas.audit;
+
+import org.apereo.cas.audit.spi.AbstractAuditTrailManager;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.apereo.inspektr.audit.support.JdbcAuditTrailManager;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * This is {@link JdbcBatchingAuditTrailManager} that records audits using the
+ * {@link JdbcAuditTrailManager}, and writes batches of asynchronous audit records
+ * inside a single transaction rather than one transaction per record.
+ * The underlying manager is always invoked synchronously.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@Getter
+public class JdbcBatchingAuditTrailManager extends AbstractAuditTrailManager {
+    private final JdbcAuditTrailManager delegate;
+
+    private final TransactionOperations transactionTemplate;
+
+    public JdbcBatchingAuditTrailManager(final JdbcAuditTrailManager delegate,
+                                         final TransactionOperations transactionTemplate,
+                                         final boolean asynchronous) {
+        super(asynchronous);
+        this.delegate = delegate;
+        this.transactionTemplate = transactionTemplate;
+        this.delegate.setAsynchronous(false);
+    }
+
+    @Override
+    protected void saveAuditRecord(final AuditActionContext audit) {
+        delegate.record(audit);
+    }
+
+    @Override
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        LOGGER.trace("Saving [{}] audit record(s) in a single transaction", audits.size());
+        transactionTemplate.executeWithoutResult(status -> audits.forEach(delegate::record));
+    }
+
+    @Override
+    public Set<? extends AuditActionContext> getAuditRecords(final Map<WhereClauseFields, Object> whereClause) {
+        return delegate.getAuditRecords(whereClause);
+    }
+
+    @Override
+    public void removeAll() {
+        delegate.removeAll();
+    }
+
+    @Override
+    public void clean() {
+        delegate.clean();
+    }
+}
@@ -1,6 +1,7 @@
 package org.apereo.cas.config;
 
 import org.apereo.cas.audit.AuditTrailExecutionPlanConfigurer;
+import org.apereo.cas.audit.JdbcBatchingAuditTrailManager;
 import org.apereo.cas.audit.spi.entity.AuditTrailEntity;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
@@ -174,13 +175,14 @@ public class CasSupportJdbcAuditConfiguration {
                     val t = new JdbcAuditTrailManager(inspektrAuditTransactionTemplate);
                     t.setCleanupCriteria(auditCleanupCriteria);
                     t.setDataSource(inspektrAuditTrailDataSource);
-                    t.setAsynchronous(jdbc.isAsynchronous());
                     t.setColumnLength(jdbc.getColumnLength());
                     t.setTableName(getAuditTableNameFrom(jdbc));
 
                     FunctionUtils.doIfNotBlank(jdbc.getSelectSqlQueryTemplate(), __ -> t.setSelectByDateSqlTemplate(jdbc.getSelectSqlQueryTemplate()));
                     FunctionUtils.doIfNotBlank(jdbc.getDateFormatterPattern(), __ -> t.setDateFormatterPattern(jdbc.getDateFormatterPattern()));
-                    return t;
+                    val manager = new JdbcBatchingAuditTrailManager(t, inspektrAuditTransactionTemplate, jdbc.isAsynchronous());
+                    manager.setPipelineProperties(casProperties.getAudit().getEngine().getPipeline());
+                    return manager;
                 })
                 .otherwiseProxy()
                 .get();
@@ -0,0 +1,204 @@
+package org.apereo.cas.audit;
+
+import org.apereo.cas.redis.core.CasRedisTemplate;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.inspektr.audit.AuditActionContext;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * This is {@link RedisAuditTrailIndex} that maintains time-bucketed indexes of audit records in Redis.
+ * Each audit record is added to sorted sets that are bucketed by day (in UTC) for the date of the record,
+ * its principal and its client address, scored by the time the action was performed. Queries
+ * are answered using score ranges over the buckets in the requested window, followed by
+ * batched lookups of the matching records, rather than scanning all audit records.
+ * <p>
+ * Index entries whose audit records have expired or were removed are ignored.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor
+public class RedisAuditTrailIndex {
+    /**
+     * Redis key prefix for audit indexes.
+     */
+    public static final String CAS_AUDIT_INDEX_PREFIX = AuditActionContext.class.getSimpleName() + "Index:";
+
+    private static final DateTimeFormatter BUCKET_FORMATTER = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final CasRedisTemplate<String, Object> redisTemplate;
+
+    private final int batchSize;
+
+    /**
+     * Gets the key pattern that matches all audit indexes.
+     *
+     * @return the pattern
+     */
+    public static String getIndexKeyPattern() {
+        return CAS_AUDIT_INDEX_PREFIX + '*';
+    }
+
+    private static String getDateIndexKey(final LocalDate bucket) {
+        return CAS_AUDIT_INDEX_PREFIX + "date:" + BUCKET_FORMATTER.format(bucket);
+    }
+
+    private static String getPrincipalIndexKey(final LocalDate bucket, final String principal) {
+        return CAS_AUDIT_INDEX_PREFIX + "principal:" + BUCKET_FORMATTER.format(bucket) + ':' + StringUtils.lowerCase(principal);
+    }
+
+    private static String getClientIpAddressIndexKey(final LocalDate bucket, final String clientIpAddress) {
+        return CAS_AUDIT_INDEX_PREFIX + "client:" + BUCKET_FORMATTER.format(bucket) + ':' + StringUtils.lowerCase(clientIpAddress);
+    }
+
+    private static LocalDate getBucket(final Instant instant) {
+        return LocalDate.ofInstant(instant, ZoneOffset.UTC);
+    }
+
+    private static boolean isExpiring(final Duration retention) {
+        return !retention.isZero() && !retention.isNegative();
+    }
+
+    /**
+     * Save the audit records along with their index entries in a single pipeline.
+     * Audit records are written before their index entries, so that
+     * an index entry never points to a record that is yet to be written.
+     *
+     * @param records   the audit records, keyed by their redis key
+     * @param retention the retention period; zero or negative to keep records indefinitely
+     */
+    public void save(final Map<String, AuditActionContext> records, final Duration retention) {
+        redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            public <K, V> Object execute(final RedisOperations<K, V> operations) throws DataAccessException {
+                val ops = (RedisOperations<String, Object>) operations;
+                records.forEach((key, audit) -> {
+                    if (isExpiring(retention)) {
+                        ops.opsForValue().set(key, audit, retention);
+                    } else {
+                        ops.opsForValue().set(key, audit);
+                    }
+                });
+                records.forEach((key, audit) -> {
+                    val performed = audit.getWhenActionWasPerformed().toInstant();
+                    val bucket = getBucket(performed);
+                    val indexes = new ArrayList<String>();
+                    indexes.add(getDateIndexKey(bucket));
+                    if (StringUtils.isNotBlank(audit.getPrincipal())) {
+                        indexes.add(getPrincipalIndexKey(bucket, audit.getPrincipal()));
+                    }
+                    if (StringUtils.isNotBlank(audit.getClientIpAddress())) {
+                        indexes.add(getClientIpAddressIndexKey(bucket, audit.getClientIpAddress()));
+                    }
+                    indexes.forEach(index -> {
+                        ops.opsForZSet().add(index, key, performed.toEpochMilli());
+                        if (isExpiring(retention)) {
+                            val endOfBucket = bucket.plusDays(1).atStartOfDay(ZoneOffset.UTC).toInstant();
+                            ops.expireAt(index, endOfBucket.plus(retention));
+                        }
+                    });
+                });
+                return null;
+            }
+        });
+    }
+
+    /**
+     * Find audit records performed since the given instant.
+     *
+     * @param since the since
+     * @return the audit records
+     */
+    public List<AuditActionContext> findSince(final Instant since) {
+        return find(since, RedisAuditTrailIndex::getDateIndexKey);
+    }
+
+    /**
+     * Find audit records for the principal performed since the given instant.
+     * Principals are indexed regardless of case.
+     *
+     * @param principal the principal
+     * @param since     the since
+     * @return the audit records
+     */
+    public List<AuditActionContext> findByPrincipal(final String principal, final Instant since) {
+        return find(since, bucket -> getPrincipalIndexKey(bucket, principal));
+    }
+
+    /**
+     * Find audit records for the client address performed since the given instant.
+     *
+     * @param clientIpAddress the client ip address
+     * @param since           the since
+     * @return the audit records
+     */
+    public List<AuditActionContext> findByClientIpAddress(final String clientIpAddress, final Instant since) {
+        return find(since, bucket -> getClientIpAddressIndexKey(bucket, clientIpAddress));
+    }
+
+    private List<AuditActionContext> find(final Instant since, final Function<LocalDate, String> indexKey) {
+        val indexes = new ArrayList<String>();
+        val today = getBucket(Instant.now());
+        for (var bucket = getBucket(since); !bucket.isAfter(today); bucket = bucket.plusDays(1)) {
+            indexes.add(indexKey.apply(bucket));
+        }
+        val ranges = redisTemplate.executePipelined(new SessionCallback<>() {
+            @Override
+            public <K, V> Object execute(final RedisOperations<K, V> operations) throws DataAccessException {
+                val ops = (RedisOperations<String, Object>) operations;
+                indexes.forEach(index -> ops.opsForZSet().rangeByScore(index, since.toEpochMilli(), Double.POSITIVE_INFINITY));
+                return null;
+            }
+        });
+        val keys = new LinkedHashSet<String>();
+        ranges.stream()
+            .filter(Objects::nonNull)
+            .map(Collection.class::cast)
+            .forEach(range -> range.forEach(key -> keys.add(key.toString())));
+        LOGGER.debug("Located [{}] indexed audit record(s) in [{}] bucket(s) since [{}]", keys.size(), indexes.size(), since);
+
+        val results = new ArrayList<AuditActionContext>(keys.size());
+        val batch = new ArrayList<String>(Math.max(1, batchSize));
+        for (val key : keys) {
+            batch.add(key);
+            if (batch.size() >= Math.max(1, batchSize)) {
+                results.addAll(getAuditRecords(batch));
+                batch.clear();
+            }
+        }
+        results.addAll(getAuditRecords(batch));
+        return results;
+    }
+
+    private List<AuditActionContext> getAuditRecords(final List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        val values = redisTemplate.opsForValue().multiGet(keys);
+        return Objects.requireNonNull(values)
+            .stream()
+            .filter(Objects::nonNull)
+            .map(AuditActionContext.class::cast)
+            .toList();
+    }
+}
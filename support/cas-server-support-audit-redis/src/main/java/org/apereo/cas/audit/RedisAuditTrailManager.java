@@ -10,7 +10,10 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apereo.inspektr.audit.AuditActionContext;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -37,12 +40,22 @@ public class RedisAuditTrailManager extends AbstractAuditTrailManager {
 
     private final long scanCount;
 
+    private final int scanBatchSize;
+
+    /**
+     * Amount of time audit records and their indexes are kept;
+     * zero to keep records indefinitely.
+     */
+    private Duration retention = Duration.ZERO;
+
     public RedisAuditTrailManager(final CasRedisTemplate redisTemplate,
                                   final boolean asynchronous,
-                                  final long scanCount) {
+                                  final long scanCount,
+                                  final int scanBatchSize) {
         super(asynchronous);
         this.redisTemplate = Objects.requireNonNull(redisTemplate);
         this.scanCount = scanCount;
+        this.scanBatchSize = scanBatchSize;
     }
 
     private static String getPatternAuditRedisKey(final String time, final String principal) {
@@ -53,42 +66,53 @@ public class RedisAuditTrailManager extends AbstractAuditTrailManager {
         return CAS_AUDIT_CONTEXT_PREFIX + '*';
     }
 
+    private static String getAuditRedisKey(final AuditActionContext audit) {
+        return getPatternAuditRedisKey(String.valueOf(audit.getWhenActionWasPerformed().getTime()), audit.getPrincipal());
+    }
+
     @Override
     public Set<? extends AuditActionContext> getAuditRecords(final Map<WhereClauseFields, Object> whereClause) {
         val localDate = (LocalDate) whereClause.get(WhereClauseFields.DATE);
         val dt = DateTimeUtils.dateOf(localDate);
         LOGGER.debug("Retrieving audit records since [{}]", dt);
 
-        try (val keys = whereClause.containsKey(WhereClauseFields.PRINCIPAL)
-            ? getAuditRedisKeys(whereClause.get(WhereClauseFields.PRINCIPAL).toString())
-            : getAuditRedisKeys()) {
-            return keys
-                .map(redisKey -> redisTemplate.boundValueOps(redisKey).get())
-                .filter(Objects::nonNull)
-                .map(AuditActionContext.class::cast)
-                .filter(audit -> audit.getWhenActionWasPerformed().compareTo(dt) >= 0)
-                .collect(Collectors.toSet());
-        }
+        val index = getAuditTrailIndex();
+        val principal = whereClause.containsKey(WhereClauseFields.PRINCIPAL)
+            ? whereClause.get(WhereClauseFields.PRINCIPAL).toString()
+            : null;
+        val records = principal != null
+            ? index.findByPrincipal(principal, dt.toInstant())
+            : index.findSince(dt.toInstant());
+        return records
+            .stream()
+            .filter(audit -> audit.getWhenActionWasPerformed().compareTo(dt) >= 0)
+            .filter(audit -> principal == null || principal.equals(audit.getPrincipal()))
+            .collect(Collectors.toSet());
     }
 
     @Override
     public void removeAll() {
-        try (val keys = getAuditRedisKeys()) {
-            keys.forEach(redisTemplate::delete);
-        }
+        Stream.of(getPatternAuditRedisKey(), RedisAuditTrailIndex.getIndexKeyPattern()).forEach(pattern -> {
+            try (val keys = (Stream<List<String>>) redisTemplate.scan(pattern, this.scanCount, this.scanBatchSize)) {
+                keys.forEach(redisTemplate::delete);
+            }
+        });
     }
 
     @Override
     protected void saveAuditRecord(final AuditActionContext audit) {
-        val redisKey = getPatternAuditRedisKey(String.valueOf(audit.getWhenActionWasPerformed().getTime()), audit.getPrincipal());
-        this.redisTemplate.boundValueOps(redisKey).set(audit);
+        getAuditTrailIndex().save(Map.of(getAuditRedisKey(audit), audit), retention);
     }
 
-    private Stream<String> getAuditRedisKeys() {
-        return redisTemplate.scan(getPatternAuditRedisKey(), this.scanCount);
+    @Override
+    protected void saveAuditRecords(final List<AuditActionContext> audits) {
+        val records = new LinkedHashMap<String, AuditActionContext>(audits.size());
+        audits.forEach(audit -> records.put(getAuditRedisKey(audit), audit));
+        LOGGER.trace("Saving [{}] audit record(s) in a single pipeline", records.size());
+        getAuditTrailIndex().save(records, retention);
     }
 
-    private Stream<String> getAuditRedisKeys(final String principal) {
-        return redisTemplate.scan(getPatternAuditRedisKey("*", principal), this.scanCount);
+    private RedisAuditTrailIndex getAuditTrailIndex() {
+        return new RedisAuditTrailIndex(redisTemplate, scanBatchSize);
     }
 }
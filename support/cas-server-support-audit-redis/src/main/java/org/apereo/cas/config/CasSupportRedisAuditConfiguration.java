@@ -5,6 +5,7 @@ import org.apereo.cas.audit.RedisAuditTrailManager;
 import org.apereo.cas.authentication.CasSSLContext;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.redis.core.CasRedisTemplate;
 import org.apereo.cas.redis.core.RedisObjectFactory;
 import org.apereo.cas.util.spring.beans.BeanCondition;
@@ -47,7 +48,13 @@ public class CasSupportRedisAuditConfiguration {
             .when(CONDITION.given(applicationContext.getEnvironment()))
             .supply(() -> {
                 val redis = casProperties.getAudit().getRedis();
-                return new RedisAuditTrailManager(auditRedisTemplate, redis.isAsynchronous(), redis.getScanCount());
+                val manager = new RedisAuditTrailManager(auditRedisTemplate, redis.isAsynchronous(),
+                    redis.getScanCount(), redis.getScanBatchSize());
+                manager.setPipelineProperties(casProperties.getAudit().getEngine().getPipeline());
+                if (!Beans.isInfinitelyDurable(redis.getRetention())) {
+                    manager.setRetention(Beans.newDuration(redis.getRetention()));
+                }
+                return manager;
             })
             .otherwiseProxy()
             .get();
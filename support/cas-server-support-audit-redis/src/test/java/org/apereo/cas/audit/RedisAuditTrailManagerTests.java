@@ -7,17 +7,29 @@ import org.apereo.cas.config.CasCoreUtilConfiguration;
 import org.apereo.cas.config.CasCoreWebConfiguration;
 import org.apereo.cas.config.CasSupportRedisAuditConfiguration;
 import org.apereo.cas.config.CasWebApplicationServiceFactoryConfiguration;
+import org.apereo.cas.redis.core.CasRedisTemplate;
 import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
 
 import lombok.Getter;
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
 import org.apereo.inspektr.audit.AuditTrailManager;
 import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.web.servlet.WebMvcAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
 /**
  * This is {@link RedisAuditTrailManagerTests}.
  *
@@ -42,8 +54,34 @@ import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
 @Tag("Redis")
 @Getter
 @EnabledIfListeningOnPort(port = 6379)
+@SuppressWarnings("JavaUtilDate")
 class RedisAuditTrailManagerTests extends BaseAuditConfigurationTests {
     @Autowired
     @Qualifier("redisAuditTrailManager")
     private AuditTrailManager auditTrailManager;
+
+    @Autowired
+    @Qualifier("auditRedisTemplate")
+    private CasRedisTemplate<String, Object> auditRedisTemplate;
+
+    @Test
+    void verifyIndexedQueries() {
+        val index = new RedisAuditTrailIndex(auditRedisTemplate, 10);
+        val principal = UUID.randomUUID().toString();
+        val clientIpAddress = "10.1.2." + System.nanoTime() % 255;
+        val since = Instant.now().minusSeconds(60);
+        val audit = new AuditActionContext(principal, "TEST", "TEST", "CAS", new Date(),
+            clientIpAddress, "1.2.3.4", UUID.randomUUID().toString(), Map.of());
+        val key = RedisAuditTrailManager.CAS_AUDIT_CONTEXT_PREFIX + UUID.randomUUID();
+        index.save(Map.of(key, audit), Duration.ofMinutes(5));
+
+        assertEquals(1, index.findByPrincipal(principal.toUpperCase(), since).size());
+        assertFalse(index.findByClientIpAddress(clientIpAddress, since).isEmpty());
+        assertTrue(index.findSince(since).stream().anyMatch(record -> principal.equals(record.getPrincipal())));
+        assertTrue(index.findByPrincipal(principal, Instant.now().plusSeconds(60)).isEmpty());
+        assertTrue(auditRedisTemplate.getExpire(key) > 0);
+
+        auditRedisTemplate.delete(key);
+        assertTrue(index.findByPrincipal(principal, since).isEmpty());
+    }
 }
@@ -18,6 +18,8 @@ import jakarta.persistence.EntityManager;
 import jakarta.persistence.LockModeType;
 import jakarta.persistence.PersistenceContext;
 import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -149,14 +151,22 @@ public class JpaCasEventRepository extends AbstractCasEventRepository {
     @Override
     public CasEvent saveInternal(final CasEvent event) {
         val transactionTemplate = new TransactionTemplate(this.transactionManager);
-        return transactionTemplate.execute((TransactionCallback<CasEvent>) ts -> {
-            val jpaEvent = new JpaCasEvent();
-            jpaEvent.setId(event.getId());
-            jpaEvent.setCreationTime(event.getCreationTime());
-            jpaEvent.setPrincipalId(event.getPrincipalId());
-            jpaEvent.setProperties(event.getProperties());
-            jpaEvent.setType(event.getType());
-            return entityManager.merge(jpaEvent);
-        });
+        return transactionTemplate.execute((TransactionCallback<CasEvent>) ts -> mergeEvent(event));
+    }
+
+    @Override
+    public List<CasEvent> saveAllInternal(final List<CasEvent> events) {
+        val transactionTemplate = new TransactionTemplate(this.transactionManager);
+        return transactionTemplate.execute(ts -> events.stream().map(this::mergeEvent).collect(Collectors.toList()));
+    }
+
+    private CasEvent mergeEvent(final CasEvent event) {
+        val jpaEvent = new JpaCasEvent();
+        jpaEvent.setId(event.getId());
+        jpaEvent.setCreationTime(event.getCreationTime());
+        jpaEvent.setPrincipalId(event.getPrincipalId());
+        jpaEvent.setProperties(event.getProperties());
+        jpaEvent.setType(event.getType());
+        return entityManager.merge(jpaEvent);
     }
 }
@@ -73,7 +73,8 @@ public class RedisEventsConfiguration {
         @Qualifier("redisEventRepositoryFilter")
         final CasEventRepositoryFilter redisEventRepositoryFilter,
         final CasConfigurationProperties casProperties) {
+        val redis = casProperties.getEvents().getRedis();
         return new RedisCasEventRepository(redisEventRepositoryFilter, redisEventTemplate,
-            casProperties.getEvents().getRedis().getScanCount());
+            redis.getScanCount(), redis.getScanBatchSize());
     }
 }
@@ -11,7 +11,7 @@ import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 
 import java.time.ZonedDateTime;
-import java.util.Objects;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 /**
@@ -32,12 +32,16 @@ public class RedisCasEventRepository extends AbstractCasEventRepository {
 
     private final long scanCount;
 
+    private final int scanBatchSize;
+
     public RedisCasEventRepository(final CasEventRepositoryFilter eventRepositoryFilter,
                                    final CasRedisTemplate<String, CasEvent> redisTemplate,
-                                   final long scanCount) {
+                                   final long scanCount,
+                                   final int scanBatchSize) {
         super(eventRepositoryFilter);
         this.template = redisTemplate;
         this.scanCount = scanCount;
+        this.scanBatchSize = scanBatchSize;
     }
 
     private static String getKey(final String type, final String principal, final String timestamp) {
@@ -46,103 +50,51 @@ public class RedisCasEventRepository extends AbstractCasEventRepository {
 
     @Override
     public void removeAll() {
-        try (val keys = getKeys("*", "*", "*")) {
+        try (val keys = template.scan(getKey("*", "*", "*"), this.scanCount, this.scanBatchSize)) {
             keys.forEach(template::delete);
         }
     }
 
     @Override
     public Stream<? extends CasEvent> load() {
-        try (val keys = getKeys("*", "*", "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .toList()
-                .stream();
-        }
+        return getEvents("*", "*", "*", event -> true);
     }
 
     @Override
     public Stream<? extends CasEvent> load(final ZonedDateTime dateTime) {
-        try (val keys = getKeys("*", "*", "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli())
-                .toList()
-                .stream();
-        }
+        return getEvents("*", "*", "*", event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli());
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type, final String principal) {
-        try (val keys = getKeys(type, principal, "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .toList()
-                .stream();
-        }
+        return getEvents(type, principal, "*", event -> true);
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsOfTypeForPrincipal(final String type,
                                                                   final String principal,
                                                                   final ZonedDateTime dateTime) {
-        try (val keys = getKeys(type, principal, "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli())
-                .toList()
-                .stream();
-        }
+        return getEvents(type, principal, "*", event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli());
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsOfType(final String type) {
-        try (val keys = getKeys(type, "*", "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .toList()
-                .stream();
-        }
+        return getEvents(type, "*", "*", event -> true);
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsOfType(final String type, final ZonedDateTime dateTime) {
-        try (val keys = getKeys(type, "*", "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli())
-                .toList()
-                .stream();
-        }
+        return getEvents(type, "*", "*", event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli());
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsForPrincipal(final String id) {
-        try (val keys = getKeys("*", id, "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .toList()
-                .stream();
-        }
+        return getEvents("*", id, "*", event -> true);
     }
 
     @Override
     public Stream<? extends CasEvent> getEventsForPrincipal(final String principal, final ZonedDateTime dateTime) {
-        try (val keys = getKeys("*", principal, "*")) {
-            return keys
-                .map(key -> this.template.boundValueOps(key).get())
-                .filter(Objects::nonNull)
-                .filter(event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli())
-                .toList()
-                .stream();
-        }
+        return getEvents("*", principal, "*", event -> event.getTimestamp() >= dateTime.toInstant().toEpochMilli());
     }
 
     @Override
@@ -154,9 +106,15 @@ public class RedisCasEventRepository extends AbstractCasEventRepository {
         return event;
     }
 
-    private Stream<String> getKeys(final String type, final String principal, final String timestamp) {
+    private Stream<? extends CasEvent> getEvents(final String type, final String principal,
+                                                final String timestamp, final Predicate<CasEvent> filter) {
         val key = getKey(type, principal, timestamp);
         LOGGER.trace("Fetching records based on key [{}]", key);
-        return template.scan(key, this.scanCount);
+        try (val events = template.scanValues(key, this.scanCount, this.scanBatchSize)) {
+            return events
+                .filter(filter)
+                .toList()
+                .stream();
+        }
     }
 }
@@ -0,0 +1,47 @@
+package org.apereo.cas.ticket.registry;
+
+import com.hazelcast.map.EntryProcessor;
+import com.hazelcast.map.ExtendedMapEntry;
+import lombok.RequiredArgsConstructor;
+import lombok.val;
+
+import java.io.Serial;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link HazelcastTicketMutationProcessor} that applies {@link TicketMutation}s
+ * to the ticket stored in a {@link HazelcastTicketHolder} on the member that owns the entry,
+ * so that only the mutations travel over the network rather than the entire ticket.
+ * The processor reports back whether the mutations could be applied, which is not the case
+ * when the entry is missing.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiredArgsConstructor
+public class HazelcastTicketMutationProcessor implements EntryProcessor<String, HazelcastTicketHolder, Boolean> {
+    @Serial
+    private static final long serialVersionUID = 3208427410218794514L;
+
+    private final List<? extends TicketMutation> mutations;
+
+    private final long timeToLive;
+
+    @Override
+    public Boolean process(final Map.Entry<String, HazelcastTicketHolder> entry) {
+        val holder = entry.getValue();
+        if (holder == null || holder.getTicket() == null) {
+            return Boolean.FALSE;
+        }
+        mutations.forEach(mutation -> mutation.apply(holder.getTicket()));
+        holder.setTimeToLive(timeToLive);
+        if (entry instanceof ExtendedMapEntry<String, HazelcastTicketHolder> extendedEntry) {
+            extendedEntry.setValue(holder, timeToLive, TimeUnit.SECONDS);
+        } else {
+            entry.setValue(holder);
+        }
+        return Boolean.TRUE;
+    }
+}
@@ -55,15 +55,8 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
         this.properties = properties;
     }
 
-    @Override
-    public Ticket updateTicket(final Ticket ticket) throws Exception {
-        addTicket(ticket);
-        return ticket;
-    }
-
-    @Override
-    public void addTicketInternal(final Ticket ticket) throws Exception {
-        var ttl = ticket.getExpirationPolicy().getTimeToLive();
+    private static long getTimeToLive(final Ticket ticket) {
+        val ttl = ticket.getExpirationPolicy().getTimeToLive();
         /*
          * Valid values are integers between 0 and Integer.MAX VALUE. Its default value is 0,
          * which means infinite (no expiration and eviction).
@@ -71,9 +64,43 @@ public class HazelcastTicketRegistry extends AbstractTicketRegistry implements A
          */
         if (ttl < 0 || ttl >= Integer.MAX_VALUE) {
             LOGGER.debug("The expiration policy of ticket [{}] is set to use a negative (i.e. infinite) ttl", ticket.getId());
-            ttl = 0L;
+            return 0L;
         }
+        return ttl;
+    }
 
+    @Override
+    public Ticket updateTicket(final Ticket ticket) throws Exception {
+        addTicket(ticket);
+        return ticket;
+    }
+
+    @Override
+    public Ticket updateTicket(final Ticket ticket, final List<? extends TicketMutation> mutations) throws Exception {
+        if (mutations == null || mutations.isEmpty() || isCipherExecutorEnabled()) {
+            return updateTicket(ticket);
+        }
+        val metadata = ticketCatalog.find(ticket);
+        val ticketMap = getTicketMapInstanceByMetadata(metadata);
+        if (ticketMap == null) {
+            return updateTicket(ticket);
+        }
+        val ttl = getTimeToLive(ticket);
+        LOGGER.debug("Applying [{}] mutation(s) to ticket [{}] with ttl [{}s]", mutations.size(), ticket.getId(), ttl);
+        val applied = ticketMap.executeOnKey(ticket.getId(), new HazelcastTicketMutationProcessor(new ArrayList<>(mutations), ttl));
+        if (!Boolean.TRUE.equals(applied)) {
+            LOGGER.debug("Unable to apply mutations to ticket [{}]; updating the ticket in full", ticket.getId());
+            return updateTicket(ticket);
+        }
+        if (expirationIndex != null) {
+            expirationIndex.index(ticket);
+        }
+        return ticket;
+    }
+
+    @Override
+    public void addTicketInternal(final Ticket ticket) throws Exception {
+        val ttl = getTimeToLive(ticket);
         LOGGER.debug("Adding ticket [{}] with ttl [{}s]", ticket.getId(), ttl);
         val encTicket = encodeTicket(ticket);
 
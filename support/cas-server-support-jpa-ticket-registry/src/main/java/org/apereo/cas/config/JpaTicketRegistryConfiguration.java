@@ -2,14 +2,21 @@ package org.apereo.cas.config;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.configuration.model.core.ticket.registry.TicketRegistryCleanerProperties;
 import org.apereo.cas.configuration.model.support.jpa.JpaConfigurationContext;
 import org.apereo.cas.configuration.support.CloseableDataSource;
 import org.apereo.cas.configuration.support.JpaBeans;
 import org.apereo.cas.jpa.JpaBeanFactory;
+import org.apereo.cas.logout.LogoutManager;
 import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.ExpirationIndexTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.JpaTicketEntityFactory;
 import org.apereo.cas.ticket.registry.JpaTicketRegistry;
+import org.apereo.cas.ticket.registry.JpaTicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.NoOpTicketRegistryCleaner;
 import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.CollectionUtils;
 import org.apereo.cas.util.CoreTicketUtils;
@@ -35,6 +42,7 @@ import org.springframework.cloud.context.config.annotation.RefreshScope;
 import org.springframework.context.ConfigurableApplicationContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.ScopedProxyMode;
 import org.springframework.integration.jdbc.lock.JdbcLockRegistry;
@@ -42,6 +50,7 @@ import org.springframework.integration.support.locks.LockRegistry;
 import org.springframework.integration.transaction.PseudoTransactionManager;
 import org.springframework.orm.jpa.JpaTransactionManager;
 import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.support.TransactionOperations;
 import org.springframework.transaction.support.TransactionTemplate;
 
@@ -192,6 +201,39 @@ public class JpaTicketRegistryConfiguration {
         }
     }
 
+    @Configuration(value = "JpaTicketRegistryCleanerConfiguration", proxyBeanMethods = false)
+    @EnableConfigurationProperties(CasConfigurationProperties.class)
+    public static class JpaTicketRegistryCleanerConfiguration {
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        @Lazy(false)
+        public TicketRegistryCleaner ticketRegistryCleaner(
+            final CasConfigurationProperties casProperties,
+            @Qualifier(LockRepository.BEAN_NAME)
+            final LockRepository lockRepository,
+            @Qualifier(LogoutManager.DEFAULT_BEAN_NAME)
+            final LogoutManager logoutManager,
+            @Qualifier(TicketRegistry.BEAN_NAME)
+            final TicketRegistry ticketRegistry,
+            @Qualifier("ticketTransactionManager")
+            final PlatformTransactionManager ticketTransactionManager) {
+            val cleaner = casProperties.getTicket().getRegistry().getCleaner();
+            if (!cleaner.getSchedule().isEnabled()) {
+                return NoOpTicketRegistryCleaner.getInstance();
+            }
+            if (cleaner.getMode() == TicketRegistryCleanerProperties.CleanerModes.EXPIRATION_INDEX) {
+                if (ticketRegistry instanceof JpaTicketRegistry jpaTicketRegistry) {
+                    val batchSize = casProperties.getTicket().getRegistry().getJpa().getCleanerBatchSize();
+                    val transactionTemplate = new TransactionTemplate(ticketTransactionManager);
+                    transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+                    return new JpaTicketRegistryCleaner(lockRepository, logoutManager, jpaTicketRegistry, transactionTemplate, batchSize);
+                }
+                return new ExpirationIndexTicketRegistryCleaner(lockRepository, logoutManager, ticketRegistry);
+            }
+            return new DefaultTicketRegistryCleaner(lockRepository, logoutManager, ticketRegistry);
+        }
+    }
+
     @Configuration(value = "JpaTicketRegistryLockingConfiguration", proxyBeanMethods = false)
     @EnableConfigurationProperties(CasConfigurationProperties.class)
     @ConditionalOnFeatureEnabled(feature = CasFeatureModule.FeatureCatalog.TicketRegistryLocking, module = "jpa")
@@ -8,6 +8,7 @@ import org.apereo.cas.ticket.Ticket;
 import org.apereo.cas.ticket.TicketCatalog;
 import org.apereo.cas.ticket.TicketGrantingTicket;
 import org.apereo.cas.ticket.TicketGrantingTicketAwareTicket;
+import org.apereo.cas.ticket.proxy.ProxyGrantingTicket;
 import org.apereo.cas.ticket.registry.generic.BaseTicketEntity;
 import org.apereo.cas.ticket.serialization.TicketSerializationManager;
 import org.apereo.cas.util.crypto.CipherExecutor;
@@ -25,10 +26,14 @@ import jakarta.persistence.LockModeType;
 import jakarta.persistence.NoResultException;
 import jakarta.persistence.PersistenceContext;
 
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -70,25 +75,75 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return ((Number) result).longValue();
     }
 
+    private static ZonedDateTime determineExpirationTime(final Ticket ticket) {
+        if (ticket.isExpired()) {
+            return ZonedDateTime.now(Clock.systemUTC());
+        }
+        return TicketRegistryExpirationIndex.determineExpirationTime(ticket).orElse(null);
+    }
+
     @Override
     public void addTicketInternal(final Ticket ticket) {
         transactionTemplate.executeWithoutResult(Unchecked.consumer(status -> {
-            val ticketEntity = getTicketEntityFrom(ticket);
-            if (ticket instanceof TicketGrantingTicketAwareTicket grantingTicketAware && grantingTicketAware.getTicketGrantingTicket() != null) {
-                val parentId = digestIdentifier(grantingTicketAware.getTicketGrantingTicket().getId());
-                ticketEntity.setParentId(parentId);
-            }
+            val ticketEntity = getNewTicketEntityFrom(ticket);
             entityManager.persist(ticketEntity);
             LOGGER.debug("Added ticket [{}] to registry.", ticketEntity.getId());
         }));
     }
 
+    /**
+     * Add tickets to the registry in chunks whose size is controlled by the JDBC batch size.
+     * Each chunk is persisted and flushed in a single transaction so that insert statements
+     * may be grouped into JDBC batches, and the persistence context is cleared
+     * afterwards to keep memory usage flat for large streams.
+     *
+     * @param toSave the tickets to save
+     */
+    @Override
+    public void addTicket(final Stream<? extends Ticket> toSave) {
+        val batchSize = Math.max(1, casProperties.getTicket().getRegistry().getJpa().getBatchSize());
+        val chunk = new ArrayList<Ticket>(batchSize);
+        val iterator = toSave.filter(Objects::nonNull).filter(ticket -> !ticket.isExpired()).iterator();
+        while (iterator.hasNext()) {
+            chunk.add(iterator.next());
+            if (chunk.size() >= batchSize) {
+                addTickets(chunk);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            addTickets(chunk);
+        }
+    }
+
+    protected void addTickets(final List<? extends Ticket> tickets) {
+        transactionTemplate.executeWithoutResult(status -> {
+            tickets.stream().map(this::getNewTicketEntityFrom).forEach(entityManager::persist);
+            entityManager.flush();
+            entityManager.clear();
+            LOGGER.debug("Added [{}] ticket(s) to registry.", tickets.size());
+        });
+        if (expirationIndex != null) {
+            tickets.forEach(expirationIndex::index);
+        }
+    }
+
+    protected BaseTicketEntity getNewTicketEntityFrom(final Ticket ticket) {
+        val ticketEntity = getTicketEntityFrom(ticket);
+        if (ticket instanceof TicketGrantingTicketAwareTicket grantingTicketAware && grantingTicketAware.getTicketGrantingTicket() != null) {
+            val parentId = digestIdentifier(grantingTicketAware.getTicketGrantingTicket().getId());
+            ticketEntity.setParentId(parentId);
+        }
+        return ticketEntity;
+    }
+
     protected BaseTicketEntity getTicketEntityFrom(final Ticket ticket) {
         return FunctionUtils.doUnchecked(() -> {
             val encodeTicket = encodeTicket(ticket);
             return getJpaTicketEntityFactory()
                 .fromTicket(encodeTicket)
                 .setPrincipalId(digestIdentifier(getPrincipalIdFrom(ticket)))
+                .setExpiresAt(determineExpirationTime(ticket))
                 .setAttributes(collectAndDigestTicketAttributes(ticket));
         });
     }
@@ -157,6 +212,16 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         }));
     }
 
+    @Override
+    public void write(final TicketRegistryBatch batch) {
+        transactionTemplate.executeWithoutResult(Unchecked.consumer(status -> {
+            LOGGER.trace("Writing [{}] operation(s) in a single transaction", batch.getOperations().size());
+            for (val operation : batch.getOperations()) {
+                operation.apply(this);
+            }
+        }));
+    }
+
     /**
      * This method purposefully doesn't lock any rows, because the stream traversing can take an indeterminate
      * amount of time, and logging in to an application with an existing TGT will update the TGT row in the database.
@@ -297,6 +362,128 @@ public class JpaTicketRegistry extends AbstractTicketRegistry {
         return Objects.requireNonNull(result);
     }
 
+    /**
+     * Gets ticket entities whose expiration time is not recorded, ordered by id and starting
+     * after the given id, up to the given limit. These are rows written before expiration times
+     * were recorded, or tickets whose expiration cannot be determined ahead of time, and each
+     * must be examined individually.
+     *
+     * @param afterId the id after which entities are returned, or null to start from the beginning
+     * @param limit   the limit
+     * @return the ticket entities
+     */
+    public List<BaseTicketEntity> getTicketEntitiesWithUnknownExpiration(final String afterId, final int limit) {
+        return transactionTemplate.execute(status -> {
+            val factory = getJpaTicketEntityFactory();
+            val sql = afterId == null
+                ? String.format("SELECT t FROM %s t WHERE t.expiresAt IS NULL ORDER BY t.id", factory.getEntityName())
+                : String.format("SELECT t FROM %s t WHERE t.expiresAt IS NULL AND t.id > :id ORDER BY t.id", factory.getEntityName());
+            val query = entityManager.createQuery(sql, factory.getType()).setMaxResults(limit);
+            if (afterId != null) {
+                query.setParameter("id", afterId);
+            }
+            return query.getResultList();
+        });
+    }
+
+    /**
+     * Gets ticket entities whose recorded expiration time is before the given instant,
+     * and whose expiration should be processed individually, ordered by expiration time and id
+     * and starting after the given entity, up to the given limit.
+     * These are ticket-granting and proxy-granting tickets, since their removal must be
+     * accompanied by a logout, or all tickets if ticket types cannot be told apart
+     * because ticket encryption is turned on.
+     *
+     * @param expirationTime the expiration time
+     * @param after          the entity after which entities are returned, or null to start from the beginning
+     * @param limit          the limit
+     * @return the ticket entities
+     */
+    public List<BaseTicketEntity> getExpiredTicketGrantingTicketEntities(final ZonedDateTime expirationTime,
+                                                                         final BaseTicketEntity after,
+                                                                         final int limit) {
+        return transactionTemplate.execute(status -> {
+            val factory = getJpaTicketEntityFactory();
+            val criteria = new ArrayList<String>();
+            criteria.add("t.expiresAt <= :expiresAt");
+            if (!isCipherExecutorEnabled()) {
+                criteria.add("t.type IN :types");
+            }
+            if (after != null) {
+                criteria.add("(t.expiresAt > :afterExpiresAt OR (t.expiresAt = :afterExpiresAt AND t.id > :afterId))");
+            }
+            val sql = String.format("SELECT t FROM %s t WHERE %s ORDER BY t.expiresAt, t.id",
+                factory.getEntityName(), String.join(" AND ", criteria));
+            val query = entityManager.createQuery(sql, factory.getType())
+                .setParameter("expiresAt", expirationTime)
+                .setMaxResults(limit);
+            if (!isCipherExecutorEnabled()) {
+                query.setParameter("types", getTicketGrantingTicketTypeNames());
+            }
+            if (after != null) {
+                query.setParameter("afterExpiresAt", after.getExpiresAt());
+                query.setParameter("afterId", after.getId());
+            }
+            return query.getResultList();
+        });
+    }
+
+    /**
+     * Convert the ticket entity back into a ticket, decoding it if necessary.
+     *
+     * @param entity the entity
+     * @return the ticket, if it could be decoded
+     */
+    public Optional<Ticket> toTicket(final BaseTicketEntity entity) {
+        val ticket = getJpaTicketEntityFactory().toTicket(entity);
+        return Optional.ofNullable(decodeTicket(ticket));
+    }
+
+    /**
+     * Delete tickets whose recorded expiration time is before the given instant,
+     * along with their child tickets, up to the given limit. Ticket-granting and proxy-granting
+     * tickets are left alone and are expected to be processed individually; if ticket types
+     * cannot be told apart because ticket encryption is turned on, nothing is deleted.
+     * Tickets without a recorded expiration time are never matched here, and are expected
+     * to be examined individually via {@link #getTicketEntitiesWithUnknownExpiration(String, int)}.
+     *
+     * @param expirationTime the expiration time
+     * @param limit          the limit
+     * @return the number of deleted tickets
+     */
+    public int deleteExpiredTickets(final ZonedDateTime expirationTime, final int limit) {
+        if (isCipherExecutorEnabled()) {
+            return 0;
+        }
+        val result = transactionTemplate.execute(status -> {
+            val factory = getJpaTicketEntityFactory();
+            val selectSql = String.format("SELECT t.id FROM %s t WHERE t.type NOT IN :types AND t.expiresAt <= :expiresAt",
+                factory.getEntityName());
+            val ticketIds = entityManager.createQuery(selectSql, String.class)
+                .setParameter("types", getTicketGrantingTicketTypeNames())
+                .setParameter("expiresAt", expirationTime)
+                .setMaxResults(limit)
+                .getResultList();
+            if (ticketIds.isEmpty()) {
+                return 0;
+            }
+            val deleteSql = String.format("DELETE FROM %s t WHERE t.id IN :ids OR t.parentId IN :ids", factory.getEntityName());
+            LOGGER.trace("Deleting [{}] expired ticket(s) with query [{}]", ticketIds.size(), deleteSql);
+            return entityManager.createQuery(deleteSql)
+                .setParameter("ids", ticketIds)
+                .executeUpdate();
+        });
+        return Objects.requireNonNull(result);
+    }
+
+    protected List<String> getTicketGrantingTicketTypeNames() {
+        return Stream.of(TicketGrantingTicket.class, ProxyGrantingTicket.class)
+            .map(ticketCatalog::findTicketDefinition)
+            .flatMap(Optional::stream)
+            .map(definition -> definition.getImplementationClass().getName())
+            .toList();
+    }
+
     protected JpaTicketEntityFactory getJpaTicketEntityFactory() {
         val jpa = casProperties.getTicket().getRegistry().getJpa();
         return new JpaTicketEntityFactory(jpa.getDialect());
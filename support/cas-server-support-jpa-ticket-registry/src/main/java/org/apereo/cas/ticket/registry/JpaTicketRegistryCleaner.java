@@ -0,0 +1,120 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.logout.LogoutManager;
+import org.apereo.cas.ticket.registry.generic.BaseTicketEntity;
+import org.apereo.cas.util.lock.LockRepository;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.time.StopWatch;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Clock;
+import java.time.ZonedDateTime;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link JpaTicketRegistryCleaner} that relies on the expiration time recorded
+ * for each ticket row to remove expired tickets in chunks, rather than scanning the entire table.
+ * Rows whose expiration time is not recorded are examined individually first, and their expiration
+ * time is recorded once it can be determined. Ticket-granting tickets that are due are then loaded
+ * so that logout may be performed for each before removal, walking through due rows by expiration
+ * time and id; all other expired tickets and their children are removed directly in the database.
+ * Each chunk runs and commits in its own transaction, so that progress is kept if the sweep is interrupted
+ * and locks are not held for the duration of the entire sweep.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class JpaTicketRegistryCleaner extends DefaultTicketRegistryCleaner {
+    private final JpaTicketRegistry jpaTicketRegistry;
+
+    private final TransactionOperations transactionTemplate;
+
+    private final int batchSize;
+
+    private final Clock clock;
+
+    public JpaTicketRegistryCleaner(final LockRepository lockRepository,
+                                    final LogoutManager logoutManager,
+                                    final JpaTicketRegistry ticketRegistry,
+                                    final TransactionOperations transactionTemplate,
+                                    final int batchSize) {
+        this(lockRepository, logoutManager, ticketRegistry, transactionTemplate, batchSize, Clock.systemUTC());
+    }
+
+    public JpaTicketRegistryCleaner(final LockRepository lockRepository,
+                                    final LogoutManager logoutManager,
+                                    final JpaTicketRegistry ticketRegistry,
+                                    final TransactionOperations transactionTemplate,
+                                    final int batchSize,
+                                    final Clock clock) {
+        super(lockRepository, logoutManager, ticketRegistry);
+        this.jpaTicketRegistry = ticketRegistry;
+        this.transactionTemplate = transactionTemplate;
+        this.batchSize = Math.max(1, batchSize);
+        this.clock = clock;
+    }
+
+    @Override
+    protected int cleanInternal() {
+        val stopWatch = StopWatch.createStarted();
+        val now = ZonedDateTime.now(clock);
+        val examined = new AtomicInteger();
+        val ticketsDeleted = new AtomicInteger();
+
+        var entities = cleanChunk(() -> jpaTicketRegistry.getTicketEntitiesWithUnknownExpiration(null, batchSize), examined, ticketsDeleted);
+        while (entities.size() >= batchSize) {
+            val after = entities.get(entities.size() - 1).getId();
+            entities = cleanChunk(() -> jpaTicketRegistry.getTicketEntitiesWithUnknownExpiration(after, batchSize), examined, ticketsDeleted);
+        }
+
+        entities = cleanChunk(() -> jpaTicketRegistry.getExpiredTicketGrantingTicketEntities(now, null, batchSize), examined, ticketsDeleted);
+        while (entities.size() >= batchSize) {
+            val after = entities.get(entities.size() - 1);
+            entities = cleanChunk(() -> jpaTicketRegistry.getExpiredTicketGrantingTicketEntities(now, after, batchSize), examined, ticketsDeleted);
+        }
+
+        var deleted = deleteExpiredTickets(now);
+        while (deleted > 0) {
+            ticketsDeleted.addAndGet(deleted);
+            deleted = deleteExpiredTickets(now);
+        }
+
+        stopWatch.stop();
+        getStatistics().record(stopWatch.getTime(), examined.get(), ticketsDeleted.get());
+        LOGGER.info("[{}] expired tickets removed after examining [{}] tickets in [{}] ms.",
+            ticketsDeleted.get(), examined.get(), stopWatch.getTime());
+        return ticketsDeleted.get();
+    }
+
+    private List<BaseTicketEntity> cleanChunk(final Supplier<List<BaseTicketEntity>> chunk,
+                                              final AtomicInteger examined,
+                                              final AtomicInteger ticketsDeleted) {
+        return Objects.requireNonNull(transactionTemplate.execute(status -> {
+            val entities = chunk.get();
+            entities.stream()
+                .map(jpaTicketRegistry::toTicket)
+                .flatMap(Optional::stream)
+                .forEach(ticket -> {
+                    examined.incrementAndGet();
+                    if (ticket.isExpired()) {
+                        ticketsDeleted.addAndGet(cleanTicket(ticket));
+                    } else if (TicketRegistryExpirationIndex.determineExpirationTime(ticket).isPresent()) {
+                        LOGGER.trace("Ticket [{}] is not yet expired; recording its expiration time again", ticket.getId());
+                        jpaTicketRegistry.updateTicket(ticket);
+                    }
+                });
+            return entities;
+        }));
+    }
+
+    private int deleteExpiredTickets(final ZonedDateTime now) {
+        return Objects.requireNonNull(transactionTemplate.execute(status -> jpaTicketRegistry.deleteExpiredTickets(now, batchSize)));
+    }
+}
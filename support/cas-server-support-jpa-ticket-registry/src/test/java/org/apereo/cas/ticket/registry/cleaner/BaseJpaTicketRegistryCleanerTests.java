@@ -87,11 +87,11 @@ public abstract class BaseJpaTicketRegistryCleanerTests {
 
     @Autowired
     @Qualifier(TicketRegistry.BEAN_NAME)
-    private TicketRegistry ticketRegistry;
+    protected TicketRegistry ticketRegistry;
 
     @Autowired
     @Qualifier("ticketRegistryCleaner")
-    private TicketRegistryCleaner ticketRegistryCleaner;
+    protected TicketRegistryCleaner ticketRegistryCleaner;
 
     @BeforeEach
     public void cleanup() {
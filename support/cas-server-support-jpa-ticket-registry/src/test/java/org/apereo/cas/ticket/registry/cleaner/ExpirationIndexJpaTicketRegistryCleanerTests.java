@@ -0,0 +1,92 @@
+package org.apereo.cas.ticket.registry.cleaner;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketFactory;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.TransientSessionTicket;
+import org.apereo.cas.ticket.TransientSessionTicketFactory;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.registry.JpaTicketEntityFactory;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.support.TransactionOperations;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import java.util.ArrayList;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link ExpirationIndexJpaTicketRegistryCleanerTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@TestPropertySource(properties = {
+    "cas.ticket.registry.cleaner.mode=EXPIRATION_INDEX",
+    "cas.ticket.registry.jpa.cleaner-batch-size=2"
+})
+@Tag("JDBC")
+class ExpirationIndexJpaTicketRegistryCleanerTests extends BaseJpaTicketRegistryCleanerTests {
+    @Autowired
+    private CasConfigurationProperties casProperties;
+
+    @Autowired
+    @Qualifier("jpaTicketRegistryTransactionTemplate")
+    private TransactionOperations transactionTemplate;
+
+    @PersistenceContext(unitName = "jpaTicketRegistryContext")
+    private EntityManager entityManager;
+
+    @Test
+    void verifyCleaningInChunks() throws Exception {
+        val transientFactory = (TransientSessionTicketFactory) ticketFactory.get(TransientSessionTicket.class);
+        for (var i = 0; i < 5; i++) {
+            val transientTicket = transientFactory.create(RegisteredServiceTestUtils.getService());
+            ticketRegistry.addTicket(transientTicket);
+            transientTicket.markTicketExpired();
+            ticketRegistry.updateTicket(transientTicket);
+        }
+        val active = transientFactory.create(RegisteredServiceTestUtils.getService());
+        ticketRegistry.addTicket(active);
+        assertEquals(5, ticketRegistryCleaner.clean());
+        assertEquals(1, ticketRegistry.getTickets().size());
+        assertNotNull(ticketRegistry.getTicket(active.getId()));
+    }
+
+    @Test
+    void verifyCleaningTicketsWithUnknownExpiration() throws Exception {
+        val active = new ArrayList<TicketGrantingTicket>();
+        for (var i = 0; i < 2; i++) {
+            val tgt = new TicketGrantingTicketImpl(TicketGrantingTicket.PREFIX + '-' + UUID.randomUUID(),
+                CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+            ticketRegistry.addTicket(tgt);
+            active.add(tgt);
+        }
+        val tgtFactory = (TicketGrantingTicketFactory) ticketFactory.get(TicketGrantingTicket.class);
+        for (var i = 0; i < 3; i++) {
+            val tgt = tgtFactory.create(RegisteredServiceTestUtils.getAuthentication(),
+                RegisteredServiceTestUtils.getService(), TicketGrantingTicket.class);
+            ticketRegistry.addTicket(tgt);
+            tgt.markTicketExpired();
+            ticketRegistry.updateTicket(tgt);
+        }
+        val entityName = new JpaTicketEntityFactory(casProperties.getTicket().getRegistry().getJpa().getDialect()).getEntityName();
+        transactionTemplate.executeWithoutResult(status ->
+            entityManager.createQuery(String.format("UPDATE %s t SET t.expiresAt = NULL", entityName)).executeUpdate());
+
+        assertEquals(3, ticketRegistryCleaner.clean());
+        assertEquals(2, ticketRegistry.sessionCount());
+        active.forEach(tgt -> assertNotNull(ticketRegistry.getTicket(tgt.getId())));
+    }
+}
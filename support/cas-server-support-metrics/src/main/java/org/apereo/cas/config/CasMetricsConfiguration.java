@@ -1,15 +1,42 @@
 package org.apereo.cas.config;
 
+import org.apereo.cas.audit.AuditTrailExecutionPlan;
+import org.apereo.cas.audit.spi.AbstractAuditTrailManager;
+import org.apereo.cas.audit.spi.AuditTrailRecordPipeline;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
+import org.apereo.cas.support.events.dao.AsynchronousCasEventRepository;
+import org.apereo.cas.ticket.registry.DefaultTicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.TicketRegistryCleaner;
+import org.apereo.cas.ticket.registry.TicketRegistryCleanerStatistics;
+import org.apereo.cas.util.scripting.ExecutableCompiledGroovyScript;
+import org.apereo.cas.util.scripting.GroovyScriptResourceCacheManager;
+import org.apereo.cas.util.scripting.ScriptExecutionStatistics;
+import org.apereo.cas.util.scripting.ScriptResourceCacheManager;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import org.apereo.cas.web.cookie.CookieValueManager;
+import org.apereo.cas.web.support.mgmr.DecodedCookieValueCache;
+import org.apereo.cas.web.support.mgmr.EncryptedCookieValueManager;
 
 import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.val;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * This is {@link CasMetricsConfiguration} that attempts to create Spring-managed beans
  * backed by external configuration.
@@ -25,4 +52,156 @@ public class CasMetricsConfiguration {
     public TimedAspect timedAspect(final MeterRegistry registry) {
         return new TimedAspect(registry);
     }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "ticketGrantingCookieMeterBinder")
+    public MeterBinder ticketGrantingCookieMeterBinder(
+        @Qualifier("cookieValueManager") final ObjectProvider<CookieValueManager> cookieValueManager) {
+        return registry -> cookieValueManager.ifAvailable(manager -> {
+            if (manager instanceof EncryptedCookieValueManager encrypted && encrypted.getDecodedCookieValueCache() != null) {
+                val cache = encrypted.getDecodedCookieValueCache();
+                CaffeineCacheMetrics.monitor(registry, cache.getCache(), "ticketGrantingCookie");
+                TimeGauge.builder("cas.tgc.cache.saved", cache, TimeUnit.NANOSECONDS, DecodedCookieValueCache::getSavedDecodingTime)
+                    .description("Estimated time saved by reading decoded ticket-granting cookies from the cache")
+                    .register(registry);
+                TimeGauge.builder("cas.tgc.decoding.average", cache, TimeUnit.NANOSECONDS, DecodedCookieValueCache::getAverageDecodingTime)
+                    .description("Average time spent verifying and decrypting ticket-granting cookies")
+                    .register(registry);
+            }
+        });
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "asynchronousCasEventRepositoryMeterBinder")
+    public MeterBinder asynchronousCasEventRepositoryMeterBinder(
+        @Qualifier("asynchronousCasEventRepository")
+        final ObjectProvider<AsynchronousCasEventRepository> asynchronousCasEventRepository) {
+        return registry -> asynchronousCasEventRepository.ifAvailable(repository -> {
+            Gauge.builder("cas.events.queue.size", repository, AsynchronousCasEventRepository::getQueueSize)
+                .description("Number of events waiting to be written to the event repository")
+                .register(registry);
+            TimeGauge.builder("cas.events.queue.lag", repository, TimeUnit.NANOSECONDS, AsynchronousCasEventRepository::getLag)
+                .description("Time the oldest event in the last batch spent waiting to be written to the event repository")
+                .register(registry);
+            FunctionCounter.builder("cas.events.dropped", repository, AsynchronousCasEventRepository::getDroppedEvents)
+                .description("Number of events dropped because the event queue was full")
+                .register(registry);
+            FunctionCounter.builder("cas.events.saved", repository, AsynchronousCasEventRepository::getSavedEvents)
+                .description("Number of events written to the event repository")
+                .register(registry);
+        });
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "auditTrailPipelineMeterBinder")
+    public MeterBinder auditTrailPipelineMeterBinder(
+        @Qualifier(AuditTrailExecutionPlan.BEAN_NAME)
+        final ObjectProvider<AuditTrailExecutionPlan> auditTrailExecutionPlan) {
+        return registry -> auditTrailExecutionPlan.ifAvailable(plan -> plan.getAuditTrailManagers()
+            .stream()
+            .filter(AbstractAuditTrailManager.class::isInstance)
+            .map(AbstractAuditTrailManager.class::cast)
+            .filter(AbstractAuditTrailManager::isAsynchronous)
+            .forEach(manager -> {
+                val tags = Tags.of("manager", manager.getClass().getSimpleName());
+                Gauge.builder("cas.audit.pipeline.queue.size", manager,
+                        m -> m.getPipeline().map(AuditTrailRecordPipeline::getQueueDepth).orElse(0))
+                    .tags(tags)
+                    .description("Number of audit records waiting to be written to the audit storage service")
+                    .register(registry);
+                FunctionCounter.builder("cas.audit.pipeline.written", manager,
+                        m -> m.getPipeline().map(AuditTrailRecordPipeline::getWrittenCount).orElse(0L))
+                    .tags(tags)
+                    .description("Number of audit records written to the audit storage service")
+                    .register(registry);
+                FunctionCounter.builder("cas.audit.pipeline.dropped", manager,
+                        m -> m.getPipeline().map(AuditTrailRecordPipeline::getDroppedCount).orElse(0L))
+                    .tags(tags)
+                    .description("Number of audit records dropped because the audit queue was full")
+                    .register(registry);
+                FunctionCounter.builder("cas.audit.pipeline.spilled", manager,
+                        m -> m.getPipeline().map(AuditTrailRecordPipeline::getSpilledCount).orElse(0L))
+                    .tags(tags)
+                    .description("Number of audit records spilled to disk because the audit queue was full")
+                    .register(registry);
+                FunctionCounter.builder("cas.audit.pipeline.failed", manager,
+                        m -> m.getPipeline().map(AuditTrailRecordPipeline::getFailedCount).orElse(0L))
+                    .tags(tags)
+                    .description("Number of audit records that failed to be written to the audit storage service")
+                    .register(registry);
+            }));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "ticketRegistryCleanerMeterBinder")
+    public MeterBinder ticketRegistryCleanerMeterBinder(
+        @Qualifier("ticketRegistryCleaner") final ObjectProvider<TicketRegistryCleaner> ticketRegistryCleaner) {
+        return registry -> ticketRegistryCleaner.ifAvailable(cleaner -> {
+            if (cleaner instanceof DefaultTicketRegistryCleaner defaultCleaner) {
+                val statistics = defaultCleaner.getStatistics();
+                FunctionTimer.builder("cas.ticket.registry.cleaner.sweeps", statistics,
+                        TicketRegistryCleanerStatistics::getSweepCount,
+                        TicketRegistryCleanerStatistics::getTotalSweepDuration, TimeUnit.MILLISECONDS)
+                    .description("Number and total duration of ticket registry cleaner sweeps")
+                    .register(registry);
+                TimeGauge.builder("cas.ticket.registry.cleaner.sweep.last", statistics, TimeUnit.MILLISECONDS,
+                        TicketRegistryCleanerStatistics::getLastSweepDuration)
+                    .description("Duration of the last ticket registry cleaner sweep")
+                    .register(registry);
+                FunctionCounter.builder("cas.ticket.registry.cleaner.tickets.examined", statistics,
+                        TicketRegistryCleanerStatistics::getTotalTicketsExamined)
+                    .description("Number of tickets examined by the ticket registry cleaner")
+                    .register(registry);
+                FunctionCounter.builder("cas.ticket.registry.cleaner.tickets.removed", statistics,
+                        TicketRegistryCleanerStatistics::getTotalTicketsRemoved)
+                    .description("Number of expired tickets removed by the ticket registry cleaner")
+                    .register(registry);
+            }
+        });
+    }
+
+    @Bean
+    @ConditionalOnMissingBean(name = "groovyScriptMeterBinder")
+    public MeterBinder groovyScriptMeterBinder(
+        @Qualifier(ScriptResourceCacheManager.BEAN_NAME)
+        final ObjectProvider<ScriptResourceCacheManager<String, ExecutableCompiledGroovyScript>> scriptResourceCacheManager) {
+        return registry -> scriptResourceCacheManager.ifAvailable(manager -> {
+            if (manager instanceof GroovyScriptResourceCacheManager groovyManager) {
+                groovyManager.addListener(new GroovyScriptResourceCacheManager.CacheListener() {
+                    @Override
+                    public void onScriptCached(final String key, final ExecutableCompiledGroovyScript script) {
+                        removeGroovyScriptMeters(registry, key);
+                        val statistics = script.getStatistics();
+                        val tags = Tags.of("script", key);
+                        FunctionTimer.builder("cas.groovy.script.executions", statistics,
+                                ScriptExecutionStatistics::getExecutionCount,
+                                ScriptExecutionStatistics::getTotalExecutionTime, TimeUnit.NANOSECONDS)
+                            .tags(tags)
+                            .description("Number and total duration of groovy script executions")
+                            .register(registry);
+                        FunctionCounter.builder("cas.groovy.script.failures", statistics, ScriptExecutionStatistics::getFailureCount)
+                            .tags(tags)
+                            .description("Number of groovy script executions that failed")
+                            .register(registry);
+                        TimeGauge.builder("cas.groovy.script.execution.max", statistics, TimeUnit.NANOSECONDS,
+                                ScriptExecutionStatistics::getMaxExecutionTime)
+                            .tags(tags)
+                            .description("Longest groovy script execution")
+                            .register(registry);
+                    }
+
+                    @Override
+                    public void onScriptRemoved(final String key, final ExecutableCompiledGroovyScript script) {
+                        removeGroovyScriptMeters(registry, key);
+                    }
+                });
+            }
+        });
+    }
+
+    private static void removeGroovyScriptMeters(final MeterRegistry registry, final String key) {
+        registry.find("cas.groovy.script.executions").tag("script", key).meters().forEach(registry::remove);
+        registry.find("cas.groovy.script.failures").tag("script", key).meters().forEach(registry::remove);
+        registry.find("cas.groovy.script.execution.max").tag("script", key).meters().forEach(registry::remove);
+    }
 }
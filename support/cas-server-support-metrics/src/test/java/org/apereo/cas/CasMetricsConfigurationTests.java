@@ -1,9 +1,17 @@
 package org.apereo.cas;
 
+import org.apereo.cas.audit.AuditTrailExecutionPlan;
+import org.apereo.cas.audit.spi.AbstractAuditTrailManager;
+import org.apereo.cas.audit.spi.plan.DefaultAuditTrailExecutionPlan;
 import org.apereo.cas.config.CasMetricsConfiguration;
 import org.apereo.cas.config.CasMetricsRepositoryConfiguration;
+import org.apereo.cas.util.scripting.GroovyScriptResourceCacheManager;
+import org.apereo.cas.util.scripting.ScriptResourceCacheManager;
 
 import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.val;
+import org.apereo.inspektr.audit.AuditActionContext;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -12,7 +20,12 @@ import org.springframework.boot.actuate.autoconfigure.metrics.MetricsAutoConfigu
 import org.springframework.boot.actuate.autoconfigure.metrics.export.simple.SimpleMetricsExportAutoConfiguration;
 import org.springframework.boot.autoconfigure.aop.AopAutoConfiguration;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
 import org.springframework.cloud.autoconfigure.RefreshAutoConfiguration;
+import org.springframework.context.annotation.Bean;
+
+import java.util.Map;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -28,7 +41,8 @@ import static org.junit.jupiter.api.Assertions.*;
     CasMetricsConfiguration.class,
     CasMetricsRepositoryConfiguration.class,
     RefreshAutoConfiguration.class,
-    AopAutoConfiguration.class
+    AopAutoConfiguration.class,
+    CasMetricsConfigurationTests.ScriptResourceCacheManagerTestConfiguration.class
 },
     properties = "management.metrics.export.simple.enabled=true")
 @Tag("Metrics")
@@ -37,8 +51,75 @@ class CasMetricsConfigurationTests {
     @Qualifier("timedAspect")
     private TimedAspect timedAspect;
 
+    @Autowired
+    @Qualifier(ScriptResourceCacheManager.BEAN_NAME)
+    private GroovyScriptResourceCacheManager scriptResourceCacheManager;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @Test
     void verifyOperation() {
         assertNotNull(timedAspect);
     }
+
+    @Test
+    void verifyGroovyScriptMeters() {
+        val script = scriptResourceCacheManager.resolveScriptableResource("groovy { return name }", "metrics-script");
+        val key = ScriptResourceCacheManager.computeKey("metrics-script");
+        script.setBinding(Map.of("name", "cas"));
+        assertEquals("cas", script.execute(new Object[]{}, String.class));
+
+        val timer = meterRegistry.find("cas.groovy.script.executions").tag("script", key).functionTimer();
+        assertNotNull(timer);
+        assertEquals(1, timer.count());
+        assertNotNull(meterRegistry.find("cas.groovy.script.failures").tag("script", key).functionCounter());
+
+        scriptResourceCacheManager.remove(key);
+        assertNull(meterRegistry.find("cas.groovy.script.executions").tag("script", key).functionTimer());
+    }
+
+    @Test
+    void verifyAuditTrailPipelineMeters() {
+        val tag = AsynchronousAuditTrailManager.class.getSimpleName();
+        assertNotNull(meterRegistry.find("cas.audit.pipeline.queue.size").tag("manager", tag).gauge());
+        assertNotNull(meterRegistry.find("cas.audit.pipeline.written").tag("manager", tag).functionCounter());
+        assertNotNull(meterRegistry.find("cas.audit.pipeline.dropped").tag("manager", tag).functionCounter());
+        assertNotNull(meterRegistry.find("cas.audit.pipeline.spilled").tag("manager", tag).functionCounter());
+        assertEquals(0, meterRegistry.find("cas.audit.pipeline.failed").tag("manager", tag).functionCounter().count());
+    }
+
+    @TestConfiguration(value = "ScriptResourceCacheManagerTestConfiguration", proxyBeanMethods = false)
+    static class ScriptResourceCacheManagerTestConfiguration {
+        @Bean(name = ScriptResourceCacheManager.BEAN_NAME)
+        public GroovyScriptResourceCacheManager scriptResourceCacheManager() {
+            return new GroovyScriptResourceCacheManager();
+        }
+
+        @Bean(name = AuditTrailExecutionPlan.BEAN_NAME)
+        public AuditTrailExecutionPlan auditTrailExecutionPlan() {
+            val plan = new DefaultAuditTrailExecutionPlan();
+            plan.registerAuditTrailManager(new AsynchronousAuditTrailManager());
+            return plan;
+        }
+    }
+
+    private static final class AsynchronousAuditTrailManager extends AbstractAuditTrailManager {
+        AsynchronousAuditTrailManager() {
+            super(true);
+        }
+
+        @Override
+        protected void saveAuditRecord(final AuditActionContext audit) {
+        }
+
+        @Override
+        public Set<? extends AuditActionContext> getAuditRecords(final Map<WhereClauseFields, Object> whereClause) {
+            return Set.of();
+        }
+
+        @Override
+        public void removeAll() {
+        }
+    }
 }
@@ -0,0 +1,51 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.serialization.BinaryTicketSerializationManager;
+import org.apereo.cas.util.TicketGrantingTicketIdGenerator;
+import org.apereo.cas.util.junit.EnabledIfListeningOnPort;
+
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Tag;
+import org.springframework.data.mongodb.core.query.Criteria;
+import org.springframework.data.mongodb.core.query.Query;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link MongoDbBinaryTicketRegistryTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@EnabledIfListeningOnPort(port = 27017)
+@Tag("MongoDb")
+@TestPropertySource(properties = "cas.ticket.registry.core.binary-serialization-ticket-types=TGT")
+class MongoDbBinaryTicketRegistryTests extends MongoDbTicketRegistryTests {
+
+    @RepeatedTest(1)
+    public void verifySessionsForBinaryTickets() throws Exception {
+        val principalId = UUID.randomUUID().toString();
+        val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(TicketGrantingTicket.PREFIX);
+        getNewTicketRegistry().addTicket(new TicketGrantingTicketImpl(tgtId,
+            CoreAuthenticationTestUtils.getAuthentication(principalId), NeverExpiresExpirationPolicy.INSTANCE));
+
+        val query = new Query(Criteria.where(MongoDbTicketDocument.FIELD_NAME_PRINCIPAL).is(principalId));
+        val document = getMongoDbTicketRegistryTemplate().findOne(query, MongoDbTicketDocument.class, "ticketGrantingTicketsCollection");
+        assertNotNull(document);
+        assertTrue(BinaryTicketSerializationManager.isBinaryPayload(document.getJson()));
+
+        try (val results = getNewTicketRegistry().getSessionsFor(principalId)) {
+            assertEquals(tgtId, results.findFirst().orElseThrow().getId());
+        }
+        assertEquals(1, getNewTicketRegistry().countSessionsFor(principalId));
+    }
+}
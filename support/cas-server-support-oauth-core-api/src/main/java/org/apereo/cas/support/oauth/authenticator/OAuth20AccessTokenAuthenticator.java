@@ -1,6 +1,7 @@
 package org.apereo.cas.support.oauth.authenticator;
 
 import org.apereo.cas.support.oauth.OAuth20Constants;
+import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenCache;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenEncoder;
 import org.apereo.cas.ticket.accesstoken.OAuth20AccessToken;
 import org.apereo.cas.ticket.registry.TicketRegistry;
@@ -39,9 +40,12 @@ public class OAuth20AccessTokenAuthenticator implements Authenticator {
 
     private Set<String> requiredScopes = new LinkedHashSet<>();
 
+    private OAuth20JwtAccessTokenCache accessTokenCache;
+
     private String extractAccessTokenFrom(final TokenCredentials tokenCredentials) {
         return OAuth20JwtAccessTokenEncoder.builder()
             .accessTokenJwtBuilder(accessTokenJwtBuilder)
+            .accessTokenCache(accessTokenCache)
             .build()
             .decode(tokenCredentials.getToken());
     }
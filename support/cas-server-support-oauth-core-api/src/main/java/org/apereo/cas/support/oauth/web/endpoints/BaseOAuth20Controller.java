@@ -35,6 +35,7 @@ public abstract class BaseOAuth20Controller<T extends OAuth20ConfigurationContex
     protected String extractAccessTokenFrom(final String token) {
         return OAuth20JwtAccessTokenEncoder.builder()
             .accessTokenJwtBuilder(getConfigurationContext().getAccessTokenJwtBuilder())
+            .accessTokenCache(getConfigurationContext().getAccessTokenCache())
             .build()
             .decode(token);
     }
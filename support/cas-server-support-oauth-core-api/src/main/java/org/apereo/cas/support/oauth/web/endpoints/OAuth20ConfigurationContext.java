@@ -17,6 +17,7 @@ import org.apereo.cas.support.oauth.validator.token.OAuth20TokenRequestValidator
 import org.apereo.cas.support.oauth.web.OAuth20RequestParameterResolver;
 import org.apereo.cas.support.oauth.web.response.accesstoken.OAuth20TokenGenerator;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20AccessTokenResponseGenerator;
+import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenCache;
 import org.apereo.cas.support.oauth.web.response.callback.OAuth20AuthorizationResponseBuilder;
 import org.apereo.cas.support.oauth.web.response.callback.OAuth20InvalidAuthorizationResponseBuilder;
 import org.apereo.cas.support.oauth.web.views.ConsentApprovalViewResolver;
@@ -86,6 +87,8 @@ public class OAuth20ConfigurationContext {
 
     private final JwtBuilder accessTokenJwtBuilder;
 
+    private final OAuth20JwtAccessTokenCache accessTokenCache;
+
     private final OAuth20AccessTokenResponseGenerator accessTokenResponseGenerator;
 
     private final ObjectProvider<List<OAuth20TokenRequestValidator>> accessTokenGrantRequestValidators;
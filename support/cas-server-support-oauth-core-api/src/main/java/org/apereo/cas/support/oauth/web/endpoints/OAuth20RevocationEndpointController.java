@@ -27,6 +27,8 @@ import org.springframework.web.servlet.view.json.MappingJackson2JsonView;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 
+import java.util.Optional;
+
 /**
  * This is {@link OAuth20RevocationEndpointController}.
  *
@@ -145,6 +147,8 @@ public class OAuth20RevocationEndpointController<T extends OAuth20ConfigurationC
     protected void revokeToken(final String token) throws Exception {
         LOGGER.debug("Revoking token [{}]", token);
         getConfigurationContext().getTicketRegistry().deleteTicket(token);
+        Optional.ofNullable(getConfigurationContext().getAccessTokenCache())
+            .ifPresent(cache -> cache.invalidate(token));
     }
 
     protected OAuthRegisteredService getRegisteredServiceByClientId(final String clientId) {
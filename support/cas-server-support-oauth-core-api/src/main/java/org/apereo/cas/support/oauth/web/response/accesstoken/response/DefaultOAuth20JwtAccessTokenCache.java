@@ -0,0 +1,98 @@
+package org.apereo.cas.support.oauth.web.response.accesstoken.response;
+
+import org.apereo.cas.util.DigestUtils;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * This is {@link DefaultOAuth20JwtAccessTokenCache} that keeps verified tokens in a bounded cache,
+ * keyed by the digest of the token. Entries are kept no longer than the configured duration
+ * or the expiration of the token itself, whichever comes first. Tokens that fail
+ * verification are remembered for a short period of time, so that repeated attempts
+ * with the same token are rejected without verifying the token again.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class DefaultOAuth20JwtAccessTokenCache implements OAuth20JwtAccessTokenCache {
+    private final Cache<String, DecodedAccessToken> verifiedTokens;
+
+    private final Cache<String, RuntimeException> invalidTokens;
+
+    public DefaultOAuth20JwtAccessTokenCache(final long cacheSize,
+                                             final Duration duration,
+                                             final Duration invalidTokenDuration) {
+        this(cacheSize, duration, invalidTokenDuration, Clock.systemUTC());
+    }
+
+    public DefaultOAuth20JwtAccessTokenCache(final long cacheSize,
+                                             final Duration duration,
+                                             final Duration invalidTokenDuration,
+                                             final Clock clock) {
+        this.verifiedTokens = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfter(new DecodedAccessTokenExpiry(duration, clock))
+            .build();
+        this.invalidTokens = Caffeine.newBuilder()
+            .maximumSize(cacheSize)
+            .expireAfterWrite(invalidTokenDuration)
+            .build();
+    }
+
+    @Override
+    public String get(final String token, final Function<String, DecodedAccessToken> decoder) {
+        val key = DigestUtils.sha256(token);
+        val failure = invalidTokens.getIfPresent(key);
+        if (failure != null) {
+            LOGGER.debug("Access token was previously found to be invalid: [{}]", failure.getMessage());
+            throw failure;
+        }
+        try {
+            return verifiedTokens.get(key, k -> decoder.apply(token)).id();
+        } catch (final RuntimeException e) {
+            invalidTokens.put(key, e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void invalidate(final String accessTokenId) {
+        val removed = verifiedTokens.asMap().values().removeIf(token -> Objects.equals(token.id(), accessTokenId));
+        if (removed) {
+            LOGGER.debug("Removed cached entries for access token [{}]", accessTokenId);
+        }
+    }
+
+    private record DecodedAccessTokenExpiry(Duration duration, Clock clock) implements Expiry<String, DecodedAccessToken> {
+        @Override
+        public long expireAfterCreate(final String key, final DecodedAccessToken value, final long currentTime) {
+            if (value.expiration() == null) {
+                return duration.toNanos();
+            }
+            val remaining = Duration.between(clock.instant(), value.expiration());
+            return remaining.isNegative() ? 0 : Math.min(duration.toNanos(), remaining.toNanos());
+        }
+
+        @Override
+        public long expireAfterUpdate(final String key, final DecodedAccessToken value,
+                                      final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+
+        @Override
+        public long expireAfterRead(final String key, final DecodedAccessToken value,
+                                    final long currentTime, final long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package org.apereo.cas.support.oauth.web.response.accesstoken.response;
+
+import java.time.Instant;
+import java.util.function.Function;
+
+/**
+ * This is {@link OAuth20JwtAccessTokenCache} that remembers the outcome of decoding
+ * and verifying access tokens, so that repeated requests that present the same token
+ * may skip parsing, signature verification and decryption.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public interface OAuth20JwtAccessTokenCache {
+    /**
+     * Default bean name.
+     */
+    String BEAN_NAME = "oauthJwtAccessTokenCache";
+
+    /**
+     * No-op cache that always decodes the token.
+     *
+     * @return the cache
+     */
+    static OAuth20JwtAccessTokenCache noOp() {
+        return new OAuth20JwtAccessTokenCache() {
+            @Override
+            public String get(final String token, final Function<String, DecodedAccessToken> decoder) {
+                return decoder.apply(token).id();
+            }
+
+            @Override
+            public void invalidate(final String accessTokenId) {
+            }
+        };
+    }
+
+    /**
+     * Get the access token identifier for the given token,
+     * decoding and verifying the token if necessary.
+     *
+     * @param token   the token as presented by the client
+     * @param decoder the decoder
+     * @return the access token identifier
+     */
+    String get(String token, Function<String, DecodedAccessToken> decoder);
+
+    /**
+     * Invalidate all cached tokens that belong to the given access token.
+     *
+     * @param accessTokenId the access token id
+     */
+    void invalidate(String accessTokenId);
+
+    /**
+     * The decoded access token.
+     *
+     * @param id         the access token id
+     * @param expiration the expiration instant of the token, if any
+     */
+    record DecodedAccessToken(String id, Instant expiration) {
+    }
+}
@@ -22,6 +22,7 @@ import lombok.val;
 import org.apache.commons.lang3.StringUtils;
 
 import java.text.ParseException;
+import java.util.Date;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Optional;
@@ -49,13 +50,21 @@ public class OAuth20JwtAccessTokenEncoder implements CipherExecutor<String, Stri
 
     private final String issuer;
 
+    private final OAuth20JwtAccessTokenCache accessTokenCache;
+
     @Override
     public String decode(final String tokenId, final Object[] parameters) {
+        if (StringUtils.isBlank(tokenId)) {
+            LOGGER.warn("No access token is provided to decode");
+            return null;
+        }
+        return accessTokenCache == null
+            ? decodeAccessToken(tokenId).id()
+            : accessTokenCache.get(tokenId, this::decodeAccessToken);
+    }
+
+    protected OAuth20JwtAccessTokenCache.DecodedAccessToken decodeAccessToken(final String tokenId) {
         try {
-            if (StringUtils.isBlank(tokenId)) {
-                LOGGER.warn("No access token is provided to decode");
-                return null;
-            }
             val header = JWTParser.parse(tokenId).getHeader();
             var oAuthRegisteredService = (OAuthRegisteredService) this.registeredService;
             if (oAuthRegisteredService == null) {
@@ -67,11 +76,12 @@ public class OAuth20JwtAccessTokenEncoder implements CipherExecutor<String, Stri
                 }
             }
             val claims = accessTokenJwtBuilder.unpack(Optional.ofNullable(oAuthRegisteredService), tokenId);
-            return claims.getJWTID();
+            val expiration = Optional.ofNullable(claims.getExpirationTime()).map(Date::toInstant).orElse(null);
+            return new OAuth20JwtAccessTokenCache.DecodedAccessToken(claims.getJWTID(), expiration);
         } catch (final ParseException e) {
             LOGGER.trace(e.getMessage(), e);
         }
-        return tokenId;
+        return new OAuth20JwtAccessTokenCache.DecodedAccessToken(tokenId, null);
     }
 
     @Override
@@ -15,6 +15,7 @@ import org.apereo.cas.authentication.principal.PrincipalResolver;
 import org.apereo.cas.authentication.principal.ServiceFactory;
 import org.apereo.cas.authentication.principal.WebApplicationService;
 import org.apereo.cas.configuration.CasConfigurationProperties;
+import org.apereo.cas.configuration.support.Beans;
 import org.apereo.cas.configuration.features.CasFeatureModule;
 import org.apereo.cas.logout.LogoutExecutionPlanConfigurer;
 import org.apereo.cas.pac4j.DistributedJEESessionStore;
@@ -77,8 +78,10 @@ import org.apereo.cas.support.oauth.web.response.accesstoken.ext.AccessTokenGran
 import org.apereo.cas.support.oauth.web.response.accesstoken.ext.AccessTokenPasswordGrantRequestExtractor;
 import org.apereo.cas.support.oauth.web.response.accesstoken.ext.AccessTokenProofKeyCodeExchangeAuthorizationCodeGrantRequestExtractor;
 import org.apereo.cas.support.oauth.web.response.accesstoken.ext.AccessTokenRefreshTokenGrantRequestExtractor;
+import org.apereo.cas.support.oauth.web.response.accesstoken.response.DefaultOAuth20JwtAccessTokenCache;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20AccessTokenResponseGenerator;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20DefaultAccessTokenResponseGenerator;
+import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenCache;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenCipherExecutor;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20RegisteredServiceJwtAccessTokenCipherExecutor;
 import org.apereo.cas.support.oauth.web.response.callback.DefaultOAuth20AuthorizationModelAndViewBuilder;
@@ -240,6 +243,19 @@ public class CasOAuth20Configuration {
             return new OAuth20JwtBuilder(oauthAccessTokenJwtCipherExecutor, servicesManager,
                 oauthRegisteredServiceJwtAccessTokenCipherExecutor, casProperties);
         }
+
+        @ConditionalOnMissingBean(name = OAuth20JwtAccessTokenCache.BEAN_NAME)
+        @Bean
+        @RefreshScope(proxyMode = ScopedProxyMode.DEFAULT)
+        public OAuth20JwtAccessTokenCache oauthJwtAccessTokenCache(final CasConfigurationProperties casProperties) {
+            val accessToken = casProperties.getAuthn().getOauth().getAccessToken();
+            if (accessToken.getCacheSize() <= 0) {
+                return OAuth20JwtAccessTokenCache.noOp();
+            }
+            return new DefaultOAuth20JwtAccessTokenCache(accessToken.getCacheSize(),
+                Beans.newDuration(accessToken.getCacheDuration()),
+                Beans.newDuration(accessToken.getCacheInvalidTokenDuration()));
+        }
     }
 
     @Configuration(value = "CasOAuth20ContextConfiguration", proxyBeanMethods = false)
@@ -258,6 +274,8 @@ public class CasOAuth20Configuration {
             final TicketRegistry ticketRegistry,
             @Qualifier("accessTokenJwtBuilder")
             final JwtBuilder accessTokenJwtBuilder,
+            @Qualifier(OAuth20JwtAccessTokenCache.BEAN_NAME)
+            final OAuth20JwtAccessTokenCache oauthJwtAccessTokenCache,
             @Qualifier(AuditableExecution.AUDITABLE_EXECUTION_REGISTERED_SERVICE_ACCESS)
             final AuditableExecution registeredServiceAccessStrategyEnforcer,
             @Qualifier(CentralAuthenticationService.BEAN_NAME)
@@ -328,6 +346,7 @@ public class CasOAuth20Configuration {
                 .profileScopeToAttributesFilter(profileScopeToAttributesFilter)
                 .accessTokenGenerator(oauthTokenGenerator)
                 .accessTokenJwtBuilder(accessTokenJwtBuilder)
+                .accessTokenCache(oauthJwtAccessTokenCache)
                 .accessTokenResponseGenerator(accessTokenResponseGenerator)
                 .deviceTokenExpirationPolicy(deviceTokenExpirationPolicy)
                 .accessTokenGrantRequestValidators(oauthTokenRequestValidators)
@@ -1517,9 +1536,13 @@ public class CasOAuth20Configuration {
         public Authenticator oauthAccessTokenAuthenticator(
             @Qualifier("accessTokenJwtBuilder")
             final JwtBuilder accessTokenJwtBuilder,
+            @Qualifier(OAuth20JwtAccessTokenCache.BEAN_NAME)
+            final OAuth20JwtAccessTokenCache oauthJwtAccessTokenCache,
             @Qualifier(TicketRegistry.BEAN_NAME)
             final TicketRegistry ticketRegistry) {
-            return new OAuth20AccessTokenAuthenticator(ticketRegistry, accessTokenJwtBuilder);
+            val authenticator = new OAuth20AccessTokenAuthenticator(ticketRegistry, accessTokenJwtBuilder);
+            authenticator.setAccessTokenCache(oauthJwtAccessTokenCache);
+            return authenticator;
         }
     }
 
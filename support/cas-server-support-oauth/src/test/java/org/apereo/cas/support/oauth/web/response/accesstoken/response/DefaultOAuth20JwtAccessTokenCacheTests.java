@@ -0,0 +1,75 @@
+package org.apereo.cas.support.oauth.web.response.accesstoken.response;
+
+import lombok.val;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link DefaultOAuth20JwtAccessTokenCacheTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("OAuth")
+class DefaultOAuth20JwtAccessTokenCacheTests {
+    private final DefaultOAuth20JwtAccessTokenCache cache =
+        new DefaultOAuth20JwtAccessTokenCache(100, Duration.ofMinutes(1), Duration.ofMinutes(1));
+
+    @Test
+    void verifyVerifiedTokensAreCached() {
+        val count = new AtomicInteger();
+        val expiration = Instant.now().plusSeconds(60);
+        for (var i = 0; i < 3; i++) {
+            assertEquals("AT-1", cache.get("token", token -> {
+                count.incrementAndGet();
+                return new OAuth20JwtAccessTokenCache.DecodedAccessToken("AT-1", expiration);
+            }));
+        }
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    void verifyExpiredTokensAreNotCached() {
+        val count = new AtomicInteger();
+        val expiration = Instant.now().minusSeconds(60);
+        for (var i = 0; i < 3; i++) {
+            cache.get("token", token -> {
+                count.incrementAndGet();
+                return new OAuth20JwtAccessTokenCache.DecodedAccessToken("AT-1", expiration);
+            });
+        }
+        assertEquals(3, count.get());
+    }
+
+    @Test
+    void verifyInvalidTokensAreCached() {
+        val count = new AtomicInteger();
+        for (var i = 0; i < 3; i++) {
+            assertThrows(IllegalArgumentException.class, () -> cache.get("token", token -> {
+                count.incrementAndGet();
+                throw new IllegalArgumentException("Unable to validate JWT signature");
+            }));
+        }
+        assertEquals(1, count.get());
+    }
+
+    @Test
+    void verifyInvalidation() {
+        val count = new AtomicInteger();
+        Function<String, OAuth20JwtAccessTokenCache.DecodedAccessToken> decoder = token -> {
+            count.incrementAndGet();
+            return new OAuth20JwtAccessTokenCache.DecodedAccessToken("AT-1", null);
+        };
+        cache.get("token", decoder);
+        cache.invalidate("AT-1");
+        cache.get("token", decoder);
+        assertEquals(2, count.get());
+    }
+}
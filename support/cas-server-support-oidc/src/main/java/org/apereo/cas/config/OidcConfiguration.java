@@ -81,6 +81,7 @@ import org.apereo.cas.support.oauth.web.OAuth20RequestParameterResolver;
 import org.apereo.cas.support.oauth.web.response.OAuth20CasClientRedirectActionBuilder;
 import org.apereo.cas.support.oauth.web.response.accesstoken.OAuth20TokenGenerator;
 import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20AccessTokenResponseGenerator;
+import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenCache;
 import org.apereo.cas.support.oauth.web.response.callback.OAuth20AuthorizationModelAndViewBuilder;
 import org.apereo.cas.support.oauth.web.response.callback.OAuth20AuthorizationResponseBuilder;
 import org.apereo.cas.support.oauth.web.response.callback.OAuth20InvalidAuthorizationResponseBuilder;
@@ -591,12 +592,16 @@ public class OidcConfiguration {
             final OAuth20TokenSigningAndEncryptionService oidcTokenSigningAndEncryptionService,
             @Qualifier("accessTokenJwtBuilder")
             final JwtBuilder accessTokenJwtBuilder,
+            @Qualifier(OAuth20JwtAccessTokenCache.BEAN_NAME)
+            final OAuth20JwtAccessTokenCache oauthJwtAccessTokenCache,
             @Qualifier(TicketRegistry.BEAN_NAME)
             final TicketRegistry ticketRegistry,
             @Qualifier(ServicesManager.BEAN_NAME)
             final ServicesManager servicesManager) throws Exception {
-            return new OidcAccessTokenAuthenticator(ticketRegistry,
+            val authenticator = new OidcAccessTokenAuthenticator(ticketRegistry,
                 oidcTokenSigningAndEncryptionService, servicesManager, accessTokenJwtBuilder);
+            authenticator.setAccessTokenCache(oauthJwtAccessTokenCache);
+            return authenticator;
         }
 
         @ConditionalOnMissingBean(name = "oidcDynamicRegistrationAuthenticator")
@@ -607,12 +612,15 @@ public class OidcConfiguration {
             final OAuth20TokenSigningAndEncryptionService oidcTokenSigningAndEncryptionService,
             @Qualifier("accessTokenJwtBuilder")
             final JwtBuilder accessTokenJwtBuilder,
+            @Qualifier(OAuth20JwtAccessTokenCache.BEAN_NAME)
+            final OAuth20JwtAccessTokenCache oauthJwtAccessTokenCache,
             @Qualifier(TicketRegistry.BEAN_NAME)
             final TicketRegistry ticketRegistry,
             @Qualifier(ServicesManager.BEAN_NAME)
             final ServicesManager servicesManager) throws Exception {
             val authenticator = new OidcAccessTokenAuthenticator(ticketRegistry,
                 oidcTokenSigningAndEncryptionService, servicesManager, accessTokenJwtBuilder);
+            authenticator.setAccessTokenCache(oauthJwtAccessTokenCache);
             authenticator.setRequiredScopes(Set.of(OidcConstants.CLIENT_REGISTRATION_SCOPE));
             return authenticator;
         }
@@ -687,6 +695,8 @@ public class OidcConfiguration {
             final OidcAttributeToScopeClaimMapper oidcAttributeToScopeClaimMapper,
             @Qualifier("accessTokenJwtBuilder")
             final JwtBuilder accessTokenJwtBuilder,
+            @Qualifier(OAuth20JwtAccessTokenCache.BEAN_NAME)
+            final OAuth20JwtAccessTokenCache oauthJwtAccessTokenCache,
             @Qualifier("deviceTokenExpirationPolicy")
             final ExpirationPolicyBuilder deviceTokenExpirationPolicy,
             @Qualifier(OidcIssuerService.BEAN_NAME)
@@ -775,6 +785,7 @@ public class OidcConfiguration {
                 .singleLogoutServiceLogoutUrlBuilder(singleLogoutServiceLogoutUrlBuilder)
                 .idTokenSigningAndEncryptionService(oidcTokenSigningAndEncryptionService)
                 .accessTokenJwtBuilder(accessTokenJwtBuilder)
+                .accessTokenCache(oauthJwtAccessTokenCache)
                 .clientSecretValidator(oauth20ClientSecretValidator)
                 .build();
         }
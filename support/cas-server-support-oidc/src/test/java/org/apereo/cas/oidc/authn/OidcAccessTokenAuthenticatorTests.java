@@ -1,6 +1,8 @@
 package org.apereo.cas.oidc.authn;
 
 import org.apereo.cas.oidc.AbstractOidcTests;
+import org.apereo.cas.support.oauth.authenticator.OAuth20AccessTokenAuthenticator;
+import org.apereo.cas.support.oauth.web.response.accesstoken.response.OAuth20JwtAccessTokenCache;
 
 import lombok.val;
 import org.junit.jupiter.api.Tag;
@@ -34,6 +36,16 @@ class OidcAccessTokenAuthenticatorTests extends AbstractOidcTests {
     @Qualifier("oidcDynamicRegistrationAuthenticator")
     private Authenticator oidcDynamicRegistrationAuthenticator;
 
+    @Autowired
+    @Qualifier(OAuth20JwtAccessTokenCache.BEAN_NAME)
+    private OAuth20JwtAccessTokenCache oauthJwtAccessTokenCache;
+
+    @Test
+    void verifyAccessTokenCacheConfigured() {
+        assertSame(oauthJwtAccessTokenCache, ((OAuth20AccessTokenAuthenticator) oauthAccessTokenAuthenticator).getAccessTokenCache());
+        assertSame(oauthJwtAccessTokenCache, ((OAuth20AccessTokenAuthenticator) oidcDynamicRegistrationAuthenticator).getAccessTokenCache());
+    }
+
     @Test
     void verifyOperation() throws Exception {
         val request = new MockHttpServletRequest();
@@ -0,0 +1,34 @@
+package org.apereo.cas.config;
+
+import org.apereo.cas.pac4j.DistributedJEESessionStoreBufferFilter;
+import org.apereo.cas.util.CollectionUtils;
+
+import lombok.val;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.core.Ordered;
+
+/**
+ * This is {@link CasDistributedSessionStoreConfiguration} that registers the filter
+ * buffering changes made to the distributed session store for each request.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@AutoConfiguration
+public class CasDistributedSessionStoreConfiguration {
+
+    @ConditionalOnMissingBean(name = DistributedJEESessionStoreBufferFilter.BEAN_NAME)
+    @Bean
+    public FilterRegistrationBean<DistributedJEESessionStoreBufferFilter> distributedSessionStoreBufferFilter() {
+        val bean = new FilterRegistrationBean<DistributedJEESessionStoreBufferFilter>();
+        bean.setFilter(new DistributedJEESessionStoreBufferFilter());
+        bean.setUrlPatterns(CollectionUtils.wrap("/*"));
+        bean.setName(DistributedJEESessionStoreBufferFilter.BEAN_NAME);
+        bean.setAsyncSupported(true);
+        bean.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return bean;
+    }
+}
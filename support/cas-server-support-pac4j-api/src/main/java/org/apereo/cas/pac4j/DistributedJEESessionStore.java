@@ -82,14 +82,14 @@ public class DistributedJEESessionStore implements SessionStore {
         val ticket = getTransientSessionTicketForSession(context);
         if (value == null && ticket != null) {
             ticket.getProperties().remove(key);
-            FunctionUtils.doUnchecked(__ -> ticketRegistry.updateTicket(ticket));
+            storeTicket(context, ticket, false);
         } else if (ticket == null) {
             val transientFactory = (TransientSessionTicketFactory) this.ticketFactory.get(TransientSessionTicket.class);
             val created = transientFactory.create(sessionId, properties);
-            FunctionUtils.doUnchecked(__ -> ticketRegistry.addTicket(created));
+            storeTicket(context, created, true);
         } else {
             ticket.getProperties().putAll(properties);
-            FunctionUtils.doUnchecked(__ -> ticketRegistry.updateTicket(ticket));
+            storeTicket(context, ticket, false);
         }
     }
 
@@ -98,6 +98,7 @@ public class DistributedJEESessionStore implements SessionStore {
         val sessionId = fetchSessionIdFromContext(webContext);
         if (sessionId != null) {
             val ticketId = TransientSessionTicketFactory.normalizeTicketId(sessionId);
+            getSessionBuffer(webContext).ifPresent(buffer -> buffer.removeTicket(ticketRegistry, ticketId));
             FunctionUtils.doUnchecked(__ -> ticketRegistry.deleteTicket(ticketId));
             val context = JEEContext.class.cast(webContext);
             cookieGenerator.removeCookie(context.getNativeResponse());
@@ -137,18 +138,46 @@ public class DistributedJEESessionStore implements SessionStore {
         return sessionId;
     }
 
+    private static Optional<DistributedJEESessionStoreBuffer> getSessionBuffer(final WebContext context) {
+        return context instanceof JEEContext jeeContext
+            ? DistributedJEESessionStoreBuffer.get(jeeContext.getNativeRequest())
+            : Optional.empty();
+    }
+
+    private void storeTicket(final WebContext context, final TransientSessionTicket ticket, final boolean created) {
+        getSessionBuffer(context).ifPresentOrElse(
+            buffer -> buffer.putTicket(ticketRegistry, ticket, created),
+            () -> FunctionUtils.doUnchecked(__ -> {
+                if (created) {
+                    ticketRegistry.addTicket(ticket);
+                } else {
+                    ticketRegistry.updateTicket(ticket);
+                }
+            }));
+    }
+
     private TransientSessionTicket getTransientSessionTicketForSession(final WebContext context) {
         try {
             val sessionId = fetchSessionIdFromContext(context);
             if (sessionId != null) {
                 val ticketId = TransientSessionTicketFactory.normalizeTicketId(sessionId);
-
-                LOGGER.trace("fetching ticket: [{}]", ticketId);
-                return ticketRegistry.getTicket(ticketId, TransientSessionTicket.class);
+                return getSessionBuffer(context)
+                    .map(buffer -> buffer.getTicket(ticketRegistry, ticketId, () -> fetchTicket(ticketId)))
+                    .orElseGet(() -> fetchTicket(ticketId));
             }
         } catch (final Exception e) {
             LOGGER.trace(e.getMessage(), e);
         }
         return null;
     }
+
+    private TransientSessionTicket fetchTicket(final String ticketId) {
+        try {
+            LOGGER.trace("fetching ticket: [{}]", ticketId);
+            return ticketRegistry.getTicket(ticketId, TransientSessionTicket.class);
+        } catch (final Exception e) {
+            LOGGER.trace(e.getMessage(), e);
+            return null;
+        }
+    }
 }
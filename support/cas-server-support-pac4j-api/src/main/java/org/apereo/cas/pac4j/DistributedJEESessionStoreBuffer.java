@@ -0,0 +1,119 @@
+package org.apereo.cas.pac4j;
+
+import org.apereo.cas.ticket.TransientSessionTicket;
+import org.apereo.cas.ticket.registry.TicketRegistry;
+import org.apereo.cas.util.function.FunctionUtils;
+
+import lombok.AllArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+
+import jakarta.servlet.ServletRequest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * This is {@link DistributedJEESessionStoreBuffer} that is bound to a single HTTP request, and keeps track
+ * of session tickets that are loaded and modified by {@link DistributedJEESessionStore} during that request.
+ * Each session ticket is loaded from the ticket registry at most once per request; changes are applied
+ * in memory and written back to the registry once, when the buffer is flushed before the response is committed.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class DistributedJEESessionStoreBuffer {
+    /**
+     * Request attribute that holds the buffer for the current request.
+     */
+    public static final String REQUEST_ATTRIBUTE = DistributedJEESessionStoreBuffer.class.getName();
+
+    private final Map<BufferKey, BufferedSession> sessions = new LinkedHashMap<>();
+
+    /**
+     * Gets the buffer bound to the given request, if any.
+     *
+     * @param request the request
+     * @return the buffer
+     */
+    public static Optional<DistributedJEESessionStoreBuffer> get(final ServletRequest request) {
+        return Optional.ofNullable(request)
+            .map(req -> req.getAttribute(REQUEST_ATTRIBUTE))
+            .filter(DistributedJEESessionStoreBuffer.class::isInstance)
+            .map(DistributedJEESessionStoreBuffer.class::cast);
+    }
+
+    /**
+     * Gets the session ticket, loading it once per request.
+     *
+     * @param ticketRegistry the ticket registry
+     * @param ticketId       the ticket id
+     * @param loader         the loader
+     * @return the ticket, or null
+     */
+    public TransientSessionTicket getTicket(final TicketRegistry ticketRegistry, final String ticketId,
+                                            final Supplier<TransientSessionTicket> loader) {
+        return sessions.computeIfAbsent(new BufferKey(ticketRegistry, ticketId),
+            key -> new BufferedSession(loader.get(), false, false)).ticket;
+    }
+
+    /**
+     * Record a change to the session ticket, to be written to the registry when the buffer is flushed.
+     *
+     * @param ticketRegistry the ticket registry
+     * @param ticket         the ticket
+     * @param created        whether the ticket is new and should be added to the registry
+     */
+    public void putTicket(final TicketRegistry ticketRegistry, final TransientSessionTicket ticket, final boolean created) {
+        val key = new BufferKey(ticketRegistry, ticket.getId());
+        val current = sessions.get(key);
+        val isNew = created || current != null && current.created;
+        sessions.put(key, new BufferedSession(ticket, isNew, true));
+    }
+
+    /**
+     * Forget the session ticket, and any pending changes to it.
+     *
+     * @param ticketRegistry the ticket registry
+     * @param ticketId       the ticket id
+     */
+    public void removeTicket(final TicketRegistry ticketRegistry, final String ticketId) {
+        sessions.put(new BufferKey(ticketRegistry, ticketId), new BufferedSession(null, false, false));
+    }
+
+    /**
+     * Write all pending changes to the ticket registry.
+     * Failures to write to the registry are not swallowed, and are rethrown.
+     */
+    public void flush() {
+        sessions.forEach((key, session) -> {
+            if (session.modified && session.ticket != null) {
+                FunctionUtils.doUnchecked(__ -> {
+                    if (session.created) {
+                        LOGGER.trace("Adding session ticket [{}]", session.ticket.getId());
+                        key.ticketRegistry().addTicket(session.ticket);
+                    } else {
+                        LOGGER.trace("Updating session ticket [{}]", session.ticket.getId());
+                        key.ticketRegistry().updateTicket(session.ticket);
+                    }
+                });
+            }
+        });
+        sessions.clear();
+    }
+
+    private record BufferKey(TicketRegistry ticketRegistry, String ticketId) {
+    }
+
+    @AllArgsConstructor
+    private static final class BufferedSession {
+        private final TransientSessionTicket ticket;
+
+        private final boolean created;
+
+        private final boolean modified;
+    }
+}
@@ -0,0 +1,100 @@
+package org.apereo.cas.pac4j;
+
+import lombok.val;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Servlet filter that binds a {@link DistributedJEESessionStoreBuffer} to each request,
+ * and flushes pending session changes to the ticket registry before the response is committed,
+ * that is before a redirect or an error is sent or the response body is written, and again once the request is processed.
+ * This makes sure the session is stored before the browser can follow a redirect, possibly to another node.
+ * Failures to store the session are not swallowed. Without this filter, {@link DistributedJEESessionStore}
+ * reads from and writes to the ticket registry directly on every call.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+public class DistributedJEESessionStoreBufferFilter implements Filter {
+    /**
+     * Filter bean name.
+     */
+    public static final String BEAN_NAME = "distributedSessionStoreBufferFilter";
+
+    @Override
+    public void doFilter(final ServletRequest servletRequest,
+                         final ServletResponse servletResponse,
+                         final FilterChain filterChain) throws IOException, ServletException {
+        if (DistributedJEESessionStoreBuffer.get(servletRequest).isPresent()) {
+            filterChain.doFilter(servletRequest, servletResponse);
+            return;
+        }
+        val buffer = new DistributedJEESessionStoreBuffer();
+        servletRequest.setAttribute(DistributedJEESessionStoreBuffer.REQUEST_ATTRIBUTE, buffer);
+        val response = servletResponse instanceof HttpServletResponse httpResponse
+            ? new SessionStoreBufferResponseWrapper(httpResponse, buffer)
+            : servletResponse;
+        try {
+            filterChain.doFilter(servletRequest, response);
+        } finally {
+            servletRequest.removeAttribute(DistributedJEESessionStoreBuffer.REQUEST_ATTRIBUTE);
+            buffer.flush();
+        }
+    }
+
+    private static final class SessionStoreBufferResponseWrapper extends HttpServletResponseWrapper {
+        private final DistributedJEESessionStoreBuffer buffer;
+
+        SessionStoreBufferResponseWrapper(final HttpServletResponse response,
+                                          final DistributedJEESessionStoreBuffer buffer) {
+            super(response);
+            this.buffer = buffer;
+        }
+
+        @Override
+        public void sendRedirect(final String location) throws IOException {
+            buffer.flush();
+            super.sendRedirect(location);
+        }
+
+        @Override
+        public void sendError(final int sc, final String msg) throws IOException {
+            buffer.flush();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(final int sc) throws IOException {
+            buffer.flush();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            buffer.flush();
+            super.flushBuffer();
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            buffer.flush();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            buffer.flush();
+            return super.getWriter();
+        }
+    }
+}
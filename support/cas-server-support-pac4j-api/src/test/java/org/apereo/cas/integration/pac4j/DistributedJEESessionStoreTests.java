@@ -2,6 +2,9 @@ package org.apereo.cas.integration.pac4j;
 
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.pac4j.DistributedJEESessionStore;
+import org.apereo.cas.pac4j.DistributedJEESessionStoreBuffer;
+import org.apereo.cas.pac4j.DistributedJEESessionStoreBufferFilter;
+import org.apereo.cas.ticket.TransientSessionTicket;
 import org.apereo.cas.ticket.TicketFactory;
 import org.apereo.cas.ticket.TransientSessionTicketFactory;
 import org.apereo.cas.ticket.registry.TicketRegistry;
@@ -20,12 +23,17 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
 import org.springframework.mock.web.MockHttpServletRequest;
 import org.springframework.mock.web.MockHttpServletResponse;
 
 import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
 
+import java.io.IOException;
+import java.io.Serial;
 import java.util.Arrays;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -133,6 +141,59 @@ class DistributedJEESessionStoreTests {
         assertTrue(sessionStore.getSessionId(webContext, false).isPresent());
     }
 
+    @Test
+    void verifyBufferedSetGet() throws Exception {
+        val chain = new MockFilterChain(new HttpServlet() {
+            @Serial
+            private static final long serialVersionUID = 4416585339469585212L;
+
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse resp) {
+                assertTrue(DistributedJEESessionStoreBuffer.get(req).isPresent());
+                sessionStore.set(webContext, "attribute1", "value1");
+                sessionStore.set(webContext, "attribute2", "value2");
+                sessionStore.set(webContext, "attribute1", null);
+                assertTrue(sessionStore.get(webContext, "attribute1").isEmpty());
+                assertEquals("value2", sessionStore.get(webContext, "attribute2").orElseThrow());
+                assertEquals(0, ticketRegistry.stream().count());
+            }
+        });
+        new DistributedJEESessionStoreBufferFilter().doFilter(request, response, chain);
+        assertTrue(DistributedJEESessionStoreBuffer.get(request).isEmpty());
+
+        val sessionId = sessionStore.getSessionId(webContext, false).orElseThrow();
+        val ticket = ticketRegistry.getTicket(TransientSessionTicketFactory.normalizeTicketId(sessionId), TransientSessionTicket.class);
+        assertNotNull(ticket);
+        assertFalse(ticket.getProperties().containsKey("attribute1"));
+        assertEquals("value2", ticket.getProperties().get("attribute2"));
+
+        val buffer = new DistributedJEESessionStoreBuffer();
+        request.setAttribute(DistributedJEESessionStoreBuffer.REQUEST_ATTRIBUTE, buffer);
+        sessionStore.set(webContext, "attribute3", "value3");
+        sessionStore.destroySession(webContext);
+        buffer.flush();
+        assertNull(ticketRegistry.getTicket(ticket.getId()));
+    }
+
+    @Test
+    void verifyBufferFlushedBeforeRedirect() throws Exception {
+        val chain = new MockFilterChain(new HttpServlet() {
+            @Serial
+            private static final long serialVersionUID = -2715290362851208155L;
+
+            @Override
+            protected void service(final HttpServletRequest req, final HttpServletResponse resp) throws IOException {
+                sessionStore.set(webContext, "attribute1", "value1");
+                assertEquals(0, ticketRegistry.stream().count());
+                resp.sendRedirect("https://idp.example.org");
+                assertEquals(1, ticketRegistry.stream().count());
+            }
+        });
+        new DistributedJEESessionStoreBufferFilter().doFilter(request, response, chain);
+        assertEquals("https://idp.example.org", response.getRedirectedUrl());
+        assertEquals(1, ticketRegistry.stream().count());
+    }
+
     private static class NoSerializable {
     }
 }
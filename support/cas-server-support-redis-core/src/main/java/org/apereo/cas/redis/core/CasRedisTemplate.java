@@ -3,6 +3,7 @@ package org.apereo.cas.redis.core;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisOperations;
 
+import java.util.List;
 import java.util.stream.Stream;
 
 /**
@@ -21,6 +22,31 @@ public interface CasRedisTemplate<K, V> extends RedisOperations<K, V> {
      */
     Stream<String> scan(String pattern, long count);
 
+    /**
+     * Scan keys incrementally and group them into batches.
+     * The stream is lazy and only holds one batch of keys in memory at a time;
+     * it must be closed to release the underlying cursor and connection.
+     * Per SCAN guarantees, a key may be reported more than once if the keyspace
+     * is rehashed during iteration.
+     *
+     * @param pattern   the pattern
+     * @param count     the count
+     * @param batchSize the batch size
+     * @return the stream
+     */
+    Stream<List<String>> scan(String pattern, long count, int batchSize);
+
+    /**
+     * Scan keys incrementally and fetch their values in batches using {@code MGET}.
+     * The stream is lazy and must be closed to release the underlying cursor and connection.
+     *
+     * @param pattern   the pattern
+     * @param count     the count
+     * @param batchSize the batch size
+     * @return the stream
+     */
+    Stream<V> scanValues(String pattern, long count, int batchSize);
+
     /**
      * Initialize.
      */
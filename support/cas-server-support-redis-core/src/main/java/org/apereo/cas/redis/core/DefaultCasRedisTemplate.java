@@ -5,6 +5,10 @@ import org.apache.commons.io.IOUtils;
 import org.springframework.data.redis.core.RedisTemplate;
 import org.springframework.data.redis.core.ScanOptions;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
 import java.util.Objects;
 import java.util.Spliterator;
 import java.util.Spliterators;
@@ -20,6 +24,48 @@ import java.util.stream.StreamSupport;
 public class DefaultCasRedisTemplate<K, V> extends RedisTemplate<K, V> implements CasRedisTemplate<K, V> {
     @Override
     public Stream<String> scan(final String pattern, final long count) {
+        return scanKeys(pattern, count).distinct();
+    }
+
+    @Override
+    public Stream<List<String>> scan(final String pattern, final long count, final int batchSize) {
+        val keys = scanKeys(pattern, count);
+        val iterator = keys.iterator();
+        val size = Math.max(1, batchSize);
+        val batches = new Iterator<List<String>>() {
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public List<String> next() {
+                val batch = new ArrayList<String>(size);
+                while (iterator.hasNext() && batch.size() < size) {
+                    batch.add(iterator.next());
+                }
+                return batch;
+            }
+        };
+        return StreamSupport
+            .stream(Spliterators.spliteratorUnknownSize(batches, Spliterator.ORDERED | Spliterator.NONNULL), false)
+            .onClose(keys::close);
+    }
+
+    @Override
+    public Stream<V> scanValues(final String pattern, final long count, final int batchSize) {
+        return scan(pattern, count, batchSize)
+            .map(batch -> Objects.requireNonNull(opsForValue().multiGet((Collection<K>) batch)))
+            .flatMap(List::stream)
+            .filter(Objects::nonNull);
+    }
+
+    @Override
+    public void initialize() {
+        afterPropertiesSet();
+    }
+
+    private Stream<String> scanKeys(final String pattern, final long count) {
         var scanOptions = ScanOptions.scanOptions().match(pattern);
         if (count > 0) {
             scanOptions = scanOptions.count(count);
@@ -33,12 +79,6 @@ public class DefaultCasRedisTemplate<K, V> extends RedisTemplate<K, V> implement
                 IOUtils.closeQuietly(cursor);
                 connection.close();
             })
-            .map(key -> (String) getKeySerializer().deserialize(key))
-            .distinct();
-    }
-
-    @Override
-    public void initialize() {
-        afterPropertiesSet();
+            .map(key -> (String) getKeySerializer().deserialize(key));
     }
 }
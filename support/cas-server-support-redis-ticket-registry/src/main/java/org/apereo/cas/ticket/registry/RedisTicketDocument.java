@@ -8,10 +8,14 @@ import lombok.Setter;
 import lombok.ToString;
 import lombok.experimental.Accessors;
 import lombok.experimental.SuperBuilder;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
 import org.springframework.data.annotation.Id;
 
 import java.io.Serial;
 import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
 import java.util.Map;
 
 /**
@@ -97,4 +101,41 @@ public class RedisTicketDocument implements Serializable {
             .attributes(document.get(FIELD_NAME_ATTRIBUTES))
             .build();
     }
+
+    /**
+     * From raw redis hash entries to redis document.
+     *
+     * @param hash the hash entries, as returned by {@code HGETALL}
+     * @return the redis ticket document, or null if the hash is empty
+     */
+    public static RedisTicketDocument fromHash(final Map<byte[], byte[]> hash) {
+        if (hash == null || hash.isEmpty()) {
+            return null;
+        }
+        val document = new LinkedHashMap<String, String>(hash.size());
+        hash.forEach((key, value) -> document.put(new String(key, StandardCharsets.UTF_8), new String(value, StandardCharsets.UTF_8)));
+        return from(document);
+    }
+
+    /**
+     * Convert this document to raw redis hash entries,
+     * suitable for {@code HSET}. All fields are always written
+     * so that updates fully replace previous values.
+     *
+     * @return the hash entries
+     */
+    public Map<byte[], byte[]> toHash() {
+        val hash = new LinkedHashMap<byte[], byte[]>();
+        hash.put(toBytes(FIELD_NAME_TYPE), toBytes(type));
+        hash.put(toBytes(FIELD_NAME_ID), toBytes(ticketId));
+        hash.put(toBytes(FIELD_NAME_JSON), toBytes(json));
+        hash.put(toBytes(FIELD_NAME_PREFIX), toBytes(prefix));
+        hash.put(toBytes(FIELD_NAME_PRINCIPAL), toBytes(principal));
+        hash.put(toBytes(FIELD_NAME_ATTRIBUTES), toBytes(attributes));
+        return hash;
+    }
+
+    private static byte[] toBytes(final String value) {
+        return StringUtils.defaultString(value).getBytes(StandardCharsets.UTF_8);
+    }
 }
@@ -19,29 +19,26 @@ import com.redis.lettucemod.search.CreateOptions;
 import com.redis.lettucemod.search.Document;
 import com.redis.lettucemod.search.Field;
 import lombok.Data;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.BooleanUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.hjson.JsonValue;
-import org.hjson.Stringify;
+import org.apache.commons.lang3.tuple.Pair;
+import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.core.RedisCallback;
-import org.springframework.data.redis.core.RedisKeyValueAdapter;
 import org.springframework.data.redis.core.ScanOptions;
-import org.springframework.data.redis.core.convert.KeyspaceConfiguration;
-import org.springframework.data.redis.core.convert.MappingConfiguration;
-import org.springframework.data.redis.core.index.IndexConfiguration;
-import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.serializer.RedisSerializer;
 
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -68,6 +65,18 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
 
     private final Optional<RedisModulesCommands> redisModuleCommands;
 
+    /**
+     * Hint for the amount of work done by each SCAN call when streaming tickets.
+     */
+    @Setter
+    private long scanCount;
+
+    /**
+     * Number of ticket documents fetched in a single pipelined request when streaming tickets.
+     */
+    @Setter
+    private int scanBatchSize = 100;
+
     public RedisTicketRegistry(final CipherExecutor cipherExecutor,
                                final TicketSerializationManager ticketSerializationManager,
                                final TicketCatalog ticketCatalog,
@@ -133,19 +142,14 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public void addTicket(final Stream<? extends Ticket> toSave) {
-        FunctionUtils.doAndHandle(__ ->
-            casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
-                toSave.forEach(this::addTicketInternal);
-                return null;
-            }));
+        FunctionUtils.doAndHandle(__ -> addOrUpdateTickets(toSave).forEach(messagePublisher::add));
     }
 
     @Override
     public void addTicketInternal(final Ticket ticket) {
         FunctionUtils.doAndHandle(__ -> {
             LOGGER.debug("Adding ticket [{}]", ticket);
-            addOrUpdateTicket(ticket);
-            messagePublisher.add(ticket);
+            addOrUpdateTickets(Stream.of(ticket)).forEach(messagePublisher::add);
         });
     }
 
@@ -153,12 +157,38 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
     public Ticket updateTicket(final Ticket ticket) {
         return FunctionUtils.doAndHandle(() -> {
             LOGGER.debug("Updating ticket [{}]", ticket);
-            addOrUpdateTicket(ticket);
-            messagePublisher.update(ticket);
+            addOrUpdateTickets(Stream.of(ticket)).forEach(messagePublisher::update);
             return ticket;
         });
     }
 
+    @Override
+    public void write(final TicketRegistryBatch batch) {
+        FunctionUtils.doAndHandle(__ -> {
+            val operations = batch.getOperations()
+                .stream()
+                .filter(operation -> operation.ticket() != null)
+                .filter(operation -> operation.type() == TicketRegistryBatch.OperationTypes.UPDATE || !operation.ticket().isExpired())
+                .toList();
+            LOGGER.debug("Writing [{}] operation(s) in a single pipeline", operations.size());
+            val written = Collections.newSetFromMap(new IdentityHashMap<Ticket, Boolean>());
+            written.addAll(addOrUpdateTickets(operations.stream().map(TicketRegistryBatch.Operation::ticket)));
+            operations
+                .stream()
+                .filter(operation -> written.contains(operation.ticket()))
+                .forEach(operation -> {
+                    if (operation.type() == TicketRegistryBatch.OperationTypes.ADD) {
+                        messagePublisher.add(operation.ticket());
+                        if (expirationIndex != null) {
+                            expirationIndex.index(operation.ticket());
+                        }
+                    } else {
+                        messagePublisher.update(operation.ticket());
+                    }
+                });
+        });
+    }
+
     @Override
     public Ticket getTicket(final String ticketId, final Predicate<Ticket> predicate) {
         return FunctionUtils.doAndHandle(() -> {
@@ -178,18 +208,9 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
 
     @Override
     public Stream<? extends Ticket> stream() {
-        return fetchKeysForTickets()
-            .map(redisKey -> {
-                val adapter = buildRedisKeyValueAdapter(redisKey);
-                val document = adapter.get(redisKey, redisKey, RedisTicketDocument.class);
-                if (document == null) {
-                    casRedisTemplates.getTicketsRedisTemplate().delete(redisKey);
-                    return null;
-                }
-                return document;
-            })
-            .filter(Objects::nonNull)
-            .map(RedisTicketDocument.class::cast)
+        return casRedisTemplates.getTicketsRedisTemplate()
+            .scan(RedisCompositeKey.forTickets().toKeyPattern(), scanCount, scanBatchSize)
+            .flatMap(redisKeys -> readTicketDocuments(redisKeys).stream())
             .map(this::deserializeAsTicket)
             .map(this::decodeTicket)
             .filter(Objects::nonNull)
@@ -267,23 +288,13 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
             .orElseGet(() -> super.getSessionsWithAttributes(queryAttributes));
     }
 
-    private Stream<String> fetchKeysForTickets() {
-        return fetchKeysForTickets(RedisCompositeKey.forTickets().toKeyPattern());
-    }
-
-    private Stream<String> fetchKeysForTickets(final String key) {
-        LOGGER.debug("Loading keys for pattern [{}]", key);
-        return Objects.requireNonNull(casRedisTemplates.getTicketsRedisTemplate().keys(key)).stream();
-    }
-
     protected RedisTicketDocument buildTicketAsDocument(final Ticket ticket) {
         return FunctionUtils.doUnchecked(() -> {
             val encTicket = encodeTicket(ticket);
             val json = serializeTicket(encTicket);
             FunctionUtils.throwIf(StringUtils.isBlank(json),
                 () -> new IllegalArgumentException("Ticket " + ticket.getId() + " cannot be serialized to JSON"));
-            LOGGER.trace("Serialized ticket into a JSON document as\n [{}]",
-                JsonValue.readJSON(json).toString(Stringify.FORMATTED));
+            LOGGER.trace("Serialized ticket [{}] as [{}]", encTicket.getId(), json);
 
             val principal = getPrincipalIdFrom(ticket);
             val attributeMap = (Map<String, Object>) collectAndDigestTicketAttributes(ticket);
@@ -317,10 +328,7 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
             .orElseGet(() -> {
                 val redisKeyPattern = redisKey.toKeyPattern();
                 return Stream.of(redisKeyPattern)
-                    .map(key -> {
-                        val adapter = buildRedisKeyValueAdapter(key);
-                        return adapter.get(key, key, RedisTicketDocument.class);
-                    })
+                    .map(this::readTicketDocument)
                     .filter(Objects::nonNull)
                     .map(this::deserializeAsTicket)
                     .map(this::decodeTicket)
@@ -338,50 +346,75 @@ public class RedisTicketRegistry extends AbstractTicketRegistry {
     }
 
 
-    private RedisCompositeKey addOrUpdateTicket(final Ticket ticket) {
-        val userId = digestIdentifier(getPrincipalIdFrom(ticket));
+    /**
+     * Write tickets to redis in a single pipelined batch. For each ticket,
+     * the ticket document, its expiration and its membership in the principal
+     * session set are sent together, which allows the entire batch to be
+     * written in one round trip without rebuilding the key-value mapping context.
+     *
+     * @param tickets the tickets
+     * @return the tickets that were written
+     */
+    private List<Ticket> addOrUpdateTickets(final Stream<? extends Ticket> tickets) {
+        val written = new ArrayList<Pair<RedisCompositeKey, Ticket>>();
+        casRedisTemplates.getTicketsRedisTemplate().executePipelined((RedisCallback<Object>) connection -> {
+            tickets
+                .filter(Objects::nonNull)
+                .forEach(ticket -> FunctionUtils.doAndHandle(__ -> {
+                    val redisKey = writeTicketDocument(connection, ticket);
+                    written.add(Pair.of(redisKey, ticket));
+                }));
+            return null;
+        });
+        return written
+            .stream()
+            .peek(entry -> ticketCache.put(entry.getKey().getQuery(), entry.getValue()))
+            .map(Pair::getValue)
+            .collect(Collectors.toList());
+    }
 
+    private RedisCompositeKey writeTicketDocument(final RedisConnection connection, final Ticket ticket) {
         val digestedId = digestIdentifier(ticket.getId());
         val redisKey = RedisCompositeKey.forTickets().withTicketId(ticket.getPrefix(), digestedId);
-
         val timeout = RedisCompositeKey.getTimeout(ticket);
-        val redisKeyPattern = redisKey.toKeyPattern();
-
         val ticketDocument = buildTicketAsDocument(ticket);
 
-        casRedisTemplates.getTicketsRedisTemplate().boundValueOps(redisKeyPattern).set(ticketDocument, timeout, TimeUnit.SECONDS);
-        val adapter = buildRedisKeyValueAdapter(redisKeyPattern);
-        adapter.put(ticketDocument.getTicketId(), ticketDocument, redisKeyPattern);
-        casRedisTemplates.getTicketsRedisTemplate().expire(redisKeyPattern, timeout, TimeUnit.SECONDS);
-        ticketCache.put(redisKey.getQuery(), ticket);
+        val redisTicketKey = toBytes(redisKey.toKeyPattern());
+        connection.hashCommands().hMSet(redisTicketKey, ticketDocument.toHash());
+        connection.keyCommands().expire(redisTicketKey, timeout);
 
+        val userId = digestIdentifier(getPrincipalIdFrom(ticket));
         if (StringUtils.isNotBlank(userId) && ticket instanceof TicketGrantingTicket) {
-            val redisPrincipalPattern = RedisCompositeKey.forPrincipal().withQuery(userId).toKeyPattern();
-            val ops = casRedisTemplates.getSessionsRedisTemplate().boundSetOps(redisPrincipalPattern);
-            ops.add(digestedId);
-            ops.expire(timeout, TimeUnit.SECONDS);
+            val redisPrincipalKey = toBytes(RedisCompositeKey.forPrincipal().withQuery(userId).toKeyPattern());
+            val sessionSerializer = (RedisSerializer<String>) casRedisTemplates.getSessionsRedisTemplate().getValueSerializer();
+            connection.setCommands().sAdd(redisPrincipalKey, Objects.requireNonNull(sessionSerializer.serialize(digestedId)));
+            connection.keyCommands().expire(redisPrincipalKey, timeout);
         }
-
         return redisKey;
     }
 
-    private RedisKeyValueAdapter buildRedisKeyValueAdapter(final String redisKeyPattern) {
-        val redisMappingContext = new RedisMappingContext(
-            new MappingConfiguration(new IndexConfiguration(), new KeyspaceConfiguration() {
-                @Override
-                protected Iterable<KeyspaceSettings> initialConfiguration() {
-                    return Collections.singleton(new KeyspaceSettings(RedisTicketDocument.class, redisKeyPattern));
-                }
-            }));
+    private RedisTicketDocument readTicketDocument(final String redisKey) {
+        val hash = casRedisTemplates.getTicketsRedisTemplate()
+            .execute((RedisCallback<Map<byte[], byte[]>>) connection -> connection.hashCommands().hGetAll(toBytes(redisKey)));
+        return RedisTicketDocument.fromHash(hash);
+    }
 
-        val adapter = new RedisKeyValueAdapter(casRedisTemplates.getTicketsRedisTemplate(), redisMappingContext) {
-            @Override
-            public byte[] createKey(final String keyspace, final String id) {
-                return toBytes(redisKeyPattern);
-            }
-        };
-        adapter.afterPropertiesSet();
-        return adapter;
+    private List<RedisTicketDocument> readTicketDocuments(final List<String> redisKeys) {
+        LOGGER.trace("Loading [{}] ticket document(s)", redisKeys.size());
+        val results = casRedisTemplates.getTicketsRedisTemplate().execute((RedisCallback<List<Object>>) connection -> {
+            connection.openPipeline();
+            redisKeys.forEach(redisKey -> connection.hashCommands().hGetAll(toBytes(redisKey)));
+            return connection.closePipeline();
+        });
+        return Objects.requireNonNull(results)
+            .stream()
+            .map(result -> RedisTicketDocument.fromHash((Map<byte[], byte[]>) result))
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    private static byte[] toBytes(final String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
     }
 
     private void createIndexesIfNecessary() {
@@ -117,6 +117,29 @@ class RedisServerTicketRegistryTests {
             assertEquals(0, getNewTicketRegistry().sessionCount());
             assertEquals(0, getNewTicketRegistry().serviceTicketCount());
         }
+
+        @RepeatedTest(1)
+        public void verifySessionsForPrincipal() throws Exception {
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+            val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(TicketGrantingTicket.PREFIX);
+            getNewTicketRegistry().addTicket(new TicketGrantingTicketImpl(tgtId, authentication, NeverExpiresExpirationPolicy.INSTANCE));
+
+            val principalId = authentication.getPrincipal().getId();
+            val sessions = getNewTicketRegistry().getSessionsFor(principalId).toList();
+            assertEquals(1, sessions.size());
+            assertEquals(tgtId, sessions.get(0).getId());
+            assertEquals(1, getNewTicketRegistry().countSessionsFor(principalId));
+        }
+
+        @RepeatedTest(1)
+        public void verifyStreamingTicketDocuments() throws Exception {
+            val authentication = CoreAuthenticationTestUtils.getAuthentication(UUID.randomUUID().toString());
+            val tgtId = new TicketGrantingTicketIdGenerator(10, StringUtils.EMPTY).getNewTicketId(TicketGrantingTicket.PREFIX);
+            getNewTicketRegistry().addTicket(new TicketGrantingTicketImpl(tgtId, authentication, NeverExpiresExpirationPolicy.INSTANCE));
+            try (val tickets = getNewTicketRegistry().stream()) {
+                assertTrue(tickets.anyMatch(ticket -> ticket.getId().equals(tgtId)));
+            }
+        }
     }
 
     @Nested
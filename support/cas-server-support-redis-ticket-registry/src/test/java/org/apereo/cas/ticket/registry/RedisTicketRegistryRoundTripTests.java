@@ -0,0 +1,139 @@
+package org.apereo.cas.ticket.registry;
+
+import org.apereo.cas.authentication.CoreAuthenticationTestUtils;
+import org.apereo.cas.mock.MockServiceTicket;
+import org.apereo.cas.redis.core.CasRedisTemplate;
+import org.apereo.cas.services.RegisteredServiceTestUtils;
+import org.apereo.cas.ticket.Ticket;
+import org.apereo.cas.ticket.TicketCatalog;
+import org.apereo.cas.ticket.TicketGrantingTicket;
+import org.apereo.cas.ticket.TicketGrantingTicketImpl;
+import org.apereo.cas.ticket.expiration.NeverExpiresExpirationPolicy;
+import org.apereo.cas.ticket.registry.pub.RedisTicketRegistryMessagePublisher;
+import org.apereo.cas.ticket.serialization.TicketSerializationManager;
+import org.apereo.cas.util.crypto.CipherExecutor;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import lombok.val;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * This is {@link RedisTicketRegistryRoundTripTests}. Counts the number of
+ * round trips issued to redis for common registry operations, using
+ * a mocked connection in place of a running redis server.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("Redis")
+class RedisTicketRegistryRoundTripTests {
+    private CasRedisTemplate<String, RedisTicketDocument> ticketsRedisTemplate;
+
+    private CasRedisTemplate<String, String> sessionsRedisTemplate;
+
+    private RedisConnection connection;
+
+    private RedisTicketRegistry ticketRegistry;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        ticketsRedisTemplate = mock(CasRedisTemplate.class);
+        sessionsRedisTemplate = mock(CasRedisTemplate.class);
+        connection = mock(RedisConnection.class, RETURNS_DEEP_STUBS);
+        doReturn(RedisSerializer.java()).when(sessionsRedisTemplate).getValueSerializer();
+        when(ticketsRedisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            val callback = (RedisCallback<Object>) invocation.getArgument(0);
+            callback.doInRedis(connection);
+            return List.of();
+        });
+
+        val serializationManager = mock(TicketSerializationManager.class);
+        when(serializationManager.serializeTicket(any(Ticket.class))).thenReturn("{}");
+        ticketRegistry = new RedisTicketRegistry(CipherExecutor.noOp(), serializationManager, mock(TicketCatalog.class),
+            new RedisTicketRegistry.CasRedisTemplates(ticketsRedisTemplate, sessionsRedisTemplate),
+            Caffeine.newBuilder().<String, Ticket>build(), mock(RedisTicketRegistryMessagePublisher.class), Optional.empty());
+    }
+
+    @Test
+    void verifyRoundTripsForServiceTicketGrant() throws Throwable {
+        val tgt = new TicketGrantingTicketImpl(TicketGrantingTicket.PREFIX + '-' + UUID.randomUUID(),
+            CoreAuthenticationTestUtils.getAuthentication(), NeverExpiresExpirationPolicy.INSTANCE);
+        ticketRegistry.addTicket(tgt);
+        verify(ticketsRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+
+        val st = new MockServiceTicket("ST-" + UUID.randomUUID(), RegisteredServiceTestUtils.getService(), tgt);
+        ticketRegistry.write(new TicketRegistryBatch().add(st).update(tgt));
+        verify(ticketsRedisTemplate, times(2)).executePipelined(any(RedisCallback.class));
+        verify(connection.hashCommands(), times(3)).hMSet(any(byte[].class), anyMap());
+        verify(connection.setCommands(), times(2)).sAdd(any(byte[].class), any(byte[].class));
+
+        assertNotNull(ticketRegistry.getTicket(tgt.getId()));
+        assertNotNull(ticketRegistry.getTicket(st.getId()));
+        verifyNoMoreInteractions(ticketsRedisTemplate);
+        verify(sessionsRedisTemplate, never()).executePipelined(any(RedisCallback.class));
+    }
+
+    @Test
+    void verifyRoundTripsForBulkAdd() throws Throwable {
+        val authentication = CoreAuthenticationTestUtils.getAuthentication();
+        val tickets = IntStream.range(0, 10)
+            .mapToObj(idx -> new TicketGrantingTicketImpl(TicketGrantingTicket.PREFIX + '-' + UUID.randomUUID(),
+                authentication, NeverExpiresExpirationPolicy.INSTANCE));
+        ticketRegistry.addTicket(tickets);
+        verify(ticketsRedisTemplate, times(1)).executePipelined(any(RedisCallback.class));
+        verify(connection.hashCommands(), times(10)).hMSet(any(byte[].class), anyMap());
+        verifyNoMoreInteractions(ticketsRedisTemplate);
+    }
+
+    @Test
+    void verifyRoundTripsForStreaming() {
+        val keys = IntStream.range(0, 25).mapToObj(idx -> "CAS_TICKET:TGT:" + idx).toList();
+        when(ticketsRedisTemplate.scan(anyString(), anyLong(), anyInt()))
+            .thenReturn(Stream.of(keys.subList(0, 10), keys.subList(10, 20), keys.subList(20, 25)));
+        when(ticketsRedisTemplate.execute(any(RedisCallback.class))).thenAnswer(invocation -> {
+            val callback = (RedisCallback<Object>) invocation.getArgument(0);
+            return callback.doInRedis(connection);
+        });
+        when(connection.closePipeline()).thenReturn(List.of(Map.of()));
+        assertEquals(0, ticketRegistry.stream().count());
+        verify(ticketsRedisTemplate, times(3)).execute(any(RedisCallback.class));
+        verify(connection, times(3)).openPipeline();
+        verify(connection.hashCommands(), times(25)).hGetAll(any(byte[].class));
+        verify(ticketsRedisTemplate, never()).keys(anyString());
+    }
+
+    @Test
+    void verifyDocumentHash() {
+        val document = RedisTicketDocument.builder()
+            .ticketId("TGT-1")
+            .type(TicketGrantingTicketImpl.class.getName())
+            .json("{}")
+            .prefix(TicketGrantingTicket.PREFIX)
+            .principal("casuser")
+            .build();
+        val result = RedisTicketDocument.fromHash(document.toHash());
+        assertNotNull(result);
+        assertEquals(document.getTicketId(), result.getTicketId());
+        assertEquals(document.getJson(), result.getJson());
+        assertEquals(document.getPrincipal(), result.getPrincipal());
+        assertEquals(document.getPrefix(), result.getPrefix());
+        assertEquals(document.getType(), result.getType());
+        assertNull(RedisTicketDocument.fromHash(null));
+    }
+}
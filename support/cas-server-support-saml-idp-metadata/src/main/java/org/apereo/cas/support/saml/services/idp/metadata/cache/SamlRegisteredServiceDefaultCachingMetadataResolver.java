@@ -16,7 +16,6 @@ import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import com.google.common.collect.Iterables;
 import lombok.Builder;
 import lombok.Getter;
-import lombok.Synchronized;
 import lombok.experimental.SuperBuilder;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
@@ -28,6 +27,9 @@ import org.opensaml.saml.metadata.resolver.MetadataResolver;
 import org.opensaml.saml.saml2.metadata.EntityDescriptor;
 import org.opensaml.saml.saml2.metadata.SPSSODescriptor;
 
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -35,6 +37,10 @@ import java.util.Optional;
  * An adaptation of metadata resolver which handles the resolution of metadata resources
  * inside a cache. It basically is a fancy wrapper around a cache, and constructs the cache
  * semantics before processing the resolution of metadata for a SAML service.
+ * <p>
+ * Resolution does not lock; concurrent requests for the same cache key share a single load,
+ * and metadata resolvers are only ever located via the cache key of the requesting service.
+ * Entries that approach their expiration are refreshed in the background.
  *
  * @author Misagh Moayyed
  * @since 5.0.0
@@ -45,6 +51,8 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
 
     private final LoadingCache<SamlRegisteredServiceCacheKey, CachedMetadataResolverResult> cache;
 
+    private final double refreshAheadRatio;
+
     @Getter
     private final OpenSamlConfigBean openSamlConfigBean;
 
@@ -61,6 +69,7 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
             .recordStats()
             .expireAfter(new SamlRegisteredServiceMetadataExpirationPolicy(metadataCacheExpiration))
             .build(loader);
+        this.refreshAheadRatio = core.getCacheRefreshAheadRatio();
     }
 
     private static long countResolvableEntityDescriptors(final MetadataResolutionResult result) {
@@ -71,7 +80,6 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
     }
 
     @Override
-    @Synchronized
     public CachedMetadataResolverResult resolve(final SamlRegisteredService service, final CriteriaSet criteriaSet) {
         val metadataLocation = SpringExpressionLanguageValueResolver.getInstance().resolve(service.getMetadataLocation());
         LOGGER.debug("Resolving metadata for [{}] at [{}]", service.getName(), metadataLocation);
@@ -141,36 +149,34 @@ public class SamlRegisteredServiceDefaultCachingMetadataResolver implements Saml
         final SamlRegisteredService service,
         final CriteriaSet criteriaSet,
         final SamlRegisteredServiceCacheKey cacheKey) {
-
-        val result = cache
-            .asMap()
-            .values()
-            .stream()
-            .map(Unchecked.function(res -> {
-                val entity = res.getMetadataResolver().resolveSingle(criteriaSet);
-                return Optional.ofNullable(entity)
-                    .map(e -> MetadataResolverCacheQueryResult.builder()
-                        .result(res)
-                        .entityDescriptor(Optional.of(e))
-                        .build());
-            }))
-            .filter(Optional::isPresent)
-            .flatMap(Optional::stream)
-            .findFirst();
-
-        if (result.isPresent()) {
-            return result.get();
-        }
         LOGGER.debug("Loading metadata resolver from the cache using [{}]", cacheKey.getCacheKey());
         val cacheResult = Objects.requireNonNull(cache.get(cacheKey));
         LOGGER.debug("Loaded and cached SAML metadata [{}] from [{}]",
             cacheResult.getMetadataResolver().getId(), service.getMetadataLocation());
+        refreshAheadIfNecessary(cacheKey, cacheResult);
         return MetadataResolverCacheQueryResult.builder()
             .entityDescriptor(Optional.empty())
             .result(cacheResult)
             .build();
     }
 
+    private void refreshAheadIfNecessary(final SamlRegisteredServiceCacheKey cacheKey,
+                                         final CachedMetadataResolverResult cacheResult) {
+        if (refreshAheadRatio <= 0 || refreshAheadRatio >= 1) {
+            return;
+        }
+        cache.policy().expireVariably()
+            .flatMap(policy -> policy.getExpiresAfter(cacheKey))
+            .ifPresent(remaining -> {
+                val age = Duration.between(cacheResult.getCachedInstant(), Instant.now(Clock.systemUTC()));
+                val lifetime = age.plus(remaining);
+                if (age.toNanos() >= lifetime.toNanos() * refreshAheadRatio) {
+                    LOGGER.debug("Refreshing SAML metadata resolver cache entry [{}] in the background", cacheKey.getId());
+                    cache.refresh(cacheKey);
+                }
+            });
+    }
+
     @SuperBuilder
     @Getter
     @SuppressWarnings("UnusedMethod")
@@ -3,6 +3,7 @@ package org.apereo.cas.support.saml.services.idp.metadata.cache.resolver;
 import org.apereo.cas.configuration.model.support.saml.idp.SamlIdPProperties;
 import org.apereo.cas.support.saml.InMemoryResourceMetadataResolver;
 import org.apereo.cas.support.saml.OpenSamlConfigBean;
+import org.apereo.cas.support.saml.SamlException;
 import org.apereo.cas.support.saml.SamlUtils;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
 import org.apereo.cas.support.saml.services.idp.metadata.SamlMetadataDocument;
@@ -10,11 +11,13 @@ import org.apereo.cas.util.LoggingUtils;
 import org.apereo.cas.util.RegexUtils;
 import org.apereo.cas.util.ResourceUtils;
 import org.apereo.cas.util.spring.SpringExpressionLanguageValueResolver;
+
 import lombok.AccessLevel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import org.apache.commons.lang3.StringUtils;
+import org.opensaml.core.criterion.EntityIdCriterion;
 import org.opensaml.saml.metadata.resolver.filter.MetadataFilter;
 import org.opensaml.saml.metadata.resolver.filter.MetadataFilterChain;
 import org.opensaml.saml.metadata.resolver.filter.impl.EntityRoleFilter;
@@ -22,14 +25,19 @@ import org.opensaml.saml.metadata.resolver.filter.impl.PredicateFilter;
 import org.opensaml.saml.metadata.resolver.filter.impl.RequiredValidUntilFilter;
 import org.opensaml.saml.metadata.resolver.filter.impl.SignatureValidationFilter;
 import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
+import org.opensaml.saml.metadata.resolver.impl.LocalDynamicMetadataResolver;
 import org.opensaml.saml.saml2.metadata.IDPSSODescriptor;
 import org.opensaml.saml.saml2.metadata.SPSSODescriptor;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.Resource;
 
 import javax.xml.namespace.QName;
+import java.io.File;
+import java.nio.file.Files;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * This is {@link BaseSamlRegisteredServiceMetadataResolver}.
@@ -39,7 +47,7 @@ import java.util.List;
  */
 @Slf4j
 @RequiredArgsConstructor(access = AccessLevel.PROTECTED)
-public abstract class BaseSamlRegisteredServiceMetadataResolver implements SamlRegisteredServiceMetadataResolver {
+public abstract class BaseSamlRegisteredServiceMetadataResolver implements SamlRegisteredServiceMetadataResolver, DisposableBean {
     /**
      * The Saml idp properties.
      */
@@ -50,6 +58,8 @@ public abstract class BaseSamlRegisteredServiceMetadataResolver implements SamlR
      */
     protected final OpenSamlConfigBean configBean;
 
+    private final SamlMetadataAggregateStore metadataAggregateStore = new SamlMetadataAggregateStore();
+
     private static void buildEntityRoleFilterIfNeeded(final SamlRegisteredService service, final List<MetadataFilter> metadataFilterList) throws Exception {
         if (StringUtils.isNotBlank(service.getMetadataCriteriaRoles())) {
             val roles = new ArrayList<QName>();
@@ -171,6 +181,113 @@ public abstract class BaseSamlRegisteredServiceMetadataResolver implements SamlR
         return null;
     }
 
+    /**
+     * Build a metadata resolver backed by the shared store of indexed metadata aggregates,
+     * if the metadata file is large enough to be treated as an aggregate. Entity descriptors
+     * are then loaded on demand by entity id, and the signature of the aggregate is validated
+     * once per version of the aggregate for each signature location.
+     *
+     * @param service      the service
+     * @param metadataFile the metadata file
+     * @return the metadata resolver, or empty if the metadata file is not to be indexed
+     * @throws Exception the exception
+     */
+    protected Optional<AbstractMetadataResolver> buildIndexedAggregateMetadataResolverIfNeeded(
+        final SamlRegisteredService service, final File metadataFile) throws Exception {
+        return buildIndexedAggregateMetadataResolverIfNeeded(service, metadataFile,
+            samlIdPProperties.getMetadata().getCore().isRequireValidMetadata());
+    }
+
+    /**
+     * Build a metadata resolver backed by the shared store of indexed metadata aggregates,
+     * if the metadata file is large enough to be treated as an aggregate.
+     *
+     * @param service          the service
+     * @param metadataFile     the metadata file
+     * @param requireValidRoot whether an aggregate whose root has expired should be rejected
+     * @return the metadata resolver, or empty if the metadata file is not to be indexed
+     * @throws Exception the exception
+     */
+    protected Optional<AbstractMetadataResolver> buildIndexedAggregateMetadataResolverIfNeeded(
+        final SamlRegisteredService service, final File metadataFile, final boolean requireValidRoot) throws Exception {
+        if (!isIndexedAggregateCandidate(service, metadataFile)) {
+            return Optional.empty();
+        }
+        val core = samlIdPProperties.getMetadata().getCore();
+        val aggregate = metadataAggregateStore.getAggregate(metadataFile, configBean.getParserPool());
+        if (requireValidRoot && !aggregate.isRootValid()) {
+            throw new SamlException("Metadata aggregate " + metadataFile + " has expired at " + aggregate.getValidUntil());
+        }
+        if (StringUtils.isNotBlank(service.getMetadataSignatureLocation())) {
+            val verificationKey = service.getMetadataSignatureLocation() + '|' + service.isRequireSignedRoot();
+            aggregate.verify(verificationKey, () -> verifyMetadataAggregateSignature(service, metadataFile, aggregate));
+        }
+
+        val metadataResolver = new LocalDynamicMetadataResolver(aggregate, criteria -> Optional.ofNullable(criteria)
+            .map(criteriaSet -> criteriaSet.get(EntityIdCriterion.class))
+            .map(EntityIdCriterion::getEntityId)
+            .orElse(null));
+        metadataResolver.setParserPool(configBean.getParserPool());
+        metadataResolver.setFailFastInitialization(core.isFailFast());
+        metadataResolver.setRequireValidMetadata(core.isRequireValidMetadata());
+        metadataResolver.setId("RegisteredServiceMetadataAggregate-" + service.getName());
+
+        val metadataFilterList = new ArrayList<MetadataFilter>();
+        buildEntityRoleFilterIfNeeded(service, metadataFilterList);
+        buildPredicateFilterIfNeeded(service, metadataFilterList);
+        if (!metadataFilterList.isEmpty()) {
+            addMetadataFiltersToMetadataResolver(metadataResolver, metadataFilterList);
+        }
+        metadataResolver.initialize();
+        LOGGER.info("Initialized metadata resolver for [{}] from indexed metadata aggregate [{}] with [{}] entities",
+            service.getName(), metadataFile, aggregate.size());
+        return Optional.of(metadataResolver);
+    }
+
+    /**
+     * Is the metadata file large enough to be treated as an indexed aggregate?
+     *
+     * @param service      the service
+     * @param metadataFile the metadata file
+     * @return true/false
+     */
+    protected boolean isIndexedAggregateCandidate(final SamlRegisteredService service, final File metadataFile) {
+        val core = samlIdPProperties.getMetadata().getCore();
+        return core.getAggregateIndexingThreshold() > 0 && service.getMetadataMaxValidity() <= 0
+            && metadataFile.isFile() && metadataFile.length() >= core.getAggregateIndexingThreshold();
+    }
+
+    private void verifyMetadataAggregateSignature(final SamlRegisteredService service, final File metadataFile,
+                                                  final IndexedSamlMetadataAggregate aggregate) throws Exception {
+        LOGGER.debug("Validating signature of metadata aggregate [{}] for [{}]", metadataFile, service.getName());
+        val metadataFilterList = new ArrayList<MetadataFilter>(1);
+        buildSignatureValidationFilterIfNeeded(service, metadataFilterList);
+        final InMemoryResourceMetadataResolver metadataResolver;
+        try (val input = IndexedSamlMetadataAggregate.digestInputStream(Files.newInputStream(metadataFile.toPath()))) {
+            metadataResolver = new InMemoryResourceMetadataResolver(input, configBean);
+            if (!aggregate.matches(input)) {
+                throw new SamlException("Metadata aggregate " + metadataFile + " has changed since version "
+                                        + aggregate.getVersion() + " was indexed");
+            }
+        }
+        try {
+            metadataResolver.setFailFastInitialization(true);
+            metadataResolver.setRequireValidMetadata(samlIdPProperties.getMetadata().getCore().isRequireValidMetadata());
+            metadataResolver.setId("RegisteredServiceMetadataAggregateVerification-" + service.getName());
+            if (!metadataFilterList.isEmpty()) {
+                addMetadataFiltersToMetadataResolver(metadataResolver, metadataFilterList);
+            }
+            metadataResolver.initialize();
+        } finally {
+            metadataResolver.destroy();
+        }
+    }
+
+    @Override
+    public void destroy() {
+        metadataAggregateStore.clear();
+    }
+
     protected void configureAndInitializeSingleMetadataResolver(final AbstractMetadataResolver metadataProvider,
                                                                 final SamlRegisteredService service,
                                                                 final List<MetadataFilter> metadataFilterList) throws Exception {
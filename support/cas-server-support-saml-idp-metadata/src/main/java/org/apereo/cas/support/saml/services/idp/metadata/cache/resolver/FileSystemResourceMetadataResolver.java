@@ -53,6 +53,10 @@ public class FileSystemResourceMetadataResolver extends BaseSamlRegisteredServic
             LOGGER.info("Loading SAML metadata from [{}]", metadataLocation);
             val metadataResource = ResourceUtils.getResourceFrom(metadataLocation);
             val metadataFile = metadataResource.getFile();
+            val indexedResolver = buildIndexedAggregateMetadataResolverIfNeeded(service, metadataFile);
+            if (indexedResolver.isPresent()) {
+                return CollectionUtils.wrap(indexedResolver.get());
+            }
             val metadataResolver = getMetadataResolver(metadataResource, metadataFile);
             configureAndInitializeSingleMetadataResolver(metadataResolver, service);
             return CollectionUtils.wrap(metadataResolver);
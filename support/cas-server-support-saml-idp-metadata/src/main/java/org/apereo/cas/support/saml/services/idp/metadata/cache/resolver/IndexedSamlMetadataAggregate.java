@@ -0,0 +1,393 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache.resolver;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import net.shibboleth.shared.collection.Pair;
+import net.shibboleth.shared.xml.ParserPool;
+import org.opensaml.core.xml.XMLObject;
+import org.opensaml.core.xml.persist.XMLObjectLoadSaveManager;
+import org.opensaml.core.xml.util.XMLObjectSupport;
+import org.opensaml.saml.saml2.metadata.EntityDescriptor;
+
+import javax.xml.datatype.DatatypeFactory;
+import javax.xml.namespace.QName;
+import javax.xml.stream.XMLEventFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLOutputFactory;
+import javax.xml.stream.events.Namespace;
+import javax.xml.stream.events.StartElement;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * This is {@link IndexedSamlMetadataAggregate} that represents a single version of a metadata aggregate,
+ * indexed by entity id. The aggregate is read once as a stream, and each {@link EntityDescriptor} is copied
+ * into a standalone fragment on disk along with the namespace declarations it inherits from its parents.
+ * Only the location of each fragment is kept in memory; entity descriptors are parsed on demand
+ * when they are loaded, which allows dynamic metadata resolvers to use the aggregate as their source.
+ * <p>
+ * The aggregate is read-only; attempts to save or remove entries are rejected. A digest of the bytes
+ * that were indexed is kept so that verifications can be tied to this exact version of the aggregate.
+ * The storage is reference-counted: once the aggregate is discarded, the file channel is closed and the
+ * storage is removed as soon as loads that are still in progress have finished.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class IndexedSamlMetadataAggregate implements XMLObjectLoadSaveManager<XMLObject> {
+    private static final String ATTRIBUTE_ENTITY_ID = "entityID";
+
+    private static final String ATTRIBUTE_VALID_UNTIL = "validUntil";
+
+    private static final String DIGEST_ALGORITHM = "SHA-256";
+
+    @Getter
+    private final String version;
+
+    @Getter
+    private final String digest;
+
+    @Getter
+    private final Instant validUntil;
+
+    private final Map<String, EntityLocation> entities;
+
+    private final FileChannel channel;
+
+    private final Path storage;
+
+    private final ParserPool parserPool;
+
+    private final Set<String> verifications = ConcurrentHashMap.newKeySet();
+
+    /**
+     * One reference is held by the aggregate itself until it is discarded,
+     * and one by each load that is in progress.
+     */
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    private final AtomicBoolean discarded = new AtomicBoolean();
+
+    /**
+     * Index the metadata aggregate.
+     *
+     * @param metadataFile the metadata file
+     * @param version      the version
+     * @param parserPool   the parser pool
+     * @return the indexed aggregate
+     * @throws Exception the exception
+     */
+    public static IndexedSamlMetadataAggregate index(final File metadataFile, final String version,
+                                                     final ParserPool parserPool) throws Exception {
+        val inputFactory = XMLInputFactory.newFactory();
+        inputFactory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, Boolean.TRUE);
+        inputFactory.setProperty(XMLInputFactory.SUPPORT_DTD, Boolean.FALSE);
+        inputFactory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, Boolean.FALSE);
+        val outputFactory = XMLOutputFactory.newFactory();
+        val eventFactory = XMLEventFactory.newFactory();
+
+        val storage = Files.createTempFile("cas-saml-aggregate-", ".xml");
+        storage.toFile().deleteOnExit();
+        val entities = new HashMap<String, EntityLocation>();
+        Instant validUntil = null;
+
+        val messageDigest = MessageDigest.getInstance(DIGEST_ALGORITHM);
+        try (val input = new DigestInputStream(Files.newInputStream(metadataFile.toPath()), messageDigest);
+             val output = FileChannel.open(storage, StandardOpenOption.WRITE)) {
+            val reader = inputFactory.createXMLEventReader(input);
+            val namespaces = new ArrayDeque<List<Namespace>>();
+            var rootElement = true;
+            while (reader.hasNext()) {
+                val event = reader.nextEvent();
+                if (event.isStartElement()) {
+                    val element = event.asStartElement();
+                    if (rootElement) {
+                        validUntil = getValidUntil(element);
+                        rootElement = false;
+                    }
+                    if (EntityDescriptor.DEFAULT_ELEMENT_NAME.equals(element.getName())) {
+                        val fragment = new ByteArrayOutputStream();
+                        val writer = outputFactory.createXMLEventWriter(fragment, "UTF-8");
+                        writer.add(eventFactory.createStartElement(element.getName().getPrefix(),
+                            element.getName().getNamespaceURI(), element.getName().getLocalPart(),
+                            element.getAttributes(), getInScopeNamespaces(namespaces, element).iterator()));
+                        var depth = 1;
+                        while (depth > 0 && reader.hasNext()) {
+                            val child = reader.nextEvent();
+                            if (child.isStartElement()) {
+                                depth++;
+                            } else if (child.isEndElement()) {
+                                depth--;
+                            }
+                            writer.add(child);
+                        }
+                        writer.flush();
+                        writer.close();
+
+                        val entityId = element.getAttributeByName(new QName(ATTRIBUTE_ENTITY_ID));
+                        if (entityId != null) {
+                            val bytes = fragment.toByteArray();
+                            entities.put(entityId.getValue(), new EntityLocation(output.position(), bytes.length));
+                            output.write(ByteBuffer.wrap(bytes));
+                        }
+                    } else {
+                        val declared = new ArrayList<Namespace>();
+                        element.getNamespaces().forEachRemaining(declared::add);
+                        namespaces.push(declared);
+                    }
+                } else if (event.isEndElement() && !namespaces.isEmpty()) {
+                    namespaces.pop();
+                }
+            }
+            reader.close();
+            input.transferTo(OutputStream.nullOutputStream());
+        }
+        val digest = HexFormat.of().formatHex(messageDigest.digest());
+        LOGGER.debug("Indexed [{}] entities from metadata aggregate [{}] with digest [{}] into [{}]",
+            entities.size(), metadataFile, digest, storage);
+        val channel = FileChannel.open(storage, StandardOpenOption.READ);
+        return new IndexedSamlMetadataAggregate(version, digest, validUntil, Map.copyOf(entities), channel, storage, parserPool);
+    }
+
+    /**
+     * Wrap the metadata input stream so that its digest can be compared
+     * with the digest of this aggregate once the stream has been consumed.
+     *
+     * @param input the input
+     * @return the digest input stream
+     * @throws Exception the exception
+     */
+    public static DigestInputStream digestInputStream(final InputStream input) throws Exception {
+        return new DigestInputStream(input, MessageDigest.getInstance(DIGEST_ALGORITHM));
+    }
+
+    /**
+     * Whether the consumed stream carried the same bytes that were indexed into this aggregate.
+     *
+     * @param input the fully consumed digest input stream
+     * @return true/false
+     * @throws IOException the exception
+     */
+    public boolean matches(final DigestInputStream input) throws IOException {
+        input.transferTo(OutputStream.nullOutputStream());
+        return digest.equals(HexFormat.of().formatHex(input.getMessageDigest().digest()));
+    }
+
+    private static Instant getValidUntil(final StartElement element) {
+        val validUntil = element.getAttributeByName(new QName(ATTRIBUTE_VALID_UNTIL));
+        if (validUntil == null) {
+            return null;
+        }
+        try {
+            return DatatypeFactory.newInstance().newXMLGregorianCalendar(validUntil.getValue().trim())
+                .toGregorianCalendar().toInstant();
+        } catch (final Exception e) {
+            LOGGER.warn("Unable to parse metadata validity [{}]: [{}]", validUntil.getValue(), e.getMessage());
+            return Instant.EPOCH;
+        }
+    }
+
+    private static List<Namespace> getInScopeNamespaces(final Deque<List<Namespace>> parents, final StartElement element) {
+        val inScope = new LinkedHashMap<String, Namespace>();
+        val iterator = parents.descendingIterator();
+        while (iterator.hasNext()) {
+            iterator.next().forEach(namespace -> inScope.put(namespace.getPrefix(), namespace));
+        }
+        element.getNamespaces().forEachRemaining(namespace -> inScope.put(namespace.getPrefix(), namespace));
+        return List.copyOf(inScope.values());
+    }
+
+    /**
+     * Whether the aggregate root is valid, based on its validity period.
+     *
+     * @return true/false
+     */
+    public boolean isRootValid() {
+        return validUntil == null || Instant.now(Clock.systemUTC()).isBefore(validUntil);
+    }
+
+    /**
+     * Run the verification once for this version of the aggregate.
+     * The verification is recorded only if it completes successfully.
+     *
+     * @param verificationKey the verification key
+     * @param verification    the verification
+     * @throws Exception the exception
+     */
+    public void verify(final String verificationKey, final Verification verification) throws Exception {
+        if (!verifications.contains(verificationKey)) {
+            synchronized (verifications) {
+                if (!verifications.contains(verificationKey)) {
+                    verification.verify();
+                    verifications.add(verificationKey);
+                }
+            }
+        }
+    }
+
+    /**
+     * Number of indexed entities.
+     *
+     * @return the size
+     */
+    public int size() {
+        return entities.size();
+    }
+
+    /**
+     * Discard the storage of this aggregate. The file channel is closed and the storage is
+     * removed once loads that are still in progress have finished; later loads are rejected.
+     */
+    public void discard() {
+        if (discarded.compareAndSet(false, true)) {
+            release();
+        }
+    }
+
+    @Override
+    public Set<String> listKeys() {
+        return entities.keySet();
+    }
+
+    @Override
+    public Iterable<Pair<String, XMLObject>> listAll() {
+        return () -> entities.keySet()
+            .stream()
+            .map(key -> new Pair<>(key, loadQuietly(key)))
+            .iterator();
+    }
+
+    @Override
+    public boolean exists(final String key) {
+        return entities.containsKey(key);
+    }
+
+    @Override
+    public XMLObject load(final String key) throws IOException {
+        val location = entities.get(key);
+        if (location == null) {
+            return null;
+        }
+        if (!acquire()) {
+            throw new IOException("Metadata aggregate version " + version + " has been discarded");
+        }
+        val bytes = ByteBuffer.allocate(location.length());
+        try {
+            var position = location.offset();
+            while (bytes.hasRemaining()) {
+                val count = channel.read(bytes, position);
+                if (count < 0) {
+                    throw new IOException("Unexpected end of metadata aggregate storage for " + key);
+                }
+                position += count;
+            }
+        } finally {
+            release();
+        }
+        try (val input = new ByteArrayInputStream(bytes.array())) {
+            LOGGER.trace("Loading entity [{}] from metadata aggregate [{}]", key, storage);
+            return XMLObjectSupport.unmarshallFromInputStream(parserPool, input);
+        } catch (final Exception e) {
+            throw new IOException("Unable to load entity " + key + " from metadata aggregate", e);
+        }
+    }
+
+    @Override
+    public void save(final String key, final XMLObject xmlObject) throws IOException {
+        save(key, xmlObject, false);
+    }
+
+    @Override
+    public void save(final String key, final XMLObject xmlObject, final boolean overwrite) throws IOException {
+        throw new IOException("Metadata aggregate is read-only; unable to save " + key);
+    }
+
+    @Override
+    public boolean remove(final String key) throws IOException {
+        throw new IOException("Metadata aggregate is read-only; unable to remove " + key);
+    }
+
+    @Override
+    public boolean updateKey(final String currentKey, final String newKey) throws IOException {
+        throw new IOException("Metadata aggregate is read-only; unable to update " + currentKey);
+    }
+
+    private boolean acquire() {
+        var current = references.get();
+        while (current > 0) {
+            if (references.compareAndSet(current, current + 1)) {
+                return true;
+            }
+            current = references.get();
+        }
+        return false;
+    }
+
+    private void release() {
+        if (references.decrementAndGet() == 0) {
+            try {
+                channel.close();
+            } catch (final IOException e) {
+                LOGGER.trace("Unable to close metadata aggregate storage [{}]: [{}]", storage, e.getMessage());
+            }
+            if (!storage.toFile().delete()) {
+                LOGGER.trace("Unable to delete metadata aggregate storage [{}]", storage);
+            }
+        }
+    }
+
+    private XMLObject loadQuietly(final String key) {
+        try {
+            return load(key);
+        } catch (final IOException e) {
+            LOGGER.debug(e.getMessage(), e);
+            return null;
+        }
+    }
+
+    /**
+     * A verification step that is run once per aggregate version.
+     */
+    @FunctionalInterface
+    public interface Verification {
+        /**
+         * Verify.
+         *
+         * @throws Exception the exception
+         */
+        void verify() throws Exception;
+    }
+
+    private record EntityLocation(long offset, int length) {
+    }
+}
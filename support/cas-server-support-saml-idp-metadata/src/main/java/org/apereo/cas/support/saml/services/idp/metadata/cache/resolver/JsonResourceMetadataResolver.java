@@ -25,7 +25,6 @@ import org.apache.commons.io.IOUtils;
 import org.apereo.inspektr.audit.annotation.Audit;
 import org.hjson.JsonValue;
 import org.opensaml.saml.metadata.resolver.MetadataResolver;
-import org.springframework.beans.factory.DisposableBean;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.FileSystemResource;
 import org.springframework.core.io.Resource;
@@ -47,7 +46,7 @@ import java.util.Map;
  * @since 6.1.0
  */
 @Slf4j
-public class JsonResourceMetadataResolver extends BaseSamlRegisteredServiceMetadataResolver implements DisposableBean {
+public class JsonResourceMetadataResolver extends BaseSamlRegisteredServiceMetadataResolver {
     private static final ObjectMapper MAPPER = JacksonObjectMapperFactory.builder()
         .defaultTypingEnabled(false).build().toObjectMapper();
 
@@ -117,6 +116,7 @@ public class JsonResourceMetadataResolver extends BaseSamlRegisteredServiceMetad
         if (this.watcherService != null) {
             this.watcherService.close();
         }
+        super.destroy();
     }
 
     /**
@@ -2,7 +2,6 @@ package org.apereo.cas.support.saml.services.idp.metadata.cache.resolver;
 
 import org.apereo.cas.configuration.model.support.saml.idp.SamlIdPProperties;
 import org.apereo.cas.services.UnauthorizedServiceException;
-import org.apereo.cas.support.saml.InMemoryResourceMetadataResolver;
 import org.apereo.cas.support.saml.OpenSamlConfigBean;
 import org.apereo.cas.support.saml.SamlException;
 import org.apereo.cas.support.saml.SamlUtils;
@@ -15,13 +14,9 @@ import org.apereo.cas.util.http.HttpClient;
 import lombok.extern.slf4j.Slf4j;
 import lombok.val;
 import net.shibboleth.shared.resolver.CriteriaSet;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang3.StringUtils;
-import org.apache.hc.core5.http.HttpEntityContainer;
 import org.apache.hc.core5.http.HttpResponse;
-import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.opensaml.core.criterion.EntityIdCriterion;
-import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 
@@ -60,26 +55,18 @@ public class MetadataQueryProtocolMetadataResolver extends UrlResourceMetadataRe
     }
 
     @Override
-    protected AbstractMetadataResolver getMetadataResolverFromResponse(final HttpResponse response, final File backupFile) throws Exception {
+    protected void writeMetadataBackupFile(final HttpResponse response, final File backupFile) throws Exception {
         if (!HttpStatus.valueOf(response.getCode()).is2xxSuccessful()) {
             if (Files.exists(backupFile.toPath())) {
-                return new InMemoryResourceMetadataResolver(backupFile, this.configBean);
+                return;
             }
             throw new SamlException("Unable to get entity from MDQ server and a backup file does not exist.");
         }
-        val entity = ((HttpEntityContainer) response).getEntity();
-        val result = IOUtils.toString(entity.getContent(), StandardCharsets.UTF_8);
+        super.writeMetadataBackupFile(response, backupFile);
         val path = backupFile.toPath();
-        LOGGER.trace("Writing metadata to file at [{}]", path);
-        try (val output = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            IOUtils.write(result, output);
-            output.flush();
-            StreamSupport.stream(path.getFileSystem().getFileStores().spliterator(), false)
-                .filter(store -> store.supportsFileAttributeView(UserDefinedFileAttributeView.class))
-                .forEach(store -> setFileAttribute(response, backupFile));
-        }
-        EntityUtils.consume(entity);
-        return new InMemoryResourceMetadataResolver(backupFile, configBean);
+        StreamSupport.stream(path.getFileSystem().getFileStores().spliterator(), false)
+            .filter(store -> store.supportsFileAttributeView(UserDefinedFileAttributeView.class))
+            .forEach(store -> setFileAttribute(response, backupFile));
     }
 
     private static void setFileAttribute(final HttpResponse response, final File backupFile) {
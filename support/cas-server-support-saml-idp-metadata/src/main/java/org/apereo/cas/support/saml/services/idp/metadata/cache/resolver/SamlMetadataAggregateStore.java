@@ -0,0 +1,67 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache.resolver;
+
+import org.apereo.cas.util.function.FunctionUtils;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import net.shibboleth.shared.xml.ParserPool;
+
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * This is {@link SamlMetadataAggregateStore} that keeps track of indexed metadata aggregates,
+ * keyed by the canonical path of the metadata file. An aggregate is indexed once per version,
+ * determined by the file's modification timestamp and size, and is then shared by all metadata
+ * resolvers that are built from the same file regardless of the service definition or cache key
+ * that triggered the resolution.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class SamlMetadataAggregateStore {
+    private final Map<String, IndexedSamlMetadataAggregate> aggregates = new ConcurrentHashMap<>();
+
+    private static String getVersion(final File metadataFile) {
+        return metadataFile.lastModified() + "-" + metadataFile.length();
+    }
+
+    /**
+     * Gets the indexed aggregate for the metadata file,
+     * indexing the file if it has not been indexed yet or if it has changed.
+     *
+     * @param metadataFile the metadata file
+     * @param parserPool   the parser pool
+     * @return the aggregate
+     * @throws Exception the exception
+     */
+    public IndexedSamlMetadataAggregate getAggregate(final File metadataFile, final ParserPool parserPool) throws Exception {
+        val path = metadataFile.getCanonicalPath();
+        val version = getVersion(metadataFile);
+        val current = aggregates.get(path);
+        if (current != null && current.getVersion().equals(version)) {
+            return current;
+        }
+        return aggregates.compute(path, (key, existing) -> {
+            if (existing != null && existing.getVersion().equals(version)) {
+                return existing;
+            }
+            LOGGER.info("Indexing SAML metadata aggregate [{}] with version [{}]", path, version);
+            val aggregate = FunctionUtils.doUnchecked(() -> IndexedSamlMetadataAggregate.index(metadataFile, version, parserPool));
+            if (existing != null) {
+                existing.discard();
+            }
+            return aggregate;
+        });
+    }
+
+    /**
+     * Remove and discard all aggregates.
+     */
+    public void clear() {
+        aggregates.values().forEach(IndexedSamlMetadataAggregate::discard);
+        aggregates.clear();
+    }
+}
@@ -26,7 +26,6 @@ import lombok.val;
 import net.shibboleth.shared.resolver.CriteriaSet;
 import org.apache.commons.io.FileUtils;
 import org.apache.commons.io.IOCase;
-import org.apache.commons.io.IOUtils;
 import org.apache.commons.io.filefilter.AndFileFilter;
 import org.apache.commons.io.filefilter.CanReadFileFilter;
 import org.apache.commons.io.filefilter.CanWriteFileFilter;
@@ -40,7 +39,6 @@ import org.apache.hc.core5.http.io.entity.EntityUtils;
 import org.apereo.inspektr.audit.annotation.Audit;
 import org.jooq.lambda.Unchecked;
 import org.opensaml.saml.metadata.resolver.MetadataResolver;
-import org.opensaml.saml.metadata.resolver.impl.AbstractMetadataResolver;
 import org.springframework.core.io.AbstractResource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.http.HttpMethod;
@@ -48,8 +46,8 @@ import org.springframework.http.HttpStatus;
 
 import java.io.File;
 import java.io.IOException;
-import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.ArrayList;
 import java.util.Collection;
 
@@ -116,6 +114,12 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
 
             if (backupFile.exists() && backupFile.canRead()) {
                 try {
+                    val indexedResolver = buildIndexedAggregateMetadataResolverIfNeeded(service, backupFile, true);
+                    if (indexedResolver.isPresent()) {
+                        LOGGER.debug("Metadata backup file for service [{}] at [{}] is valid and is indexed as an aggregate. "
+                                     + "CAS will not download new metadata from [{}]", service.getName(), canonicalPath, metadataLocation);
+                        return CollectionUtils.wrap(indexedResolver.get());
+                    }
                     val metadataProvider = getMetadataResolverFromFile(backupFile);
                     configureAndInitializeSingleMetadataResolver(metadataProvider, service);
                     if (Boolean.TRUE.equals(metadataProvider.isRootValid())) {
@@ -135,7 +139,12 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
             response = fetchMetadata(service, metadataLocation, criteriaSet, backupFile);
             val status = HttpStatus.valueOf(response.getCode());
             if (shouldHttpResponseStatusBeProcessed(status)) {
-                val metadataProvider = getMetadataResolverFromResponse(response, backupFile);
+                writeMetadataBackupFile(response, backupFile);
+                val indexedResolver = buildIndexedAggregateMetadataResolverIfNeeded(service, backupFile);
+                if (indexedResolver.isPresent()) {
+                    return CollectionUtils.wrap(indexedResolver.get());
+                }
+                val metadataProvider = getMetadataResolverFromFile(backupFile);
                 configureAndInitializeSingleMetadataResolver(metadataProvider, service);
                 return CollectionUtils.wrap(metadataProvider);
             }
@@ -184,28 +193,25 @@ public class UrlResourceMetadataResolver extends BaseSamlRegisteredServiceMetada
     }
 
     /**
-     * Gets metadata resolver from response.
+     * Write the metadata in the response body to the backup file. The response body is streamed
+     * into the file, so that the decision to index the metadata can be made from the size of the
+     * file before the metadata is ever parsed.
      *
      * @param response   the response
      * @param backupFile the backup file
-     * @return the metadata resolver from response
      * @throws Exception the exception
      */
-    protected AbstractMetadataResolver getMetadataResolverFromResponse(final HttpResponse response,
-                                                                       final File backupFile) throws Exception {
+    protected void writeMetadataBackupFile(final HttpResponse response, final File backupFile) throws Exception {
         val entity = ((HttpEntityContainer) response).getEntity();
-        val result = IOUtils.toString(entity.getContent(), StandardCharsets.UTF_8);
         val path = backupFile.toPath();
         LOGGER.trace("Writing metadata to file at [{}]", path);
-        try (val output = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
-            IOUtils.write(result, output);
-            output.flush();
+        try (val input = entity.getContent()) {
+            Files.copy(input, path, StandardCopyOption.REPLACE_EXISTING);
         }
         EntityUtils.consume(entity);
-        return getMetadataResolverFromFile(backupFile);
     }
 
-    private InMemoryResourceMetadataResolver getMetadataResolverFromFile(final File backupFile) throws Exception {
+    protected InMemoryResourceMetadataResolver getMetadataResolverFromFile(final File backupFile) throws Exception {
         val metadataResolver = new InMemoryResourceMetadataResolver(backupFile, configBean);
         metadataResolver.setId("RegisteredServiceMetadata-" + backupFile.getName());
         return metadataResolver;
@@ -1,5 +1,6 @@
 package org.apereo.cas.support.saml.services.idp.metadata.cache;
 
+import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.support.saml.SamlException;
 import org.apereo.cas.support.saml.services.BaseSamlIdPServicesTests;
 import org.apereo.cas.support.saml.services.SamlRegisteredService;
@@ -23,7 +24,13 @@ import org.springframework.test.context.TestPropertySource;
 
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.stream.IntStream;
 
+import static org.awaitility.Awaitility.*;
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -153,7 +160,8 @@ class SamlRegisteredServiceDefaultCachingMetadataResolverTests extends BaseSamlI
         val service1 = getSamlRegisteredService(1, ".*", "classpath:aggregate-md.xml");
         assertNotNull(resolver.resolve(service1, getCriteriaFor("https://issues.shibboleth.net/shibboleth")));
         assertNotNull(resolver.resolve(service1, getCriteriaFor("https://mfa-auth.dev.phenoapp.com/Saml2")));
-        assertNotNull(resolver.resolve(service1, getCriteriaFor("https://gitlab.com")));
+        val aggregateResult = resolver.resolve(service1, getCriteriaFor("https://gitlab.com"));
+        assertNotNull(aggregateResult);
         assertEquals(1, resolver.getCacheStatistics().loadSuccessCount());
 
         for (int i = 0; i < 5; i++) {
@@ -163,8 +171,11 @@ class SamlRegisteredServiceDefaultCachingMetadataResolverTests extends BaseSamlI
             val mdFile = Files.createTempFile("samplesp", ".xml").toFile();
             FileUtils.writeStringToFile(mdFile, data, StandardCharsets.UTF_8);
             val service2 = getSamlRegisteredService(i, ".*", "file://" + mdFile.getAbsolutePath());
-            assertNotNull(resolver.resolve(service2, getCriteriaFor("https://gitlab.com")));
-            assertEquals(1, resolver.getCacheStatistics().loadSuccessCount());
+            val result = resolver.resolve(service2, getCriteriaFor("https://gitlab.com"));
+            assertNotNull(result);
+            assertNotSame(aggregateResult.getMetadataResolver(), result.getMetadataResolver());
+            assertEquals(i + 2, resolver.getCacheStatistics().loadSuccessCount());
+            assertSame(result, resolver.resolve(service2, getCriteriaFor("https://gitlab.com")));
             assertTrue(mdFile.delete());
         }
 
@@ -200,7 +211,7 @@ class SamlRegisteredServiceDefaultCachingMetadataResolverTests extends BaseSamlI
         val stats2 = resolver.getCacheStatistics();
         assertEquals(1, stats2.missCount());
         assertEquals(1, stats2.loadSuccessCount());
-        assertEquals(0, stats2.hitCount());
+        assertEquals(1, stats2.hitCount());
 
         val criteriaSet2 = getCriteriaFor("https://vbushib.einsteinmed.org/idp/");
 
@@ -208,10 +219,57 @@ class SamlRegisteredServiceDefaultCachingMetadataResolverTests extends BaseSamlI
         val stats3 = resolver.getCacheStatistics();
         assertEquals(2, stats3.missCount());
         assertEquals(2, stats3.loadSuccessCount());
-        assertEquals(0, stats3.hitCount());
+        assertEquals(1, stats3.hitCount());
+    }
+
+    @Test
+    void verifyConcurrentResolutionLoadsOnce() throws Exception {
+        val service = getSamlRegisteredService(1, ".*", "classpath:aggregate-md.xml");
+        val resolver = getResolver("PT5M");
+        val entities = List.of("https://issues.shibboleth.net/shibboleth",
+            "https://mfa-auth.dev.phenoapp.com/Saml2", "https://gitlab.com");
+        val executor = Executors.newFixedThreadPool(8);
+        try {
+            val tasks = IntStream.range(0, 30)
+                .mapToObj(i -> (Callable<CachedMetadataResolverResult>) () ->
+                    resolver.resolve(service, getCriteriaFor(entities.get(i % entities.size()))))
+                .toList();
+            for (val future : executor.invokeAll(tasks)) {
+                assertNotNull(future.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        val stats = resolver.getCacheStatistics();
+        assertEquals(1, stats.loadSuccessCount());
+        assertTrue(stats.hitCount() > 0);
+    }
+
+    @Test
+    void verifyRefreshAhead() {
+        val properties = new CasConfigurationProperties();
+        val core = properties.getAuthn().getSamlIdp().getMetadata().getCore();
+        core.setCacheExpiration("PT2S");
+        core.setCacheRefreshAheadRatio(0.25);
+        val resolver = getResolver(properties);
+
+        val service = getSamlRegisteredService(1, ".*", "classpath:sample-sp.xml");
+        val criteriaSet = getCriteriaFor("https://carmenwiki.osu.edu/shibboleth");
+        val initial = resolver.resolve(service, criteriaSet);
+        assertNotNull(initial);
+        await().atMost(Duration.ofMillis(1500)).untilAsserted(() -> {
+            assertNotNull(resolver.resolve(service, criteriaSet));
+            assertTrue(resolver.getCacheStatistics().loadSuccessCount() > 1);
+        });
+        assertNotSame(initial, resolver.getIfPresent(service, criteriaSet).orElseThrow());
     }
 
     private SamlRegisteredServiceDefaultCachingMetadataResolver getResolver(final String duration) {
+        casProperties.getAuthn().getSamlIdp().getMetadata().getCore().setCacheExpiration(duration);
+        return getResolver(casProperties);
+    }
+
+    private SamlRegisteredServiceDefaultCachingMetadataResolver getResolver(final CasConfigurationProperties properties) {
         val resolutionPlan = new DefaultSamlRegisteredServiceMetadataResolutionPlan();
         val props = casProperties.getAuthn().getSamlIdp();
         resolutionPlan.registerMetadataResolver(
@@ -221,7 +279,6 @@ class SamlRegisteredServiceDefaultCachingMetadataResolverTests extends BaseSamlI
         resolutionPlan.registerMetadataResolver(
             new ClasspathResourceMetadataResolver(props, openSamlConfigBean));
         val cacheLoader = new SamlRegisteredServiceMetadataResolverCacheLoader(openSamlConfigBean, httpClient, resolutionPlan);
-        casProperties.getAuthn().getSamlIdp().getMetadata().getCore().setCacheExpiration(duration);
-        return new SamlRegisteredServiceDefaultCachingMetadataResolver(casProperties, cacheLoader, openSamlConfigBean);
+        return new SamlRegisteredServiceDefaultCachingMetadataResolver(properties, cacheLoader, openSamlConfigBean);
     }
 }
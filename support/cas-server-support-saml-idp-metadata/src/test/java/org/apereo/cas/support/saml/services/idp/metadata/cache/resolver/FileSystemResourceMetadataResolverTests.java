@@ -92,6 +92,34 @@ class FileSystemResourceMetadataResolverTests extends BaseSamlIdPServicesTests {
         assertEquals(1, Iterables.size(directoryResolver.resolve(criteriaSet)));
     }
 
+    @Test
+    void verifyResolverWithIndexedAggregate() throws Exception {
+        val metadataFile = File.createTempFile("aggregate-md", ".xml");
+        FileUtils.copyInputStreamToFile(new ClassPathResource("aggregate-md.xml").getInputStream(), metadataFile);
+
+        val properties = new SamlIdPProperties();
+        properties.getMetadata().getCore().setAggregateIndexingThreshold(1);
+        val aggregateResolver = new FileSystemResourceMetadataResolver(properties, openSamlConfigBean);
+
+        val service = new SamlRegisteredService();
+        service.setName("Aggregate");
+        service.setMetadataLocation(metadataFile.getCanonicalPath());
+        val resolvers = aggregateResolver.resolve(service);
+        assertEquals(1, resolvers.size());
+        val metadataResolver = resolvers.iterator().next();
+
+        val criteriaSet = new CriteriaSet();
+        criteriaSet.add(new EntityIdCriterion("https://issues.shibboleth.net/shibboleth"));
+        criteriaSet.add(new EntityRoleCriterion(SPSSODescriptor.DEFAULT_ELEMENT_NAME));
+        val entity = metadataResolver.resolveSingle(criteriaSet);
+        assertNotNull(entity);
+        assertEquals("https://issues.shibboleth.net/shibboleth", entity.getEntityID());
+
+        val unknown = new CriteriaSet();
+        unknown.add(new EntityIdCriterion("unknown-entity"));
+        assertNull(metadataResolver.resolveSingle(unknown));
+    }
+
     @Test
     void verifyDefaultImpl() {
         val mock = mock(SamlRegisteredServiceMetadataResolver.class);
@@ -0,0 +1,66 @@
+package org.apereo.cas.support.saml.services.idp.metadata.cache.resolver;
+
+import org.apereo.cas.support.saml.services.BaseSamlIdPServicesTests;
+
+import lombok.val;
+import org.apache.commons.io.FileUtils;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.opensaml.saml.saml2.metadata.EntityDescriptor;
+import org.opensaml.saml.saml2.metadata.SPSSODescriptor;
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link SamlMetadataAggregateStoreTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Tag("SAMLMetadata")
+class SamlMetadataAggregateStoreTests extends BaseSamlIdPServicesTests {
+    @Test
+    void verifyAggregateIndexedAndLoaded() throws Exception {
+        val metadataFile = File.createTempFile("aggregate-md", ".xml");
+        FileUtils.copyInputStreamToFile(new ClassPathResource("aggregate-md.xml").getInputStream(), metadataFile);
+
+        val store = new SamlMetadataAggregateStore();
+        val aggregate = store.getAggregate(metadataFile, openSamlConfigBean.getParserPool());
+        assertEquals(3, aggregate.size());
+        assertTrue(aggregate.isRootValid());
+        assertNotNull(aggregate.getValidUntil());
+        assertTrue(aggregate.exists("https://issues.shibboleth.net/shibboleth"));
+        assertFalse(aggregate.exists("unknown-entity"));
+        assertNull(aggregate.load("unknown-entity"));
+
+        val entity = (EntityDescriptor) aggregate.load("https://issues.shibboleth.net/shibboleth");
+        assertNotNull(entity);
+        assertEquals("https://issues.shibboleth.net/shibboleth", entity.getEntityID());
+        assertFalse(entity.getRoleDescriptors(SPSSODescriptor.DEFAULT_ELEMENT_NAME).isEmpty());
+        assertNotSame(entity, aggregate.load("https://issues.shibboleth.net/shibboleth"));
+        aggregate.listAll().forEach(pair -> assertNotNull(pair.getSecond()));
+
+        assertSame(aggregate, store.getAggregate(metadataFile, openSamlConfigBean.getParserPool()));
+        assertTrue(metadataFile.setLastModified(metadataFile.lastModified() + 10_000));
+        val updated = store.getAggregate(metadataFile, openSamlConfigBean.getParserPool());
+        assertNotSame(aggregate, updated);
+        assertEquals(aggregate.size(), updated.size());
+        assertEquals(aggregate.getDigest(), updated.getDigest());
+        assertThrows(IOException.class, () -> aggregate.load("https://issues.shibboleth.net/shibboleth"));
+        assertThrows(IOException.class, () -> updated.remove("https://issues.shibboleth.net/shibboleth"));
+
+        try (val input = IndexedSamlMetadataAggregate.digestInputStream(Files.newInputStream(metadataFile.toPath()))) {
+            assertTrue(updated.matches(input));
+        }
+        try (val input = IndexedSamlMetadataAggregate.digestInputStream(new ClassPathResource("sample-sp.xml").getInputStream())) {
+            assertFalse(updated.matches(input));
+        }
+        store.clear();
+        assertThrows(IOException.class, () -> updated.load("https://issues.shibboleth.net/shibboleth"));
+    }
+}
@@ -91,6 +91,31 @@ class UrlResourceMetadataResolverTests extends BaseSamlIdPServicesTests {
         }
     }
 
+    @Test
+    void verifyExpiredIndexedBackupIsDownloaded() throws Exception {
+        val service = new SamlRegisteredService();
+        service.setName("Aggregate");
+        service.setId(2000);
+        service.setMetadataLocation("http://localhost:9155/aggregate");
+
+        val props = new SamlIdPProperties();
+        props.getMetadata().getFileSystem().setLocation(new FileSystemResource(FileUtils.getTempDirectory()).getFile().getCanonicalPath());
+        props.getMetadata().getCore().setAggregateIndexingThreshold(1);
+        props.getMetadata().getCore().setRequireValidMetadata(false);
+        val resolver = new UrlResourceMetadataResolver(httpClient, props, openSamlConfigBean);
+
+        val backupFile = resolver.getMetadataBackupFile(new UrlResource(service.getMetadataLocation()), service);
+        val aggregate = new ClassPathResource("aggregate-md.xml").getContentAsString(StandardCharsets.UTF_8);
+        FileUtils.writeStringToFile(backupFile, aggregate.replace("validUntil=\"2091-12-06T18:41:22Z\"",
+            "validUntil=\"2001-12-06T18:41:22Z\""), StandardCharsets.UTF_8);
+        try (val webServer = new MockWebServer(9155, new ClassPathResource("aggregate-md.xml"), HttpStatus.OK)) {
+            webServer.start();
+            val results = resolver.resolve(service);
+            assertEquals(1, results.size());
+        }
+        assertTrue(FileUtils.readFileToString(backupFile, StandardCharsets.UTF_8).contains("validUntil=\"2091-12-06T18:41:22Z\""));
+    }
+
     @Test
     void verifyResolverResolves() throws Exception {
         try (val webServer = new MockWebServer(9155, new ClassPathResource("sample-metadata.xml"), HttpStatus.OK)) {
@@ -13,6 +13,7 @@ import java.time.Clock;
 import java.time.ZonedDateTime;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.stream.Collectors;
 
 /**
@@ -28,11 +29,19 @@ import java.util.stream.Collectors;
 public abstract class AbstractInMemoryThrottledSubmissionHandlerInterceptorAdapter extends AbstractThrottledSubmissionHandlerInterceptorAdapter
     implements InMemoryThrottledSubmissionHandlerInterceptor {
 
+    private List<ThrottledSubmissionReceiver> receivers;
+
     protected AbstractInMemoryThrottledSubmissionHandlerInterceptorAdapter(
         final ThrottledSubmissionHandlerConfigurationContext configurationContext) {
         super(configurationContext);
     }
 
+    @Override
+    public void afterPropertiesSet() {
+        super.afterPropertiesSet();
+        this.receivers = resolveReceivers();
+    }
+
     @Override
     public void recordSubmissionFailure(final HttpServletRequest request) {
         val key = constructKey(request);
@@ -49,9 +58,9 @@ public abstract class AbstractInMemoryThrottledSubmissionHandlerInterceptorAdapt
             .expiration(expiration)
             .build();
         getConfigurationContext().getThrottledSubmissionStore().put(submission);
-        val receivers = new ArrayList<>(getConfigurationContext().getApplicationContext()
-            .getBeansOfType(ThrottledSubmissionReceiver.class).values());
-        AnnotationAwareOrderComparator.sort(receivers);
+        if (receivers == null) {
+            receivers = resolveReceivers();
+        }
         receivers.forEach(Unchecked.consumer(receiver -> receiver.receive(submission)));
     }
 
@@ -61,17 +70,21 @@ public abstract class AbstractInMemoryThrottledSubmissionHandlerInterceptorAdapt
         LOGGER.trace("Throttling threshold key is [{}] with submission threshold [{}]", key, getThresholdRate());
         val store = getConfigurationContext().getThrottledSubmissionStore();
 
-        if (store.contains(key)) {
-            val submission = store.get(key);
-            val now = ZonedDateTime.now(Clock.systemUTC());
-            if (now.isBefore(submission.getExpiration())) {
-                LOGGER.warn("Throttled submission [{}] remains throttled; submission expires at [{}]", key, submission.getExpiration());
-                return true;
-            }
+        if (store.isThrottled(key)) {
+            LOGGER.warn("Throttled submission [{}] remains throttled until its throttle window has passed", key);
+            return true;
         }
         return store.exceedsThreshold(key, getThresholdRate());
     }
 
+    private List<ThrottledSubmissionReceiver> resolveReceivers() {
+        val results = new ArrayList<>(getConfigurationContext().getApplicationContext()
+            .getBeansOfType(ThrottledSubmissionReceiver.class).values());
+        AnnotationAwareOrderComparator.sort(results);
+        LOGGER.trace("Resolved throttled submission receivers [{}]", results);
+        return List.copyOf(results);
+    }
+
     @Override
     public Collection getRecords() {
         return getConfigurationContext().getThrottledSubmissionStore()
@@ -6,10 +6,13 @@ import org.apereo.cas.configuration.support.JpaBeans;
 import org.apereo.cas.util.spring.beans.BeanCondition;
 import org.apereo.cas.util.spring.beans.BeanSupplier;
 import org.apereo.cas.util.spring.boot.ConditionalOnFeatureEnabled;
+import org.apereo.cas.web.support.JdbcCounterThrottledSubmissionHandlerInterceptorAdapter;
+import org.apereo.cas.web.support.JdbcThrottledSubmissionCounterDialect;
 import org.apereo.cas.web.support.JdbcThrottledSubmissionHandlerInterceptorAdapter;
 import org.apereo.cas.web.support.ThrottledSubmissionHandlerConfigurationContext;
 import org.apereo.cas.web.support.ThrottledSubmissionHandlerInterceptor;
 
+import lombok.val;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.AutoConfiguration;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
@@ -68,13 +71,20 @@ public class CasJdbcThrottlingConfiguration {
     @ConditionalOnMissingBean(name = "jdbcAuthenticationThrottle")
     public ThrottledSubmissionHandlerInterceptor authenticationThrottle(
         final ConfigurableApplicationContext applicationContext,
+        final CasConfigurationProperties casProperties,
         @Qualifier("inspektrThrottleJdbcTemplate")
         final JdbcOperations inspektrThrottleJdbcTemplate,
         @Qualifier("authenticationThrottlingConfigurationContext")
         final ThrottledSubmissionHandlerConfigurationContext ctx) {
         return BeanSupplier.of(ThrottledSubmissionHandlerInterceptor.class)
             .when(CONDITION.given(applicationContext.getEnvironment()))
-            .supply(() -> new JdbcThrottledSubmissionHandlerInterceptorAdapter(ctx, inspektrThrottleJdbcTemplate))
+            .supply(() -> {
+                if (casProperties.getAuthn().getThrottle().getJdbc().getCounter().isEnabled()) {
+                    val dialect = JdbcThrottledSubmissionCounterDialect.from(inspektrThrottleJdbcTemplate);
+                    return new JdbcCounterThrottledSubmissionHandlerInterceptorAdapter(ctx, inspektrThrottleJdbcTemplate, dialect);
+                }
+                return new JdbcThrottledSubmissionHandlerInterceptorAdapter(ctx, inspektrThrottleJdbcTemplate);
+            })
             .otherwise(ThrottledSubmissionHandlerInterceptor::noOp)
             .get();
     }
@@ -0,0 +1,140 @@
+package org.apereo.cas.web.support;
+
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.util.Collection;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * This is {@link JdbcCounterThrottledSubmissionHandlerInterceptorAdapter} that keeps track of failed
+ * login attempts in a dedicated counter table, keyed by the client IP address and username, and the start of the
+ * window in which the failure occurred. Windows are fixed and as long as the failure range.
+ * Failures increment the counter for the current window in place. Throttling decisions are made
+ * by looking up the counters of the current and previous windows by their primary keys, without consulting
+ * the audit log, and approximate a sliding window by weighting the previous counter by the portion
+ * of the previous window that still overlaps the failure range. This prevents a burst of failures
+ * around a window boundary from escaping the threshold. Counters for windows that are no longer
+ * consulted are removed in bulk when the throttle is released.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@Slf4j
+public class JdbcCounterThrottledSubmissionHandlerInterceptorAdapter extends AbstractInspektrAuditHandlerInterceptorAdapter {
+    private final JdbcOperations jdbcTemplate;
+
+    private final JdbcThrottledSubmissionCounterDialect dialect;
+
+    public JdbcCounterThrottledSubmissionHandlerInterceptorAdapter(
+        final ThrottledSubmissionHandlerConfigurationContext configurationContext,
+        final JdbcOperations jdbcTemplate,
+        final JdbcThrottledSubmissionCounterDialect dialect) {
+        super(configurationContext);
+        this.jdbcTemplate = jdbcTemplate;
+        this.dialect = dialect;
+    }
+
+    @Override
+    public void recordSubmissionFailure(final HttpServletRequest request) {
+        val key = constructKey(request);
+        val windowStart = getWindowStart(System.currentTimeMillis());
+        LOGGER.debug("Recording submission failure [{}] for window [{}]", key, windowStart);
+        val upsertQuery = dialect.getUpsertQuery(getTableName());
+        try {
+            if (upsertQuery.isPresent()) {
+                jdbcTemplate.update(upsertQuery.get(), key, windowStart);
+            } else {
+                incrementCounter(key, windowStart);
+            }
+        } catch (final DuplicateKeyException e) {
+            LOGGER.trace("Counter for [{}] was created concurrently; updating counter instead", key);
+            updateCounter(key, windowStart);
+        }
+    }
+
+    @Override
+    public boolean exceedsThreshold(final HttpServletRequest request) {
+        val key = constructKey(request);
+        val now = System.currentTimeMillis();
+        val windowMillis = getWindowMillis();
+        val currentWindowStart = getWindowStart(now);
+        val previousWindowStart = currentWindowStart - windowMillis;
+        val sql = String.format("SELECT WINDOW_START, FAILURE_COUNT FROM %s WHERE THROTTLE_KEY = ? AND WINDOW_START IN (?, ?)", getTableName());
+        val counts = new long[2];
+        jdbcTemplate.query(sql, (RowCallbackHandler) resultSet -> {
+            val index = resultSet.getLong("WINDOW_START") == currentWindowStart ? 0 : 1;
+            counts[index] = resultSet.getLong("FAILURE_COUNT");
+        }, key, currentWindowStart, previousWindowStart);
+        val previousWeight = 1.0D - (double) (now - currentWindowStart) / windowMillis;
+        val failures = counts[0] + counts[1] * previousWeight;
+        val threshold = getConfigurationContext().getCasProperties().getAuthn().getThrottle().getFailure().getThreshold();
+        LOGGER.debug("Estimated [{}] failure(s) for [{}] in the sliding window with [{}] in the current window, [{}] in the previous window "
+                     + "and threshold [{}]", failures, key, counts[0], counts[1], threshold);
+        return failures > threshold;
+    }
+
+    @Override
+    public void release() {
+        val previousWindowStart = getWindowStart(System.currentTimeMillis()) - getWindowMillis();
+        val sql = String.format("DELETE FROM %s WHERE WINDOW_START < ?", getTableName());
+        val count = jdbcTemplate.update(sql, previousWindowStart);
+        LOGGER.debug("Removed [{}] failure counter(s) for windows that have passed", count);
+    }
+
+    @Override
+    public String getName() {
+        return "JdbcCounterThrottle";
+    }
+
+    @Override
+    public Collection getRecords() {
+        val sql = String.format("SELECT THROTTLE_KEY, FAILURE_COUNT FROM %s WHERE WINDOW_START = ?", getTableName());
+        return jdbcTemplate.query(sql, (resultSet, i) -> resultSet.getString("THROTTLE_KEY")
+                                                         + "<->" + resultSet.getLong("FAILURE_COUNT"), getWindowStart(System.currentTimeMillis()));
+    }
+
+    /**
+     * Construct the throttle key from the request.
+     *
+     * @param request the request
+     * @return the key
+     */
+    protected String constructKey(final HttpServletRequest request) {
+        val clientIpAddress = ClientInfoHolder.getClientInfo().getClientIpAddress();
+        val username = getUsernameParameterFromRequest(request);
+        return StringUtils.isBlank(username) ? clientIpAddress : clientIpAddress + ';' + username.toLowerCase(Locale.ENGLISH);
+    }
+
+    private void incrementCounter(final String key, final long windowStart) {
+        if (updateCounter(key, windowStart) == 0) {
+            val sql = String.format("INSERT INTO %s (THROTTLE_KEY, WINDOW_START, FAILURE_COUNT) VALUES (?, ?, 1)", getTableName());
+            jdbcTemplate.update(sql, key, windowStart);
+        }
+    }
+
+    private int updateCounter(final String key, final long windowStart) {
+        val sql = String.format("UPDATE %s SET FAILURE_COUNT = FAILURE_COUNT + 1 WHERE THROTTLE_KEY = ? AND WINDOW_START = ?", getTableName());
+        return jdbcTemplate.update(sql, key, windowStart);
+    }
+
+    private long getWindowStart(final long now) {
+        return now - now % getWindowMillis();
+    }
+
+    private long getWindowMillis() {
+        val rangeSeconds = getConfigurationContext().getCasProperties().getAuthn().getThrottle().getFailure().getRangeSeconds();
+        return TimeUnit.SECONDS.toMillis(Math.max(1, rangeSeconds));
+    }
+
+    private String getTableName() {
+        return getConfigurationContext().getCasProperties().getAuthn().getThrottle().getJdbc().getCounter().getTableName();
+    }
+}
@@ -0,0 +1,103 @@
+package org.apereo.cas.web.support;
+
+import org.apereo.cas.util.LoggingUtils;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import lombok.val;
+import org.apache.commons.lang3.StringUtils;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcOperations;
+
+import java.util.Arrays;
+import java.util.Optional;
+
+/**
+ * This is {@link JdbcThrottledSubmissionCounterDialect} that describes how failure counters
+ * are incremented in place for each supported database. Each statement is expected to accept
+ * the throttle key and the window start as parameters, in that order.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@RequiredArgsConstructor
+@Slf4j
+public enum JdbcThrottledSubmissionCounterDialect {
+    /**
+     * HSQLDB.
+     */
+    HSQLDB("HSQL", "MERGE INTO %s T USING (VALUES(CAST(? AS VARCHAR(255)), CAST(? AS BIGINT))) AS V(THROTTLE_KEY, WINDOW_START) "
+                   + "ON T.THROTTLE_KEY = V.THROTTLE_KEY AND T.WINDOW_START = V.WINDOW_START "
+                   + "WHEN MATCHED THEN UPDATE SET T.FAILURE_COUNT = T.FAILURE_COUNT + 1 "
+                   + "WHEN NOT MATCHED THEN INSERT (THROTTLE_KEY, WINDOW_START, FAILURE_COUNT) VALUES (V.THROTTLE_KEY, V.WINDOW_START, 1)"),
+    /**
+     * PostgreSQL.
+     */
+    POSTGRESQL("PostgreSQL", "INSERT INTO %s AS T (THROTTLE_KEY, WINDOW_START, FAILURE_COUNT) VALUES (?, ?, 1) "
+                             + "ON CONFLICT (THROTTLE_KEY, WINDOW_START) DO UPDATE SET FAILURE_COUNT = T.FAILURE_COUNT + 1"),
+    /**
+     * MySQL and MariaDB.
+     */
+    MYSQL("MySQL", "INSERT INTO %s (THROTTLE_KEY, WINDOW_START, FAILURE_COUNT) VALUES (?, ?, 1) "
+                   + "ON DUPLICATE KEY UPDATE FAILURE_COUNT = FAILURE_COUNT + 1"),
+    /**
+     * Oracle.
+     */
+    ORACLE("Oracle", "MERGE INTO %s T USING (SELECT ? AS THROTTLE_KEY, ? AS WINDOW_START FROM DUAL) V "
+                     + "ON (T.THROTTLE_KEY = V.THROTTLE_KEY AND T.WINDOW_START = V.WINDOW_START) "
+                     + "WHEN MATCHED THEN UPDATE SET T.FAILURE_COUNT = T.FAILURE_COUNT + 1 "
+                     + "WHEN NOT MATCHED THEN INSERT (THROTTLE_KEY, WINDOW_START, FAILURE_COUNT) "
+                     + "VALUES (V.THROTTLE_KEY, V.WINDOW_START, 1)"),
+    /**
+     * Any other database, where counters are updated first
+     * and inserted if no counter exists for the window.
+     */
+    GENERIC(null, null);
+
+    private final String productName;
+
+    private final String upsertQuery;
+
+    /**
+     * Determine the dialect from the database product name reported by the driver.
+     *
+     * @param jdbcTemplate the jdbc template
+     * @return the dialect
+     */
+    public static JdbcThrottledSubmissionCounterDialect from(final JdbcOperations jdbcTemplate) {
+        try {
+            val productName = jdbcTemplate.execute((ConnectionCallback<String>) connection ->
+                connection.getMetaData().getDatabaseProductName());
+            return of(productName);
+        } catch (final Exception e) {
+            LoggingUtils.warn(LOGGER, e);
+            return GENERIC;
+        }
+    }
+
+    /**
+     * Determine the dialect from the database product name.
+     *
+     * @param productName the product name
+     * @return the dialect
+     */
+    public static JdbcThrottledSubmissionCounterDialect of(final String productName) {
+        if (StringUtils.containsIgnoreCase(productName, "MariaDB")) {
+            return MYSQL;
+        }
+        return Arrays.stream(values())
+            .filter(dialect -> dialect.productName != null && StringUtils.containsIgnoreCase(productName, dialect.productName))
+            .findFirst()
+            .orElse(GENERIC);
+    }
+
+    /**
+     * Gets the statement that increments the failure counter in place, if the dialect supports one.
+     *
+     * @param tableName the table name
+     * @return the upsert query
+     */
+    public Optional<String> getUpsertQuery(final String tableName) {
+        return Optional.ofNullable(upsertQuery).map(query -> String.format(query, tableName));
+    }
+}
@@ -0,0 +1,111 @@
+package org.apereo.cas.web.support;
+
+import org.apereo.cas.config.CasHibernateJpaConfiguration;
+import org.apereo.cas.config.CasJdbcThrottlingConfiguration;
+import org.apereo.cas.config.CasSupportJdbcAuditConfiguration;
+
+import lombok.Getter;
+import lombok.val;
+import org.apereo.inspektr.common.web.ClientInfo;
+import org.apereo.inspektr.common.web.ClientInfoHolder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcOperations;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * This is {@link JdbcCounterThrottledSubmissionHandlerInterceptorAdapterTests}.
+ *
+ * @author Misagh Moayyed
+ * @since 7.0.0
+ */
+@SpringBootTest(classes = {
+    CasJdbcThrottlingConfiguration.class,
+    CasSupportJdbcAuditConfiguration.class,
+    CasHibernateJpaConfiguration.class,
+    BaseThrottledSubmissionHandlerInterceptorAdapterTests.SharedTestConfiguration.class
+}, properties = {
+    "cas.authn.throttle.core.username-parameter=username",
+    "cas.authn.throttle.failure.code=AUTHENTICATION_FAILED",
+    "cas.authn.throttle.failure.threshold=3",
+    "cas.authn.throttle.failure.range-seconds=5",
+    "cas.authn.throttle.jdbc.counter.enabled=true",
+    "cas.audit.jdbc.asynchronous=false"
+})
+@Getter
+@Tag("JDBC")
+class JdbcCounterThrottledSubmissionHandlerInterceptorAdapterTests extends BaseThrottledSubmissionHandlerInterceptorAdapterTests {
+
+    @Autowired
+    @Qualifier(ThrottledSubmissionHandlerInterceptor.BEAN_NAME)
+    private ThrottledSubmissionHandlerInterceptor throttle;
+
+    @Autowired
+    @Qualifier("inspektrThrottleJdbcTemplate")
+    private JdbcOperations inspektrThrottleJdbcTemplate;
+
+    @BeforeEach
+    public void setup() {
+        inspektrThrottleJdbcTemplate.execute("CREATE TABLE IF NOT EXISTS CAS_THROTTLE_COUNTERS (THROTTLE_KEY VARCHAR(255) NOT NULL, "
+                                             + "WINDOW_START BIGINT NOT NULL, FAILURE_COUNT BIGINT NOT NULL, "
+                                             + "PRIMARY KEY (THROTTLE_KEY, WINDOW_START))");
+    }
+
+    @Test
+    void verifyCounters() {
+        val request = new MockHttpServletRequest();
+        request.setRemoteAddr("1.2.3.4");
+        request.setLocalAddr("4.5.6.7");
+        request.addParameter("username", UUID.randomUUID().toString());
+        ClientInfoHolder.setClientInfo(new ClientInfo(request));
+
+        IntStream.range(0, 3).forEach(i -> throttle.recordSubmissionFailure(request));
+        assertFalse(throttle.exceedsThreshold(request));
+        throttle.recordSubmissionFailure(request);
+        assertTrue(throttle.exceedsThreshold(request));
+        assertFalse(throttle.getRecords().isEmpty());
+
+        inspektrThrottleJdbcTemplate.update("INSERT INTO CAS_THROTTLE_COUNTERS (THROTTLE_KEY, WINDOW_START, FAILURE_COUNT) VALUES (?, ?, ?)",
+            UUID.randomUUID().toString(), 1000L, 10L);
+        throttle.release();
+        assertEquals(0, inspektrThrottleJdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM CAS_THROTTLE_COUNTERS WHERE WINDOW_START = 1000", Long.class));
+    }
+
+    @Test
+    void verifyPreviousWindowCounts() {
+        val username = UUID.randomUUID().toString();
+        val request = new MockHttpServletRequest();
+        request.setRemoteAddr("1.2.3.4");
+        request.setLocalAddr("4.5.6.7");
+        request.addParameter("username", username);
+        ClientInfoHolder.setClientInfo(new ClientInfo(request));
+
+        val windowMillis = TimeUnit.SECONDS.toMillis(5);
+        val now = System.currentTimeMillis();
+        val previousWindowStart = now - now % windowMillis - windowMillis;
+        inspektrThrottleJdbcTemplate.update("INSERT INTO CAS_THROTTLE_COUNTERS (THROTTLE_KEY, WINDOW_START, FAILURE_COUNT) VALUES (?, ?, ?)",
+            "1.2.3.4;" + username, previousWindowStart, 100_000L);
+        assertTrue(throttle.exceedsThreshold(request));
+    }
+
+    @Test
+    void verifyDialects() {
+        assertEquals(JdbcThrottledSubmissionCounterDialect.HSQLDB, JdbcThrottledSubmissionCounterDialect.from(inspektrThrottleJdbcTemplate));
+        assertEquals(JdbcThrottledSubmissionCounterDialect.POSTGRESQL, JdbcThrottledSubmissionCounterDialect.of("PostgreSQL"));
+        assertEquals(JdbcThrottledSubmissionCounterDialect.MYSQL, JdbcThrottledSubmissionCounterDialect.of("MariaDB"));
+        assertEquals(JdbcThrottledSubmissionCounterDialect.ORACLE, JdbcThrottledSubmissionCounterDialect.of("Oracle"));
+        assertEquals(JdbcThrottledSubmissionCounterDialect.GENERIC, JdbcThrottledSubmissionCounterDialect.of("Unknown"));
+        assertTrue(JdbcThrottledSubmissionCounterDialect.GENERIC.getUpsertQuery("CAS_THROTTLE_COUNTERS").isEmpty());
+    }
+}
@@ -1,5 +1,6 @@
 package org.apereo.cas.config;
 
+import org.apereo.cas.audit.RedisAuditTrailIndex;
 import org.apereo.cas.authentication.CasSSLContext;
 import org.apereo.cas.configuration.CasConfigurationProperties;
 import org.apereo.cas.configuration.features.CasFeatureModule;
@@ -79,8 +80,7 @@ public class CasRedisThrottlingConfiguration {
         return BeanSupplier.of(ThrottledSubmissionHandlerInterceptor.class)
             .when(CONDITION.given(applicationContext.getEnvironment()))
             .supply(() -> new RedisThrottledSubmissionHandlerInterceptorAdapter(authenticationThrottlingConfigurationContext,
-                throttleRedisTemplate,
-                casProperties.getAudit().getRedis().getScanCount()))
+                new RedisAuditTrailIndex(throttleRedisTemplate, casProperties.getAudit().getRedis().getScanBatchSize())))
             .otherwise(ThrottledSubmissionHandlerInterceptor::noOp)
             .get();
     }